@@ -109,4 +109,63 @@ public class PropertiesManager {
 	public String getIdPoolBulkCreateTopic() {
 		return environment.getProperty("kafka.topics.consumer.bulk.create.topic");
 	}
+
+	/**
+	 * Checks whether dispatch serves IDs from blocks pre-claimed by this pod ("id.dispatch.block.enabled").
+	 * Defaults to false, in which case every dispatch request claims its IDs from the database.
+	 *
+	 * @return true if dispatch uses pre-claimed ID blocks, false otherwise
+	 */
+	public boolean isIdDispatchBlockEnabled() {
+		return Boolean.parseBoolean(environment.getProperty("id.dispatch.block.enabled", "false"));
+	}
+
+	/**
+	 * Retrieves the number of IDs claimed per block ("id.dispatch.block.size"), defaults to 5000.
+	 *
+	 * @return the number of IDs reserved by one block claim
+	 */
+	public int getIdDispatchBlockSize() {
+		return Integer.parseInt(environment.getProperty("id.dispatch.block.size", "5000"));
+	}
+
+	/**
+	 * Retrieves the number of pre-claimed IDs of a tenant below which another block is claimed
+	 * ("id.dispatch.block.low.watermark"), defaults to 2000.
+	 *
+	 * @return the refill threshold per tenant
+	 */
+	public int getIdDispatchBlockLowWatermark() {
+		return Integer.parseInt(environment.getProperty("id.dispatch.block.low.watermark", "2000"));
+	}
+
+	/**
+	 * Retrieves the interval in milliseconds of the background refill, lease renewal and expired reservation
+	 * reclaim ("id.dispatch.block.refill.interval.ms"), defaults to 5000.
+	 *
+	 * @return the background task interval in milliseconds
+	 */
+	public long getIdDispatchBlockRefillIntervalMs() {
+		return Long.parseLong(environment.getProperty("id.dispatch.block.refill.interval.ms", "5000"));
+	}
+
+	/**
+	 * Retrieves the lease of a reservation in seconds ("id.dispatch.block.lease.seconds"), defaults to 600.
+	 * Reservations not renewed within the lease are returned to the pool by any pod.
+	 *
+	 * @return the reservation lease in seconds
+	 */
+	public long getIdDispatchBlockLeaseSeconds() {
+		return Long.parseLong(environment.getProperty("id.dispatch.block.lease.seconds", "600"));
+	}
+
+	/**
+	 * Retrieves the tenants whose blocks are claimed on startup ("id.dispatch.block.tenants", comma separated).
+	 * Other tenants get a block on their first dispatch request.
+	 *
+	 * @return the tenants to pre-claim blocks for
+	 */
+	public String getIdDispatchBlockTenants() {
+		return environment.getProperty("id.dispatch.block.tenants", "");
+	}
 }
@@ -0,0 +1,199 @@
+package org.egov.id.repository;
+
+import org.egov.common.models.idgen.IdRecord;
+import org.egov.common.models.idgen.IdStatus;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.egov.id.utils.Constants.ID_STATUS_RESERVED;
+import static org.egov.id.utils.Constants.RESERVATION_STATUS_ACTIVE;
+import static org.egov.id.utils.Constants.RESERVATION_STATUS_EXPIRED;
+import static org.egov.id.utils.Constants.RESERVATION_STATUS_RELEASED;
+
+/**
+ * IdReservationRepository pre-claims blocks of unassigned IDs for a dispatch pod and keeps the reservation log
+ * in the id_pool_reservation table.
+ *
+ * Every block is claimed in the same transaction as its reservation row, so a claimed ID always belongs to a
+ * logged reservation. A pre-claimed ID is set to DISPATCHED in the database before it is handed out, so it is
+ * never RESERVED once dispatched. A pod renews the lease of its reservations while it runs; the IDs of a
+ * reservation whose lease expired (the pod crashed) which are still RESERVED are returned to the pool by any pod.
+ */
+@Repository
+public class IdReservationRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final IdRecordRowMapper idRecordRowMapper;
+
+    public IdReservationRepository(NamedParameterJdbcTemplate namedParameterJdbcTemplate,
+                                   IdRecordRowMapper idRecordRowMapper) {
+        this.namedParameterJdbcTemplate = namedParameterJdbcTemplate;
+        this.idRecordRowMapper = idRecordRowMapper;
+    }
+
+    /**
+     * Claims up to blockSize unassigned IDs of the tenant into a new reservation.
+     *
+     * @param reservationId The identifier of the new reservation.
+     * @param podId The identifier of the pod reserving the block.
+     * @param tenantId The identifier of the tenant.
+     * @param blockSize The number of IDs to reserve.
+     * @param leaseExpiryTime Epoch millis until which the reservation is held without renewal.
+     * @return The reserved ID records, empty when the pool of the tenant is exhausted.
+     */
+    @Transactional
+    public List<IdRecord> reserveBlock(String reservationId, String podId, String tenantId, int blockSize,
+                                       long leaseExpiryTime) {
+        long now = System.currentTimeMillis();
+        // Same claim as IdRepository.fetchUnassigned, but into a reservation instead of a user
+        String claimQuery =
+                "UPDATE id_pool p SET status = :reservedStatus, reservationId = :reservationId, " +
+                        "rowVersion = rowVersion + 1, lastModifiedBy = :podId, lastModifiedTime = :now " +
+                        "WHERE p.id IN (SELECT id FROM id_pool WHERE status = :status AND tenantId = :tenantId " +
+                        "ORDER BY id ASC LIMIT :limit FOR UPDATE SKIP LOCKED) AND p.status = :status RETURNING p.*";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("reservationId", reservationId)
+                .addValue("podId", podId)
+                .addValue("tenantId", tenantId)
+                .addValue("status", IdStatus.UNASSIGNED.name())
+                .addValue("reservedStatus", ID_STATUS_RESERVED)
+                .addValue("now", now)
+                .addValue("limit", blockSize);
+        List<IdRecord> reserved = namedParameterJdbcTemplate.query(claimQuery, params, idRecordRowMapper);
+        if (reserved.isEmpty()) {
+            return reserved;
+        }
+
+        String logQuery = "INSERT INTO id_pool_reservation (reservationId, podId, tenantId, reservedCount, status, " +
+                "leaseExpiryTime, createdTime, lastModifiedTime) " +
+                "VALUES (:reservationId, :podId, :tenantId, :reservedCount, :activeStatus, :leaseExpiryTime, :now, :now)";
+        params.addValue("reservedCount", reserved.size())
+                .addValue("activeStatus", RESERVATION_STATUS_ACTIVE)
+                .addValue("leaseExpiryTime", leaseExpiryTime);
+        namedParameterJdbcTemplate.update(logQuery, params);
+        return reserved;
+    }
+
+    /**
+     * Marks pre-claimed IDs as dispatched, before they are handed out. Only IDs still RESERVED under the given
+     * reservations are updated: an ID whose reservation expired and was reclaimed meanwhile is skipped and must
+     * not be served. The row lock taken here orders the update against {@link #reclaimExpired}, so an ID is
+     * either dispatched or returned to the pool, never both.
+     *
+     * @param ids The pre-claimed IDs to dispatch.
+     * @param reservationIds The reservations these IDs were claimed in.
+     * @param userUuid The user the IDs are dispatched to.
+     * @return The IDs which were set to DISPATCHED.
+     */
+    public Set<String> markDispatched(Collection<String> ids, Collection<String> reservationIds, String userUuid) {
+        if (ids.isEmpty()) {
+            return new HashSet<>();
+        }
+        String query = "UPDATE id_pool SET status = :status, reservationId = NULL, rowVersion = rowVersion + 1, " +
+                "lastModifiedBy = :userUuid, lastModifiedTime = :now " +
+                "WHERE id IN (:ids) AND status = :reservedStatus AND reservationId IN (:reservationIds) RETURNING id";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("reservationIds", reservationIds)
+                .addValue("status", IdStatus.DISPATCHED.name())
+                .addValue("reservedStatus", ID_STATUS_RESERVED)
+                .addValue("userUuid", userUuid)
+                .addValue("now", System.currentTimeMillis());
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(query, params, String.class));
+    }
+
+    /**
+     * Extends the lease of the given active reservations.
+     *
+     * @return The reservations which are still active; the others were expired and must not be served any more.
+     */
+    public Set<String> renewLeases(Collection<String> reservationIds, long leaseExpiryTime) {
+        if (reservationIds.isEmpty()) {
+            return new HashSet<>();
+        }
+        String query = "UPDATE id_pool_reservation SET leaseExpiryTime = :leaseExpiryTime, lastModifiedTime = :now " +
+                "WHERE reservationId IN (:reservationIds) AND status = :activeStatus RETURNING reservationId";
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("reservationIds", reservationIds)
+                .addValue("activeStatus", RESERVATION_STATUS_ACTIVE)
+                .addValue("leaseExpiryTime", leaseExpiryTime)
+                .addValue("now", System.currentTimeMillis());
+        return new HashSet<>(namedParameterJdbcTemplate.queryForList(query, params, String.class));
+    }
+
+    /**
+     * Closes reservations with the given status, e.g. once every ID of the block has been dispatched.
+     */
+    public void closeReservations(Collection<String> reservationIds, String status) {
+        if (reservationIds.isEmpty()) {
+            return;
+        }
+        String query = "UPDATE id_pool_reservation SET status = :status, lastModifiedTime = :now " +
+                "WHERE reservationId IN (:reservationIds) AND status = :activeStatus";
+        namedParameterJdbcTemplate.update(query, new MapSqlParameterSource()
+                .addValue("reservationIds", reservationIds)
+                .addValue("status", status)
+                .addValue("activeStatus", RESERVATION_STATUS_ACTIVE)
+                .addValue("now", System.currentTimeMillis()));
+    }
+
+    /**
+     * Returns reserved IDs which were not dispatched back to the pool and releases their reservations.
+     *
+     * @param reservationIds The reservations to release.
+     * @param ids The IDs of these reservations not yet dispatched.
+     * @return The number of IDs returned to the pool.
+     */
+    @Transactional
+    public int release(Collection<String> reservationIds, Collection<String> ids) {
+        int released = 0;
+        long now = System.currentTimeMillis();
+        if (!ids.isEmpty()) {
+            String query = "UPDATE id_pool SET status = :status, reservationId = NULL, rowVersion = rowVersion + 1, " +
+                    "lastModifiedTime = :now WHERE id IN (:ids) AND status = :reservedStatus";
+            released = namedParameterJdbcTemplate.update(query, new MapSqlParameterSource()
+                    .addValue("ids", ids)
+                    .addValue("status", IdStatus.UNASSIGNED.name())
+                    .addValue("reservedStatus", ID_STATUS_RESERVED)
+                    .addValue("now", now));
+        }
+        closeReservations(reservationIds, RESERVATION_STATUS_RELEASED);
+        return released;
+    }
+
+    /**
+     * Returns the IDs of reservations whose lease expired to the pool and marks these reservations expired. Only
+     * IDs still RESERVED are returned, as dispatched ones were set to DISPATCHED by {@link #markDispatched};
+     * IDs in the dispatch log are skipped as well. Safe to run from every pod at the same time.
+     *
+     * @return The number of IDs returned to the pool.
+     */
+    @Transactional
+    public int reclaimExpired(long now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("status", IdStatus.UNASSIGNED.name())
+                .addValue("reservedStatus", ID_STATUS_RESERVED)
+                .addValue("activeStatus", RESERVATION_STATUS_ACTIVE)
+                .addValue("expiredStatus", RESERVATION_STATUS_EXPIRED)
+                .addValue("now", now);
+        // Expire first: the row lock makes a concurrent renewal of the same reservation see it expired
+        List<String> expired = namedParameterJdbcTemplate.queryForList("UPDATE id_pool_reservation " +
+                "SET status = :expiredStatus, lastModifiedTime = :now " +
+                "WHERE status = :activeStatus AND leaseExpiryTime < :now RETURNING reservationId", params, String.class);
+        if (expired.isEmpty()) {
+            return 0;
+        }
+        String reclaimQuery = "UPDATE id_pool p SET status = :status, reservationId = NULL, rowVersion = rowVersion + 1, " +
+                "lastModifiedTime = :now WHERE p.reservationId IN (:reservationIds) AND p.status = :reservedStatus " +
+                "AND NOT EXISTS (SELECT 1 FROM id_transaction_log l WHERE l.id_reference = p.id)";
+        int reclaimed = namedParameterJdbcTemplate.update(reclaimQuery, params.addValue("reservationIds", expired));
+        return reclaimed;
+    }
+}
@@ -0,0 +1,338 @@
+package org.egov.id.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.egov.common.models.idgen.IdRecord;
+import org.egov.id.config.PropertiesManager;
+import org.egov.id.repository.IdReservationRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.egov.id.utils.Constants.RESERVATION_STATUS_COMPLETED;
+
+/**
+ * Hi-lo style allocator serving dispatch requests from blocks of IDs pre-claimed by this pod.
+ *
+ * When "id.dispatch.block.enabled" is set, a background task claims blocks of "id.dispatch.block.size"
+ * unassigned IDs per tenant through {@link IdReservationRepository} whenever fewer than
+ * "id.dispatch.block.low.watermark" IDs are left in memory, so a dispatch request only polls a lock-free queue
+ * instead of running a SKIP LOCKED claim against the whole id_pool.
+ *
+ * The same task renews the lease of the reservations of this pod, closes the fully dispatched ones, and returns
+ * the IDs of reservations of crashed pods to the pool. Taken IDs are set to DISPATCHED in the database before
+ * they are returned, so a reclaim never returns an ID that was handed out, whatever the persister lag. IDs of a
+ * reservation are no longer served once its lease is close to expiring without renewal; the reservation is then
+ * abandoned and its IDs not dispatched are reclaimed like those of a crashed pod. On shutdown the IDs not
+ * dispatched are returned to the pool.
+ */
+@Service
+@Slf4j
+public class IdBlockAllocator {
+
+    private final IdReservationRepository reservationRepository;
+    private final PropertiesManager propertiesManager;
+
+    private final String podId;
+
+    private final Map<String, TenantPool> pools = new ConcurrentHashMap<>();
+
+    private final Map<String, Block> activeBlocks = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    public IdBlockAllocator(IdReservationRepository reservationRepository, PropertiesManager propertiesManager) {
+        this.reservationRepository = reservationRepository;
+        this.propertiesManager = propertiesManager;
+        String hostname = System.getenv("HOSTNAME");
+        this.podId = (StringUtils.isNotBlank(hostname) ? hostname : "beneficiary-idgen") + "-"
+                + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * Starts the background refill and claims the first blocks of the configured tenants.
+     */
+    @PostConstruct
+    public void start() {
+        if (!propertiesManager.isIdDispatchBlockEnabled()) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "id-block-allocator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = propertiesManager.getIdDispatchBlockRefillIntervalMs();
+        scheduler.scheduleWithFixedDelay(this::maintain, interval, interval, TimeUnit.MILLISECONDS);
+        for (String tenantId : StringUtils.split(propertiesManager.getIdDispatchBlockTenants(), ',')) {
+            if (StringUtils.isNotBlank(tenantId)) {
+                requestRefill(tenantId.trim(), pool(tenantId.trim()));
+            }
+        }
+        log.info("ID block allocator started for pod {} with block size {}", podId,
+                propertiesManager.getIdDispatchBlockSize());
+    }
+
+    /**
+     * Returns the IDs not dispatched to the pool and releases the reservations of this pod.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler == null) {
+            return;
+        }
+        scheduler.shutdownNow();
+        List<String> unusedIds = new ArrayList<>();
+        for (TenantPool pool : pools.values()) {
+            ReservedId reservedId;
+            while ((reservedId = pool.queue.poll()) != null) {
+                if (!reservedId.block.revoked) {
+                    unusedIds.add(reservedId.record.getId());
+                }
+            }
+        }
+        // abandoned reservations are left to expire, so that their IDs are reclaimed
+        List<String> reservationIds = new ArrayList<>();
+        activeBlocks.forEach((reservationId, block) -> {
+            if (!block.revoked) {
+                reservationIds.add(reservationId);
+            }
+        });
+        try {
+            int released = reservationRepository.release(reservationIds, unusedIds);
+            log.info("Released {} reserved IDs of {} reservations of pod {}", released, reservationIds.size(), podId);
+        } catch (Exception exception) {
+            // the reservations expire and any other pod returns their IDs to the pool
+            log.error("Failed to release reserved IDs of pod {}, they are reclaimed once the lease expires", podId,
+                    exception);
+        }
+        activeBlocks.clear();
+    }
+
+    /**
+     * Takes up to count pre-claimed IDs of the tenant and marks them dispatched to the user. Returns fewer
+     * (possibly none) when the blocks of the tenant are empty, an ID was reclaimed meanwhile or block dispatch
+     * is disabled; the caller claims the rest from the database.
+     *
+     * @param tenantId The tenant of the IDs.
+     * @param userUuid The user the IDs are dispatched to.
+     * @param count The number of IDs requested.
+     * @return The ID records taken out of this pod's blocks, already DISPATCHED in the database.
+     */
+    public List<IdRecord> take(String tenantId, String userUuid, int count) {
+        if (scheduler == null || count <= 0) {
+            return Collections.emptyList();
+        }
+        TenantPool pool = pool(tenantId);
+        List<ReservedId> taken = new ArrayList<>(Math.min(count, Math.max(0, pool.available.get())));
+        long now = System.currentTimeMillis();
+        while (taken.size() < count) {
+            ReservedId reservedId = pool.queue.poll();
+            if (reservedId == null) {
+                break;
+            }
+            pool.available.decrementAndGet();
+            Block block = reservedId.block;
+            if (block.revoked || now > block.serveUntil) {
+                // left RESERVED in the database, returned to the pool once the reservation expires
+                block.revoked = true;
+                continue;
+            }
+            block.remaining.decrementAndGet();
+            taken.add(reservedId);
+        }
+        if (pool.available.get() < propertiesManager.getIdDispatchBlockLowWatermark()) {
+            requestRefill(tenantId, pool);
+        }
+        List<IdRecord> dispatched = markDispatched(taken, userUuid);
+        log.debug("Took {} of {} requested IDs from pre-claimed blocks for tenant {}", dispatched.size(), count,
+                tenantId);
+        return dispatched;
+    }
+
+    /**
+     * Sets the taken IDs to DISPATCHED synchronously. If that fails they stay RESERVED, and are reclaimed with
+     * their reservation once it expires.
+     */
+    private List<IdRecord> markDispatched(List<ReservedId> taken, String userUuid) {
+        if (taken.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Set<String> ids = new HashSet<>();
+        Set<String> reservationIds = new HashSet<>();
+        for (ReservedId reservedId : taken) {
+            ids.add(reservedId.record.getId());
+            reservationIds.add(reservedId.block.reservationId);
+        }
+        Set<String> updated = reservationRepository.markDispatched(ids, reservationIds, userUuid);
+        List<IdRecord> dispatched = new ArrayList<>(updated.size());
+        for (ReservedId reservedId : taken) {
+            if (updated.contains(reservedId.record.getId())) {
+                dispatched.add(reservedId.record);
+            } else {
+                // reclaimed after its reservation expired, the block must not be served any more
+                log.warn("Pre-claimed ID {} of reservation {} was reclaimed, skipping it", reservedId.record.getId(),
+                        reservedId.block.reservationId);
+                reservedId.block.revoked = true;
+            }
+        }
+        return dispatched;
+    }
+
+    /**
+     * @return The number of pre-claimed IDs of the tenant held in memory by this pod.
+     */
+    public int available(String tenantId) {
+        TenantPool pool = pools.get(tenantId);
+        return pool == null ? 0 : Math.max(0, pool.available.get());
+    }
+
+    private TenantPool pool(String tenantId) {
+        return pools.computeIfAbsent(tenantId, key -> new TenantPool());
+    }
+
+    private void requestRefill(String tenantId, TenantPool pool) {
+        if (pool.refilling.compareAndSet(false, true)) {
+            try {
+                scheduler.execute(() -> refill(tenantId, pool));
+            } catch (Exception exception) {
+                pool.refilling.set(false);
+                log.debug("Could not schedule refill of tenant {}", tenantId, exception);
+            }
+        }
+    }
+
+    /**
+     * Claims blocks for the tenant until it holds at least the low watermark, or its pool is exhausted.
+     */
+    private void refill(String tenantId, TenantPool pool) {
+        try {
+            int blockSize = propertiesManager.getIdDispatchBlockSize();
+            while (pool.available.get() < propertiesManager.getIdDispatchBlockLowWatermark()) {
+                String reservationId = UUID.randomUUID().toString();
+                long leaseMillis = TimeUnit.SECONDS.toMillis(propertiesManager.getIdDispatchBlockLeaseSeconds());
+                long leaseExpiryTime = System.currentTimeMillis() + leaseMillis;
+                List<IdRecord> records = reservationRepository.reserveBlock(reservationId, podId, tenantId,
+                        blockSize, leaseExpiryTime);
+                if (records.isEmpty()) {
+                    log.warn("No unassigned IDs left to reserve for tenant {}", tenantId);
+                    return;
+                }
+                Block block = new Block(reservationId, records.size(), serveUntil(leaseExpiryTime, leaseMillis));
+                activeBlocks.put(reservationId, block);
+                records.forEach(record -> pool.queue.offer(new ReservedId(record, block)));
+                pool.available.addAndGet(records.size());
+                log.info("Reserved block {} of {} IDs for tenant {}", reservationId, records.size(), tenantId);
+                if (records.size() < blockSize) {
+                    return;
+                }
+            }
+        } catch (Exception exception) {
+            log.error("Failed to reserve an ID block for tenant {}", tenantId, exception);
+        } finally {
+            pool.refilling.set(false);
+        }
+    }
+
+    /**
+     * Closes dispatched blocks, renews the leases of the others, reclaims expired reservations of any pod and
+     * refills the tenants running low.
+     */
+    private void maintain() {
+        try {
+            List<String> completed = new ArrayList<>();
+            List<String> abandoned = new ArrayList<>();
+            activeBlocks.forEach((reservationId, block) -> {
+                if (block.revoked) {
+                    // no longer renewed, so its IDs not dispatched are reclaimed once the lease expires
+                    abandoned.add(reservationId);
+                } else if (block.remaining.get() <= 0) {
+                    completed.add(reservationId);
+                }
+            });
+            reservationRepository.closeReservations(completed, RESERVATION_STATUS_COMPLETED);
+            completed.forEach(activeBlocks::remove);
+            abandoned.forEach(activeBlocks::remove);
+
+            long leaseMillis = TimeUnit.SECONDS.toMillis(propertiesManager.getIdDispatchBlockLeaseSeconds());
+            long leaseExpiryTime = System.currentTimeMillis() + leaseMillis;
+            Set<String> renewed = reservationRepository.renewLeases(new ArrayList<>(activeBlocks.keySet()),
+                    leaseExpiryTime);
+            activeBlocks.forEach((reservationId, block) -> {
+                if (renewed.contains(reservationId)) {
+                    block.serveUntil = serveUntil(leaseExpiryTime, leaseMillis);
+                } else {
+                    log.warn("Reservation {} expired before renewal, its IDs are no longer served", reservationId);
+                    block.revoked = true;
+                }
+            });
+
+            int reclaimed = reservationRepository.reclaimExpired(System.currentTimeMillis());
+            if (reclaimed > 0) {
+                log.info("Returned {} IDs of expired reservations to the pool", reclaimed);
+            }
+        } catch (Exception exception) {
+            log.error("Failed to maintain ID block reservations of pod {}", podId, exception);
+        }
+        pools.forEach((tenantId, pool) -> {
+            if (pool.available.get() < propertiesManager.getIdDispatchBlockLowWatermark()) {
+                requestRefill(tenantId, pool);
+            }
+        });
+    }
+
+    // Stop serving a block a quarter of the lease before it expires, so a reclaim never races a dispatch
+    private static long serveUntil(long leaseExpiryTime, long leaseMillis) {
+        return leaseExpiryTime - leaseMillis / 4;
+    }
+
+    /**
+     * Pre-claimed IDs of one tenant held by this pod.
+     */
+    private static final class TenantPool {
+        private final ConcurrentLinkedQueue<ReservedId> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger available = new AtomicInteger();
+        private final AtomicBoolean refilling = new AtomicBoolean();
+    }
+
+    /**
+     * One reservation, with the number of its IDs not yet dispatched.
+     */
+    private static final class Block {
+        private final String reservationId;
+        private final AtomicInteger remaining;
+        private volatile long serveUntil;
+        private volatile boolean revoked;
+
+        private Block(String reservationId, int size, long serveUntil) {
+            this.reservationId = reservationId;
+            this.remaining = new AtomicInteger(size);
+            this.serveUntil = serveUntil;
+        }
+    }
+
+    private static final class ReservedId {
+        private final IdRecord record;
+        private final Block block;
+
+        private ReservedId(IdRecord record, Block block) {
+            this.record = record;
+            this.block = block;
+        }
+    }
+}
@@ -51,6 +51,8 @@ public class IdDispatchService {
 
     private EnrichmentService enrichmentService;
 
+    private final IdBlockAllocator idBlockAllocator;
+
     /*
         * Constructor for IdDispatchService.
         * Initializes repositories, lock manager, producer, properties manager, and validators.
@@ -61,18 +63,21 @@ public class IdDispatchService {
         * @param propertiesManager Properties manager for configuration values.
         * @param validators List of validators to apply on ID records.
         * @param enrichmentservice Service for enriching ID records with additional metadata.
+        * @param idBlockAllocator Allocator serving IDs from blocks pre-claimed by this pod.
         */
     @Autowired
     public IdDispatchService(IdRepository idRepo,
                              IdGenProducer idGenProducer,
                              PropertiesManager propertiesManager,
                              List<Validator<IdRecordBulkRequest, IdRecord>> validators,
-                             EnrichmentService enrichmentservice) {
+                             EnrichmentService enrichmentservice,
+                             IdBlockAllocator idBlockAllocator) {
         this.idRepo = idRepo;
         this.idGenProducer = idGenProducer;
         this.propertiesManager = propertiesManager;
         this.validators = validators;
         this.enrichmentService  = enrichmentservice;
+        this.idBlockAllocator = idBlockAllocator;
     }
 
 
@@ -137,7 +142,13 @@ public class IdDispatchService {
         long remainingCount = redissonIDService.getUserDeviceDispatchedIDRemaining(tenantId, userUuid, deviceUuid, true, true);
         long fetchCount = Math.min(remainingCount, count);
 
-        List<IdRecord> idRecordsToDispatch = idRepo.fetchUnassigned(tenantId, userUuid, (int) fetchCount);
+        // Serve from the blocks pre-claimed by this pod first, claim the rest from the database
+        List<IdRecord> reservedIds = idBlockAllocator.take(tenantId, userUuid, (int) fetchCount);
+        List<IdRecord> idRecordsToDispatch = new ArrayList<>(reservedIds);
+        if (idRecordsToDispatch.size() < fetchCount) {
+            idRecordsToDispatch.addAll(idRepo.fetchUnassigned(tenantId, userUuid,
+                    (int) fetchCount - idRecordsToDispatch.size()));
+        }
 
         if (idRecordsToDispatch.isEmpty()) {
             log.error("No IDs available in the database for tenantId: {}, requested count: {}", tenantId, fetchCount);
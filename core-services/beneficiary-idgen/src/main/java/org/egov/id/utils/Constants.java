@@ -6,4 +6,10 @@ public final class Constants {
     public static final String SYSTEM_GENERATED = "SYSTEM_GENERATED";
     public static final String SYSTEM_UPDATED = "SYSTEM_UPDATED";
     public static final String ID_STATUS = "ID_STATUS";
+    // id_pool status of IDs pre-claimed into a dispatch pod's block, not part of IdStatus as it never leaves the service
+    public static final String ID_STATUS_RESERVED = "RESERVED";
+    public static final String RESERVATION_STATUS_ACTIVE = "ACTIVE";
+    public static final String RESERVATION_STATUS_COMPLETED = "COMPLETED";
+    public static final String RESERVATION_STATUS_RELEASED = "RELEASED";
+    public static final String RESERVATION_STATUS_EXPIRED = "EXPIRED";
 }
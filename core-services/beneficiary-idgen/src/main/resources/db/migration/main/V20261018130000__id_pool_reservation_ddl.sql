@@ -0,0 +1,19 @@
+-- Reservation log of the ID blocks pre-claimed by dispatch pods
+CREATE TABLE IF NOT EXISTS id_pool_reservation (
+    reservationId     character varying(64) NOT NULL,
+    podId             character varying(255) NOT NULL,
+    tenantId          character varying(1000) NOT NULL,
+    reservedCount     integer NOT NULL,
+    status            character varying(64) NOT NULL,
+    leaseExpiryTime   bigint NOT NULL,
+    createdTime       bigint,
+    lastModifiedTime  bigint,
+    CONSTRAINT pk_id_pool_reservation PRIMARY KEY (reservationId)
+);
+
+CREATE INDEX IF NOT EXISTS idx_id_pool_reservation_status_lease ON id_pool_reservation (status, leaseExpiryTime);
+
+-- Block an ID was reserved in while its status is RESERVED
+ALTER TABLE id_pool ADD COLUMN IF NOT EXISTS reservationId character varying(64);
+
+CREATE INDEX IF NOT EXISTS idx_id_pool_reservation_id ON id_pool (reservationId) WHERE reservationId IS NOT NULL;
@@ -0,0 +1,129 @@
+package org.egov.id.service;
+
+import org.egov.common.models.idgen.IdRecord;
+import org.egov.id.config.PropertiesManager;
+import org.egov.id.repository.IdReservationRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class IdBlockAllocatorTest {
+
+    @Mock
+    private IdReservationRepository reservationRepository;
+
+    @Mock
+    private PropertiesManager propertiesManager;
+
+    private IdBlockAllocator allocator;
+
+    private void enableBlocks() {
+        when(propertiesManager.isIdDispatchBlockEnabled()).thenReturn(true);
+        when(propertiesManager.getIdDispatchBlockRefillIntervalMs()).thenReturn(50L);
+        when(propertiesManager.getIdDispatchBlockTenants()).thenReturn("mz");
+        when(propertiesManager.getIdDispatchBlockSize()).thenReturn(3);
+        when(propertiesManager.getIdDispatchBlockLowWatermark()).thenReturn(2);
+        when(propertiesManager.getIdDispatchBlockLeaseSeconds()).thenReturn(600L);
+        lenient().when(reservationRepository.renewLeases(any(), anyLong()))
+                .thenAnswer(invocation -> new HashSet<>(invocation.<Collection<String>>getArgument(0)));
+        allocator = new IdBlockAllocator(reservationRepository, propertiesManager);
+    }
+
+    private static List<IdRecord> records(String... ids) {
+        return Arrays.stream(ids)
+                .map(id -> IdRecord.builder().id(id).tenantId("mz").status("RESERVED").build())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void testTakeServesPreClaimedIdsAndReleasesUnusedOnShutdown() {
+        enableBlocks();
+        when(reservationRepository.reserveBlock(anyString(), anyString(), eq("mz"), anyInt(), anyLong()))
+                .thenReturn(records("ID-1", "ID-2", "ID-3"), Collections.emptyList());
+
+        allocator.start();
+        verify(reservationRepository, timeout(2000)).reserveBlock(anyString(), anyString(), eq("mz"), eq(3), anyLong());
+        waitUntilAvailable(3);
+
+        when(reservationRepository.markDispatched(any(), any(), eq("user-1")))
+                .thenAnswer(invocation -> new HashSet<>(invocation.<Collection<String>>getArgument(0)));
+        List<IdRecord> taken = allocator.take("mz", "user-1", 2);
+
+        assertEquals(Arrays.asList("ID-1", "ID-2"), taken.stream().map(IdRecord::getId).collect(Collectors.toList()));
+        verify(reservationRepository).markDispatched(eq(new HashSet<>(Arrays.asList("ID-1", "ID-2"))), any(),
+                eq("user-1"));
+        // below the low watermark, so another block is requested; the pool is exhausted
+        verify(reservationRepository, timeout(2000).atLeast(2))
+                .reserveBlock(anyString(), anyString(), eq("mz"), eq(3), anyLong());
+
+        allocator.shutdown();
+
+        ArgumentCaptor<Collection<String>> reservations = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<Collection<String>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(reservationRepository).release(reservations.capture(), ids.capture());
+        assertEquals(1, reservations.getValue().size());
+        assertEquals(Collections.singletonList("ID-3"), ids.getValue());
+    }
+
+    @Test
+    void testTakeSkipsIdsReclaimedBeforeTheyWereDispatched() {
+        enableBlocks();
+        when(reservationRepository.reserveBlock(anyString(), anyString(), eq("mz"), anyInt(), anyLong()))
+                .thenReturn(records("ID-1", "ID-2", "ID-3"), Collections.emptyList());
+        allocator.start();
+        waitUntilAvailable(3);
+        // ID-2 was returned to the pool by a reclaim, so only ID-1 is still RESERVED under the reservation
+        when(reservationRepository.markDispatched(any(), any(), eq("user-1")))
+                .thenReturn(new HashSet<>(Collections.singletonList("ID-1")));
+
+        List<IdRecord> taken = allocator.take("mz", "user-1", 2);
+
+        assertEquals(Collections.singletonList("ID-1"),
+                taken.stream().map(IdRecord::getId).collect(Collectors.toList()));
+        // the block is revoked, so its remaining ID is not served either
+        assertTrue(allocator.take("mz", "user-1", 1).isEmpty());
+        allocator.shutdown();
+    }
+
+    @Test
+    void testTakeReturnsNothingWhenDisabled() {
+        when(propertiesManager.isIdDispatchBlockEnabled()).thenReturn(false);
+        IdBlockAllocator disabled = new IdBlockAllocator(reservationRepository, propertiesManager);
+        disabled.start();
+
+        assertTrue(disabled.take("mz", "user-1", 5).isEmpty());
+        verify(reservationRepository, times(0)).reserveBlock(anyString(), anyString(), anyString(), anyInt(), anyLong());
+    }
+
+    private void waitUntilAvailable(int expected) {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (allocator.available("mz") < expected && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertEquals(expected, allocator.available("mz"));
+    }
+}
@@ -3,8 +3,10 @@ package com.tarento.analytics.org.service;
 import static com.tarento.analytics.handler.IResponseHandler.IS_CAPPED_TILL_TODAY;
 import com.tarento.analytics.constant.Constants.Interval;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -106,7 +108,33 @@ public class TarentoServiceImpl implements ClientService {
 			request.getRequestDate().setEndDate(String.valueOf(currentDateTimeInMillis));
 		}
 
-		executeConfiguredQueries(chartNode, aggrObjectNode, nodes, request, interval);
+		boolean isInsightConfigured = insightsConfig != null && StringUtils.isNotBlank(insightsConfig.getInsightInterval());
+		AggregateRequestDto insightRequest = null;
+		List<PreparedQuery> insightQueries = null;
+		if(restService.isBatchSearchEnabled()) {
+			/*
+					The queries of the chart and of the insight period are sent to Elastic Search together; the insight
+					queries are built on a copy of the request, applied to the request once the chart data is translated
+			* */
+			List<PreparedQuery> queries = prepareConfiguredQueries(chartNode, request, interval);
+			List<PreparedQuery> allQueries = new ArrayList<>(queries);
+			if(isInsightConfigured) {
+				insightRequest = copyForInsight(request);
+				continueWithInsight = getInsightsDate(insightRequest, insightsConfig.getInsightInterval());
+				if(continueWithInsight) {
+					insightRequest.setVisualizationCode(insightPrefix + insightRequest.getVisualizationCode());
+					insightQueries = prepareConfiguredQueries(chartNode, insightRequest, interval);
+					allQueries.addAll(insightQueries);
+				}
+			}
+			List<JsonNode> responses = searchAll(allQueries);
+			setResponses(queries, responses.subList(0, queries.size()), aggrObjectNode, nodes);
+			if(insightQueries != null) {
+				setResponses(insightQueries, responses.subList(queries.size(), responses.size()), insightAggrObjectNode, insightNodes);
+			}
+		} else {
+			executeConfiguredQueries(chartNode, aggrObjectNode, nodes, request, interval);
+		}
 		request.setChartNode(chartNode);
 		ResponseRecorder responseRecorder = new ResponseRecorder();
 		request.setResponseRecorder(responseRecorder);
@@ -117,9 +145,13 @@ public class TarentoServiceImpl implements ClientService {
 			aggregateDto = responseHandler.translate(request, aggrObjectNode);
 		}
 
-		if(insightsConfig != null && StringUtils.isNotBlank(insightsConfig.getInsightInterval())) {
-			continueWithInsight = getInsightsDate(request, insightsConfig.getInsightInterval());
-			if(continueWithInsight) {
+		if(isInsightConfigured) {
+			if(insightRequest == null) {
+				continueWithInsight = getInsightsDate(request, insightsConfig.getInsightInterval());
+			}
+			if(continueWithInsight && insightRequest != null) {
+				applyInsightRequest(request, insightRequest);
+			} else if(continueWithInsight) {
 				String insightVisualizationCode = insightPrefix  + request.getVisualizationCode();
 				request.setVisualizationCode(insightVisualizationCode);
 				/*
@@ -127,7 +159,8 @@ public class TarentoServiceImpl implements ClientService {
 				*
 				* */
 				executeConfiguredQueries(chartNode, insightAggrObjectNode, insightNodes, request, interval);
-
+			}
+			if(continueWithInsight) {
 				request.setChartNode(chartNode);
 				responseHandler = responseHandlerFactory.getInstance(chartType);
 				if(insightAggrObjectNode.fields().hasNext()){
@@ -187,6 +220,114 @@ public class TarentoServiceImpl implements ClientService {
 		}
 	}
 
+	/**
+	 * Builds the Elastic Search queries of the chart for the request, in the order of the chart configuration
+	 * @param chartNode The Chart Config defined in ChartApiConfig.json
+	 * @param request The API request, its filters are translated and enriched as for executeConfiguredQueries
+	 * @param interval Interval ( eg: Month) of the aggregation
+	 * @return the index name and query of every query applicable to the module level of the request
+	 */
+	private List<PreparedQuery> prepareConfiguredQueries(ObjectNode chartNode, AggregateRequestDto request, String interval) {
+		preHandle(request, chartNode, mdmsApiMappings);
+
+		ArrayNode queries = (ArrayNode) chartNode.get(Constants.JsonPaths.QUERIES);
+		List<PreparedQuery> preparedQueries = new ArrayList<>();
+		for(JsonNode query : queries) {
+			String module = query.get(Constants.JsonPaths.MODULE).asText();
+			if(request.getModuleLevel().equals(Constants.Modules.HOME_REVENUE) ||
+					request.getModuleLevel().equals(Constants.Modules.HOME_SERVICES) ||
+					query.get(Constants.JsonPaths.MODULE).asText().equals(Constants.Modules.COMMON) ||
+					request.getModuleLevel().equals(module)) {
+
+				String indexName = query.get(Constants.JsonPaths.INDEX_NAME).asText();
+				ObjectNode objectNode = queryService.getChartConfigurationQuery(request, query, indexName, interval);
+				preparedQueries.add(new PreparedQuery(indexName, objectNode.toString()));
+			}
+		}
+		return preparedQueries;
+	}
+
+	private List<JsonNode> searchAll(List<PreparedQuery> queries) {
+		List<String> indexNames = new ArrayList<>(queries.size());
+		List<String> searchQueries = new ArrayList<>(queries.size());
+		for(PreparedQuery query : queries) {
+			indexNames.add(query.indexName);
+			searchQueries.add(query.searchQuery);
+		}
+		try {
+			return restService.searchAll(indexNames, searchQueries);
+		} catch (Exception e) {
+			logger.error("Encountered an Exception while Executing the Queries : " + e.getMessage());
+			throw new RuntimeException(e);
+		}
+	}
+
+	/**
+	 * Enriches the responses of the queries in aggrObjectNode, as executeConfiguredQueries does
+	 */
+	private void setResponses(List<PreparedQuery> queries, List<JsonNode> responses, ObjectNode aggrObjectNode, ObjectNode nodes) {
+		int randIndexCount = 1;
+		for(int i = 0; i < queries.size(); i++) {
+			String indexName = queries.get(i).indexName;
+			JsonNode aggrNode = responses.get(i);
+			if(aggrNode == null) {
+				logger.error("Encountered an Exception while Executing the Query on index : " + indexName);
+				throw new RuntimeException("No response from Elastic Search for the query on index " + indexName);
+			}
+			if(nodes.has(indexName)) {
+				indexName = indexName + "_" + randIndexCount;
+				randIndexCount += 1;
+			}
+			nodes.set(indexName,aggrNode.get(Constants.JsonPaths.AGGREGATIONS));
+			aggrObjectNode.set(Constants.JsonPaths.AGGREGATIONS, nodes);
+		}
+	}
+
+	/**
+	 * Copies the request so that the insight dates and filters are worked out without changing the request
+	 */
+	private AggregateRequestDto copyForInsight(AggregateRequestDto request) {
+		AggregateRequestDto copy = new AggregateRequestDto();
+		copy.setRequestId(request.getRequestId());
+		copy.setVisualizationType(request.getVisualizationType());
+		copy.setVisualizationCode(request.getVisualizationCode());
+		copy.setModuleLevel(request.getModuleLevel());
+		copy.setQueryType(request.getQueryType());
+		copy.setFilters(new HashMap<>(request.getFilters()));
+		copy.setEsFilters(request.getEsFilters());
+		copy.setAggregationFactors(request.getAggregationFactors());
+		copy.setInterval(request.getInterval());
+		copy.setChartNode(request.getChartNode());
+		RequestDate requestDate = new RequestDate();
+		requestDate.setTargetDate(request.getRequestDate().getTargetDate());
+		requestDate.setStartDate(request.getRequestDate().getStartDate());
+		requestDate.setEndDate(request.getRequestDate().getEndDate());
+		requestDate.setInterval(request.getRequestDate().getInterval());
+		copy.setRequestDate(requestDate);
+		return copy;
+	}
+
+	/**
+	 * Brings the request to the state the sequential insight execution leaves it in
+	 */
+	private void applyInsightRequest(AggregateRequestDto request, AggregateRequestDto insightRequest) {
+		request.setVisualizationCode(insightRequest.getVisualizationCode());
+		request.getRequestDate().setStartDate(insightRequest.getRequestDate().getStartDate());
+		request.getRequestDate().setEndDate(insightRequest.getRequestDate().getEndDate());
+		request.getFilters().putAll(insightRequest.getFilters());
+		request.setEsFilters(insightRequest.getEsFilters());
+	}
+
+	private static class PreparedQuery {
+		private final String indexName;
+		private final String searchQuery;
+
+		PreparedQuery(String indexName, String searchQuery) {
+			this.indexName = indexName;
+			this.searchQuery = searchQuery;
+		}
+	}
+
 	private boolean isFilterForCurrentDayEnabled(ObjectNode chartNode) {
 		return chartNode.has(Constants.JsonPaths.FILTER_FOR_CURRENT_DAY)
 				&& chartNode.get(Constants.JsonPaths.FILTER_FOR_CURRENT_DAY).asBoolean();
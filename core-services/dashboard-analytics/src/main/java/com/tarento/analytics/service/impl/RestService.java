@@ -13,10 +13,17 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static javax.servlet.http.HttpServletRequest.BASIC_AUTH;
 import static org.apache.commons.codec.CharEncoding.US_ASCII;
@@ -26,6 +33,15 @@ import static org.springframework.http.HttpHeaders.AUTHORIZATION;
 public class RestService {
     public static final Logger LOGGER = LoggerFactory.getLogger(RestService.class);
 
+    public static final String SEARCH_MODE_SEQUENTIAL = "sequential";
+    public static final String SEARCH_MODE_MSEARCH = "msearch";
+    public static final String SEARCH_MODE_CONCURRENT = "concurrent";
+
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    // ObjectMapper is thread safe once configured, one instance serves every call
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
     @Value("${services.esindexer.host}")
     private String indexServiceHost;
     @Value("${egov.services.esindexer.host.search}")
@@ -36,10 +52,46 @@ public class RestService {
     private String userName;
     @Value("${egov.es.password}")
     private String password;
+    @Value("${egov.services.esindexer.host.msearch:_msearch}")
+    private String indexServiceHostMultiSearch;
+    @Value("${egov.es.search.mode:sequential}")
+    private String searchMode;
+    @Value("${egov.es.search.concurrency:8}")
+    private int searchConcurrency;
+
+    private ExecutorService searchExecutor;
 
     @Autowired
     private RetryTemplate retryTemplate;
 
+    @PostConstruct
+    public void init() {
+        if (SEARCH_MODE_CONCURRENT.equalsIgnoreCase(searchMode)) {
+            AtomicInteger threadCount = new AtomicInteger();
+            searchExecutor = Executors.newFixedThreadPool(Math.max(1, searchConcurrency), runnable -> {
+                Thread thread = new Thread(runnable, "es-search-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        LOGGER.info("Elastic search mode for chart queries: " + searchMode);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (searchExecutor != null) {
+            searchExecutor.shutdown();
+        }
+    }
+
+    /**
+     * @return true when the queries of a chart are sent together, as one _msearch or as concurrent searches
+     */
+    public boolean isBatchSearchEnabled() {
+        return SEARCH_MODE_MSEARCH.equalsIgnoreCase(searchMode)
+                || (SEARCH_MODE_CONCURRENT.equalsIgnoreCase(searchMode) && searchExecutor != null);
+    }
+
 
     /**
      * search on Elastic search for a search query
@@ -61,8 +113,8 @@ public class RestService {
         JsonNode responseNode = null;
 
         try {
-            ResponseEntity<Object> response = retryTemplate.postForEntity(url, requestEntity);
-            responseNode = new ObjectMapper().convertValue(response.getBody(), JsonNode.class);
+            ResponseEntity<JsonNode> response = retryTemplate.postForJsonNode(url, requestEntity);
+            responseNode = response.getBody();
             //LOGGER.info("RestTemplate response :- "+responseNode);
 
         } catch (HttpClientErrorException e) {
@@ -72,6 +124,87 @@ public class RestService {
         return responseNode;
     }
 
+    /**
+     * search on Elastic search for several queries at once, with the configured search mode:
+     * one _msearch request ("msearch"), concurrent searches ("concurrent"), or one search after the other
+     * @param indexes         elastic search index name of each query
+     * @param searchQueries   search queries, in the same order as the indexes
+     * @return the response of each query in the order of the queries, null for a query which failed
+     */
+    public List<JsonNode> searchAll(List<String> indexes, List<String> searchQueries) {
+        if (searchQueries.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (SEARCH_MODE_MSEARCH.equalsIgnoreCase(searchMode)) {
+            return multiSearch(indexes, searchQueries);
+        }
+        List<JsonNode> responses = new ArrayList<>(searchQueries.size());
+        if (searchExecutor == null || searchQueries.size() < 2) {
+            for (int i = 0; i < searchQueries.size(); i++) {
+                responses.add(search(indexes.get(i), searchQueries.get(i)));
+            }
+            return responses;
+        }
+        List<CompletableFuture<JsonNode>> futures = new ArrayList<>(searchQueries.size());
+        for (int i = 0; i < searchQueries.size(); i++) {
+            String index = indexes.get(i);
+            String searchQuery = searchQueries.get(i);
+            futures.add(CompletableFuture.supplyAsync(() -> search(index, searchQuery), searchExecutor));
+        }
+        for (CompletableFuture<JsonNode> future : futures) {
+            try {
+                responses.add(future.join());
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * sends the queries as one _msearch request, the body being a header line with the index and the query
+     * on one line for each query
+     */
+    private List<JsonNode> multiSearch(List<String> indexes, List<String> searchQueries) {
+        String url = indexServiceHost + indexServiceHostMultiSearch;
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < searchQueries.size(); i++) {
+            body.append(MAPPER.createObjectNode().put("index", indexes.get(i)).toString()).append('\n');
+            // the query must be on a single line, re-serialise it in case it is pretty printed
+            body.append(searchQueries.get(i).indexOf('\n') < 0 ? searchQueries.get(i) : compact(searchQueries.get(i)))
+                    .append('\n');
+        }
+        HttpHeaders headers = getHttpHeaders();
+        headers.setContentType(APPLICATION_NDJSON);
+        HttpEntity<String> requestEntity = new HttpEntity<>(body.toString(), headers);
+
+        List<JsonNode> responses = new ArrayList<>(searchQueries.size());
+        JsonNode responseNode = null;
+        try {
+            responseNode = retryTemplate.postForJsonNode(url, requestEntity).getBody();
+        } catch (HttpClientErrorException e) {
+            LOGGER.error("client error while multi searching ES : " + e.getMessage());
+        }
+        JsonNode items = responseNode == null ? null : responseNode.get("responses");
+        for (int i = 0; i < searchQueries.size(); i++) {
+            JsonNode item = items == null ? null : items.get(i);
+            if (item != null && item.has("error")) {
+                LOGGER.error("error while searching ES index " + indexes.get(i) + " : " + item.get("error"));
+                item = null;
+            }
+            responses.add(item);
+        }
+        return responses;
+    }
+
+    private static String compact(String json) {
+        try {
+            return MAPPER.readTree(json).toString();
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid search query : " + e.getMessage(), e);
+        }
+    }
+
     /**
      * makes a client rest api call of Http POST option
      * @param uri
@@ -96,7 +229,7 @@ public class RestService {
 
         try {
             ResponseEntity<Object> response = retryTemplate.postForEntity(uri,requestEntity);
-            responseNode = new ObjectMapper().convertValue(response.getBody(), JsonNode.class);
+            responseNode = MAPPER.convertValue(response.getBody(), JsonNode.class);
             LOGGER.info("RestTemplate response :- "+responseNode);
 
         } catch (HttpClientErrorException e) {
@@ -122,7 +255,7 @@ public class RestService {
         JsonNode responseNode = null;
         try {
             ResponseEntity<Object> response = retryTemplate.getForEntity(uri, headerEntity);
-            responseNode = new ObjectMapper().convertValue(response.getBody(), JsonNode.class);
+            responseNode = MAPPER.convertValue(response.getBody(), JsonNode.class);
             LOGGER.info("RestTemplate response :- "+responseNode);
 
         } catch (HttpClientErrorException e) {
@@ -1,5 +1,6 @@
 package com.tarento.analytics.service.impl;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
@@ -27,6 +28,16 @@ public class RetryTemplate {
         return restTemplate.postForEntity(url, request, Object.class);
     }
 
+    /**
+     * Posts the request and reads the response body straight into a JsonNode tree
+     */
+    @Retryable(value = {RuntimeException.class, ResourceAccessException.class, ServiceUnavailableException.class},
+            maxAttemptsExpression = "#{${service.retry.maxAttempts}}",
+            backoff = @Backoff(delayExpression = "#{${service.retry.backoff.delay}}"))
+    public ResponseEntity<JsonNode> postForJsonNode(String url, Object request) {
+        return restTemplate.postForEntity(url, request, JsonNode.class);
+    }
+
     @Retryable(value = {RuntimeException.class, ResourceAccessException.class, ServiceUnavailableException.class},
             maxAttemptsExpression = "#{${service.retry.maxAttempts}}",
             backoff = @Backoff(delayExpression = "#{${service.retry.backoff.delay}}"))
@@ -48,6 +48,41 @@ public class ExcelIngestionConfig {
     @Value("${excel.max.process.row.limit:100000}")
     private int maxProcessRowLimit;
 
+    // When true, the data rows of an upload are counted in one pass with the XSSF event (SAX) model, so an
+    // upload over the row limit is rejected before its DOM workbook is built. Accepted uploads are still
+    // opened as a DOM workbook. Default false checks the limit on the DOM workbook.
+    @Value("${excel.streaming.row.count.enabled:false}")
+    private boolean streamingRowCountEnabled;
+
+    // When true, template generation writes the hidden cascading boundary lookup sheet through a windowed
+    // SXSSF stream (rows beyond the window are flushed to a compressed temp file) instead of the in-memory
+    // XSSF model. Data sheets stay XSSF. Default false keeps the all-XSSF generation path.
+    @Value("${excel.generation.streaming.enabled:false}")
+    private boolean generationStreamingEnabled;
+
+    // Rows of a streamed generation sheet kept in memory before older rows are flushed to disk.
+    @Value("${excel.generation.streaming.window.size:500}")
+    private int generationStreamingWindowSize;
+
+    // Threads validating the sheets of one upload against their schemas, and the row chunks of a large
+    // sheet, in parallel. Errors are collected in sheet and row order either way. 1 validates sequentially.
+    @Value("${excel.validation.parallelism:4}")
+    private int validationParallelism;
+
+    // Rows per chunk when a sheet is validated in parallel; a sheet up to this size is one chunk.
+    @Value("${excel.validation.chunk.rows:10000}")
+    private int validationChunkRows;
+
+    // When true, parsed sheet rows are bulk-loaded into eg_ex_in_sheet_data_temp with PostgreSQL COPY,
+    // one committed chunk at a time, instead of pushed to the save topic for the persister; the rows are
+    // searchable as soon as processing finishes. Default false keeps the Kafka persister path.
+    @Value("${excel.sheet.data.copy.enabled:false}")
+    private boolean sheetDataCopyEnabled;
+
+    // Rows per COPY (and per commit) of the bulk load.
+    @Value("${excel.sheet.data.copy.chunk.size:5000}")
+    private int sheetDataCopyChunkSize;
+
     // Default matches Apache POI's hard sheet-name limit (31). A larger default would let
     // over-length localized names slip past the truncation guard and fail at workbook write.
     @Value("${excel.sheet.name.max.length:31}")
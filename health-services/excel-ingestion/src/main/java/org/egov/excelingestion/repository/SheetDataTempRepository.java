@@ -3,11 +3,19 @@ package org.egov.excelingestion.repository;
 import lombok.extern.slf4j.Slf4j;
 import org.egov.common.utils.MultiStateInstanceUtil;
 import org.egov.common.exception.InvalidTenantIdException;
+import org.egov.excelingestion.web.models.SheetDataTemp;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.type.TypeReference;
 
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -22,6 +30,9 @@ import static org.egov.common.utils.MultiStateInstanceUtil.SCHEMA_REPLACE_STRING
 public class SheetDataTempRepository {
 
     private static final String TABLE_NAME = "eg_ex_in_sheet_data_temp";
+    private static final String STAGING_TABLE_NAME = "eg_ex_in_sheet_data_temp_copy";
+    private static final String COPY_COLUMNS =
+            "referenceId, tenantId, fileStoreId, sheetName, rowNumber, rowJson, createdBy, createdTime, deleteTime";
     
     private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
     private final MultiStateInstanceUtil multiStateInstanceUtil;
@@ -149,4 +160,100 @@ public class SheetDataTempRepository {
         
         return namedParameterJdbcTemplate.queryForList(finalQuery, params);
     }
-}
\ No newline at end of file
+
+    /**
+     * Bulk-loads parsed sheet rows with the PostgreSQL COPY protocol and commits them, so they are
+     * searchable as soon as this returns. The rows are streamed as CSV into a staging table that is
+     * dropped on commit, then inserted with ON CONFLICT DO NOTHING: rows already loaded for the same
+     * reference, file, sheet and row number (a re-processed file) are kept instead of failing the load.
+     *
+     * @return Number of rows inserted
+     */
+    public int copySheetData(String tenantId, List<SheetDataTemp> rows) throws InvalidTenantIdException {
+        if (rows == null || rows.isEmpty()) {
+            return 0;
+        }
+        String table = multiStateInstanceUtil.replaceSchemaPlaceholder(SCHEMA_REPLACE_STRING + "." + TABLE_NAME, tenantId);
+
+        Integer inserted = namedParameterJdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Integer>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE TEMP TABLE " + STAGING_TABLE_NAME + " (LIKE " + table
+                        + " INCLUDING DEFAULTS) ON COMMIT DROP");
+
+                CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI()
+                        .copyIn("COPY " + STAGING_TABLE_NAME + " (" + COPY_COLUMNS + ") FROM STDIN WITH (FORMAT csv)");
+                try {
+                    for (SheetDataTemp row : rows) {
+                        byte[] line = toCsvLine(row).getBytes(StandardCharsets.UTF_8);
+                        copyIn.writeToCopy(line, 0, line.length);
+                    }
+                    copyIn.endCopy();
+                } finally {
+                    if (copyIn.isActive()) {
+                        copyIn.cancelCopy();
+                    }
+                }
+
+                int count = statement.executeUpdate("INSERT INTO " + table + " (" + COPY_COLUMNS + ") SELECT "
+                        + COPY_COLUMNS + " FROM " + STAGING_TABLE_NAME + " ON CONFLICT DO NOTHING");
+                connection.commit();
+                return count;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        });
+
+        if (inserted != null && inserted < rows.size()) {
+            log.info("Skipped {} sheet data rows already present for tenant: {}", rows.size() - inserted, tenantId);
+        }
+        return inserted != null ? inserted : 0;
+    }
+
+    /**
+     * One CSV record in {@link #COPY_COLUMNS} order, text fields quoted, terminated by a newline.
+     */
+    String toCsvLine(SheetDataTemp row) throws SQLException {
+        String rowJson;
+        try {
+            rowJson = objectMapper.writeValueAsString(row.getRowJson());
+        } catch (JsonProcessingException e) {
+            throw new SQLException("Failed to serialize row " + row.getRowNumber() + " of sheet " + row.getSheetName(), e);
+        }
+        StringBuilder line = new StringBuilder(rowJson.length() + 256);
+        appendQuoted(line, row.getReferenceId()).append(',');
+        appendQuoted(line, row.getTenantId()).append(',');
+        appendQuoted(line, row.getFileStoreId()).append(',');
+        appendQuoted(line, row.getSheetName()).append(',');
+        appendNumber(line, row.getRowNumber()).append(',');
+        appendQuoted(line, rowJson).append(',');
+        appendQuoted(line, row.getCreatedBy()).append(',');
+        appendNumber(line, row.getCreatedTime()).append(',');
+        appendNumber(line, row.getDeleteTime()).append('\n');
+        return line.toString();
+    }
+
+    // Unquoted empty is NULL in CSV COPY; quoted values may hold commas, quotes and line breaks
+    private static StringBuilder appendQuoted(StringBuilder line, String value) {
+        if (value == null) {
+            return line;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        return line.append('"');
+    }
+
+    private static StringBuilder appendNumber(StringBuilder line, Number value) {
+        return value == null ? line : line.append(value);
+    }
+}
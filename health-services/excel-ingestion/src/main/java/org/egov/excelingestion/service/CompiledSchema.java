@@ -0,0 +1,754 @@
+package org.egov.excelingestion.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.egov.excelingestion.config.ProcessingConstants;
+import org.egov.excelingestion.config.ValidationConstants;
+import org.egov.excelingestion.util.LocalizationUtil;
+import org.egov.excelingestion.web.models.ValidationError;
+
+import java.util.*;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * A sheet schema compiled once per validation call into an array of typed per-column checks.
+ *
+ * The {@link SchemaValidationService.ValidationRule}s extracted from the MDMS schema are turned into
+ * string, number and enum checks that carry everything a row needs: the compiled pattern, the numeric
+ * bounds as doubles, enum and multi-select values as hash sets, requiredIf trigger values as a hash set,
+ * and every error message that does not depend on the cell value, localized up front. Rows are then
+ * validated by walking the check array instead of re-reading rule fields and re-localizing messages per
+ * cell. The instance is immutable, so row chunks of one sheet can be validated concurrently.
+ */
+@Slf4j
+final class CompiledSchema {
+
+    private static final String MULTISELECT_MARKER = "_MULTISELECT_";
+
+    private final String sheetName;
+    private final Map<String, String> localizationMap;
+    private final Set<String> immutableColumnsForExistingRows;
+
+    // All checks in rule order; the multi-select and unique ones again as their own arrays
+    private final FieldCheck[] checks;
+    private final FieldCheck[] multiSelectChecks;
+    private final FieldCheck[] uniqueChecks;
+    private final Map<String, FieldCheck> multiSelectByParent;
+    private final Set<String> ruleNames;
+
+    private CompiledSchema(String sheetName, Map<String, String> localizationMap,
+                           Set<String> immutableColumnsForExistingRows, FieldCheck[] checks) {
+        this.sheetName = sheetName;
+        this.localizationMap = localizationMap;
+        this.immutableColumnsForExistingRows = immutableColumnsForExistingRows;
+        this.checks = checks;
+
+        List<FieldCheck> multiSelect = new ArrayList<>();
+        List<FieldCheck> unique = new ArrayList<>();
+        this.multiSelectByParent = new HashMap<>();
+        this.ruleNames = new HashSet<>();
+        for (FieldCheck check : checks) {
+            ruleNames.add(check.fieldName);
+            if (check.multiSelect != null) {
+                check.multiSelect.index = multiSelect.size();
+                multiSelect.add(check);
+                multiSelectByParent.put(check.fieldName, check);
+            }
+            if (check.unique) {
+                unique.add(check);
+            }
+        }
+        this.multiSelectChecks = multiSelect.toArray(new FieldCheck[0]);
+        this.uniqueChecks = unique.toArray(new FieldCheck[0]);
+    }
+
+    /**
+     * Compiles the rules of one sheet. Checks keep the iteration order of {@code rules}, which is the
+     * order errors of one row are reported in.
+     */
+    static CompiledSchema compile(Collection<SchemaValidationService.ValidationRule> rules, String sheetName,
+                                  Map<String, String> localizationMap, Set<String> immutableColumnsForExistingRows) {
+        FieldCheck[] checks = new FieldCheck[rules.size()];
+        int i = 0;
+        for (SchemaValidationService.ValidationRule rule : rules) {
+            switch (rule.getType()) {
+                case "string":
+                    checks[i++] = new StringCheck(rule, localizationMap);
+                    break;
+                case "number":
+                    checks[i++] = new NumberCheck(rule, localizationMap);
+                    break;
+                default:
+                    checks[i++] = new EnumCheck(rule, localizationMap);
+                    break;
+            }
+        }
+        return new CompiledSchema(sheetName, localizationMap, immutableColumnsForExistingRows,
+                Arrays.copyOf(checks, i));
+    }
+
+    /**
+     * Validates rows {@code [fromIndex, toIndex)} of the sheet, returning their errors in row order.
+     */
+    List<ValidationError> validateRows(List<Map<String, Object>> sheetData, int fromIndex, int toIndex) {
+        List<ValidationError> errors = new ArrayList<>();
+        for (int rowIndex = fromIndex; rowIndex < toIndex; rowIndex++) {
+            Map<String, Object> rowData = sheetData.get(rowIndex);
+            if (rowData == null) {
+                continue; // Skip null rows
+            }
+            validateRow(rowData, rowNumber(rowData, rowIndex), errors);
+        }
+        return errors;
+    }
+
+    private void validateRow(Map<String, Object> rowData, int rowNumber, List<ValidationError> errors) {
+        // Existing rows (carrying the hidden server-stamped row-id) had their always-immutable cells
+        // reconstructed from the trusted baseline, so those cells are not re-validated for their own
+        // constraints. New rows (no row-id) and editable cells are always validated in full.
+        boolean existingRow = isExistingRow(rowData);
+
+        // One pass over the row's keys collects the _MULTISELECT_* columns, only if the schema has any
+        // multi-select field: selected values per parent, and child columns without a rule of their own
+        List<String>[] selections = null;
+        List<String> childColumns = null;
+        if (multiSelectChecks.length > 0) {
+            childColumns = new ArrayList<>();
+            selections = collectMultiSelectColumns(rowData, childColumns);
+        }
+
+        // First, validate fields that have direct rules
+        for (FieldCheck check : checks) {
+            if (existingRow && immutableColumnsForExistingRows.contains(check.fieldName)) {
+                continue; // reconstructed-from-baseline cell -> already valid, skip own-field validation
+            }
+            boolean hasMultiSelectColumns = selections != null && check.multiSelect != null
+                    && selections[check.multiSelect.index] != null;
+            check.validate(rowData.get(check.fieldName), rowData, rowNumber, hasMultiSelectColumns, this, errors);
+        }
+
+        if (selections == null) {
+            return;
+        }
+
+        // Second, validate multi-select field groups collected from the _MULTISELECT_* columns
+        for (FieldCheck parent : multiSelectChecks) {
+            List<String> selectedValues = selections[parent.multiSelect.index];
+            if (selectedValues == null) {
+                continue;
+            }
+            if (existingRow && immutableColumnsForExistingRows.contains(parent.fieldName)) {
+                continue; // immutable multi-select reconstructed from baseline -> skip own validation
+            }
+            validateCollectedMultiSelectValues(parent, selectedValues, rowNumber, errors);
+        }
+
+        // Third, validate individual child multi-select fields for enum compliance
+        for (String columnName : childColumns) {
+            FieldCheck parent = multiSelectByParent.get(parentFieldName(columnName));
+            if (existingRow && immutableColumnsForExistingRows.contains(parent.fieldName)) {
+                continue; // child of an immutable multi-select reconstructed from baseline -> skip
+            }
+            validateChildMultiSelectField(columnName, rowData.get(columnName), parent, rowNumber, errors);
+        }
+    }
+
+    /**
+     * Selected values per multi-select parent, indexed like {@link #multiSelectChecks}. A parent with
+     * _MULTISELECT_* columns in the row gets a (possibly empty) list; a parent without any stays null.
+     * Child columns that have no rule of their own are added to {@code childColumns} in row order.
+     */
+    @SuppressWarnings("unchecked")
+    private List<String>[] collectMultiSelectColumns(Map<String, Object> rowData, List<String> childColumns) {
+        List<String>[] selections = new List[multiSelectChecks.length];
+        for (Map.Entry<String, Object> entry : rowData.entrySet()) {
+            String columnName = entry.getKey();
+            if (!columnName.contains(MULTISELECT_MARKER)) {
+                continue;
+            }
+            FieldCheck parent = multiSelectByParent.get(parentFieldName(columnName));
+            if (parent == null) {
+                continue;
+            }
+            if (!ruleNames.contains(columnName)) {
+                childColumns.add(columnName);
+            }
+            int index = parent.multiSelect.index;
+            if (selections[index] == null) {
+                selections[index] = new ArrayList<>();
+            }
+            Object value = entry.getValue();
+            if (value != null && !value.toString().trim().isEmpty()) {
+                selections[index].add(value.toString().trim());
+            }
+        }
+        return selections;
+    }
+
+    /**
+     * Validates uniqueness constraints across all rows. Each unique column is indexed once through a
+     * value -> first row hash map; only values seen again collect their row list.
+     */
+    List<ValidationError> validateUniqueness(List<Map<String, Object>> sheetData) {
+        List<ValidationError> errors = new ArrayList<>();
+        if (uniqueChecks.length == 0) {
+            return errors; // No unique fields to validate
+        }
+
+        for (FieldCheck check : uniqueChecks) {
+            Map<String, Integer> firstRowByValue = new HashMap<>(Math.max(16, sheetData.size() * 4 / 3 + 1));
+            // Duplicated values in order of their first repeat, each with every row index it appears in
+            Map<String, List<Integer>> duplicates = new LinkedHashMap<>();
+
+            for (int rowIndex = 0; rowIndex < sheetData.size(); rowIndex++) {
+                Map<String, Object> rowData = sheetData.get(rowIndex);
+                if (rowData == null) {
+                    continue; // Skip null rows
+                }
+                Object value = rowData.get(check.fieldName);
+
+                // Skip null or empty values for uniqueness check
+                if (value == null) {
+                    continue;
+                }
+                String strValue = value.toString().trim();
+                if (strValue.isEmpty()) {
+                    continue;
+                }
+                Integer firstRow = firstRowByValue.putIfAbsent(strValue, rowIndex);
+                if (firstRow != null) {
+                    List<Integer> rowIndices = duplicates.get(strValue);
+                    if (rowIndices == null) {
+                        rowIndices = new ArrayList<>();
+                        rowIndices.add(firstRow);
+                        duplicates.put(strValue, rowIndices);
+                    }
+                    rowIndices.add(rowIndex);
+                }
+            }
+
+            // This value appears in multiple rows - create errors for all occurrences
+            for (Map.Entry<String, List<Integer>> duplicate : duplicates.entrySet()) {
+                String duplicateValue = duplicate.getKey();
+                List<Integer> rowIndices = duplicate.getValue();
+                int[] rowNumbers = new int[rowIndices.size()];
+                for (int i = 0; i < rowNumbers.length; i++) {
+                    rowNumbers[i] = rowNumber(sheetData.get(rowIndices.get(i)), rowIndices.get(i));
+                }
+                for (int i = 0; i < rowNumbers.length; i++) {
+                    // List of other row numbers with same value
+                    StringJoiner otherRows = new StringJoiner(", ");
+                    for (int j = 0; j < rowNumbers.length; j++) {
+                        if (j != i) {
+                            otherRows.add(String.valueOf(rowNumbers[j]));
+                        }
+                    }
+                    String errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap,
+                            "HCM_VALIDATION_DUPLICATE_VALUE",
+                            String.format("Field '%s' must be unique. Value '%s' is also found in row(s): %s",
+                                    check.displayName, duplicateValue, otherRows),
+                            check.displayName, duplicateValue, otherRows.toString());
+                    errors.add(error(rowNumbers[i], check.fieldName, errorMessage));
+                }
+            }
+        }
+
+        log.info("Found {} uniqueness validation errors for sheet: {}", errors.size(), sheetName);
+        return errors;
+    }
+
+    /**
+     * Validate collected multi-select values for min/max/duplicate constraints
+     */
+    private void validateCollectedMultiSelectValues(FieldCheck check, List<String> selectedValues, int rowNumber,
+                                                    List<ValidationError> errors) {
+        MultiSelectCheck multiSelect = check.multiSelect;
+
+        // Check if field is required and has no selections
+        if (check.required && selectedValues.isEmpty()) {
+            errors.add(error(rowNumber, check.fieldName, multiSelect.requiredMessage));
+            // Don't return here - continue with min/max validation even for required fields
+        }
+
+        // Validate minimum selections (applies even to empty fields)
+        if (multiSelect.minSelections != null && selectedValues.size() < multiSelect.minSelections) {
+            errors.add(error(rowNumber, check.fieldName, multiSelect.minSelectionsMessage));
+        }
+
+        // Skip further validation if no values selected
+        if (selectedValues.isEmpty()) {
+            return;
+        }
+
+        // Validate for duplicate selections (only if we have values)
+        if (new HashSet<>(selectedValues).size() < selectedValues.size()) {
+            errors.add(error(rowNumber, check.fieldName, multiSelect.duplicateSelectionsMessage));
+        }
+
+        // Validate maximum selections
+        if (multiSelect.maxSelections != null && selectedValues.size() > multiSelect.maxSelections) {
+            errors.add(error(rowNumber, check.fieldName, multiSelect.maxSelectionsMessage));
+        }
+
+        validateSelectedValues(check, selectedValues, rowNumber, errors);
+    }
+
+    /**
+     * Validates a multi-select value held in the field's own cell, separated by
+     * {@link ValidationConstants#MULTI_SELECT_SEPARATOR}
+     */
+    private void validateInlineMultiSelect(FieldCheck check, String value, int rowNumber,
+                                           List<ValidationError> errors) {
+        MultiSelectCheck multiSelect = check.multiSelect;
+        List<String> trimmedValues = new ArrayList<>();
+        for (String selectedValue : value.split(ValidationConstants.MULTI_SELECT_SEPARATOR)) {
+            String trimmed = selectedValue.trim();
+            if (!trimmed.isEmpty()) {
+                trimmedValues.add(trimmed);
+            }
+        }
+
+        // Validate for duplicate selections
+        if (new HashSet<>(trimmedValues).size() < trimmedValues.size()) {
+            errors.add(error(rowNumber, check.fieldName, multiSelect.duplicateSelectionsMessage));
+        }
+
+        // Validate minimum selections
+        if (multiSelect.minSelections != null && trimmedValues.size() < multiSelect.minSelections) {
+            errors.add(error(rowNumber, check.fieldName, multiSelect.minSelectionsMessage));
+        }
+
+        // Validate maximum selections
+        if (multiSelect.maxSelections != null && trimmedValues.size() > multiSelect.maxSelections) {
+            errors.add(error(rowNumber, check.fieldName, multiSelect.maxSelectionsMessage));
+        }
+
+        validateSelectedValues(check, trimmedValues, rowNumber, errors);
+    }
+
+    /**
+     * Validate each selected value against allowed enum values; only the first invalid value is reported
+     */
+    private void validateSelectedValues(FieldCheck check, List<String> selectedValues, int rowNumber,
+                                        List<ValidationError> errors) {
+        Set<String> enumValues = check.multiSelect.enumValues;
+        if (enumValues == null) {
+            return;
+        }
+        for (String selectedValue : selectedValues) {
+            if (!enumValues.contains(selectedValue)) {
+                String errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap,
+                        "HCM_VALIDATION_INVALID_MULTI_SELECT",
+                        String.format("Field '%s' contains invalid value '%s'", check.displayName, selectedValue),
+                        check.displayName, selectedValue);
+                errors.add(error(rowNumber, check.fieldName, errorMessage));
+                break; // Only show first invalid value to avoid too many errors
+            }
+        }
+    }
+
+    /**
+     * Validate child multi-select field using parent's enum values
+     */
+    private void validateChildMultiSelectField(String fieldName, Object value, FieldCheck parent, int rowNumber,
+                                               List<ValidationError> errors) {
+        if (value == null || value.toString().trim().isEmpty()) {
+            return; // Empty child fields are usually OK
+        }
+        Set<String> enumValues = parent.multiSelect.enumValues;
+        String strValue = value.toString().trim();
+        // For child fields, the value should be a single enum value (not comma-separated)
+        if (enumValues != null && !enumValues.contains(strValue)) {
+            String errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_INVALID_ENUM",
+                    String.format("Field '%s' contains invalid value '%s'", fieldName, strValue),
+                    fieldName, strValue);
+            errors.add(error(rowNumber, fieldName, errorMessage));
+        }
+    }
+
+    private ValidationError error(int rowNumber, String columnName, String errorMessage) {
+        return ValidationError.builder()
+                .rowNumber(rowNumber)
+                .sheetName(sheetName)
+                .columnName(columnName)
+                .status(ValidationConstants.STATUS_INVALID)
+                .errorDetails(errorMessage)
+                .build();
+    }
+
+    /**
+     * Actual Excel row number from the data if available, otherwise calculated from the row index
+     */
+    private static int rowNumber(Map<String, Object> rowData, int rowIndex) {
+        Object actualRowNumber = rowData.get("__actualRowNumber__");
+        return actualRowNumber != null ? (Integer) actualRowNumber : rowIndex + 3;
+    }
+
+    /**
+     * A row is "existing" (vs a brand-new user-added row) when it carries the hidden server-stamped
+     * row-id. Only existing rows had their immutable cells reconstructed from the baseline, so only they
+     * are eligible for the immutable-cell validation skip; new rows are always validated in full.
+     */
+    private static boolean isExistingRow(Map<String, Object> rowData) {
+        Object rid = rowData.get(ProcessingConstants.ROW_ID_COLUMN_NAME);
+        return rid != null && !rid.toString().trim().isEmpty();
+    }
+
+    /**
+     * Parent field name of a _MULTISELECT_ child column (everything before _MULTISELECT_)
+     */
+    private static String parentFieldName(String childFieldName) {
+        return childFieldName.substring(0, childFieldName.indexOf(MULTISELECT_MARKER));
+    }
+
+    private static boolean isBlank(Object value) {
+        return value == null || value.toString().trim().isEmpty();
+    }
+
+    /**
+     * Localized custom error message of a rule, or null when the rule has none
+     */
+    private static String customMessage(SchemaValidationService.ValidationRule rule, Map<String, String> localizationMap) {
+        String errorMessage = rule.getErrorMessage();
+        if (errorMessage == null || errorMessage.isEmpty()) {
+            return null;
+        }
+        return LocalizationUtil.getLocalizedMessage(localizationMap, errorMessage, errorMessage);
+    }
+
+    /**
+     * Checks of one schema column: required and requiredIf handling shared by all types, then the
+     * type-specific checks of a non-empty value.
+     */
+    private abstract static class FieldCheck {
+        final String fieldName;
+        final String displayName;
+        final boolean required;
+        final boolean unique;
+        final String customMessage;
+        final MultiSelectCheck multiSelect;
+        final String requiredMessage;
+        final boolean conditional;
+        final String requiredIfColumn;
+        final Set<String> requiredIfValues;
+
+        FieldCheck(SchemaValidationService.ValidationRule rule, Map<String, String> localizationMap,
+                   MultiSelectCheck multiSelect) {
+            this.fieldName = rule.getFieldName();
+            this.displayName = rule.getDisplayName();
+            this.required = rule.isRequired();
+            this.unique = rule.isUnique();
+            this.customMessage = customMessage(rule, localizationMap);
+            this.multiSelect = multiSelect;
+            this.conditional = rule.getRequiredIf() != null;
+            if (conditional) {
+                this.requiredIfColumn = rule.getRequiredIf().getColumn();
+                List<String> values = rule.getRequiredIf().getValues();
+                this.requiredIfValues = values != null ? new HashSet<>(values) : null;
+            } else {
+                this.requiredIfColumn = null;
+                this.requiredIfValues = null;
+            }
+
+            if (customMessage != null) {
+                this.requiredMessage = customMessage;
+            } else if (multiSelect != null) {
+                this.requiredMessage = LocalizationUtil.getLocalizedMessage(localizationMap,
+                        ValidationConstants.HCM_VALIDATION_REQUIRED_MULTI_SELECT,
+                        String.format("Required multi-select field '%s' must have at least one selection", displayName),
+                        displayName);
+            } else {
+                this.requiredMessage = LocalizationUtil.getLocalizedMessage(localizationMap,
+                        "HCM_VALIDATION_REQUIRED_FIELD",
+                        String.format("Required field '%s' is missing", displayName), displayName);
+            }
+        }
+
+        /**
+         * Message of a failed check: the rule's custom message if it has one, else the localized key
+         */
+        String message(Map<String, String> localizationMap, String key, String defaultMessage, String... params) {
+            if (customMessage != null) {
+                return customMessage;
+            }
+            return LocalizationUtil.getLocalizedMessage(localizationMap, key, defaultMessage, params);
+        }
+
+        final void validate(Object value, Map<String, Object> rowData, int rowNumber, boolean hasMultiSelectColumns,
+                            CompiledSchema schema, List<ValidationError> errors) {
+            // Check conditional required: if trigger column matches, treat field as required.
+            // If trigger condition is NOT met, skip ALL validation for this field (required, pattern, length)
+            // because the field's constraints are only relevant when its provider condition applies.
+            if (conditional) {
+                Object triggerValue = rowData.get(requiredIfColumn);
+                boolean conditionMet = triggerValue != null
+                        && requiredIfValues != null
+                        && requiredIfValues.contains(triggerValue.toString().trim());
+                if (!conditionMet) {
+                    // Provider condition not met — field is irrelevant, skip all validation
+                    return;
+                }
+                // Condition met — field is required: check emptiness
+                if (!required && isBlank(value)) {
+                    String errorMessage = customMessage != null ? customMessage
+                            : LocalizationUtil.getLocalizedMessage(schema.localizationMap,
+                                "HCM_VALIDATION_CONDITIONAL_REQUIRED_FIELD",
+                                String.format("Field '%s' is required when Payment Provider is '%s'",
+                                    displayName, triggerValue),
+                                displayName, String.valueOf(triggerValue));
+                    errors.add(schema.error(rowNumber, fieldName, errorMessage));
+                    return;
+                }
+                // Condition met and value present — fall through to standard validation (pattern, length, etc.)
+            }
+
+            // Check required fields - special handling for multi-select fields
+            if (required && isEmpty(value)) {
+                errors.add(schema.error(rowNumber, fieldName, requiredMessage));
+                return;
+            }
+
+            // Skip validation if value is empty and not required
+            if (isBlank(value)) {
+                return;
+            }
+
+            validateValue(value, hasMultiSelectColumns, rowNumber, schema, errors);
+        }
+
+        private boolean isEmpty(Object value) {
+            if (isBlank(value)) {
+                return true;
+            }
+            if (multiSelect == null) {
+                return false;
+            }
+            // For multi-select fields, check if all values are empty after parsing
+            for (String selectedValue : value.toString().split(ValidationConstants.MULTI_SELECT_SEPARATOR)) {
+                if (!selectedValue.trim().isEmpty()) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        abstract void validateValue(Object value, boolean hasMultiSelectColumns, int rowNumber, CompiledSchema schema,
+                                    List<ValidationError> errors);
+    }
+
+    private static final class StringCheck extends FieldCheck {
+        private final Integer minLength;
+        private final Integer maxLength;
+        private final Pattern pattern;
+        private final boolean invalidPattern;
+        private final String minLengthMessage;
+        private final String maxLengthMessage;
+        private final String patternMessage;
+        private final String invalidPatternMessage;
+
+        StringCheck(SchemaValidationService.ValidationRule rule, Map<String, String> localizationMap) {
+            super(rule, localizationMap, MultiSelectCheck.of(rule, localizationMap));
+            this.minLength = rule.getMinLength();
+            this.maxLength = rule.getMaxLength();
+            this.minLengthMessage = minLength == null ? null : message(localizationMap, "HCM_VALIDATION_MIN_LENGTH",
+                    String.format("Field '%s' must be at least %d characters", displayName, minLength),
+                    displayName, minLength.toString());
+            this.maxLengthMessage = maxLength == null ? null : message(localizationMap, "HCM_VALIDATION_MAX_LENGTH",
+                    String.format("Field '%s' must not exceed %d characters", displayName, maxLength),
+                    displayName, maxLength.toString());
+
+            Pattern compiled = null;
+            boolean invalid = false;
+            if (rule.getPattern() != null && !rule.getPattern().trim().isEmpty()) {
+                try {
+                    compiled = Pattern.compile(rule.getPattern());
+                } catch (PatternSyntaxException e) {
+                    log.warn("Invalid regex pattern '{}' for field '{}'", rule.getPattern(), displayName);
+                    invalid = true;
+                }
+            }
+            this.pattern = compiled;
+            this.invalidPattern = invalid;
+            this.patternMessage = compiled == null ? null : message(localizationMap, "HCM_VALIDATION_PATTERN",
+                    String.format("Field '%s' does not match required pattern", displayName), displayName);
+            this.invalidPatternMessage = !invalid ? null : LocalizationUtil.getLocalizedMessage(localizationMap,
+                    "HCM_VALIDATION_INVALID_PATTERN",
+                    String.format("Field '%s' has invalid validation pattern", displayName), displayName);
+        }
+
+        @Override
+        void validateValue(Object value, boolean hasMultiSelectColumns, int rowNumber, CompiledSchema schema,
+                           List<ValidationError> errors) {
+            String strValue = value.toString();
+
+            // Length validation
+            if (minLength != null && strValue.length() < minLength) {
+                errors.add(schema.error(rowNumber, fieldName, minLengthMessage));
+            }
+            if (maxLength != null && strValue.length() > maxLength) {
+                errors.add(schema.error(rowNumber, fieldName, maxLengthMessage));
+            }
+
+            // Pattern validation
+            if (pattern != null && !pattern.matcher(strValue).matches()) {
+                errors.add(schema.error(rowNumber, fieldName, patternMessage));
+            } else if (invalidPattern) {
+                errors.add(schema.error(rowNumber, fieldName, invalidPatternMessage));
+            }
+
+            // Multi-select validation - only for fields that don't use _MULTISELECT_ pattern
+            // Fields using _MULTISELECT_ pattern are validated with the collected column values
+            if (multiSelect != null && !hasMultiSelectColumns) {
+                schema.validateInlineMultiSelect(this, strValue, rowNumber, errors);
+            }
+        }
+    }
+
+    private static final class NumberCheck extends FieldCheck {
+        private final Double minimum;
+        private final Double maximum;
+        private final Double exclusiveMinimum;
+        private final Double exclusiveMaximum;
+        private final double multipleOf;
+        private final String minimumMessage;
+        private final String maximumMessage;
+        private final String exclusiveMinimumMessage;
+        private final String exclusiveMaximumMessage;
+        private final String multipleOfMessage;
+        private final String invalidNumberMessage;
+
+        NumberCheck(SchemaValidationService.ValidationRule rule, Map<String, String> localizationMap) {
+            super(rule, localizationMap, null);
+            Number min = rule.getMinimum();
+            Number max = rule.getMaximum();
+            Number exclusiveMin = rule.getExclusiveMinimum();
+            Number exclusiveMax = rule.getExclusiveMaximum();
+            Number divisor = rule.getMultipleOf();
+            this.minimum = min == null ? null : min.doubleValue();
+            this.maximum = max == null ? null : max.doubleValue();
+            this.exclusiveMinimum = exclusiveMin == null ? null : exclusiveMin.doubleValue();
+            this.exclusiveMaximum = exclusiveMax == null ? null : exclusiveMax.doubleValue();
+            this.multipleOf = divisor == null ? 0 : divisor.doubleValue();
+
+            this.minimumMessage = min == null ? null : message(localizationMap, "HCM_VALIDATION_MIN_NUMBER",
+                    String.format("Field '%s' must be at least %s", displayName, min), displayName, min.toString());
+            this.maximumMessage = max == null ? null : message(localizationMap, "HCM_VALIDATION_MAX_NUMBER",
+                    String.format("Field '%s' must not exceed %s", displayName, max), displayName, max.toString());
+            this.exclusiveMinimumMessage = exclusiveMin == null ? null : message(localizationMap,
+                    "HCM_VALIDATION_EXCLUSIVE_MIN",
+                    String.format("Field '%s' must be greater than %s", displayName, exclusiveMin),
+                    displayName, exclusiveMin.toString());
+            this.exclusiveMaximumMessage = exclusiveMax == null ? null : message(localizationMap,
+                    "HCM_VALIDATION_EXCLUSIVE_MAX",
+                    String.format("Field '%s' must be less than %s", displayName, exclusiveMax),
+                    displayName, exclusiveMax.toString());
+            this.multipleOfMessage = divisor == null ? null : message(localizationMap, "HCM_VALIDATION_MULTIPLE_OF",
+                    String.format("Field '%s' must be a multiple of %s", displayName, divisor),
+                    displayName, divisor.toString());
+            this.invalidNumberMessage = message(localizationMap, "HCM_VALIDATION_INVALID_NUMBER",
+                    String.format("Field '%s' must be a valid number", displayName), displayName);
+        }
+
+        @Override
+        void validateValue(Object value, boolean hasMultiSelectColumns, int rowNumber, CompiledSchema schema,
+                           List<ValidationError> errors) {
+            double numValue;
+            // Whole numbers read from the sheet are Longs; parsing their text gives the same double
+            if (value instanceof Long || value instanceof Integer || value instanceof Double) {
+                numValue = ((Number) value).doubleValue();
+            } else {
+                try {
+                    numValue = Double.parseDouble(value.toString());
+                } catch (NumberFormatException e) {
+                    errors.add(schema.error(rowNumber, fieldName, invalidNumberMessage));
+                    return;
+                }
+            }
+
+            if (minimum != null && numValue < minimum) {
+                errors.add(schema.error(rowNumber, fieldName, minimumMessage));
+            }
+            if (maximum != null && numValue > maximum) {
+                errors.add(schema.error(rowNumber, fieldName, maximumMessage));
+            }
+            // Exclusive minimum validation
+            if (exclusiveMinimum != null && numValue <= exclusiveMinimum) {
+                errors.add(schema.error(rowNumber, fieldName, exclusiveMinimumMessage));
+            }
+            // Exclusive maximum validation
+            if (exclusiveMaximum != null && numValue >= exclusiveMaximum) {
+                errors.add(schema.error(rowNumber, fieldName, exclusiveMaximumMessage));
+            }
+            // Multiple of validation
+            if (multipleOf != 0 && (numValue % multipleOf) != 0) {
+                errors.add(schema.error(rowNumber, fieldName, multipleOfMessage));
+            }
+        }
+    }
+
+    private static final class EnumCheck extends FieldCheck {
+        private final Set<String> allowedValues;
+
+        EnumCheck(SchemaValidationService.ValidationRule rule, Map<String, String> localizationMap) {
+            super(rule, localizationMap, MultiSelectCheck.of(rule, localizationMap));
+            this.allowedValues = rule.getAllowedValues() != null ? new HashSet<>(rule.getAllowedValues()) : null;
+        }
+
+        @Override
+        void validateValue(Object value, boolean hasMultiSelectColumns, int rowNumber, CompiledSchema schema,
+                           List<ValidationError> errors) {
+            String strValue = value.toString();
+            if (allowedValues != null && !allowedValues.contains(strValue)) {
+                errors.add(schema.error(rowNumber, fieldName, message(schema.localizationMap,
+                        "HCM_VALIDATION_INVALID_ENUM",
+                        String.format("Field '%s' contains invalid value '%s'", displayName, strValue),
+                        displayName, strValue)));
+            }
+        }
+    }
+
+    /**
+     * Multi-select constraints of a field, with the allowed values as a hash set. Index is the field's
+     * position among the multi-select fields of the schema, used to slot its selected values per row.
+     */
+    private static final class MultiSelectCheck {
+        int index; // assigned when the schema is assembled
+        final Set<String> enumValues;
+        final Integer minSelections;
+        final Integer maxSelections;
+        final String requiredMessage;
+        final String minSelectionsMessage;
+        final String maxSelectionsMessage;
+        final String duplicateSelectionsMessage;
+
+        private MultiSelectCheck(SchemaValidationService.MultiSelectDetails details, String displayName,
+                                 Map<String, String> localizationMap) {
+            List<String> values = details.getEnumValues();
+            this.enumValues = values != null && !values.isEmpty() ? new HashSet<>(values) : null;
+            this.minSelections = details.getMinSelections();
+            this.maxSelections = details.getMaxSelections();
+            this.requiredMessage = LocalizationUtil.getLocalizedMessage(localizationMap,
+                    ValidationConstants.HCM_VALIDATION_REQUIRED_MULTI_SELECT,
+                    String.format("Required multi-select field '%s' must have at least one selection", displayName),
+                    displayName);
+            this.minSelectionsMessage = minSelections == null ? null : LocalizationUtil.getLocalizedMessage(
+                    localizationMap, "HCM_VALIDATION_MIN_SELECTIONS",
+                    String.format("Field '%s' must have at least %d selections", displayName, minSelections),
+                    displayName, minSelections.toString());
+            this.maxSelectionsMessage = maxSelections == null ? null : LocalizationUtil.getLocalizedMessage(
+                    localizationMap, "HCM_VALIDATION_MAX_SELECTIONS",
+                    String.format("Field '%s' must have at most %d selections", displayName, maxSelections),
+                    displayName, maxSelections.toString());
+            this.duplicateSelectionsMessage = LocalizationUtil.getLocalizedMessage(localizationMap,
+                    ValidationConstants.HCM_VALIDATION_DUPLICATE_SELECTIONS,
+                    String.format("Field '%s' contains duplicate selections", displayName), displayName);
+        }
+
+        static MultiSelectCheck of(SchemaValidationService.ValidationRule rule, Map<String, String> localizationMap) {
+            if (rule.getMultiSelectDetails() == null) {
+                return null;
+            }
+            return new MultiSelectCheck(rule.getMultiSelectDetails(), rule.getDisplayName(), localizationMap);
+        }
+    }
+}
@@ -18,6 +18,7 @@ import org.egov.excelingestion.util.CellProtectionManager;
 import org.egov.excelingestion.util.ExcelDataPopulator;
 import org.egov.excelingestion.util.HierarchicalBoundaryUtil;
 import org.egov.excelingestion.util.ExcelUtil;
+import org.egov.excelingestion.util.StreamingWorkbookWriter;
 import org.egov.excelingestion.web.models.*;
 import org.egov.common.contract.request.RequestInfo;
 import org.springframework.context.ApplicationContext;
@@ -43,6 +44,7 @@ public class ConfigBasedGenerationService {
     private final ExcelIngestionConfig config;
     private final CustomExceptionHandler exceptionHandler;
     private final GenerationConfigValidationService validationService;
+    private final StreamingWorkbookWriter streamingWorkbookWriter;
 
     public ConfigBasedGenerationService(ApplicationContext applicationContext,
                                       ExcelDataPopulator excelDataPopulator,
@@ -51,7 +53,8 @@ public class ConfigBasedGenerationService {
                                       CellProtectionManager cellProtectionManager,
                                       ExcelIngestionConfig config,
                                       CustomExceptionHandler exceptionHandler,
-                                      GenerationConfigValidationService validationService) {
+                                      GenerationConfigValidationService validationService,
+                                      StreamingWorkbookWriter streamingWorkbookWriter) {
         this.applicationContext = applicationContext;
         this.excelDataPopulator = excelDataPopulator;
         this.boundaryColumnUtil = boundaryColumnUtil;
@@ -60,6 +63,7 @@ public class ConfigBasedGenerationService {
         this.config = config;
         this.exceptionHandler = exceptionHandler;
         this.validationService = validationService;
+        this.streamingWorkbookWriter = streamingWorkbookWriter;
     }
 
     /**
@@ -81,7 +85,31 @@ public class ConfigBasedGenerationService {
         generateResource.setUnprotectedJoinMode(
                 ProcessingConstants.isJoinModeType(generateResource.getType()));
 
-        XSSFWorkbook workbook = new XSSFWorkbook();
+        // Wrapped for SXSSF when generation streaming is enabled, so the boundary lookup sheet is streamed
+        XSSFWorkbook workbook = streamingWorkbookWriter.createWorkbook();
+
+        // Convert to byte array. Pre-size the buffer (like the processing write path) so a
+        // multi-MB template does not repeatedly double-and-copy its backing array while writing.
+        ByteArrayOutputStream bos = new ByteArrayOutputStream(8 * 1024 * 1024);
+        try {
+            generateSheets(workbook, processorConfig, generateResource, requestInfo, localizationMap);
+            streamingWorkbookWriter.write(workbook, bos);
+            bos.flush(); // Ensure all POI buffers are flushed
+        } finally {
+            // Also on failure, so the temp files of streamed sheets are deleted
+            streamingWorkbookWriter.close(workbook);
+        }
+        
+        log.info("Config-based Excel generation completed successfully");
+        return bos.toByteArray();
+    }
+    
+    /**
+     * Generate every configured sheet into the workbook and apply the workbook settings
+     */
+    private void generateSheets(XSSFWorkbook workbook, ProcessorGenerationConfig processorConfig,
+                                GenerateResource generateResource, RequestInfo requestInfo,
+                                Map<String, String> localizationMap) {
         String firstVisibleSheetName = null;
         
         // Sort sheets by order
@@ -130,19 +158,6 @@ public class ConfigBasedGenerationService {
         
         // Apply workbook settings
         applyWorkbookSettings(workbook, processorConfig, firstVisibleSheetName, localizationMap, generateResource.getId(), generateResource.isUnprotectedJoinMode());
-        
-        // Convert to byte array. Pre-size the buffer (like the processing write path) so a
-        // multi-MB template does not repeatedly double-and-copy its backing array while writing.
-        ByteArrayOutputStream bos = new ByteArrayOutputStream(8 * 1024 * 1024);
-        try {
-            workbook.write(bos);
-            bos.flush(); // Ensure all POI buffers are flushed
-        } finally {
-            workbook.close();
-        }
-        
-        log.info("Config-based Excel generation completed successfully");
-        return bos.toByteArray();
     }
     
     /**
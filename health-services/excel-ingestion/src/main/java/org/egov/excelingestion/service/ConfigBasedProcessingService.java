@@ -11,6 +11,7 @@ import org.egov.excelingestion.web.models.mdms.ExcelIngestionProcessData;
 import org.egov.excelingestion.web.models.mdms.ProcessSheetData;
 import org.egov.excelingestion.web.models.ProcessorSheetConfig;
 import org.egov.excelingestion.exception.CustomExceptionHandler;
+import org.egov.excelingestion.repository.SheetDataTempRepository;
 import org.apache.poi.ss.usermodel.Workbook;
 import org.egov.excelingestion.processor.IWorkbookProcessor;
 import org.egov.excelingestion.processor.ISheetDataProcessor;
@@ -21,6 +22,7 @@ import org.egov.excelingestion.web.models.SheetDataTemp;
 import org.egov.excelingestion.web.models.SheetGenerationResult;
 import org.egov.excelingestion.util.ExcelDataPopulator;
 import org.egov.excelingestion.util.ExcelUtil;
+import org.egov.common.exception.InvalidTenantIdException;
 import org.egov.common.producer.Producer;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
@@ -46,6 +48,7 @@ public class ConfigBasedProcessingService {
     private final Producer producer;
     private final KafkaTopicConfig kafkaTopicConfig;
     private final ExcelIngestionConfig config;
+    private final SheetDataTempRepository sheetDataTempRepository;
 
     public ConfigBasedProcessingService(MDMSConfigService mdmsConfigService,
                                       CustomExceptionHandler exceptionHandler,
@@ -53,7 +56,8 @@ public class ConfigBasedProcessingService {
                                       ApplicationContext applicationContext,
                                       Producer producer,
                                       KafkaTopicConfig kafkaTopicConfig,
-                                      ExcelIngestionConfig config) {
+                                      ExcelIngestionConfig config,
+                                      SheetDataTempRepository sheetDataTempRepository) {
         this.mdmsConfigService = mdmsConfigService;
         this.exceptionHandler = exceptionHandler;
         this.mdmsService = mdmsService;
@@ -61,6 +65,7 @@ public class ConfigBasedProcessingService {
         this.producer = producer;
         this.kafkaTopicConfig = kafkaTopicConfig;
         this.config = config;
+        this.sheetDataTempRepository = sheetDataTempRepository;
     }
 
     /**
@@ -510,7 +515,8 @@ public class ConfigBasedProcessingService {
     }
     
     /**
-     * Save sheet data to temporary table via producer push in chunks of 200 records
+     * Save sheet data to temporary table via producer push in chunks of 200 records, or by COPY bulk load
+     * when {@code excel.sheet.data.copy.enabled} is set
      */
     private void saveSheetDataToTemp(String sheetName, 
                                    List<Map<String, Object>> parsedData, 
@@ -521,6 +527,11 @@ public class ConfigBasedProcessingService {
             log.info("No data to save for sheet: {}", sheetName);
             return;
         }
+
+        if (config.isSheetDataCopyEnabled()) {
+            copySheetDataToTemp(sheetName, parsedData, resource, requestInfo);
+            return;
+        }
         
         long currentTime = System.currentTimeMillis();
         long deleteTime = currentTime + 86400000L; // 1 day later
@@ -539,28 +550,8 @@ public class ConfigBasedProcessingService {
             List<SheetDataTemp> chunkDataList = new ArrayList<>();
             
             for (int i = startIndex; i < endIndex; i++) {
-                Map<String, Object> rowData = parsedData.get(i);
-                
-                // Extract actual row number
-                Integer actualRowNumber = (Integer) rowData.get("__actualRowNumber__");
-
-                // Copy rowData without __actualRowNumber__ to avoid mutating the shared cache
-                Map<String, Object> rowDataForPersist = new HashMap<>(rowData);
-                rowDataForPersist.remove("__actualRowNumber__");
-
-                SheetDataTemp sheetDataTemp = SheetDataTemp.builder()
-                        .referenceId(resource.getReferenceId())
-                        .tenantId(resource.getTenantId())
-                        .fileStoreId(resource.getFileStoreId())
-                        .sheetName(sheetName)
-                        .rowNumber(actualRowNumber)
-                        .rowJson(rowDataForPersist)
-                        .createdBy(extractCreatedByFromRequestInfo(requestInfo))
-                        .createdTime(currentTime)
-                        .deleteTime(deleteTime)
-                        .build();
-                        
-                chunkDataList.add(sheetDataTemp);
+                chunkDataList.add(toSheetDataTemp(sheetName, parsedData.get(i), resource, requestInfo,
+                        currentTime, deleteTime));
             }
             
             // Create message payload for persister
@@ -578,4 +569,73 @@ public class ConfigBasedProcessingService {
         log.info("Successfully published all {} records in {} chunks to topic: {} for sheet: {}",
                 totalRecords, totalChunks, producer.getResolvedTopicName(resource.getTenantId(), kafkaTopicConfig.getSheetDataSaveTopic()), sheetName);
     }
-}
\ No newline at end of file
+
+    /**
+     * Bulk-loads sheet data into the temporary table with PostgreSQL COPY, one committed COPY per chunk of
+     * {@code excel.sheet.data.copy.chunk.size} records. Rows of committed chunks are searchable right away,
+     * so a large sheet is readable as soon as its last chunk is loaded instead of after the persister
+     * drains the save topic.
+     */
+    private void copySheetDataToTemp(String sheetName,
+                                     List<Map<String, Object>> parsedData,
+                                     ProcessResource resource,
+                                     RequestInfo requestInfo) {
+        long currentTime = System.currentTimeMillis();
+        long deleteTime = currentTime + 86400000L; // 1 day later
+
+        // Guard 0 from mocks/unset -> 5000
+        int chunkSize = config.getSheetDataCopyChunkSize() > 0 ? config.getSheetDataCopyChunkSize() : 5000;
+        int totalRecords = parsedData.size();
+        int totalChunks = (totalRecords + chunkSize - 1) / chunkSize;
+        int loadedRecords = 0;
+
+        log.info("Copying {} records in {} chunks for sheet: {}", totalRecords, totalChunks, sheetName);
+
+        for (int chunkIndex = 0; chunkIndex < totalChunks; chunkIndex++) {
+            int startIndex = chunkIndex * chunkSize;
+            int endIndex = Math.min(startIndex + chunkSize, totalRecords);
+
+            List<SheetDataTemp> chunkDataList = new ArrayList<>(endIndex - startIndex);
+            for (int i = startIndex; i < endIndex; i++) {
+                chunkDataList.add(toSheetDataTemp(sheetName, parsedData.get(i), resource, requestInfo,
+                        currentTime, deleteTime));
+            }
+
+            try {
+                sheetDataTempRepository.copySheetData(resource.getTenantId(), chunkDataList);
+            } catch (InvalidTenantIdException e) {
+                exceptionHandler.throwCustomException(ErrorConstants.INVALID_TENANT_ID,
+                        ErrorConstants.INVALID_TENANT_ID_MESSAGE.replace("{0}", resource.getTenantId()), e);
+            }
+            loadedRecords += chunkDataList.size();
+
+            log.info("Copied chunk {}/{} with {} records ({}/{} loaded) for sheet: {}",
+                    chunkIndex + 1, totalChunks, chunkDataList.size(), loadedRecords, totalRecords, sheetName);
+        }
+
+        log.info("Successfully copied all {} records in {} chunks in {}ms for sheet: {}",
+                totalRecords, totalChunks, System.currentTimeMillis() - currentTime, sheetName);
+    }
+
+    private SheetDataTemp toSheetDataTemp(String sheetName, Map<String, Object> rowData, ProcessResource resource,
+                                          RequestInfo requestInfo, long currentTime, long deleteTime) {
+        // Extract actual row number
+        Integer actualRowNumber = (Integer) rowData.get("__actualRowNumber__");
+
+        // Copy rowData without __actualRowNumber__ to avoid mutating the shared cache
+        Map<String, Object> rowDataForPersist = new HashMap<>(rowData);
+        rowDataForPersist.remove("__actualRowNumber__");
+
+        return SheetDataTemp.builder()
+                .referenceId(resource.getReferenceId())
+                .tenantId(resource.getTenantId())
+                .fileStoreId(resource.getFileStoreId())
+                .sheetName(sheetName)
+                .rowNumber(actualRowNumber)
+                .rowJson(rowDataForPersist)
+                .createdBy(extractCreatedByFromRequestInfo(requestInfo))
+                .createdTime(currentTime)
+                .deleteTime(deleteTime)
+                .build();
+    }
+}
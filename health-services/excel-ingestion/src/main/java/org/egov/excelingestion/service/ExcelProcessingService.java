@@ -15,6 +15,7 @@ import org.egov.excelingestion.util.BoundaryCodeResolver;
 import org.egov.excelingestion.util.RequestInfoConverter;
 import org.egov.excelingestion.util.EnrichmentUtil;
 import org.egov.excelingestion.util.ExcelUtil;
+import org.egov.excelingestion.util.UploadRowCounter;
 import org.egov.excelingestion.web.models.ProcessResource;
 import org.egov.excelingestion.web.models.ProcessResourceRequest;
 import org.egov.excelingestion.web.models.ValidationError;
@@ -29,7 +30,10 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.*;
+import java.util.function.Supplier;
 
 @Service
 @Slf4j
@@ -49,6 +53,7 @@ public class ExcelProcessingService {
     private final ExcelUtil excelUtil;
     private final ImmutableJoinService immutableJoinService;
     private final BoundaryCodeResolver boundaryCodeResolver;
+    private final UploadRowCounter uploadRowCounter;
 
     public ExcelProcessingService(ValidationService validationService,
                                   SchemaValidationService schemaValidationService,
@@ -63,7 +68,8 @@ public class ExcelProcessingService {
                                   MDMSConfigService mdmsConfigService,
                                   ExcelUtil excelUtil,
                                   ImmutableJoinService immutableJoinService,
-                                  BoundaryCodeResolver boundaryCodeResolver) {
+                                  BoundaryCodeResolver boundaryCodeResolver,
+                                  UploadRowCounter uploadRowCounter) {
         this.validationService = validationService;
         this.schemaValidationService = schemaValidationService;
         this.configBasedProcessingService = configBasedProcessingService;
@@ -78,6 +84,7 @@ public class ExcelProcessingService {
         this.excelUtil = excelUtil;
         this.immutableJoinService = immutableJoinService;
         this.boundaryCodeResolver = boundaryCodeResolver;
+        this.uploadRowCounter = uploadRowCounter;
     }
 
     /**
@@ -113,11 +120,7 @@ public class ExcelProcessingService {
             mergedLocalizationMap.putAll(schemaLocalizationMap);
 
             // Download and validate the Excel file
-            try (Workbook workbook = fileStoreService.downloadExcelFromFileStore(resource.getFileStoreId(), resource.getTenantId())) {
-
-                // Fail fast on oversized sheets BEFORE the expensive parse/validate/persist work,
-                // turning a potential OOM into a clean, localizable business error.
-                enforceMaxRowLimit(workbook);
+            try (Workbook workbook = openUploadedWorkbook(resource)) {
 
                 // Pre-validate schemas and fetch them before data validation using config-based approach
                 Map<String, Map<String, Object>> preValidatedSchemas = configBasedProcessingService.preValidateAndFetchSchemas(
@@ -243,6 +246,37 @@ public class ExcelProcessingService {
     }
 
 
+    /**
+     * Downloads the uploaded workbook and enforces the row limit on it.
+     * With the streaming row count the file is downloaded to a temp file and its data rows are counted in one
+     * SAX pass first, so an oversized upload is rejected before any DOM is built. The DOM workbook is opened
+     * only once the upload passed the check.
+     */
+    private Workbook openUploadedWorkbook(ProcessResource resource) throws IOException {
+        if (!config.isStreamingRowCountEnabled()) {
+            Workbook workbook = fileStoreService.downloadExcelFromFileStore(resource.getFileStoreId(), resource.getTenantId());
+            try {
+                // Fail fast on oversized sheets BEFORE the expensive parse/validate/persist work,
+                // turning a potential OOM into a clean, localizable business error.
+                enforceMaxRowLimit(workbook);
+            } catch (RuntimeException e) {
+                workbook.close();
+                throw e;
+            }
+            return workbook;
+        }
+
+        Path file = fileStoreService.downloadExcelToTempFile(resource.getFileStoreId(), resource.getTenantId());
+        try {
+            Map<String, Integer> dataRowCounts = uploadRowCounter.countDataRows(file,
+                    sheetName -> !configBasedProcessingService.isHiddenSheet(sheetName));
+            dataRowCounts.forEach(this::enforceMaxRowLimit);
+            return fileStoreService.openWorkbook(file);
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
     /**
      * Fail-fast guardrail: rejects the upload if any visible sheet has more data rows than
      * the configured maximum. Uses {@link ExcelUtil#findActualLastRowWithData(Sheet)} which only
@@ -250,8 +284,6 @@ public class ExcelProcessingService {
      * expensive validate/persist pipeline.
      */
     private void enforceMaxRowLimit(Workbook workbook) {
-        int maxRows = config.getMaxProcessRowLimit();
-
         for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
             Sheet sheet = workbook.getSheetAt(i);
             String sheetName = sheet.getSheetName();
@@ -265,13 +297,18 @@ public class ExcelProcessingService {
             int actualLastRow = ExcelUtil.findActualLastRowWithData(sheet);
             int dataRows = actualLastRow >= 2 ? actualLastRow - 1 : 0;
 
-            if (dataRows > maxRows) {
-                log.warn("Sheet '{}' has {} data rows, exceeding max allowed {}", sheetName, dataRows, maxRows);
-                String message = ErrorConstants.EXCEL_ROW_LIMIT_EXCEEDED_MESSAGE
-                        .replace("{0}", sheetName)
-                        .replace("{1}", String.valueOf(maxRows));
-                exceptionHandler.throwCustomException(ErrorConstants.EXCEL_ROW_LIMIT_EXCEEDED, message);
-            }
+            enforceMaxRowLimit(sheetName, dataRows);
+        }
+    }
+
+    private void enforceMaxRowLimit(String sheetName, int dataRows) {
+        int maxRows = config.getMaxProcessRowLimit();
+        if (dataRows > maxRows) {
+            log.warn("Sheet '{}' has {} data rows, exceeding max allowed {}", sheetName, dataRows, maxRows);
+            String message = ErrorConstants.EXCEL_ROW_LIMIT_EXCEEDED_MESSAGE
+                    .replace("{0}", sheetName)
+                    .replace("{1}", String.valueOf(maxRows));
+            exceptionHandler.throwCustomException(ErrorConstants.EXCEL_ROW_LIMIT_EXCEEDED, message);
         }
     }
 
@@ -282,7 +319,9 @@ public class ExcelProcessingService {
                                                     org.egov.common.contract.request.RequestInfo requestInfo, Map<String, String> localizationMap,
                                                     Map<String, Map<String, Object>> preValidatedSchemas,
                                                     Map<String, Set<String>> immutableColumnsBySheet) {
-        List<ValidationError> allErrors = new ArrayList<>();
+        // Sheets are read and their schemas resolved here, in workbook order; the validations themselves
+        // only see row maps and run in parallel, errors concatenated in the same sheet order.
+        List<Supplier<List<ValidationError>>> sheetValidations = new ArrayList<>();
 
         for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
             Sheet sheet = workbook.getSheetAt(i);
@@ -306,12 +345,11 @@ public class ExcelProcessingService {
             // Perform schema validation with pre-fetched schema. Skip re-validating always-immutable cells
             // on existing rows (reconstructed from the trusted baseline by the immutable-join step).
             Set<String> immutableSkipColumns = immutableColumnsBySheet.getOrDefault(sheetName, Collections.emptySet());
-            List<ValidationError> schemaErrors = schemaValidationService.validateDataWithPreFetchedSchema(
-                    sheetData, sheetName, schema, localizationMap, immutableSkipColumns);
-
-            allErrors.addAll(schemaErrors);
+            sheetValidations.add(() -> schemaValidationService.validateDataWithPreFetchedSchema(
+                    sheetData, sheetName, schema, localizationMap, immutableSkipColumns));
         }
 
+        List<ValidationError> allErrors = schemaValidationService.validateInParallel(sheetValidations);
         return validationService.mergeErrors(allErrors);
     }
 
@@ -20,6 +20,9 @@ import org.egov.excelingestion.web.models.filestore.FileInfo;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.List;
 import java.util.Map;
 import org.apache.poi.ss.usermodel.Workbook;
@@ -210,41 +213,76 @@ public class FileStoreService {
      */
     public Workbook downloadExcelFromFileStore(String fileStoreId, String tenantId) {
         return executeWithRetry("FileStore download for fileStoreId: " + fileStoreId, () -> {
-            String fileStoreUrl = config.getFilestoreHost() + config.getFilestoreUrlEndpoint();
-            
-            // Build URL with query parameters
-            String url = String.format("%s?tenantId=%s&fileStoreIds=%s", fileStoreUrl, tenantId, fileStoreId);
-            
-            ResponseEntity<FileStoreResponse> response = restTemplate.exchange(
-                    url, HttpMethod.GET, null, FileStoreResponse.class);
-            
-            FileStoreResponse responseBody = response.getBody();
-            if (responseBody != null) {
-                String fileUrl = null;
-                
-                // Try to get URL from fileStoreIds array first
-                if (responseBody.getFiles() != null && !responseBody.getFiles().isEmpty()) {
-                    fileUrl = responseBody.getFiles().get(0).getUrl();
-                }
-                
-                // If not found in array, try the file ID to URL mapping
-                if (fileUrl == null && responseBody.getFileIdToUrlMap() != null) {
-                    fileUrl = responseBody.getFileIdToUrlMap().get(fileStoreId);
-                }
-                
-                if (fileUrl != null) {
-                    try (InputStream inputStream = new URL(fileUrl).openStream()) {
-                        return new XSSFWorkbook(inputStream);
-                    }
-                }
+            String fileUrl = getFileUrl(fileStoreId, tenantId);
+            try (InputStream inputStream = new URL(fileUrl).openStream()) {
+                return new XSSFWorkbook(inputStream);
             }
-            
-            exceptionHandler.throwCustomException(ErrorConstants.FILE_URL_RETRIEVAL_ERROR, 
-                    ErrorConstants.FILE_URL_RETRIEVAL_ERROR_MESSAGE);
-            return null; // This should never be reached due to exceptions above
         });
     }
 
+    /**
+     * Downloads Excel file from file store to a temp file, without holding its bytes in memory.
+     * The caller deletes the file once done with it.
+     */
+    public Path downloadExcelToTempFile(String fileStoreId, String tenantId) {
+        return executeWithRetry("FileStore download to file for fileStoreId: " + fileStoreId, () -> {
+            String fileUrl = getFileUrl(fileStoreId, tenantId);
+            Path file = Files.createTempFile("excel-ingestion-upload-", ".xlsx");
+            try (InputStream inputStream = new URL(fileUrl).openStream()) {
+                Files.copy(inputStream, file, StandardCopyOption.REPLACE_EXISTING);
+                return file;
+            } catch (IOException e) {
+                Files.deleteIfExists(file);
+                throw e;
+            }
+        });
+    }
+
+    /**
+     * Opens a workbook downloaded with {@link #downloadExcelToTempFile(String, String)}
+     */
+    public Workbook openWorkbook(Path file) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(file)) {
+            return new XSSFWorkbook(inputStream);
+        }
+    }
+
+    /**
+     * Resolves the download URL of a file store id
+     */
+    private String getFileUrl(String fileStoreId, String tenantId) {
+        String fileStoreUrl = config.getFilestoreHost() + config.getFilestoreUrlEndpoint();
+
+        // Build URL with query parameters
+        String url = String.format("%s?tenantId=%s&fileStoreIds=%s", fileStoreUrl, tenantId, fileStoreId);
+
+        ResponseEntity<FileStoreResponse> response = restTemplate.exchange(
+                url, HttpMethod.GET, null, FileStoreResponse.class);
+
+        FileStoreResponse responseBody = response.getBody();
+        if (responseBody != null) {
+            String fileUrl = null;
+
+            // Try to get URL from fileStoreIds array first
+            if (responseBody.getFiles() != null && !responseBody.getFiles().isEmpty()) {
+                fileUrl = responseBody.getFiles().get(0).getUrl();
+            }
+
+            // If not found in array, try the file ID to URL mapping
+            if (fileUrl == null && responseBody.getFileIdToUrlMap() != null) {
+                fileUrl = responseBody.getFileIdToUrlMap().get(fileStoreId);
+            }
+
+            if (fileUrl != null) {
+                return fileUrl;
+            }
+        }
+
+        exceptionHandler.throwCustomException(ErrorConstants.FILE_URL_RETRIEVAL_ERROR,
+                ErrorConstants.FILE_URL_RETRIEVAL_ERROR_MESSAGE);
+        return null; // This should never be reached due to exceptions above
+    }
+
     /**
      * Generic retry mechanism for FileStore API calls
      */
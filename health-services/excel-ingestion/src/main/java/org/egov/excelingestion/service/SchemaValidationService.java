@@ -1,33 +1,31 @@
 package org.egov.excelingestion.service;
 
 import lombok.extern.slf4j.Slf4j;
+import org.egov.excelingestion.config.ExcelIngestionConfig;
 import org.egov.excelingestion.config.ProcessingConstants;
 import org.egov.excelingestion.config.ValidationConstants;
 import org.egov.excelingestion.web.models.ValidationError;
 import org.springframework.stereotype.Service;
-import org.egov.excelingestion.util.LocalizationUtil;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.regex.Pattern;
-import java.util.regex.PatternSyntaxException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @Slf4j
 public class SchemaValidationService {
 
-    /**
-     * Cache of compiled regex patterns keyed by the raw pattern string. Validation calls
-     * Pattern.compile per row × per patterned field, so memoizing avoids recompiling the same
-     * regex thousands of times on large sheets. Compiled Patterns are immutable + thread-safe.
-     */
-    private static final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+    private static final int DEFAULT_CHUNK_ROWS = 10000;
 
     private final MDMSService mdmsService;
-    
-    public SchemaValidationService(MDMSService mdmsService) {
+    private final ExcelIngestionConfig config;
+
+    public SchemaValidationService(MDMSService mdmsService, ExcelIngestionConfig config) {
         this.mdmsService = mdmsService;
+        this.config = config;
     }
 
     /**
@@ -67,29 +65,17 @@ public class SchemaValidationService {
                 ? immutableColumnsForExistingRows : Collections.emptySet();
 
         try {
-            // Extract validation rules from schema with localization support
+            // Extract validation rules from schema with localization support, compiled once for all rows
             Map<String, ValidationRule> validationRules = extractValidationRules(schema, localizationMap);
+            CompiledSchema compiledSchema = CompiledSchema.compile(
+                    validationRules.values(), sheetName, localizationMap, immutableSkip);
 
-            // Validate each row against the schema
-            for (int rowIndex = 0; rowIndex < sheetData.size(); rowIndex++) {
-                Map<String, Object> rowData = sheetData.get(rowIndex);
-                if (rowData == null) {
-                    continue; // Skip null rows
-                }
-                // Use actual Excel row number from data if available, otherwise fallback to calculated
-                int excelRowNumber = rowData.containsKey("__actualRowNumber__") ?
-                    (Integer) rowData.get("__actualRowNumber__") : rowIndex + 3;
+            // Validate each row against the schema, in row chunks when the sheet is large
+            errors.addAll(validateRows(compiledSchema, sheetData));
 
-                List<ValidationError> rowErrors = validateRowAgainstSchema(
-                    rowData, excelRowNumber, sheetName, validationRules, localizationMap, immutableSkip);
-                errors.addAll(rowErrors);
-            }
-            
             // Perform uniqueness validation across all rows
-            List<ValidationError> uniquenessErrors = validateUniquenessConstraints(
-                sheetData, sheetName, validationRules, localizationMap);
-            errors.addAll(uniquenessErrors);
-            
+            errors.addAll(compiledSchema.validateUniqueness(sheetData));
+
         } catch (Exception e) {
             log.error("Error during schema validation for sheet {}: {}", sheetName, e.getMessage(), e);
             ValidationError error = ValidationError.builder()
@@ -105,6 +91,70 @@ public class SchemaValidationService {
     }
 
 
+    /**
+     * Runs independent validations (e.g. one per sheet) in parallel and returns their errors
+     * concatenated in the order of {@code validations}, so the result does not depend on scheduling.
+     * Validations must not touch the workbook: sheet data is read before and only the row maps are shared.
+     */
+    public List<ValidationError> validateInParallel(List<Supplier<List<ValidationError>>> validations) {
+        if (validations.size() <= 1 || parallelism() == 1) {
+            List<ValidationError> errors = new ArrayList<>();
+            validations.forEach(validation -> errors.addAll(validation.get()));
+            return errors;
+        }
+        return inPool(() -> validations.parallelStream()
+                .map(Supplier::get)
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Validates the rows of a sheet, split into chunks of {@code excel.validation.chunk.rows} that are
+     * validated in parallel. Chunk errors are concatenated in chunk order, i.e. in row order as sequential.
+     */
+    private List<ValidationError> validateRows(CompiledSchema compiledSchema, List<Map<String, Object>> sheetData) {
+        int rowCount = sheetData.size();
+        int chunkRows = chunkRows();
+        int chunks = (rowCount + chunkRows - 1) / chunkRows;
+        if (chunks <= 1 || parallelism() == 1) {
+            return compiledSchema.validateRows(sheetData, 0, rowCount);
+        }
+        // Row maps are read by index from several threads
+        List<Map<String, Object>> rows = sheetData instanceof RandomAccess ? sheetData : new ArrayList<>(sheetData);
+        return inPool(() -> IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> compiledSchema.validateRows(rows, chunk * chunkRows,
+                        Math.min(rowCount, (chunk + 1) * chunkRows)))
+                .flatMap(List::stream)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Runs a parallel stream pipeline on a pool bounded by {@code excel.validation.parallelism}. Called
+     * from a validation already running on such a pool (row chunks of a sheet validated in parallel with
+     * other sheets), the pipeline joins that pool instead of starting another one.
+     */
+    private <T> T inPool(Supplier<T> pipeline) {
+        if (ForkJoinTask.inForkJoinPool()) {
+            return pipeline.get();
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism());
+        try {
+            return pool.submit(pipeline::get).join();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    // Guard 0 from mocks/unset -> sequential validation and the default chunk size
+    private int parallelism() {
+        return config != null ? Math.max(1, config.getValidationParallelism()) : 1;
+    }
+
+    private int chunkRows() {
+        int chunkRows = config != null ? config.getValidationChunkRows() : 0;
+        return chunkRows > 0 ? chunkRows : DEFAULT_CHUNK_ROWS;
+    }
+
     /**
      * Extracts validation rules from schema
      */
@@ -315,344 +365,10 @@ public class SchemaValidationService {
         }
     }
 
-    /**
-     * Validates a single row against schema rules
-     */
-    private List<ValidationError> validateRowAgainstSchema(Map<String, Object> rowData,
-            int rowNumber, String sheetName, Map<String, ValidationRule> rules, Map<String, String> localizationMap,
-            Set<String> immutableColumnsForExistingRows) {
-
-        List<ValidationError> errors = new ArrayList<>();
-
-        // Existing rows (carrying the hidden server-stamped row-id) had their always-immutable cells
-        // reconstructed from the trusted baseline, so those cells are not re-validated for their own
-        // constraints. New rows (no row-id) and editable cells are always validated in full.
-        boolean existingRow = isExistingRow(rowData);
-
-        // First, validate fields that have direct rules
-        for (ValidationRule rule : rules.values()) {
-            String fieldName = rule.getFieldName();
-
-            if (existingRow && immutableColumnsForExistingRows.contains(fieldName)) {
-                continue; // reconstructed-from-baseline cell -> already valid, skip own-field validation
-            }
-
-            Object value = rowData.get(fieldName);
-
-            validateField(fieldName, value, rule, rowNumber, sheetName, errors, localizationMap, rowData);
-        }
-
-        // Second, validate multi-select field groups (collect values from _MULTISELECT_* columns)
-        Map<String, List<String>> multiSelectGroups = collectMultiSelectValues(rowData, rules);
-
-        for (Map.Entry<String, List<String>> entry : multiSelectGroups.entrySet()) {
-            String parentFieldName = entry.getKey();
-
-            if (existingRow && immutableColumnsForExistingRows.contains(parentFieldName)) {
-                continue; // immutable multi-select reconstructed from baseline -> skip own validation
-            }
-
-            List<String> selectedValues = entry.getValue();
-            ValidationRule parentRule = rules.get(parentFieldName);
-
-            if (parentRule != null && parentRule.getMultiSelectDetails() != null) {
-                validateCollectedMultiSelectValues(parentFieldName, selectedValues, parentRule,
-                    rowNumber, sheetName, errors, localizationMap);
-            }
-        }
-
-        // Third, validate individual child multi-select fields for enum compliance
-        for (String fieldName : rowData.keySet()) {
-            if (isChildMultiSelectField(fieldName) && !rules.containsKey(fieldName)) {
-                String parentFieldName = getParentFieldName(fieldName);
-
-                if (existingRow && immutableColumnsForExistingRows.contains(parentFieldName)) {
-                    continue; // child of an immutable multi-select reconstructed from baseline -> skip
-                }
-
-                ValidationRule parentRule = rules.get(parentFieldName);
-
-                if (parentRule != null && parentRule.getMultiSelectDetails() != null) {
-                    Object value = rowData.get(fieldName);
-                    // Validate child field using parent's multi-select rules
-                    validateChildMultiSelectField(fieldName, value, parentRule, rowNumber, sheetName, errors, localizationMap);
-                }
-            }
-        }
-        
-        // Note: We don't add a ValidationError with STATUS_VALID here because:
-        // 1. The ValidationService will set the row status to VALID if there are no errors
-        // 2. Adding a VALID error here conflicts with later additions of uniqueness validation errors
-        // The ValidationService.determineRowStatus() method handles setting the correct status
-        
-        return errors;
-    }
-
-    /**
-     * A row is "existing" (vs a brand-new user-added row) when it carries the hidden server-stamped
-     * row-id. Only existing rows had their immutable cells reconstructed from the baseline, so only they
-     * are eligible for the immutable-cell validation skip; new rows are always validated in full.
-     */
-    private boolean isExistingRow(Map<String, Object> rowData) {
-        Object rid = rowData.get(ProcessingConstants.ROW_ID_COLUMN_NAME);
-        return rid != null && !rid.toString().trim().isEmpty();
-    }
-
-    private void validateStringField(Object value, ValidationRule rule, int rowNumber,
-            String sheetName, List<ValidationError> errors, Map<String, String> localizationMap, Map<String, Object> rowData) {
-        
-        String strValue = value.toString();
-        
-        // Length validation
-        if (rule.getMinLength() != null && strValue.length() < rule.getMinLength()) {
-            String errorMessage;
-            if (rule.getErrorMessage() != null && !rule.getErrorMessage().isEmpty()) {
-                // Use custom error message and try to localize it
-                errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, rule.getErrorMessage(), rule.getErrorMessage());
-            } else {
-                // Use dynamic message with localization
-                errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_MIN_LENGTH", 
-                        String.format("Field '%s' must be at least %d characters", rule.getDisplayName(), rule.getMinLength()),
-                        rule.getDisplayName(), rule.getMinLength().toString());
-            }
-            errors.add(createValidationError(rowNumber, sheetName, rule.getFieldName(), errorMessage));
-        }
-        
-        if (rule.getMaxLength() != null && strValue.length() > rule.getMaxLength()) {
-            String errorMessage;
-            if (rule.getErrorMessage() != null && !rule.getErrorMessage().isEmpty()) {
-                // Use custom error message and try to localize it
-                errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, rule.getErrorMessage(), rule.getErrorMessage());
-            } else {
-                // Use dynamic message with localization
-                errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_MAX_LENGTH", 
-                        String.format("Field '%s' must not exceed %d characters", rule.getDisplayName(), rule.getMaxLength()),
-                        rule.getDisplayName(), rule.getMaxLength().toString());
-            }
-            errors.add(createValidationError(rowNumber, sheetName, rule.getFieldName(), errorMessage));
-        }
-        
-        // Pattern validation
-        if (rule.getPattern() != null && !rule.getPattern().trim().isEmpty()) {
-            try {
-                Pattern pattern = PATTERN_CACHE.computeIfAbsent(rule.getPattern(), Pattern::compile);
-                if (!pattern.matcher(strValue).matches()) {
-                    String errorMessage;
-                    if (rule.getErrorMessage() != null && !rule.getErrorMessage().isEmpty()) {
-                        // Use custom error message and try to localize it
-                        errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, rule.getErrorMessage(), rule.getErrorMessage());
-                    } else {
-                        // Use dynamic message with localization
-                        errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_PATTERN", 
-                                String.format("Field '%s' does not match required pattern", rule.getDisplayName()),
-                                rule.getDisplayName());
-                    }
-                    errors.add(createValidationError(rowNumber, sheetName, rule.getFieldName(), errorMessage));
-                }
-            } catch (PatternSyntaxException e) {
-                log.warn("Invalid regex pattern '{}' for field '{}'", rule.getPattern(), rule.getDisplayName());
-                String errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_INVALID_PATTERN", 
-                        String.format("Field '%s' has invalid validation pattern", rule.getDisplayName()),
-                        rule.getDisplayName());
-                errors.add(createValidationError(rowNumber, sheetName, rule.getFieldName(), errorMessage));
-            }
-        }
-        
-        // Multi-select validation - only for fields that don't use _MULTISELECT_ pattern
-        // Fields using _MULTISELECT_ pattern are validated by validateCollectedMultiSelectValues
-        if (rule.getMultiSelectDetails() != null && !hasMultiSelectColumns(rowData, rule.getFieldName())) {
-            validateMultiSelectField(strValue, rule, rowNumber, sheetName, errors, localizationMap);
-        }
-    }
-
-    private void validateNumberField(Object value, ValidationRule rule, int rowNumber, 
-            String sheetName, List<ValidationError> errors, Map<String, String> localizationMap) {
-        
-        try {
-            Double numValue = Double.parseDouble(value.toString());
-            
-            if (rule.getMinimum() != null && numValue < rule.getMinimum().doubleValue()) {
-                String errorMessage;
-                if (rule.getErrorMessage() != null && !rule.getErrorMessage().isEmpty()) {
-                    // Use custom error message and try to localize it
-                    errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, rule.getErrorMessage(), rule.getErrorMessage());
-                } else {
-                    // Use dynamic message with localization
-                    errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_MIN_NUMBER", 
-                            String.format("Field '%s' must be at least %s", rule.getDisplayName(), rule.getMinimum()),
-                            rule.getDisplayName(), rule.getMinimum().toString());
-                }
-                errors.add(createValidationError(rowNumber, sheetName, rule.getFieldName(), errorMessage));
-            }
-            
-            if (rule.getMaximum() != null && numValue > rule.getMaximum().doubleValue()) {
-                String errorMessage;
-                if (rule.getErrorMessage() != null && !rule.getErrorMessage().isEmpty()) {
-                    // Use custom error message and try to localize it
-                    errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, rule.getErrorMessage(), rule.getErrorMessage());
-                } else {
-                    // Use dynamic message with localization
-                    errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_MAX_NUMBER", 
-                            String.format("Field '%s' must not exceed %s", rule.getDisplayName(), rule.getMaximum()),
-                            rule.getDisplayName(), rule.getMaximum().toString());
-                }
-                errors.add(createValidationError(rowNumber, sheetName, rule.getFieldName(), errorMessage));
-            }
-            
-            // Exclusive minimum validation
-            if (rule.getExclusiveMinimum() != null && numValue <= rule.getExclusiveMinimum().doubleValue()) {
-                String errorMessage;
-                if (rule.getErrorMessage() != null && !rule.getErrorMessage().isEmpty()) {
-                    // Use custom error message and try to localize it
-                    errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, rule.getErrorMessage(), rule.getErrorMessage());
-                } else {
-                    // Use dynamic message with localization
-                    errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_EXCLUSIVE_MIN", 
-                            String.format("Field '%s' must be greater than %s", rule.getDisplayName(), rule.getExclusiveMinimum()),
-                            rule.getDisplayName(), rule.getExclusiveMinimum().toString());
-                }
-                errors.add(createValidationError(rowNumber, sheetName, rule.getFieldName(), errorMessage));
-            }
-            
-            // Exclusive maximum validation
-            if (rule.getExclusiveMaximum() != null && numValue >= rule.getExclusiveMaximum().doubleValue()) {
-                String errorMessage;
-                if (rule.getErrorMessage() != null && !rule.getErrorMessage().isEmpty()) {
-                    // Use custom error message and try to localize it
-                    errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, rule.getErrorMessage(), rule.getErrorMessage());
-                } else {
-                    // Use dynamic message with localization
-                    errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_EXCLUSIVE_MAX", 
-                            String.format("Field '%s' must be less than %s", rule.getDisplayName(), rule.getExclusiveMaximum()),
-                            rule.getDisplayName(), rule.getExclusiveMaximum().toString());
-                }
-                errors.add(createValidationError(rowNumber, sheetName, rule.getFieldName(), errorMessage));
-            }
-            
-            // Multiple of validation
-            if (rule.getMultipleOf() != null) {
-                double divisor = rule.getMultipleOf().doubleValue();
-                if (divisor != 0 && (numValue % divisor) != 0) {
-                    String errorMessage;
-                    if (rule.getErrorMessage() != null && !rule.getErrorMessage().isEmpty()) {
-                        // Use custom error message and try to localize it
-                        errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, rule.getErrorMessage(), rule.getErrorMessage());
-                    } else {
-                        // Use dynamic message with localization
-                        errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_MULTIPLE_OF", 
-                                String.format("Field '%s' must be a multiple of %s", rule.getDisplayName(), rule.getMultipleOf()),
-                                rule.getDisplayName(), rule.getMultipleOf().toString());
-                    }
-                    errors.add(createValidationError(rowNumber, sheetName, rule.getFieldName(), errorMessage));
-                }
-            }
-            
-        } catch (NumberFormatException e) {
-            String errorMessage;
-            if (rule.getErrorMessage() != null && !rule.getErrorMessage().isEmpty()) {
-                // Use custom error message and try to localize it
-                errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, rule.getErrorMessage(), rule.getErrorMessage());
-            } else {
-                // Use dynamic message with localization
-                errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_INVALID_NUMBER", 
-                        String.format("Field '%s' must be a valid number", rule.getDisplayName()), rule.getDisplayName());
-            }
-            errors.add(createValidationError(rowNumber, sheetName, rule.getFieldName(), errorMessage));
-        }
-    }
-
-    private void validateEnumField(Object value, ValidationRule rule, int rowNumber, 
-            String sheetName, List<ValidationError> errors, Map<String, String> localizationMap) {
-        
-        String strValue = value.toString();
-        if (rule.getAllowedValues() != null && !rule.getAllowedValues().contains(strValue)) {
-            String errorMessage;
-            if (rule.getErrorMessage() != null && !rule.getErrorMessage().isEmpty()) {
-                // Use custom error message and try to localize it
-                errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, rule.getErrorMessage(), rule.getErrorMessage());
-            } else {
-                // Use dynamic message with localization
-                errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_INVALID_ENUM", 
-                        String.format("Field '%s' contains invalid value '%s'", rule.getDisplayName(), strValue),
-                        rule.getDisplayName(), strValue);
-            }
-            errors.add(createValidationError(rowNumber, sheetName, rule.getFieldName(), errorMessage));
-        }
-    }
-
-    private void validateMultiSelectField(String value, ValidationRule rule, int rowNumber, 
-            String sheetName, List<ValidationError> errors, Map<String, String> localizationMap) {
-        
-        MultiSelectDetails multiSelect = rule.getMultiSelectDetails();
-        if (multiSelect == null) {
-            return;
-        }
-        
-        // Parse multi-select value (using constant separator)
-        String[] selectedValues = value.split(ValidationConstants.MULTI_SELECT_SEPARATOR);
-        List<String> trimmedValues = new ArrayList<>();
-        
-        for (String selectedValue : selectedValues) {
-            String trimmed = selectedValue.trim();
-            if (!trimmed.isEmpty()) {
-                trimmedValues.add(trimmed);
-            }
-        }
-        
-        // Validate for duplicate selections
-        Set<String> uniqueValues = new HashSet<>(trimmedValues);
-        if (uniqueValues.size() < trimmedValues.size()) {
-            String errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, ValidationConstants.HCM_VALIDATION_DUPLICATE_SELECTIONS, 
-                    String.format("Field '%s' contains duplicate selections", rule.getDisplayName()),
-                    rule.getDisplayName());
-            errors.add(createValidationError(rowNumber, sheetName, rule.getFieldName(), errorMessage));
-        }
-        
-        // Validate minimum selections
-        if (multiSelect.getMinSelections() != null && trimmedValues.size() < multiSelect.getMinSelections()) {
-            String errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_MIN_SELECTIONS", 
-                    String.format("Field '%s' must have at least %d selections", rule.getDisplayName(), multiSelect.getMinSelections()),
-                    rule.getDisplayName(), multiSelect.getMinSelections().toString());
-            errors.add(createValidationError(rowNumber, sheetName, rule.getFieldName(), errorMessage));
-        }
-        
-        // Validate maximum selections
-        if (multiSelect.getMaxSelections() != null && trimmedValues.size() > multiSelect.getMaxSelections()) {
-            String errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_MAX_SELECTIONS", 
-                    String.format("Field '%s' must have at most %d selections", rule.getDisplayName(), multiSelect.getMaxSelections()),
-                    rule.getDisplayName(), multiSelect.getMaxSelections().toString());
-            errors.add(createValidationError(rowNumber, sheetName, rule.getFieldName(), errorMessage));
-        }
-        
-        // Validate each selected value against allowed enum values
-        if (multiSelect.getEnumValues() != null && !multiSelect.getEnumValues().isEmpty()) {
-            for (String selectedValue : trimmedValues) {
-                if (!multiSelect.getEnumValues().contains(selectedValue)) {
-                    String errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_INVALID_MULTI_SELECT", 
-                            String.format("Field '%s' contains invalid value '%s'", rule.getDisplayName(), selectedValue),
-                            rule.getDisplayName(), selectedValue);
-                    errors.add(createValidationError(rowNumber, sheetName, rule.getFieldName(), errorMessage));
-                    break; // Only show first invalid value to avoid too many errors
-                }
-            }
-        }
-    }
-
-    private ValidationError createValidationError(int rowNumber, String sheetName, 
-            String columnName, String errorMessage) {
-        return ValidationError.builder()
-                .rowNumber(rowNumber)
-                .sheetName(sheetName)
-                .columnName(columnName)
-                .status(ValidationConstants.STATUS_INVALID)
-                .errorDetails(errorMessage)
-                .build();
-    }
-
     /**
      * Inner class for validation rules
      */
-    private static class ValidationRule {
+    static class ValidationRule {
         private String fieldName; // Technical field name for lookup
         private String displayName; // Localized field name for display in errors
         private String type;
@@ -730,7 +446,7 @@ public class SchemaValidationService {
     /**
      * Inner class for multi-select validation details
      */
-    private static class MultiSelectDetails {
+    static class MultiSelectDetails {
         private List<String> enumValues;
         private Integer minSelections;
         private Integer maxSelections;
@@ -745,88 +461,6 @@ public class SchemaValidationService {
         public void setMaxSelections(Integer maxSelections) { this.maxSelections = maxSelections; }
     }
     
-    /**
-     * Validates uniqueness constraints across all rows
-     */
-    private List<ValidationError> validateUniquenessConstraints(List<Map<String, Object>> sheetData,
-                                                               String sheetName,
-                                                               Map<String, ValidationRule> validationRules,
-                                                               Map<String, String> localizationMap) {
-        List<ValidationError> errors = new ArrayList<>();
-        
-        // Find fields that need uniqueness validation
-        Map<String, ValidationRule> uniqueFields = validationRules.entrySet().stream()
-                .filter(entry -> entry.getValue().isUnique())
-                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-        
-        if (uniqueFields.isEmpty()) {
-            return errors; // No unique fields to validate
-        }
-        
-        // For each unique field, collect values and find duplicates
-        for (Map.Entry<String, ValidationRule> entry : uniqueFields.entrySet()) {
-            String fieldName = entry.getKey();
-            
-            // Map to track value -> list of row indices where it appears
-            Map<String, List<Integer>> valueToRows = new HashMap<>();
-            
-            // Collect all values for this field
-            for (int rowIndex = 0; rowIndex < sheetData.size(); rowIndex++) {
-                Map<String, Object> rowData = sheetData.get(rowIndex);
-                if (rowData == null) {
-                    continue; // Skip null rows
-                }
-                Object value = rowData.get(fieldName);
-                
-                // Skip null or empty values for uniqueness check
-                if (value != null && !value.toString().trim().isEmpty()) {
-                    String strValue = value.toString().trim();
-                    valueToRows.computeIfAbsent(strValue, k -> new ArrayList<>()).add(rowIndex);
-                }
-            }
-            
-            // Find duplicates and create errors
-            for (Map.Entry<String, List<Integer>> valueEntry : valueToRows.entrySet()) {
-                String duplicateValue = valueEntry.getKey();
-                List<Integer> rowIndices = valueEntry.getValue();
-                
-                if (rowIndices.size() > 1) {
-                    // This value appears in multiple rows - create errors for all occurrences
-                    for (int rowIndex : rowIndices) {
-                        Map<String, Object> rowData = sheetData.get(rowIndex);
-                        // Use actual Excel row number from data if available, otherwise fallback to calculated
-                        int excelRowNumber = rowData.containsKey("__actualRowNumber__") ? 
-                            (Integer) rowData.get("__actualRowNumber__") : rowIndex + 3;
-                        
-                        // Create list of other row numbers with same value
-                        List<String> otherRows = rowIndices.stream()
-                                .filter(idx -> idx != rowIndex)
-                                .map(idx -> {
-                                    Map<String, Object> otherRowData = sheetData.get(idx);
-                                    return String.valueOf(otherRowData.containsKey("__actualRowNumber__") ? 
-                                        (Integer) otherRowData.get("__actualRowNumber__") : idx + 3);
-                                })
-                                .collect(Collectors.toList());
-                        
-                        ValidationRule fieldRule = uniqueFields.get(fieldName);
-                        String displayName = fieldRule != null ? fieldRule.getDisplayName() : fieldName;
-                        String errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, 
-                                "HCM_VALIDATION_DUPLICATE_VALUE",
-                                String.format("Field '%s' must be unique. Value '%s' is also found in row(s): %s", 
-                                        displayName, duplicateValue, String.join(", ", otherRows)),
-                                displayName, duplicateValue, String.join(", ", otherRows));
-                        
-                        errors.add(createValidationError(excelRowNumber, sheetName, fieldName, errorMessage));
-                    }
-                }
-            }
-        }
-        
-        log.info("Found {} uniqueness validation errors for sheet: {}", errors.size(), sheetName);
-        return errors;
-    }
-
-    
     /**
      * Clean error message by removing leading semicolons and whitespace
      */
@@ -844,271 +478,4 @@ public class SchemaValidationService {
         
         return message;
     }
-    
-    /**
-     * Validate a single field with its rule
-     */
-    private void validateField(String fieldName, Object value, ValidationRule rule, int rowNumber,
-                              String sheetName, List<ValidationError> errors, Map<String, String> localizationMap, Map<String, Object> rowData) {
-        // Check conditional required: if trigger column matches, treat field as required.
-        // If trigger condition is NOT met, skip ALL validation for this field (required, pattern, length)
-        // because the field's constraints are only relevant when its provider condition applies.
-        if (rule.getRequiredIf() != null) {
-            String triggerColumn = rule.getRequiredIf().getColumn();
-            Object triggerValue = rowData.get(triggerColumn);
-            List<String> requiredIfValues = rule.getRequiredIf().getValues();
-            boolean conditionMet = triggerValue != null
-                    && requiredIfValues != null
-                    && requiredIfValues.contains(triggerValue.toString().trim());
-
-            if (!conditionMet) {
-                // Provider condition not met — field is irrelevant, skip all validation
-                return;
-            }
-
-            // Condition met — field is required: check emptiness
-            if (!rule.isRequired()) {
-                boolean isEmpty = (value == null || value.toString().trim().isEmpty());
-                if (isEmpty) {
-                    String errorMessage = (rule.getErrorMessage() != null && !rule.getErrorMessage().isEmpty())
-                            ? LocalizationUtil.getLocalizedMessage(localizationMap, rule.getErrorMessage(), rule.getErrorMessage())
-                            : LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_CONDITIONAL_REQUIRED_FIELD",
-                                String.format("Field '%s' is required when Payment Provider is '%s'",
-                                    rule.getDisplayName(), triggerValue),
-                                rule.getDisplayName(), String.valueOf(triggerValue));
-                    errors.add(ValidationError.builder()
-                            .rowNumber(rowNumber)
-                            .sheetName(sheetName)
-                            .columnName(fieldName)
-                            .status(ValidationConstants.STATUS_INVALID)
-                            .errorDetails(errorMessage)
-                            .build());
-                    return;
-                }
-            }
-            // Condition met and value present — fall through to standard validation (pattern, length, etc.)
-        }
-
-        // Check required fields - special handling for multi-select fields
-        if (rule.isRequired()) {
-            boolean isEmpty = false;
-            
-            if (value == null || value.toString().trim().isEmpty()) {
-                isEmpty = true;
-            } else if (rule.getMultiSelectDetails() != null) {
-                // For multi-select fields, check if all values are empty after parsing
-                String[] selectedValues = value.toString().split(ValidationConstants.MULTI_SELECT_SEPARATOR);
-                boolean hasNonEmptyValue = false;
-                
-                for (String selectedValue : selectedValues) {
-                    if (!selectedValue.trim().isEmpty()) {
-                        hasNonEmptyValue = true;
-                        break;
-                    }
-                }
-                isEmpty = !hasNonEmptyValue;
-            }
-            
-            if (isEmpty) {
-                String localizationKey = rule.getMultiSelectDetails() != null 
-                    ? ValidationConstants.HCM_VALIDATION_REQUIRED_MULTI_SELECT
-                    : "HCM_VALIDATION_REQUIRED_FIELD";
-                    
-                String defaultMessage = rule.getMultiSelectDetails() != null
-                    ? String.format("Required multi-select field '%s' must have at least one selection", rule.getDisplayName())
-                    : String.format("Required field '%s' is missing", rule.getDisplayName());
-                
-                String errorMessage;
-                if (rule.getErrorMessage() != null && !rule.getErrorMessage().isEmpty()) {
-                    // Try to localize the custom error message
-                    errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, rule.getErrorMessage(), rule.getErrorMessage());
-                } else {
-                    // Use dynamic message with localization
-                    errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, localizationKey, defaultMessage, rule.getDisplayName());
-                }
-                    
-                errors.add(ValidationError.builder()
-                        .rowNumber(rowNumber)
-                        .sheetName(sheetName)
-                        .columnName(fieldName)
-                        .status(ValidationConstants.STATUS_INVALID)
-                        .errorDetails(errorMessage)
-                        .build());
-                return;
-            }
-        }
-        
-        // Skip validation if value is empty and not required
-        if (value == null || value.toString().trim().isEmpty()) {
-            return;
-        }
-        
-        // Type-specific validation
-        switch (rule.getType()) {
-            case "string":
-                validateStringField(value, rule, rowNumber, sheetName, errors, localizationMap, rowData);
-                break;
-            case "number":
-                validateNumberField(value, rule, rowNumber, sheetName, errors, localizationMap);
-                break;
-            case "enum":
-                validateEnumField(value, rule, rowNumber, sheetName, errors, localizationMap);
-                break;
-        }
-    }
-    
-    /**
-     * Collect multi-select values from _MULTISELECT_* columns grouped by parent field
-     */
-    private Map<String, List<String>> collectMultiSelectValues(Map<String, Object> rowData, Map<String, ValidationRule> rules) {
-        Map<String, List<String>> multiSelectGroups = new HashMap<>();
-        
-        for (String fieldName : rowData.keySet()) {
-            if (fieldName.contains("_MULTISELECT_")) {
-                // Extract parent field name (everything before _MULTISELECT_)
-                String parentFieldName = fieldName.substring(0, fieldName.indexOf("_MULTISELECT_"));
-                
-                // Check if parent has multi-select rules
-                ValidationRule parentRule = rules.get(parentFieldName);
-                if (parentRule != null && parentRule.getMultiSelectDetails() != null) {
-                    // Always ensure parent field is in the map for validation
-                    multiSelectGroups.computeIfAbsent(parentFieldName, k -> new ArrayList<>());
-                    
-                    Object value = rowData.get(fieldName);
-                    if (value != null && !value.toString().trim().isEmpty()) {
-                        multiSelectGroups.get(parentFieldName).add(value.toString().trim());
-                    }
-                }
-            }
-        }
-        return multiSelectGroups;
-    }
-    
-    /**
-     * Validate collected multi-select values for min/max/duplicate constraints
-     */
-    private void validateCollectedMultiSelectValues(String fieldName, List<String> selectedValues, 
-                                                   ValidationRule rule, int rowNumber, String sheetName, 
-                                                   List<ValidationError> errors, Map<String, String> localizationMap) {
-        MultiSelectDetails multiSelect = rule.getMultiSelectDetails();
-        if (multiSelect == null) {
-            return;
-        }
-        
-        // Check if field is required and has no selections
-        if (rule.isRequired() && selectedValues.isEmpty()) {
-            String errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, ValidationConstants.HCM_VALIDATION_REQUIRED_MULTI_SELECT, 
-                    String.format("Required multi-select field '%s' must have at least one selection", rule.getDisplayName()),
-                    rule.getDisplayName());
-            errors.add(createValidationError(rowNumber, sheetName, fieldName, errorMessage));
-            // Don't return here - continue with min/max validation even for required fields
-        }
-        
-        // Validate minimum selections (applies even to empty fields)
-        if (multiSelect.getMinSelections() != null && selectedValues.size() < multiSelect.getMinSelections()) {
-            String errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_MIN_SELECTIONS", 
-                    String.format("Field '%s' must have at least %d selections", rule.getDisplayName(), multiSelect.getMinSelections()),
-                    rule.getDisplayName(), multiSelect.getMinSelections().toString());
-            errors.add(createValidationError(rowNumber, sheetName, fieldName, errorMessage));
-        }
-        
-        // Skip further validation if no values selected
-        if (selectedValues.isEmpty()) {
-            return;
-        }
-        
-        // Validate for duplicate selections (only if we have values)
-        Set<String> uniqueValues = new HashSet<>(selectedValues);
-        if (uniqueValues.size() < selectedValues.size()) {
-            String errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, ValidationConstants.HCM_VALIDATION_DUPLICATE_SELECTIONS, 
-                    String.format("Field '%s' contains duplicate selections", rule.getDisplayName()),
-                    rule.getDisplayName());
-            errors.add(createValidationError(rowNumber, sheetName, fieldName, errorMessage));
-        }
-        
-        // Validate maximum selections
-        if (multiSelect.getMaxSelections() != null && selectedValues.size() > multiSelect.getMaxSelections()) {
-            String errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_MAX_SELECTIONS", 
-                    String.format("Field '%s' must have at most %d selections", rule.getDisplayName(), multiSelect.getMaxSelections()),
-                    rule.getDisplayName(), multiSelect.getMaxSelections().toString());
-            errors.add(createValidationError(rowNumber, sheetName, fieldName, errorMessage));
-        }
-        
-        // Validate each selected value against allowed enum values
-        if (multiSelect.getEnumValues() != null && !multiSelect.getEnumValues().isEmpty()) {
-            for (String selectedValue : selectedValues) {
-                if (!multiSelect.getEnumValues().contains(selectedValue)) {
-                    String errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_INVALID_MULTI_SELECT", 
-                            String.format("Field '%s' contains invalid value '%s'", rule.getDisplayName(), selectedValue),
-                            rule.getDisplayName(), selectedValue);
-                    errors.add(createValidationError(rowNumber, sheetName, fieldName, errorMessage));
-                    break; // Only show first invalid value to avoid too many errors
-                }
-            }
-        }
-    }
-    
-    /**
-     * Check if field is a child multi-select field (contains _MULTISELECT_)
-     */
-    private boolean isChildMultiSelectField(String fieldName) {
-        if (fieldName == null) {
-            return false;
-        }
-        
-        // Check if field contains _MULTISELECT_ pattern
-        return fieldName.contains("_MULTISELECT_");
-    }
-    
-    /**
-     * Check if a parent field has corresponding _MULTISELECT_ columns in the row data
-     */
-    private boolean hasMultiSelectColumns(Map<String, Object> rowData, String parentFieldName) {
-        if (rowData == null || parentFieldName == null) {
-            return false;
-        }
-        
-        // Check if there are any fields that match pattern: parentFieldName_MULTISELECT_*
-        String multiSelectPrefix = parentFieldName + "_MULTISELECT_";
-        return rowData.keySet().stream()
-            .anyMatch(fieldName -> fieldName.startsWith(multiSelectPrefix));
-    }
-    
-    /**
-     * Get parent field name by removing _MULTISELECT_X suffix
-     */
-    private String getParentFieldName(String childFieldName) {
-        if (childFieldName.contains("_MULTISELECT_")) {
-            return childFieldName.substring(0, childFieldName.indexOf("_MULTISELECT_"));
-        }
-        // Fallback for legacy pattern _X
-        int lastUnderscore = childFieldName.lastIndexOf('_');
-        return childFieldName.substring(0, lastUnderscore);
-    }
-    
-    /**
-     * Validate child multi-select field using parent's enum values
-     */
-    private void validateChildMultiSelectField(String fieldName, Object value, ValidationRule parentRule, 
-                                             int rowNumber, String sheetName, List<ValidationError> errors, 
-                                             Map<String, String> localizationMap) {
-        if (value == null || value.toString().trim().isEmpty()) {
-            return; // Empty child fields are usually OK
-        }
-        
-        String strValue = value.toString().trim();
-        MultiSelectDetails multiSelect = parentRule.getMultiSelectDetails();
-        
-        if (multiSelect != null && multiSelect.getEnumValues() != null && !multiSelect.getEnumValues().isEmpty()) {
-            // For child fields, the value should be a single enum value (not comma-separated)
-            if (!multiSelect.getEnumValues().contains(strValue)) {
-                String errorMessage = LocalizationUtil.getLocalizedMessage(localizationMap, "HCM_VALIDATION_INVALID_ENUM", 
-                        String.format("Field '%s' contains invalid value '%s'", fieldName, strValue),
-                        fieldName, strValue);
-                
-                errors.add(createValidationError(rowNumber, sheetName, fieldName, errorMessage));
-            }
-        }
-    }
-    
-}
\ No newline at end of file
+}
@@ -59,18 +59,23 @@ public class HierarchicalBoundaryUtil {
     // by BoundaryCodeResolver to resolve codes for user-entered rows.
     public static final int CODE_MAPPING_KEY_COLUMN = 3;   // Column D: display-path key
     public static final int CODE_MAPPING_CODE_COLUMN = 4;  // Column E: boundary code
+    // Level 1 boundaries too long for an explicit list (Section 3 of the lookup sheet)
+    private static final int LEVEL1_LIST_COLUMN = 6;       // Column G
 
     private final ExcelIngestionConfig config;
     private final BoundaryService boundaryService;
     private final BoundaryUtil boundaryUtil;
     private final ExcelStyleHelper excelStyleHelper;
+    private final StreamingWorkbookWriter streamingWorkbookWriter;
 
     public HierarchicalBoundaryUtil(ExcelIngestionConfig config, BoundaryService boundaryService,
-                                    BoundaryUtil boundaryUtil, ExcelStyleHelper excelStyleHelper) {
+                                    BoundaryUtil boundaryUtil, ExcelStyleHelper excelStyleHelper,
+                                    StreamingWorkbookWriter streamingWorkbookWriter) {
         this.config = config;
         this.boundaryService = boundaryService;
         this.boundaryUtil = boundaryUtil;
         this.excelStyleHelper = excelStyleHelper;
+        this.streamingWorkbookWriter = streamingWorkbookWriter;
     }
 
     /**
@@ -212,11 +217,13 @@ public class HierarchicalBoundaryUtil {
         });
 
         // Create the hidden sheet with all lookup data
-        ParentChildrenMapping mappingResult = createCascadingBoundaryHierarchySheet(workbook, filteredBoundaries, levelTypes, localizationMap, codeToUniqueName);
+        List<String> level1BoundaryList = new ArrayList<>(level1Boundaries);
+        ParentChildrenMapping mappingResult = createCascadingBoundaryHierarchySheet(workbook, filteredBoundaries,
+                localizationMap, codeToUniqueName, level1BoundaryList);
 
         // Add validations using the helper column architecture
         addCascadingBoundaryValidations(workbook, sheet, lastSchemaCol, levelTypes.size(),
-                new ArrayList<>(level1Boundaries), mappingResult, localizationMap, visibleColIndices, codeToUniqueName);
+                level1BoundaryList, mappingResult, localizationMap, visibleColIndices, codeToUniqueName);
 
         sheet.createFreezePane(0, 2);
         CellStyle unlocked = workbook.createCellStyle();
@@ -256,86 +263,50 @@ public class HierarchicalBoundaryUtil {
     /**
      * Creates a hidden sheet with cascading boundary hierarchy
      * Single hidden lookup sheet with parent#child structure
+     *
+     * The boundary paths are folded into a tree first, so each path's display key is built once and
+     * shared by both sections, and the rows are then written strictly top to bottom: the sheet is never
+     * read back, which lets {@link StreamingWorkbookWriter} stream it.
      */
     private ParentChildrenMapping createCascadingBoundaryHierarchySheet(XSSFWorkbook workbook,
                                                                         List<BoundaryUtil.BoundaryRowData> boundaries,
-                                                                        List<String> levelTypes,
                                                                         Map<String, String> localizationMap,
-                                                                        Map<String, String> codeToUniqueName) {
-
-        // Create or get the hidden lookup sheet
-        Sheet lookupSheet = workbook.getSheet("_h_SimpleLookup_h_");
-        if (lookupSheet != null) {
-            int sheetIndex = workbook.getSheetIndex(lookupSheet);
-            workbook.removeSheetAt(sheetIndex);
-            log.info("Removed existing _h_SimpleLookup_h_ sheet to prevent named range accumulation");
-        }
-
-        lookupSheet = workbook.createSheet("_h_SimpleLookup_h_");
-        workbook.setSheetHidden(workbook.getSheetIndex("_h_SimpleLookup_h_"), true);
-        log.info("Created fresh _h_SimpleLookup_h_ sheet for current generation");
-
-
-        // Build parent-children mapping with hashed keys
-        Map<String, Set<String>> parentChildrenMap = new LinkedHashMap<>();
-        Map<String, String> codeToDisplayNameMap = new HashMap<>();
-        Map<String, Set<String>> parentChildrenCodeMap = new HashMap<>();
-        Map<String, String> hashToOriginalKeyMap = new HashMap<>();
-
-        // First pass: collect all boundary codes with their display names
+                                                                        Map<String, String> codeToUniqueName,
+                                                                        List<String> level1Boundaries) {
+
+        // Replaces any lookup sheet of a previous generation into this workbook
+        Sheet lookupSheet = streamingWorkbookWriter.createHelperSheet(workbook, LOOKUP_SHEET_NAME);
+        log.info("Created fresh {} sheet for current generation (streamed: {})",
+                LOOKUP_SHEET_NAME, streamingWorkbookWriter.isStreaming(workbook));
+
+        // Fold the paths into a tree keyed by CODE at every level (codes are always unique, unlike
+        // display names), so a node is created once however many boundary rows pass through it.
+        // Parents are kept in order of their first child; display keys are plain display names without
+        // type suffix, matching what the dropdowns write into the sheet.
+        Map<String, LookupNode> roots = new LinkedHashMap<>();
+        List<LookupNode> parents = new ArrayList<>();
+        // Display-path key -> code (Section 2); a later path with the same display key wins
+        Map<String, String> comboToCodeMap = new LinkedHashMap<>();
         for (BoundaryUtil.BoundaryRowData boundary : boundaries) {
-            List<String> path = boundary.getBoundaryPath();
-            for (int i = 0; i < path.size(); i++) {
-                String code = path.get(i);
-                if (code != null) {
+            LookupNode parent = null;
+            for (String code : boundary.getBoundaryPath()) {
+                if (code == null) continue;
+                Map<String, LookupNode> siblings = parent == null ? roots : parent.children;
+                LookupNode node = siblings.get(code);
+                if (node == null) {
                     String displayName = codeToUniqueName.getOrDefault(code, localizationMap.getOrDefault(code, code));
-                    String levelTypeDisplayName = localizationMap.getOrDefault(levelTypes.get(i), levelTypes.get(i));
-                    codeToDisplayNameMap.putIfAbsent(code, displayName + " - " + levelTypeDisplayName);
-                }
-            }
-        }
-
-        // Second pass: build parent-children relationships
-        // Use CODES for hash keys (codes are always unique, unlike display names)
-        // This ensures disambiguation even when multiple boundaries share the same name
-        Map<String, String> childDisplayNameMap = new HashMap<>();
-        for (BoundaryUtil.BoundaryRowData boundary : boundaries) {
-            List<String> path = boundary.getBoundaryPath();
-            for (int level = 0; level < path.size() - 1; level++) {
-                if (path.get(level) != null && path.get(level + 1) != null) {
-                    StringBuilder keyBuilder = new StringBuilder();
-                    for (int i = 0; i <= level; i++) {
-                        if (i > 0) keyBuilder.append(BOUNDARY_SEPARATOR);
-                        // Use CODES for hash key - codes are guaranteed to be unique
-                        keyBuilder.append(path.get(i));
-                    }
-                    String originalKey = keyBuilder.toString();
-                    String hashedKey = createHashedKey(originalKey);
-                    hashToOriginalKeyMap.put(hashedKey, originalKey);
-
-                    // Store child code for later lookup
-                    String childCode = path.get(level + 1);
-                    parentChildrenCodeMap.computeIfAbsent(hashedKey, k -> new LinkedHashSet<>()).add(childCode);
-
-                    // Children dropdown should show plain display name WITHOUT type suffix
-                    if (!childDisplayNameMap.containsKey(childCode)) {
-                        childDisplayNameMap.put(childCode, codeToUniqueName.getOrDefault(childCode, localizationMap.getOrDefault(childCode, childCode)));
+                    node = new LookupNode(displayName,
+                            parent == null ? displayName : parent.displayPath + BOUNDARY_SEPARATOR + displayName);
+                    if (parent != null && parent.children.isEmpty()) {
+                        parents.add(parent);
                     }
+                    siblings.put(code, node);
+                    comboToCodeMap.put(node.displayPath, code);
                 }
+                parent = node;
             }
         }
 
-        // Build parentChildrenMap with plain display names (no type suffix) for dropdown visibility
-        for (Map.Entry<String, Set<String>> entry : parentChildrenCodeMap.entrySet()) {
-            String hashedKey = entry.getKey();
-            Set<String> codes = entry.getValue();
-            Set<String> displayNames = new LinkedHashSet<>();
-            for (String code : codes) {
-                displayNames.add(childDisplayNameMap.get(code));
-            }
-            parentChildrenMap.put(hashedKey, displayNames);
-        }
-
         // Stale positional names from any previous generation into this workbook would point at the
         // deleted lookup sheet - remove them all before recreating (names are workbook-scoped).
         List<Name> staleNames = new ArrayList<>();
@@ -353,22 +324,15 @@ public class HierarchicalBoundaryUtil {
         // parent path against column A and INDIRECTs to the positional name. Display-path keys are
         // unique because sibling names are uniquified per parent (buildCodeToUniqueNameMap).
         int rowNum = 0;
-        for (Map.Entry<String, Set<String>> entry : parentChildrenMap.entrySet()) {
-            String hashedKey = entry.getKey();
-            Set<String> children = entry.getValue();
-
-            // Display-name version of this parent's code path - the MATCH key.
-            StringBuilder displayKeyBuilder = new StringBuilder();
-            String[] codes = hashToOriginalKeyMap.get(hashedKey).split(BOUNDARY_SEPARATOR, -1);
-            for (int i = 0; i < codes.length; i++) {
-                if (i > 0) displayKeyBuilder.append(BOUNDARY_SEPARATOR);
-                displayKeyBuilder.append(codeToUniqueName.getOrDefault(codes[i], localizationMap.getOrDefault(codes[i], codes[i])));
-            }
-
+        for (LookupNode parent : parents) {
             Row row = lookupSheet.createRow(rowNum);
-            row.createCell(0).setCellValue(displayKeyBuilder.toString());
+            row.createCell(0).setCellValue(parent.displayPath);
 
             // Columns B onwards: Children ONLY (one per column)
+            Set<String> children = new LinkedHashSet<>();
+            for (LookupNode child : parent.children.values()) {
+                children.add(child.displayName);
+            }
             int col = 1;
             for (String child : children) {
                 row.createCell(col++).setCellValue(child);
@@ -400,20 +364,6 @@ public class HierarchicalBoundaryUtil {
         rowNum += 2; // Add spacing
         int displayNameMappingStartRow = rowNum;
 
-        // Build map of combination strings to codes - use plain display names for dropdown matching
-        Map<String, String> comboToCodeMap = new HashMap<>();
-        for (BoundaryUtil.BoundaryRowData boundary : boundaries) {
-            StringBuilder comb = new StringBuilder();
-            for (String code : boundary.getBoundaryPath()) {
-                if (code != null) {
-                    if (comb.length() > 0) comb.append(BOUNDARY_SEPARATOR);
-                    // Use plain display name (without type suffix) to match dropdown values
-                    comb.append(codeToUniqueName.getOrDefault(code, localizationMap.getOrDefault(code, code)));
-                    comboToCodeMap.put(comb.toString(), code);
-                }
-            }
-        }
-
         for (Map.Entry<String, String> entry : comboToCodeMap.entrySet()) {
             Row mappingRow = lookupSheet.createRow(rowNum++);
             mappingRow.createCell(CODE_MAPPING_KEY_COLUMN).setCellValue(entry.getKey());   // Column D: Combination String
@@ -421,31 +371,59 @@ public class HierarchicalBoundaryUtil {
         }
         int displayNameMappingEndRow = rowNum;
 
+        // SECTION 3: Level 1 boundaries in column G, only when they are too long for an explicit list
+        // validation (see addLevel1BoundaryValidation). Written here with the rest of the sheet because a
+        // streamed lookup sheet cannot be appended to once later rows are flushed.
+        int level1StartRow = 0;
+        if (!fitsExplicitList(level1Boundaries)) {
+            rowNum += 4;
+            level1StartRow = rowNum + 1;
+            for (String level1Boundary : level1Boundaries) {
+                lookupSheet.createRow(rowNum++).createCell(LEVEL1_LIST_COLUMN).setCellValue(level1Boundary);
+            }
+        }
+
         log.info("Created cascading boundary lookup sheet: {} children rows, {} display-name mappings (rows {}-{})",
                 childrenSectionEndRow, comboToCodeMap.size(), displayNameMappingStartRow + 1, displayNameMappingEndRow);
 
-        return new ParentChildrenMapping(parentChildrenMap, childrenSectionEndRow,
+        return new ParentChildrenMapping(childrenSectionEndRow,
                 comboToCodeMap.isEmpty() ? 0 : displayNameMappingStartRow + 1,
-                comboToCodeMap.isEmpty() ? 0 : displayNameMappingEndRow);
+                comboToCodeMap.isEmpty() ? 0 : displayNameMappingEndRow,
+                level1StartRow);
+    }
+
+    /**
+     * Node of the boundary tree the lookup sheet is written from: one per boundary code path
+     */
+    private static class LookupNode {
+        final String displayName;
+        final String displayPath;
+        final Map<String, LookupNode> children = new LinkedHashMap<>();
+
+        LookupNode(String displayName, String displayPath) {
+            this.displayName = displayName;
+            this.displayPath = displayPath;
+        }
     }
 
     /**
      * Helper class to hold parent-children mapping results
      */
     private static class ParentChildrenMapping {
-        final Map<String, Set<String>> parentChildrenMap;
         /** Number of Section-1 rows: the MATCH range of every cascade validation is $A$1:$A$<this>. */
         final int childrenSectionEndRow;
         /** 1-based inclusive row bounds of Section 2 (display-path -> code). 0 when empty. */
         final int codeMappingStartRow;
         final int codeMappingEndRow;
+        /** 1-based first row of the level 1 list in column G; 0 when an explicit list is used instead. */
+        final int level1StartRow;
 
-        ParentChildrenMapping(Map<String, Set<String>> parentChildrenMap, int childrenSectionEndRow,
-                              int codeMappingStartRow, int codeMappingEndRow) {
-            this.parentChildrenMap = parentChildrenMap;
+        ParentChildrenMapping(int childrenSectionEndRow, int codeMappingStartRow, int codeMappingEndRow,
+                              int level1StartRow) {
             this.childrenSectionEndRow = childrenSectionEndRow;
             this.codeMappingStartRow = codeMappingStartRow;
             this.codeMappingEndRow = codeMappingEndRow;
+            this.level1StartRow = level1StartRow;
         }
     }
 
@@ -511,7 +489,7 @@ public class HierarchicalBoundaryUtil {
         }
 
         // Level 1 Validation (First visible column) - direct list
-        addLevel1BoundaryValidation(workbook, sheet, dvHelper, visibleColIndices.get(0), level1Boundaries);
+        addLevel1BoundaryValidation(workbook, sheet, dvHelper, visibleColIndices.get(0), level1Boundaries, mappingResult);
 
         if (mappingResult.childrenSectionEndRow < 1) {
             log.info("No parent-children rows in the lookup sheet; skipping cascade validations for {} levels.",
@@ -554,19 +532,10 @@ public class HierarchicalBoundaryUtil {
      * Add level 1 boundary validation using range reference to avoid 255-character limit
      */
     private void addLevel1BoundaryValidation(XSSFWorkbook workbook, Sheet sheet, DataValidationHelper dvHelper,
-                                             int startColumnIndex, List<String> level1Boundaries) {
+                                             int startColumnIndex, List<String> level1Boundaries,
+                                             ParentChildrenMapping mappingResult) {
         try {
-            Sheet lookupSheet = workbook.getSheet("_h_SimpleLookup_h_");
-            if (lookupSheet == null) {
-                log.error("Lookup sheet not found, cannot create level1 boundary validation");
-                return;
-            }
-
-            int totalLength = level1Boundaries.stream()
-                    .mapToInt(s -> s.length() + 1)
-                    .sum();
-
-            if (totalLength <= 250) {
+            if (fitsExplicitList(level1Boundaries)) {
                 // Use explicit list for small lists
                 String[] level1Array = level1Boundaries.toArray(new String[0]);
                 int actualDataRows = ExcelUtil.findActualLastRowWithData(sheet) + 1;
@@ -579,7 +548,8 @@ public class HierarchicalBoundaryUtil {
                 log.info("Applied explicit list validation for {} level1 boundaries", level1Boundaries.size());
             } else {
                 // Use range reference for large lists
-                addLevel1BoundariesRangeValidation(workbook, sheet, dvHelper, startColumnIndex, level1Boundaries, lookupSheet);
+                addLevel1BoundariesRangeValidation(workbook, sheet, dvHelper, startColumnIndex, level1Boundaries,
+                        mappingResult.level1StartRow);
             }
 
         } catch (Exception e) {
@@ -589,26 +559,25 @@ public class HierarchicalBoundaryUtil {
     }
 
     /**
-     * Add level 1 boundaries to lookup sheet and create range-based validation
+     * Whether the level 1 boundaries fit an explicit list validation; otherwise they are written to the
+     * lookup sheet (Section 3) and validated through a range
      */
-    private void addLevel1BoundariesRangeValidation(XSSFWorkbook workbook, Sheet sheet, DataValidationHelper dvHelper,
-                                                    int startColumnIndex, List<String> level1Boundaries, Sheet lookupSheet) {
+    private static boolean fitsExplicitList(List<String> level1Boundaries) {
+        int totalLength = level1Boundaries.stream()
+                .mapToInt(s -> s.length() + 1)
+                .sum();
+        return totalLength <= 250;
+    }
 
-        int startRow = Math.max(ExcelUtil.findActualLastRowWithData(lookupSheet) + 5, 1);
+    /**
+     * Create range-based validation over the level 1 boundaries written to the lookup sheet
+     */
+    private void addLevel1BoundariesRangeValidation(XSSFWorkbook workbook, Sheet sheet, DataValidationHelper dvHelper,
+                                                    int startColumnIndex, List<String> level1Boundaries, int startRow) {
 
-        // Add level1 boundaries to column G in lookup sheet
-        int level1Column = 6; // Column G (0-indexed)
-        for (int i = 0; i < level1Boundaries.size(); i++) {
-            Row row = lookupSheet.getRow(startRow + i);
-            if (row == null) {
-                row = lookupSheet.createRow(startRow + i);
-            }
-            Cell cell = row.getCell(level1Column);
-            if (cell == null) {
-                cell = row.createCell(level1Column);
-            }
-            cell.setCellValue(level1Boundaries.get(i));
-        }
+        String level1Column = CellReference.convertNumToColString(LEVEL1_LIST_COLUMN);
+        String rangeFormula = String.format("%s!$%s$%d:$%s$%d", LOOKUP_SHEET_NAME,
+                level1Column, startRow, level1Column, startRow + level1Boundaries.size() - 1);
 
         // Create named range for level1 boundaries
         String rangeName = "Level1_Boundaries";
@@ -620,7 +589,6 @@ public class HierarchicalBoundaryUtil {
 
             Name level1Range = workbook.createName();
             level1Range.setNameName(rangeName);
-            String rangeFormula = "_h_SimpleLookup_h_!$G$" + (startRow + 1) + ":$G$" + (startRow + level1Boundaries.size());
             level1Range.setRefersToFormula(rangeFormula);
 
             log.info("Created named range '{}' for {} level1 boundaries", rangeName, level1Boundaries.size());
@@ -639,17 +607,16 @@ public class HierarchicalBoundaryUtil {
         } catch (Exception e) {
             log.error("Failed to create named range for level1 boundaries: {}", e.getMessage());
             try {
-                String directFormula = "_h_SimpleLookup_h_!$G$" + (startRow + 1) + ":$G$" + (startRow + level1Boundaries.size());
                 int actualDataRows = ExcelUtil.findActualLastRowWithData(sheet) + 1;
                 int maxRow = Math.max(actualDataRows, config.getExcelRowLimit() + 1);
                 CellRangeAddressList validationRange = new CellRangeAddressList(2, maxRow, startColumnIndex, startColumnIndex);
-                DataValidationConstraint formulaConstraint = dvHelper.createFormulaListConstraint(directFormula);
+                DataValidationConstraint formulaConstraint = dvHelper.createFormulaListConstraint(rangeFormula);
                 DataValidation formulaValidation = dvHelper.createValidation(formulaConstraint, validationRange);
                 formulaValidation.setShowErrorBox(true);
                 formulaValidation.setEmptyCellAllowed(true);
                 sheet.addValidationData(formulaValidation);
 
-                log.info("Applied direct formula validation for level1 boundaries: {}", directFormula);
+                log.info("Applied direct formula validation for level1 boundaries: {}", rangeFormula);
             } catch (Exception e2) {
                 log.error("Failed to apply direct formula validation as fallback: {}", e2.getMessage());
                 throw new RuntimeException("Unable to create level1 boundary validation", e2);
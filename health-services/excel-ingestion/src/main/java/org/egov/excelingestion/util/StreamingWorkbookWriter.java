@@ -0,0 +1,107 @@
+package org.egov.excelingestion.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.egov.excelingestion.config.ExcelIngestionConfig;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Windowed (SXSSF) streaming for the write-once helper sheets of a generated template.
+ *
+ * Data sheets are built on the XSSFWorkbook because their rows are revisited after being written
+ * (styling, protection, row ids, boundary columns appended to the header and pre-filled rows). The
+ * hidden cascading boundary lookup sheet is different: it is written top to bottom once and never read
+ * back during generation, and it grows with the boundary count. When streaming is enabled such sheets
+ * are created through an SXSSFWorkbook wrapping the same XSSFWorkbook, so only the last window of rows
+ * stays in memory and older rows go to a compressed temp file until the workbook is written. Named
+ * ranges, sheet visibility, zoom and protection still go through the XSSF model.
+ */
+@Slf4j
+@Component
+public class StreamingWorkbookWriter {
+
+    private final ExcelIngestionConfig config;
+
+    // Generation workbook -> its streaming wrapper; weak keys so an abandoned workbook is not pinned
+    private final Map<XSSFWorkbook, SXSSFWorkbook> streams = Collections.synchronizedMap(new WeakHashMap<>());
+
+    public StreamingWorkbookWriter(ExcelIngestionConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * Creates the workbook a template is generated into, wrapped for streaming when enabled.
+     * Must be finished with {@link #write} and {@link #close}.
+     */
+    public XSSFWorkbook createWorkbook() {
+        XSSFWorkbook workbook = new XSSFWorkbook();
+        if (config.isGenerationStreamingEnabled()) {
+            // Shared strings table instead of inline strings: path keys and display names repeat across
+            // the lookup sections and are stored once
+            streams.put(workbook, new SXSSFWorkbook(workbook, config.getGenerationStreamingWindowSize(), true, true));
+        }
+        return workbook;
+    }
+
+    public boolean isStreaming(XSSFWorkbook workbook) {
+        return streams.containsKey(workbook);
+    }
+
+    /**
+     * Creates a hidden helper sheet, replacing any existing sheet of that name. On a streaming workbook
+     * the sheet is streamed: rows must be created in ascending order and cannot be read back.
+     */
+    public Sheet createHelperSheet(XSSFWorkbook workbook, String sheetName) {
+        SXSSFWorkbook stream = streams.get(workbook);
+        int existingIndex = workbook.getSheetIndex(sheetName);
+        if (existingIndex >= 0) {
+            // A streamed sheet must be removed through its wrapper so its temp file and mapping go too
+            if (stream != null && stream.getSheet(sheetName) != null) {
+                stream.removeSheetAt(existingIndex);
+            } else {
+                workbook.removeSheetAt(existingIndex);
+            }
+        }
+        Sheet sheet = stream != null ? stream.createSheet(sheetName) : workbook.createSheet(sheetName);
+        workbook.setSheetHidden(workbook.getSheetIndex(sheetName), true);
+        return sheet;
+    }
+
+    /**
+     * Writes the workbook, injecting the rows of streamed sheets.
+     */
+    public void write(XSSFWorkbook workbook, OutputStream out) throws IOException {
+        SXSSFWorkbook stream = streams.get(workbook);
+        if (stream != null) {
+            stream.write(out);
+        } else {
+            workbook.write(out);
+        }
+    }
+
+    /**
+     * Closes the workbook and deletes the temp files of its streamed sheets.
+     */
+    public void close(XSSFWorkbook workbook) throws IOException {
+        SXSSFWorkbook stream = streams.remove(workbook);
+        if (stream == null) {
+            workbook.close();
+            return;
+        }
+        try {
+            if (!stream.dispose()) {
+                log.warn("Could not delete all temp files of a streamed generation workbook");
+            }
+        } finally {
+            stream.close(); // also closes the wrapped XSSFWorkbook
+        }
+    }
+}
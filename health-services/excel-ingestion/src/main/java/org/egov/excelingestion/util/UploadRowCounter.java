@@ -0,0 +1,198 @@
+package org.egov.excelingestion.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.springframework.stereotype.Component;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Counts the data rows of an uploaded .xlsx with the XSSF event (SAX) model instead of building a DOM
+ * XSSFWorkbook, so the row limit can be enforced before the upload is opened.
+ *
+ * The count is the one {@link ExcelUtil#findActualLastRowWithData} gives on the DOM sheet: rows 0 and 1 are
+ * the technical and localized header rows, and the last data row is the last one holding a non-blank string,
+ * a number, a boolean or a formula with a non-blank string result. No cell values are kept: this is only the
+ * row limit precheck, and an accepted upload is still read and processed from its DOM workbook.
+ */
+@Slf4j
+@Component
+public class UploadRowCounter {
+
+    /**
+     * Counts the data rows of the sheets accepted by the filter.
+     *
+     * @param file         The .xlsx file on disk
+     * @param includeSheet Filter on sheet names, e.g. to skip hidden helper sheets
+     * @return The number of data rows per sheet name, in workbook order
+     */
+    public Map<String, Integer> countDataRows(Path file, Predicate<String> includeSheet) throws IOException {
+        long startTime = System.currentTimeMillis();
+        Map<String, Integer> dataRowCounts = new LinkedHashMap<>();
+        try (OPCPackage pkg = OPCPackage.open(file.toFile(), PackageAccess.READ)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(pkg);
+
+            XSSFReader.SheetIterator iterator = (XSSFReader.SheetIterator) reader.getSheetsData();
+            while (iterator.hasNext()) {
+                try (InputStream sheetData = iterator.next()) {
+                    String sheetName = iterator.getSheetName();
+                    if (!includeSheet.test(sheetName)) {
+                        continue;
+                    }
+                    RowCountHandler handler = new RowCountHandler(sharedStrings);
+                    XMLReader xmlReader = XMLHelper.newXMLReader();
+                    xmlReader.setContentHandler(handler);
+                    xmlReader.parse(new InputSource(sheetData));
+                    dataRowCounts.put(sheetName, handler.getDataRowCount());
+                    log.info("Counted {} data rows in sheet '{}'", handler.getDataRowCount(), sheetName);
+                }
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new IOException("Failed to count workbook rows: " + e.getMessage(), e);
+        }
+        log.info("Counted data rows of {} sheets in {}ms", dataRowCounts.size(), System.currentTimeMillis() - startTime);
+        return dataRowCounts;
+    }
+
+    /**
+     * SAX handler of one worksheet part: tracks the last row at index 2 or later that holds data.
+     */
+    private static final class RowCountHandler extends DefaultHandler {
+
+        private final ReadOnlySharedStringsTable sharedStrings;
+
+        private int nextRowIndex;
+        private int rowIndex;
+        private int lastDataRow = 1;
+
+        private String cellType;
+        private boolean formula;
+        private boolean hasValue;
+        private boolean inValue;
+        private boolean inInlineString;
+        private boolean inText;
+        private boolean rowHasData;
+        private final StringBuilder text = new StringBuilder();
+
+        private RowCountHandler(ReadOnlySharedStringsTable sharedStrings) {
+            this.sharedStrings = sharedStrings;
+        }
+
+        private int getDataRowCount() {
+            return lastDataRow >= 2 ? lastDataRow - 1 : 0;
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qName, Attributes attributes) {
+            switch (localName) {
+                case "row": {
+                    String ref = attributes.getValue("r");
+                    rowIndex = ref != null ? Integer.parseInt(ref) - 1 : nextRowIndex;
+                    nextRowIndex = rowIndex + 1;
+                    rowHasData = false;
+                    break;
+                }
+                case "c":
+                    cellType = attributes.getValue("t");
+                    formula = false;
+                    hasValue = false;
+                    text.setLength(0);
+                    break;
+                case "f":
+                    formula = true;
+                    break;
+                case "v":
+                    inValue = true;
+                    hasValue = true;
+                    break;
+                case "is":
+                    inInlineString = true;
+                    break;
+                case "t":
+                    if (inInlineString) {
+                        inText = true;
+                        hasValue = true;
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        @Override
+        public void characters(char[] ch, int start, int length) {
+            if (inValue || inText) {
+                text.append(ch, start, length);
+            }
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qName) {
+            switch (localName) {
+                case "v":
+                    inValue = false;
+                    break;
+                case "t":
+                    inText = false;
+                    break;
+                case "is":
+                    inInlineString = false;
+                    break;
+                case "c":
+                    if (rowIndex >= 2 && !rowHasData) {
+                        rowHasData = cellHasData();
+                    }
+                    break;
+                case "row":
+                    if (rowHasData) {
+                        lastDataRow = Math.max(lastDataRow, rowIndex);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        private boolean cellHasData() {
+            if (!hasValue) {
+                return false;
+            }
+            String raw = text.toString();
+            if (formula) {
+                // ExcelUtil.findActualLastRowWithData only counts formula cells with a non-blank string result
+                return "str".equals(cellType) && !raw.trim().isEmpty();
+            }
+            if (cellType == null || "n".equals(cellType)) {
+                return !raw.isEmpty();
+            }
+            switch (cellType) {
+                case "s":
+                    return !sharedStrings.getItemAt(Integer.parseInt(raw)).getString().trim().isEmpty();
+                case "inlineStr":
+                case "str":
+                    return !raw.trim().isEmpty();
+                case "b":
+                    return true;
+                default:
+                    return false;
+            }
+        }
+    }
+}
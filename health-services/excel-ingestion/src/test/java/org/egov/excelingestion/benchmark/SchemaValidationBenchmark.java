@@ -0,0 +1,122 @@
+package org.egov.excelingestion.benchmark;
+
+import org.egov.excelingestion.config.ExcelIngestionConfig;
+import org.egov.excelingestion.service.SchemaValidationService;
+import org.egov.excelingestion.web.models.ValidationError;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to validate one 100k-row user sheet against its schema (string with pattern and uniqueness, number
+ * bounds, enums, a multi-select column group), about 1% of rows invalid. {@code parallelism} 1 validates
+ * the rows in one pass; higher values validate {@code chunkRows} chunks in parallel.
+ *
+ * <pre>
+ * mvn -B test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.egov.excelingestion.benchmark.SchemaValidationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SchemaValidationBenchmark {
+
+    private static final List<String> ROLES = Arrays.asList("DISTRIBUTOR", "SUPERVISOR", "WAREHOUSE_MANAGER",
+            "HELPDESK", "REGISTRAR", "FIELD_SUPERVISOR", "MONITOR", "ADMIN");
+
+    @Param({"100000"})
+    public int rows;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    @Param({"10000"})
+    public int chunkRows;
+
+    private SchemaValidationService schemaValidationService;
+    private Map<String, Object> schema;
+    private Map<String, String> localizationMap;
+    private List<Map<String, Object>> sheetData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ExcelIngestionConfig config = new ExcelIngestionConfig();
+        config.setValidationParallelism(parallelism);
+        config.setValidationChunkRows(chunkRows);
+        schemaValidationService = new SchemaValidationService(null, config);
+
+        schema = new HashMap<>();
+        schema.put("stringProperties", Arrays.asList(
+                property("HCM_ADMIN_CONSOLE_USER_NAME", "isRequired", true, "maxLength", 128),
+                property("HCM_ADMIN_CONSOLE_USER_PHONE_NUMBER", "isRequired", true, "pattern", "^[0-9]{10}$",
+                        "isUnique", true),
+                property("HCM_ADMIN_CONSOLE_USER_ROLE", "isRequired", true, "multiSelectDetails",
+                        property("enum", ROLES, "minSelections", 1, "maxSelections", 3))));
+        schema.put("numberProperties", Collections.singletonList(
+                property("HCM_ADMIN_CONSOLE_TARGET", "minimum", 0, "maximum", 100000, "multipleOf", 1)));
+        schema.put("enumProperties", Arrays.asList(
+                property("HCM_ADMIN_CONSOLE_USER_EMPLOYMENT_TYPE", "isRequired", true,
+                        "enum", Arrays.asList("Permanent", "Temporary")),
+                property("HCM_ADMIN_CONSOLE_USER_USAGE", "enum", Arrays.asList("Active", "Inactive"))));
+        localizationMap = new HashMap<>();
+        localizationMap.put("HCM_ADMIN_CONSOLE_USER_NAME", "Name of the Person");
+        localizationMap.put("HCM_ADMIN_CONSOLE_USER_PHONE_NUMBER", "Phone Number");
+
+        sheetData = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            boolean invalid = i % 100 == 0;
+            Map<String, Object> row = new HashMap<>();
+            row.put("HCM_ADMIN_CONSOLE_USER_NAME", "User " + i);
+            row.put("HCM_ADMIN_CONSOLE_USER_PHONE_NUMBER", invalid ? "98765" : String.valueOf(7000000000L + i));
+            row.put("HCM_ADMIN_CONSOLE_USER_ROLE_MULTISELECT_1", ROLES.get(i % ROLES.size()));
+            row.put("HCM_ADMIN_CONSOLE_USER_ROLE_MULTISELECT_2", invalid ? "UNKNOWN" : null);
+            row.put("HCM_ADMIN_CONSOLE_USER_ROLE_MULTISELECT_3", null);
+            row.put("HCM_ADMIN_CONSOLE_USER_ROLE", ROLES.get(i % ROLES.size()));
+            row.put("HCM_ADMIN_CONSOLE_TARGET", (long) (i % 5000));
+            row.put("HCM_ADMIN_CONSOLE_USER_EMPLOYMENT_TYPE", i % 2 == 0 ? "Permanent" : "Temporary");
+            row.put("HCM_ADMIN_CONSOLE_USER_USAGE", "Active");
+            row.put("__actualRowNumber__", i + 3);
+            sheetData.add(row);
+        }
+    }
+
+    @Benchmark
+    public List<ValidationError> validateSheet() {
+        return schemaValidationService.validateDataWithPreFetchedSchema(sheetData, "HCM_ADMIN_CONSOLE_USER_LIST",
+                schema, localizationMap);
+    }
+
+    private static Map<String, Object> property(Object... keyValues) {
+        Map<String, Object> property = new HashMap<>();
+        if (keyValues.length % 2 == 1) {
+            property.put("name", keyValues[0]);
+        }
+        for (int i = keyValues.length % 2; i < keyValues.length; i += 2) {
+            property.put((String) keyValues[i], keyValues[i + 1]);
+        }
+        return property;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(SchemaValidationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
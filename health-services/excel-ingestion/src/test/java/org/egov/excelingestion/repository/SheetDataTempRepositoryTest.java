@@ -0,0 +1,64 @@
+package org.egov.excelingestion.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.egov.excelingestion.web.models.SheetDataTemp;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * CSV records streamed to COPY: text fields quoted with embedded quotes doubled, so commas, quotes and
+ * line breaks in sheet names and cell values survive; a missing value is an unquoted empty field (NULL).
+ */
+class SheetDataTempRepositoryTest {
+
+    private final SheetDataTempRepository repository = new SheetDataTempRepository(null, null, new ObjectMapper());
+
+    @Test
+    void toCsvLine_quotesTextAndJson() throws Exception {
+        Map<String, Object> rowJson = new LinkedHashMap<>();
+        rowJson.put("name", "Ward \"4\", North");
+        rowJson.put("target", 12L);
+        rowJson.put("remarks", null);
+
+        SheetDataTemp row = SheetDataTemp.builder()
+                .referenceId("ref-1")
+                .tenantId("mz")
+                .fileStoreId("fs-1")
+                .sheetName("Users, Main")
+                .rowNumber(3)
+                .rowJson(rowJson)
+                .createdBy("user-1")
+                .createdTime(1000L)
+                .deleteTime(2000L)
+                .build();
+
+        assertEquals("\"ref-1\",\"mz\",\"fs-1\",\"Users, Main\",3,"
+                        + "\"{\"\"name\"\":\"\"Ward \\\"\"4\\\"\", North\"\",\"\"target\"\":12,\"\"remarks\"\":null}\","
+                        + "\"user-1\",1000,2000\n",
+                repository.toCsvLine(row));
+    }
+
+    @Test
+    void toCsvLine_escapesLineBreaksInJson_andWritesNullsUnquoted() throws Exception {
+        Map<String, Object> rowJson = new LinkedHashMap<>();
+        rowJson.put("address", "Line 1\nLine 2");
+
+        SheetDataTemp row = SheetDataTemp.builder()
+                .referenceId("ref-1")
+                .tenantId("mz")
+                .fileStoreId("fs-1")
+                .sheetName("Facilities")
+                .rowJson(rowJson)
+                .createdTime(1000L)
+                .deleteTime(2000L)
+                .build();
+
+        // Jackson escapes the line break inside the JSON string, so the record stays on one line
+        assertEquals("\"ref-1\",\"mz\",\"fs-1\",\"Facilities\",,\"{\"\"address\"\":\"\"Line 1\\nLine 2\"\"}\",,1000,2000\n",
+                repository.toCsvLine(row));
+    }
+}
@@ -19,7 +19,7 @@ class APIValidationCustomErrorTest {
     
     @BeforeEach
     void setUp() {
-        schemaValidationService = new SchemaValidationService(null);
+        schemaValidationService = new SchemaValidationService(null, null);
     }
 
     @Test
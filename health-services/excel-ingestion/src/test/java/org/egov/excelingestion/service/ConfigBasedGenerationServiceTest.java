@@ -6,6 +6,7 @@ import org.egov.excelingestion.util.BoundaryColumnUtil;
 import org.egov.excelingestion.util.CellProtectionManager;
 import org.egov.excelingestion.util.ExcelDataPopulator;
 import org.egov.excelingestion.util.HierarchicalBoundaryUtil;
+import org.egov.excelingestion.util.StreamingWorkbookWriter;
 import org.egov.excelingestion.web.models.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -60,7 +61,8 @@ class ConfigBasedGenerationServiceTest {
                 cellProtectionManager,
                 config,
                 exceptionHandler,
-                validationService
+                validationService,
+                new StreamingWorkbookWriter(config)
         );
     }
 
@@ -84,7 +84,8 @@ class ExcelProcessingServiceTest {
             validationService, schemaValidationService, configBasedProcessingService,
             fileStoreService, localizationService, requestInfoConverter,
             restTemplate, exceptionHandler, config, enrichmentUtil, mdmsConfigService, excelUtil,
-            immutableJoinService, new org.egov.excelingestion.util.BoundaryCodeResolver(excelUtil)
+            immutableJoinService, new org.egov.excelingestion.util.BoundaryCodeResolver(excelUtil),
+            new org.egov.excelingestion.util.UploadRowCounter()
         );
 
         requestInfo = RequestInfo.builder().build();
@@ -0,0 +1,113 @@
+package org.egov.excelingestion.service;
+
+import org.egov.excelingestion.config.ExcelIngestionConfig;
+import org.egov.excelingestion.web.models.ValidationError;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Rows validated in parallel chunks, and sheets validated in parallel, must give exactly the errors of
+ * the sequential pass in the same order: rows in sheet order, then uniqueness errors, sheet by sheet.
+ */
+class SchemaValidationParallelismTest {
+
+    @Test
+    void chunkedValidation_matchesSequentialErrorsAndOrder() {
+        Map<String, Object> schema = createSchema();
+        List<Map<String, Object>> sheetData = createSheetData(250);
+
+        List<ValidationError> sequential = new SchemaValidationService(null, config(1, 10))
+                .validateDataWithPreFetchedSchema(sheetData, "Users", schema, new HashMap<>());
+        List<ValidationError> parallel = new SchemaValidationService(null, config(4, 7))
+                .validateDataWithPreFetchedSchema(sheetData, "Users", schema, new HashMap<>());
+
+        assertFalse(sequential.isEmpty());
+        assertEquals(describe(sequential), describe(parallel));
+
+        // Row errors come in row order, uniqueness errors (the only errors on "code") after all of them
+        int firstUniqueness = 0;
+        while (!"code".equals(parallel.get(firstUniqueness).getColumnName())) {
+            if (firstUniqueness > 0) {
+                assertTrue(parallel.get(firstUniqueness - 1).getRowNumber() <= parallel.get(firstUniqueness).getRowNumber());
+            }
+            firstUniqueness++;
+        }
+        for (ValidationError error : parallel.subList(firstUniqueness, parallel.size())) {
+            assertEquals("code", error.getColumnName());
+        }
+    }
+
+    @Test
+    void validateInParallel_keepsSheetOrder() {
+        SchemaValidationService service = new SchemaValidationService(null, config(4, 7));
+        Map<String, Object> schema = createSchema();
+
+        List<Supplier<List<ValidationError>>> sheets = new ArrayList<>();
+        for (String sheetName : Arrays.asList("Users", "Facilities", "Targets")) {
+            List<Map<String, Object>> sheetData = createSheetData(60);
+            sheets.add(() -> service.validateDataWithPreFetchedSchema(sheetData, sheetName, schema, new HashMap<>()));
+        }
+
+        List<String> expected = new ArrayList<>();
+        sheets.forEach(sheet -> expected.addAll(describe(sheet.get())));
+
+        assertEquals(expected, describe(service.validateInParallel(sheets)));
+    }
+
+    private static ExcelIngestionConfig config(int parallelism, int chunkRows) {
+        ExcelIngestionConfig config = new ExcelIngestionConfig();
+        config.setValidationParallelism(parallelism);
+        config.setValidationChunkRows(chunkRows);
+        return config;
+    }
+
+    private static Map<String, Object> createSchema() {
+        Map<String, Object> name = new HashMap<>();
+        name.put("name", "name");
+        name.put("isRequired", true);
+        name.put("maxLength", 8);
+
+        Map<String, Object> code = new HashMap<>();
+        code.put("name", "code");
+        code.put("isUnique", true);
+
+        Map<String, Object> age = new HashMap<>();
+        age.put("name", "age");
+        age.put("minimum", 18);
+
+        Map<String, Object> gender = new HashMap<>();
+        gender.put("name", "gender");
+        gender.put("enum", Arrays.asList("M", "F"));
+
+        Map<String, Object> schema = new HashMap<>();
+        schema.put("stringProperties", Arrays.asList(name, code));
+        schema.put("numberProperties", Collections.singletonList(age));
+        schema.put("enumProperties", Collections.singletonList(gender));
+        return schema;
+    }
+
+    private static List<Map<String, Object>> createSheetData(int rows) {
+        List<Map<String, Object>> sheetData = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("name", i % 11 == 0 ? null : "User" + i);
+            row.put("code", "C" + (i % 97));
+            row.put("age", (long) (i % 30));
+            row.put("gender", i % 13 == 0 ? "X" : "F");
+            row.put("__actualRowNumber__", i + 3);
+            sheetData.add(row);
+        }
+        return sheetData;
+    }
+
+    private static List<String> describe(List<ValidationError> errors) {
+        return errors.stream()
+                .map(e -> e.getSheetName() + "|" + e.getRowNumber() + "|" + e.getColumnName() + "|" + e.getErrorDetails())
+                .collect(Collectors.toList());
+    }
+}
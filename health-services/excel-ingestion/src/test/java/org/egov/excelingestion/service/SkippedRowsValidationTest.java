@@ -20,7 +20,7 @@ class SkippedRowsValidationTest {
     
     @BeforeEach
     void setUp() {
-        schemaValidationService = new SchemaValidationService(null);
+        schemaValidationService = new SchemaValidationService(null, null);
     }
 
     @Test
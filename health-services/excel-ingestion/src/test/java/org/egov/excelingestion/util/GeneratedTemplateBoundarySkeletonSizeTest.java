@@ -114,10 +114,13 @@ class GeneratedTemplateBoundarySkeletonSizeTest {
         styleHelper = new ExcelStyleHelper();
         protectionManager = new CellProtectionManager(config, styleHelper);
         populator = new ExcelDataPopulator(config, styleHelper, protectionManager);
-        hierarchicalBoundaryUtil = new HierarchicalBoundaryUtil(config, boundaryService, boundaryUtil, styleHelper);
+        StreamingWorkbookWriter streamingWorkbookWriter = new StreamingWorkbookWriter(config);
+        hierarchicalBoundaryUtil = new HierarchicalBoundaryUtil(config, boundaryService, boundaryUtil, styleHelper,
+                streamingWorkbookWriter);
         service = new ConfigBasedGenerationService(applicationContext, populator,
                 new BoundaryColumnUtil(config, boundaryService, boundaryUtil, styleHelper),
-                hierarchicalBoundaryUtil, protectionManager, config, exceptionHandler, validationService);
+                hierarchicalBoundaryUtil, protectionManager, config, exceptionHandler, validationService,
+                streamingWorkbookWriter);
 
         stubBoundaryData();
 
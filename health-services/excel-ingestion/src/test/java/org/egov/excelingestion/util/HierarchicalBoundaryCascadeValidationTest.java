@@ -46,7 +46,8 @@ class HierarchicalBoundaryCascadeValidationTest {
     @BeforeEach
     void setUp() {
         closeable = MockitoAnnotations.openMocks(this);
-        hierarchicalBoundaryUtil = new HierarchicalBoundaryUtil(config, boundaryService, boundaryUtil, excelStyleHelper);
+        hierarchicalBoundaryUtil = new HierarchicalBoundaryUtil(config, boundaryService, boundaryUtil, excelStyleHelper,
+                new StreamingWorkbookWriter(config));
         workbook = new XSSFWorkbook();
         when(config.getDefaultHeaderColor()).thenReturn("BLUE");
     }
@@ -40,7 +40,7 @@ class HierarchicalBoundaryUtilTest {
     void setUp() {
         closeable = MockitoAnnotations.openMocks(this);
         hierarchicalBoundaryUtil = new HierarchicalBoundaryUtil(
-            config, boundaryService, boundaryUtil, excelStyleHelper
+            config, boundaryService, boundaryUtil, excelStyleHelper, new StreamingWorkbookWriter(config)
         );
         workbook = new XSSFWorkbook();
         
@@ -0,0 +1,164 @@
+package org.egov.excelingestion.util;
+
+import org.apache.poi.ss.usermodel.Name;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.excelingestion.config.ExcelIngestionConfig;
+import org.egov.excelingestion.service.BoundaryService;
+import org.egov.excelingestion.web.models.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * A lookup sheet written through the SXSSF window (smaller than the sheet, so rows are flushed to disk)
+ * must come out of the written file exactly as the XSSF path lays it out: Section 1 keys and children
+ * with their positional names, Section 2 read back by {@link BoundaryCodeResolver}, and the level 1 list.
+ */
+class StreamingWorkbookWriterTest {
+
+    private ExcelIngestionConfig config;
+    private BoundaryService boundaryService;
+    private BoundaryUtil boundaryUtil;
+    private StreamingWorkbookWriter writer;
+    private HierarchicalBoundaryUtil hierarchicalBoundaryUtil;
+
+    @BeforeEach
+    void setUp() {
+        config = mock(ExcelIngestionConfig.class);
+        when(config.isGenerationStreamingEnabled()).thenReturn(true);
+        when(config.getGenerationStreamingWindowSize()).thenReturn(2);
+        when(config.getExcelRowLimit()).thenReturn(100);
+        when(config.getDefaultHeaderColor()).thenReturn("#93C47D");
+
+        boundaryService = mock(BoundaryService.class);
+        boundaryUtil = mock(BoundaryUtil.class);
+        writer = new StreamingWorkbookWriter(config);
+        hierarchicalBoundaryUtil = new HierarchicalBoundaryUtil(config, boundaryService, boundaryUtil,
+                new ExcelStyleHelper(), writer);
+    }
+
+    @Test
+    void streamedLookupSheet_matchesXssfLayout() throws Exception {
+        stubBoundaries(Arrays.asList(
+                Arrays.asList("ROOT"),
+                Arrays.asList("ROOT", "A1"),
+                Arrays.asList("ROOT", "A1", "X1"),
+                Arrays.asList("ROOT", "A1", "X2"),
+                Arrays.asList("ROOT", "A2"),
+                Arrays.asList("ROOT", "A2", "Y1")));
+
+        try (XSSFWorkbook read = generate(Collections.singletonList("TestSheet"))) {
+            Sheet lookup = read.getSheet(HierarchicalBoundaryUtil.LOOKUP_SHEET_NAME);
+            assertNotNull(lookup);
+            assertTrue(read.isSheetHidden(read.getSheetIndex(lookup)));
+
+            // Section 1: one row per parent in order of first appearance, children next to the key
+            assertEquals("ROOT", lookup.getRow(0).getCell(0).getStringCellValue());
+            assertEquals("A1", lookup.getRow(0).getCell(1).getStringCellValue());
+            assertEquals("A2", lookup.getRow(0).getCell(2).getStringCellValue());
+            assertEquals("ROOT#A1", lookup.getRow(1).getCell(0).getStringCellValue());
+            assertEquals("X2", lookup.getRow(1).getCell(2).getStringCellValue());
+            assertEquals("ROOT#A2", lookup.getRow(2).getCell(0).getStringCellValue());
+            assertEquals("_h_SimpleLookup_h_!$B$2:$C$2", read.getName("_hL2").getRefersToFormula());
+
+            // Section 2 is what the upload path resolves codes from
+            Sheet sheet = read.getSheet("TestSheet");
+            Row row = sheet.createRow(2);
+            row.createCell(0).setCellValue("ROOT");
+            row.createCell(1).setCellValue("A1");
+            row.createCell(2).setCellValue("X2");
+            ProcessResource resource = ProcessResource.builder().tenantId("dev").fileStoreId("fs-1")
+                    .type("unified-console-validation").hierarchyType("hier").build();
+            new BoundaryCodeResolver(new ExcelUtil()).resolveBlankBoundaryCodes(read, resource);
+            assertEquals("X2", sheet.getRow(2).getCell(3).getStringCellValue());
+        }
+    }
+
+    @Test
+    void regeneratedLookupSheet_replacesStreamedSheet_andKeepsLongLevel1List() throws Exception {
+        List<List<String>> paths = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            String country = "COUNTRY_WITH_A_LONG_NAME_" + i;
+            paths.add(Collections.singletonList(country));
+            paths.add(Arrays.asList(country, "STATE_" + i));
+        }
+        stubBoundaries(paths);
+
+        // Both sheets add boundary columns, so the second call replaces the streamed lookup sheet
+        try (XSSFWorkbook read = generate(Arrays.asList("Users", "Facilities"))) {
+            assertEquals(1, Collections.frequency(sheetNames(read), HierarchicalBoundaryUtil.LOOKUP_SHEET_NAME));
+            Sheet lookup = read.getSheet(HierarchicalBoundaryUtil.LOOKUP_SHEET_NAME);
+
+            Name level1 = read.getName("Level1_Boundaries");
+            assertNotNull(level1, "30 long level 1 names exceed an explicit list");
+            String[] bounds = level1.getRefersToFormula().replace("_h_SimpleLookup_h_!", "")
+                    .replace("$", "").split(":");
+            int first = Integer.parseInt(bounds[0].substring(1));
+            assertEquals("G" + (first + 29), bounds[1]);
+            assertEquals("COUNTRY_WITH_A_LONG_NAME_0", lookup.getRow(first - 1).getCell(6).getStringCellValue());
+            assertEquals("COUNTRY_WITH_A_LONG_NAME_29", lookup.getRow(first + 28).getCell(6).getStringCellValue());
+        }
+    }
+
+    private XSSFWorkbook generate(List<String> sheetNames) throws Exception {
+        XSSFWorkbook workbook = writer.createWorkbook();
+        assertTrue(writer.isStreaming(workbook));
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try {
+            for (String sheetName : sheetNames) {
+                Sheet sheet = workbook.createSheet(sheetName);
+                sheet.createRow(0);
+                sheet.createRow(1);
+                hierarchicalBoundaryUtil.addHierarchicalBoundaryColumn(workbook, sheetName, new HashMap<>(),
+                        Collections.singletonList(Boundary.builder().code("ROOT").type("Level1").build()),
+                        "hier", "dev", new RequestInfo());
+            }
+            writer.write(workbook, bos);
+        } finally {
+            writer.close(workbook);
+        }
+        return new XSSFWorkbook(new ByteArrayInputStream(bos.toByteArray()));
+    }
+
+    private void stubBoundaries(List<List<String>> paths) {
+        BoundaryHierarchy hierarchy = new BoundaryHierarchy();
+        List<BoundaryHierarchyChild> levels = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            BoundaryHierarchyChild level = new BoundaryHierarchyChild();
+            level.setBoundaryType("Level" + i);
+            levels.add(level);
+        }
+        hierarchy.setBoundaryHierarchy(levels);
+        BoundaryHierarchyResponse hierarchyResponse = new BoundaryHierarchyResponse();
+        hierarchyResponse.setBoundaryHierarchy(Collections.singletonList(hierarchy));
+
+        when(boundaryService.fetchBoundaryRelationship(any(), any(), any())).thenReturn(new BoundarySearchResponse());
+        when(boundaryService.fetchBoundaryHierarchy(any(), any(), any())).thenReturn(hierarchyResponse);
+        when(boundaryUtil.buildCodeToBoundaryMap(any())).thenReturn(new HashMap<>());
+
+        List<BoundaryUtil.BoundaryRowData> rows = new ArrayList<>();
+        for (List<String> path : paths) {
+            rows.add(new BoundaryUtil.BoundaryRowData(new ArrayList<>(path), path.get(path.size() - 1)));
+        }
+        when(boundaryUtil.processBoundariesWithEnrichment(any(), any(), any())).thenReturn(rows);
+    }
+
+    private static List<String> sheetNames(XSSFWorkbook workbook) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
+            names.add(workbook.getSheetName(i));
+        }
+        return names;
+    }
+}
@@ -0,0 +1,118 @@
+package org.egov.excelingestion.util;
+
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Calendar;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The SAX row count of an uploaded workbook must match the row count the DOM row limit check
+ * (ExcelUtil.findActualLastRowWithData) gives.
+ */
+class UploadRowCounterTest {
+
+    private final UploadRowCounter counter = new UploadRowCounter();
+
+    private Path file;
+
+    @AfterEach
+    void deleteFile() throws Exception {
+        if (file != null) {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    void countDataRows_matchesDomRowCount() throws Exception {
+        try (XSSFWorkbook wb = buildWorkbook()) {
+            file = write(wb);
+
+            Map<String, Integer> counts = counter.countDataRows(file, name -> !name.startsWith("_h_"));
+
+            assertEquals(List.of("Users"), List.copyOf(counts.keySet()), "hidden sheet must be skipped");
+            int domLastRow = ExcelUtil.findActualLastRowWithData(wb.getSheet("Users"));
+            assertEquals(domLastRow - 1, counts.get("Users"));
+        }
+    }
+
+    @Test
+    void countDataRows_isZeroForHeaderOnlyAndBlankSheets() throws Exception {
+        try (XSSFWorkbook wb = new XSSFWorkbook()) {
+            Sheet headerOnly = wb.createSheet("HeaderOnly");
+            headerOnly.createRow(0).createCell(0).setCellValue("code");
+            headerOnly.createRow(1).createCell(0).setCellValue("Code");
+            Sheet blank = wb.createSheet("Blank");
+            blank.createRow(0).createCell(0).setCellValue("code");
+            blank.createRow(3).createCell(0).setCellValue("   ");
+            wb.createSheet("Empty");
+            file = write(wb);
+
+            Map<String, Integer> counts = counter.countDataRows(file, name -> true);
+
+            assertEquals(0, counts.get("HeaderOnly"));
+            assertEquals(0, counts.get("Blank"));
+            assertEquals(0, counts.get("Empty"));
+        }
+    }
+
+    private Path write(XSSFWorkbook wb) throws Exception {
+        Path path = Files.createTempFile("upload-row-counter-test-", ".xlsx");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            wb.write(out);
+        }
+        return path;
+    }
+
+    private static XSSFWorkbook buildWorkbook() {
+        XSSFWorkbook wb = new XSSFWorkbook();
+        CellStyle dateStyle = wb.createCellStyle();
+        dateStyle.setDataFormat(wb.getCreationHelper().createDataFormat().getFormat("dd/mm/yyyy"));
+
+        Sheet sheet = wb.createSheet("Users");
+        Row header = sheet.createRow(0);
+        String[] keys = {"name", "phone", "joinDate", "active", "roles_MULTISELECT_1", "roles_MULTISELECT_2", "roles", "total"};
+        for (int c = 0; c < keys.length; c++) {
+            header.createCell(c).setCellValue(keys[c]);
+        }
+        sheet.createRow(1).createCell(0).setCellValue("Name");
+
+        Calendar calendar = Calendar.getInstance();
+        calendar.clear();
+        calendar.set(2024, Calendar.JANUARY, 15);
+        for (int r = 2; r < 6; r++) {
+            Row row = sheet.createRow(r);
+            row.createCell(0).setCellValue("  User " + r + "  ");
+            row.createCell(1).setCellValue(9000000000d + r);
+            row.createCell(2).setCellValue(calendar.getTime());
+            row.getCell(2).setCellStyle(dateStyle);
+            row.createCell(3).setCellValue(r % 2 == 0);
+            row.createCell(4).setCellValue("ADMIN");
+            row.createCell(5).setCellValue(r % 2 == 0 ? "VIEWER" : "");
+            row.createCell(7).setCellFormula("B" + (r + 1) + "*2");
+        }
+        // blank row in between, and a row with an empty string only
+        sheet.createRow(6);
+        sheet.createRow(7).createCell(0).setCellValue("   ");
+        Row last = sheet.createRow(8);
+        last.createCell(0).setCellValue("Last");
+        // trailing row holding only a numeric formula is ignored by the last-row probe
+        sheet.createRow(9).createCell(7).setCellFormula("1+1");
+
+        Sheet hidden = wb.createSheet("_h_Lookup_h_");
+        hidden.createRow(0).createCell(0).setCellValue("code");
+
+        wb.getCreationHelper().createFormulaEvaluator().evaluateAll(); // a saved xlsx always carries cached values
+        return wb;
+    }
+}
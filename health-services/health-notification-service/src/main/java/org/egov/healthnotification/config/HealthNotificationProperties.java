@@ -116,6 +116,20 @@ public class HealthNotificationProperties {
     @Value("${notification.scheduler.max.fetch:10000}")
     private Integer schedulerMaxFetch;
 
+    // Streaming dispatcher: claims chunks of schedulerBatchSize with FOR UPDATE SKIP LOCKED and overlaps
+    // decryption with rendering/publishing
+    @Value("${notification.scheduler.streaming.enabled:false}")
+    private Boolean schedulerStreamingEnabled;
+
+    @Value("${notification.scheduler.streaming.decrypt.threads:2}")
+    private Integer schedulerDecryptThreads;
+
+    @Value("${notification.scheduler.streaming.dispatch.threads:4}")
+    private Integer schedulerDispatchThreads;
+
+    @Value("${notification.scheduler.streaming.max.in.flight.chunks:8}")
+    private Integer schedulerMaxInFlightChunks;
+
     // Encryption Service
     @Value("${egov.enc.host}")
     private String encryptionServiceHost;
@@ -127,6 +127,53 @@ public class ScheduledNotificationRepository extends GenericRepository<Scheduled
         return results;
     }
 
+    /**
+     * Claims up to {@code chunkSize} pending notifications scheduled for the given date by setting them IN_PROGRESS
+     * in one statement. Rows locked by another pod's claim are skipped ({@code FOR UPDATE SKIP LOCKED}), so several
+     * pods can drain the same backlog without picking a notification twice.
+     *
+     * <p>Only the status is written here; the caller still publishes the IN_PROGRESS update (audit fields, row
+     * version) through the persister topic.
+     */
+    public List<ScheduledNotification> claimPendingNotifications(String tenantId,
+                                                                  java.time.LocalDate scheduledDate,
+                                                                  Integer chunkSize) throws InvalidTenantIdException {
+        String query = String.format(
+                "UPDATE %1$s.scheduled_notification SET status = :claimedStatus WHERE id IN ("
+                        + "SELECT id FROM %1$s.scheduled_notification WHERE status = :status AND scheduledAt = :scheduledAt"
+                        + " AND isDeleted = false ORDER BY scheduledAt ASC LIMIT :limit FOR UPDATE SKIP LOCKED)"
+                        + " AND status = :status RETURNING *",
+                SCHEMA_REPLACE_STRING);
+
+        Map<String, Object> paramMap = new HashMap<>();
+        paramMap.put("claimedStatus", "IN_PROGRESS");
+        paramMap.put("status", "PENDING");
+        paramMap.put("scheduledAt", java.sql.Date.valueOf(scheduledDate));
+        paramMap.put("limit", chunkSize);
+
+        query = multiStateInstanceUtil.replaceSchemaPlaceholder(query, tenantId);
+        List<ScheduledNotification> results = this.namedParameterJdbcTemplate.query(query, paramMap, this.rowMapper);
+        log.debug("Claimed {} pending notifications for date: {}", results.size(), scheduledDate);
+        return results;
+    }
+
+    /**
+     * Counts the pending notifications scheduled for the given date.
+     */
+    public long countPendingNotifications(String tenantId, java.time.LocalDate scheduledDate) throws InvalidTenantIdException {
+        String query = String.format(
+                "SELECT COUNT(*) FROM %s.scheduled_notification WHERE status = :status AND scheduledAt = :scheduledAt AND isDeleted = false",
+                SCHEMA_REPLACE_STRING);
+
+        Map<String, Object> paramMap = new HashMap<>();
+        paramMap.put("status", "PENDING");
+        paramMap.put("scheduledAt", java.sql.Date.valueOf(scheduledDate));
+
+        query = multiStateInstanceUtil.replaceSchemaPlaceholder(query, tenantId);
+        Long count = this.namedParameterJdbcTemplate.queryForObject(query, paramMap, Long.class);
+        return count != null ? count : 0L;
+    }
+
     /**
      * Checks if a duplicate notification already exists (same entity + event + template + recipient).
      * Prevents re-scheduling notifications for the same distribution event.
@@ -30,16 +30,19 @@ public class NotificationScheduler {
     private final NotificationDispatchService dispatchService;
     private final HealthNotificationProperties properties;
     private final NotificationEncryptionService encryptionService;
+    private final StreamingNotificationDispatcher streamingDispatcher;
 
     @Autowired
     public NotificationScheduler(ScheduledNotificationRepository repository,
                                  NotificationDispatchService dispatchService,
                                  HealthNotificationProperties properties,
-                                 NotificationEncryptionService encryptionService) {
+                                 NotificationEncryptionService encryptionService,
+                                 StreamingNotificationDispatcher streamingDispatcher) {
         this.repository = repository;
         this.dispatchService = dispatchService;
         this.properties = properties;
         this.encryptionService = encryptionService;
+        this.streamingDispatcher = streamingDispatcher;
     }
 
     /**
@@ -48,6 +51,9 @@ public class NotificationScheduler {
      * Fetches all due notifications in one DB call, then dispatches in batches.
      * Status updates go through Kafka (async), so we don't re-query — we process
      * the full list fetched at the start of this run.
+     *
+     * With notification.scheduler.streaming.enabled the run is handed to
+     * {@link StreamingNotificationDispatcher}, which claims chunks with SKIP LOCKED instead.
      */
     @Scheduled(cron = "${notification.scheduler.cron:0 0 8 * * *}",
                zone = "${notification.timezone:UTC}")
@@ -60,6 +66,18 @@ public class NotificationScheduler {
         log.info("Scheduler triggered. today={} (timezone={}), batchSize={}, tenantId={}",
                 today, timezone, batchSize, tenantId);
 
+        if (Boolean.TRUE.equals(properties.getSchedulerStreamingEnabled())) {
+            try {
+                streamingDispatcher.dispatchDue(tenantId, today);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.error("Streaming dispatch interrupted for tenantId: {}, today: {}", tenantId, today, e);
+            } catch (Exception e) {
+                log.error("Streaming dispatch failed for tenantId: {}, today: {}", tenantId, today, e);
+            }
+            return;
+        }
+
         try {
             // Fetch due notifications, capped to prevent OOM on large backlogs.
             // Remaining rows (if any) will be picked up on the next scheduled run.
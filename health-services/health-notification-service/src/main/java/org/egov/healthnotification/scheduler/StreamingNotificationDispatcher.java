@@ -0,0 +1,231 @@
+package org.egov.healthnotification.scheduler;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.models.Error;
+import org.egov.healthnotification.Constants;
+import org.egov.healthnotification.config.HealthNotificationProperties;
+import org.egov.healthnotification.repository.ScheduledNotificationRepository;
+import org.egov.healthnotification.service.NotificationDispatchService;
+import org.egov.healthnotification.service.NotificationEncryptionService;
+import org.egov.healthnotification.web.models.ScheduledNotification;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Drains the due scheduled notifications as a stream of chunks, so that several pods can share one backlog.
+ *
+ * <p>Each chunk of {@code notification.scheduler.batch.size} rows is claimed with {@code FOR UPDATE SKIP LOCKED}
+ * (set IN_PROGRESS in the same statement), so pods never claim the same notification. Claimed chunks are
+ * decrypted on {@code notification.scheduler.streaming.decrypt.threads} threads and rendered and published on
+ * {@code notification.scheduler.streaming.dispatch.threads} threads, overlapping with the claim of the next chunk.
+ * At most {@code notification.scheduler.streaming.max.in.flight.chunks} chunks are claimed but not yet
+ * dispatched; the claiming thread waits for a free slot before claiming more.
+ *
+ * <p>Throughput and backlog counters are kept across runs and logged at the end of each run.
+ */
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "notification.scheduler.enabled", havingValue = "true", matchIfMissing = false)
+public class StreamingNotificationDispatcher {
+
+    private final ScheduledNotificationRepository repository;
+    private final NotificationDispatchService dispatchService;
+    private final HealthNotificationProperties properties;
+    private final NotificationEncryptionService encryptionService;
+
+    private final ExecutorService decryptPool;
+    private final ExecutorService dispatchPool;
+
+    private final LongAdder claimed = new LongAdder();
+    private final LongAdder dispatched = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder chunkFailures = new LongAdder();
+    private final AtomicInteger inFlightChunks = new AtomicInteger();
+    private final AtomicLong lastBacklog = new AtomicLong();
+    private final AtomicLong lastRunThroughputPerSecond = new AtomicLong();
+
+    @Autowired
+    public StreamingNotificationDispatcher(ScheduledNotificationRepository repository,
+                                           NotificationDispatchService dispatchService,
+                                           HealthNotificationProperties properties,
+                                           NotificationEncryptionService encryptionService) {
+        this.repository = repository;
+        this.dispatchService = dispatchService;
+        this.properties = properties;
+        this.encryptionService = encryptionService;
+        this.decryptPool = Executors.newFixedThreadPool(Math.max(1, properties.getSchedulerDecryptThreads()),
+                threadFactory("notification-decrypt-"));
+        this.dispatchPool = Executors.newFixedThreadPool(Math.max(1, properties.getSchedulerDispatchThreads()),
+                threadFactory("notification-dispatch-"));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        decryptPool.shutdown();
+        dispatchPool.shutdown();
+    }
+
+    /**
+     * Claims and dispatches the notifications due on {@code today} until none are left or
+     * {@code notification.scheduler.max.fetch} have been claimed in this run.
+     *
+     * @return number of notifications claimed by this pod in this run
+     */
+    public long dispatchDue(String tenantId, LocalDate today) throws Exception {
+        int chunkSize = properties.getSchedulerBatchSize();
+        int maxPerRun = properties.getSchedulerMaxFetch();
+        Semaphore slots = new Semaphore(Math.max(1, properties.getSchedulerMaxInFlightChunks()));
+        RequestInfo requestInfo = RequestInfo.builder().build();
+
+        long backlog = repository.countPendingNotifications(tenantId, today);
+        lastBacklog.set(backlog);
+        log.info("Streaming dispatch started. today={}, tenantId={}, backlog={}, chunkSize={}",
+                today, tenantId, backlog, chunkSize);
+
+        long start = System.currentTimeMillis();
+        long dispatchedBefore = dispatched.sum();
+        long claimedInRun = 0;
+        int chunks = 0;
+        while (claimedInRun < maxPerRun) {
+            slots.acquire();
+            List<ScheduledNotification> chunk;
+            try {
+                chunk = repository.claimPendingNotifications(tenantId, today,
+                        (int) Math.min(chunkSize, maxPerRun - claimedInRun));
+            } catch (Exception e) {
+                slots.release();
+                throw e;
+            }
+            if (chunk.isEmpty()) {
+                slots.release();
+                break;
+            }
+            claimedInRun += chunk.size();
+            claimed.add(chunk.size());
+            chunks++;
+            inFlightChunks.incrementAndGet();
+
+            // publish IN_PROGRESS (audit fields, row version) through the persister, as the batch scheduler does;
+            // the claim has already set the status, so a failure here does not stop the dispatch
+            try {
+                dispatchService.markBatchInProgress(chunk);
+            } catch (Exception e) {
+                log.error("Failed to publish IN_PROGRESS for chunk {}: {}", chunks, e.getMessage(), e);
+            }
+
+            int chunkNumber = chunks;
+            CompletableFuture
+                    .supplyAsync(() -> encryptionService.decrypt(chunk,
+                            Constants.ENCRYPTION_KEY_SCHEDULED_NOTIFICATION, requestInfo), decryptPool)
+                    .thenApplyAsync(decrypted -> dispatchService.dispatchBatch(decrypted, tenantId), dispatchPool)
+                    .whenComplete((errors, throwable) -> {
+                        try {
+                            onChunkDispatched(chunkNumber, chunk.size(), errors, throwable);
+                        } finally {
+                            inFlightChunks.decrementAndGet();
+                            slots.release();
+                        }
+                    });
+        }
+
+        // wait for the chunks still being decrypted or dispatched
+        int allSlots = Math.max(1, properties.getSchedulerMaxInFlightChunks());
+        slots.acquire(allSlots);
+        slots.release(allSlots);
+
+        long elapsedMillis = Math.max(1, System.currentTimeMillis() - start);
+        long dispatchedInRun = dispatched.sum() - dispatchedBefore;
+        lastRunThroughputPerSecond.set(dispatchedInRun * 1000 / elapsedMillis);
+        log.info("Streaming dispatch completed. Claimed {} notifications in {} chunks, dispatched {} in {} ms "
+                        + "({}/s). Totals: claimed={}, dispatched={}, failed={}, chunkFailures={}",
+                claimedInRun, chunks, dispatchedInRun, elapsedMillis, lastRunThroughputPerSecond.get(),
+                claimed.sum(), dispatched.sum(), failed.sum(), chunkFailures.sum());
+        return claimedInRun;
+    }
+
+    private void onChunkDispatched(int chunkNumber, int size, Map<ScheduledNotification, List<Error>> errors,
+                                   Throwable throwable) {
+        if (throwable != null) {
+            chunkFailures.increment();
+            failed.add(size);
+            // the chunk stays IN_PROGRESS, like a failed run of the batch scheduler
+            log.error("Chunk {} ({} notifications) failed entirely: {}", chunkNumber, size,
+                    throwable.getMessage(), throwable);
+            return;
+        }
+        int errorCount = errors != null ? errors.size() : 0;
+        dispatched.add(size - errorCount);
+        failed.add(errorCount);
+        log.debug("Chunk {} dispatched: {} notifications, {} errors", chunkNumber, size, errorCount);
+    }
+
+    /**
+     * @return notifications claimed by this pod since start
+     */
+    public long getClaimedCount() {
+        return claimed.sum();
+    }
+
+    /**
+     * @return notifications published to the SMS topic by this pod since start
+     */
+    public long getDispatchedCount() {
+        return dispatched.sum();
+    }
+
+    /**
+     * @return notifications which failed to dispatch on this pod since start
+     */
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    public long getChunkFailureCount() {
+        return chunkFailures.sum();
+    }
+
+    /**
+     * @return chunks currently claimed but not yet dispatched
+     */
+    public int getInFlightChunks() {
+        return inFlightChunks.get();
+    }
+
+    /**
+     * @return pending notifications due at the start of the last run, across all pods
+     */
+    public long getLastBacklog() {
+        return lastBacklog.get();
+    }
+
+    /**
+     * @return notifications dispatched per second in the last run
+     */
+    public long getLastRunThroughputPerSecond() {
+        return lastRunThroughputPerSecond.get();
+    }
+
+    private static ThreadFactory threadFactory(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -9,6 +9,7 @@ import org.egov.healthnotification.config.HealthNotificationProperties;
 import org.egov.healthnotification.producer.HealthNotificationProducer;
 import org.egov.healthnotification.service.enrichment.ScheduledNotificationEnrichmentService;
 import org.egov.healthnotification.util.HealthNotificationUtils;
+import org.egov.healthnotification.util.MessageTemplate;
 import org.egov.healthnotification.web.models.ScheduledNotification;
 import org.egov.healthnotification.web.models.enums.NotificationStatus;
 import org.egov.tracer.model.CustomException;
@@ -16,7 +17,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -144,10 +144,11 @@ public class NotificationDispatchService {
         String messageTemplate = localizationService.getMessageTemplate(
                 templateCode, locale, localizationTenantId);
 
-        // Step 2: Replace placeholders with actual values from contextData
-        ZoneId zoneId = ZoneId.of(properties.getNotificationTimezone());
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(Constants.DATE_FORMAT_YYYY_MM_DD);
-        String finalMessage = HealthNotificationUtils.replacePlaceholders(messageTemplate, contextData, zoneId, dateFormatter);
+        // Step 2: Replace placeholders with actual values from contextData, using the template compiled once
+        // per tenant, locale and template code
+        ZoneId zoneId = HealthNotificationUtils.notificationZoneId(properties.getNotificationTimezone());
+        String finalMessage = MessageTemplate.of(localizationTenantId, locale, templateCode, messageTemplate)
+                .render(contextData, zoneId, HealthNotificationUtils.NOTIFICATION_DATE_FORMATTER);
 
         // Step 3: Build and push SMSRequest to Kafka
         String mobileNumber = notification.getMobileNumber();
@@ -8,12 +8,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 
-import org.egov.healthnotification.Constants;
 import org.egov.healthnotification.util.HealthNotificationUtils;
+import org.egov.healthnotification.util.MessageTemplate;
 
 /**
  * Generic notification processor — completely service-agnostic.
@@ -100,9 +99,9 @@ public class NotificationProcessorService {
     private String resolveTemplate(String templateCode, String locale, String tenantId,
                                    Map<String, Object> placeholders) {
         String template = localizationService.getMessageTemplate(templateCode, locale, tenantId);
-        ZoneId zoneId = ZoneId.of(properties.getNotificationTimezone());
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern(Constants.DATE_FORMAT_YYYY_MM_DD);
-        return HealthNotificationUtils.replacePlaceholders(template, placeholders, zoneId, dateFormatter);
+        ZoneId zoneId = HealthNotificationUtils.notificationZoneId(properties.getNotificationTimezone());
+        return MessageTemplate.of(tenantId, locale, templateCode, template)
+                .render(placeholders, zoneId, HealthNotificationUtils.NOTIFICATION_DATE_FORMATTER);
     }
 
     /**
@@ -22,6 +22,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Utility class for Health Notification Service.
@@ -30,6 +31,14 @@ import java.util.Map;
 @Slf4j
 public class HealthNotificationUtils {
 
+    /**
+     * Formatter for date placeholders in notification messages (yyyy-MM-dd), shared as it is immutable.
+     */
+    public static final java.time.format.DateTimeFormatter NOTIFICATION_DATE_FORMATTER =
+            java.time.format.DateTimeFormatter.ofPattern(Constants.DATE_FORMAT_YYYY_MM_DD);
+
+    private static final Map<String, java.time.ZoneId> ZONE_IDS = new ConcurrentHashMap<>();
+
     /**
      * Private constructor to prevent instantiation of utility class.
      */
@@ -592,26 +601,17 @@ public class HealthNotificationUtils {
      */
     public static String replacePlaceholders(String messageTemplate, Map<String, Object> contextData,
                                              java.time.ZoneId zoneId, java.time.format.DateTimeFormatter dateFormatter) {
-        String result = messageTemplate;
-
-        for (Map.Entry<String, Object> entry : contextData.entrySet()) {
-            String key = entry.getKey();
-            Object valueObj = entry.getValue();
-            String value = "";
-
-            if (valueObj != null) {
-                // Check if this is a date-related placeholder and the value is an epoch timestamp
-                if (key.contains("Date") && isEpochTimestamp(valueObj)) {
-                    value = formatEpochToDate(valueObj, zoneId, dateFormatter);
-                } else {
-                    value = valueObj.toString();
-                }
-            }
+        return MessageTemplate.compile(messageTemplate).render(contextData, zoneId, dateFormatter);
+    }
 
-            // Replace both {Key} and Key formats
-            result = result.replace("{" + key + "}", value);
-        }
-        return result;
+    /**
+     * Returns the ZoneId of the configured notification timezone, parsed once per timezone.
+     *
+     * @param timezone The timezone ID (e.g., "Africa/Lagos")
+     * @return The ZoneId
+     */
+    public static java.time.ZoneId notificationZoneId(String timezone) {
+        return ZONE_IDS.computeIfAbsent(timezone, java.time.ZoneId::of);
     }
 
     /**
@@ -0,0 +1,187 @@
+package org.egov.healthnotification.util;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A localized message template parsed once into literal text and {PlaceholderName} slots.
+ *
+ * <p>Rendering walks the segments and appends each literal or slot value to a per-thread builder, instead of
+ * scanning the whole template once per context entry. Slots whose name contains "Date" are date slots: epoch
+ * timestamp values are formatted as dates, like {@link HealthNotificationUtils#replacePlaceholders(String, Map,
+ * ZoneId, DateTimeFormatter)}. Slots without an entry in the context data are rendered as written.
+ *
+ * <p>Compiled templates are cached by tenant, locale and template code with {@link #of}; a template is compiled
+ * again when its localized text changes.
+ */
+public final class MessageTemplate {
+
+    // Templates are short SMS and push texts, larger builders are not kept between renders
+    private static final int MAX_RETAINED_BUILDER_CAPACITY = 4096;
+
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    // Key format = "tenantId_locale_code", like the localization message cache
+    private static final Map<String, MessageTemplate> compiledTemplateCache = new ConcurrentHashMap<>();
+
+    private final String source;
+
+    private final List<Segment> segments;
+
+    private final int literalLength;
+
+    private MessageTemplate(String source, List<Segment> segments) {
+        this.source = source;
+        this.segments = segments;
+        int length = 0;
+        for (Segment segment : segments) {
+            if (segment.placeholder == null) {
+                length += segment.text.length();
+            }
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Returns the compiled template of a localized message, compiling it on first use or when its text changed.
+     *
+     * @param tenantId     The tenant ID
+     * @param locale       The locale
+     * @param templateCode The template code
+     * @param template     The localized message template
+     * @return The compiled template
+     */
+    public static MessageTemplate of(String tenantId, String locale, String templateCode, String template) {
+        String cacheKey = tenantId + "_" + locale + "_" + templateCode;
+        MessageTemplate compiled = compiledTemplateCache.get(cacheKey);
+        if (compiled == null || !compiled.source.equals(template)) {
+            compiled = compile(template);
+            compiledTemplateCache.put(cacheKey, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Parses a message template into literal and placeholder segments.
+     *
+     * @param template The message template with placeholders (e.g., "Hello {HouseholdHeadName}")
+     * @return The compiled template
+     */
+    public static MessageTemplate compile(String template) {
+        List<Segment> segments = new ArrayList<>();
+        int literalStart = 0;
+        int open = template.indexOf('{');
+        while (open >= 0) {
+            int close = template.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+            int nestedOpen = template.lastIndexOf('{', close);
+            if (nestedOpen > open) {
+                // "{a {b}" - only the innermost braces form a placeholder
+                open = nestedOpen;
+            }
+            if (open > literalStart) {
+                segments.add(Segment.literal(template.substring(literalStart, open)));
+            }
+            segments.add(Segment.placeholder(template.substring(open, close + 1), template.substring(open + 1, close)));
+            literalStart = close + 1;
+            open = template.indexOf('{', literalStart);
+        }
+        if (literalStart < template.length()) {
+            segments.add(Segment.literal(template.substring(literalStart)));
+        }
+        return new MessageTemplate(template, Collections.unmodifiableList(segments));
+    }
+
+    /**
+     * Renders the template with values from contextData.
+     *
+     * @param contextData   Map containing context data values
+     * @param zoneId        The timezone to use for date formatting
+     * @param dateFormatter The date formatter to use
+     * @return The message with placeholders replaced
+     */
+    public String render(Map<String, Object> contextData, ZoneId zoneId, DateTimeFormatter dateFormatter) {
+        StringBuilder builder = BUILDER.get();
+        builder.setLength(0);
+        builder.ensureCapacity(literalLength + 16 * segments.size());
+        for (Segment segment : segments) {
+            if (segment.placeholder == null) {
+                builder.append(segment.text);
+            } else if (contextData == null || !contextData.containsKey(segment.placeholder)) {
+                builder.append(segment.text);
+            } else {
+                appendValue(builder, segment, contextData.get(segment.placeholder), zoneId, dateFormatter);
+            }
+        }
+        String message = builder.toString();
+        if (builder.capacity() > MAX_RETAINED_BUILDER_CAPACITY) {
+            BUILDER.remove();
+        }
+        return message;
+    }
+
+    private static void appendValue(StringBuilder builder, Segment segment, Object value, ZoneId zoneId,
+                                    DateTimeFormatter dateFormatter) {
+        if (value == null) {
+            return;
+        }
+        if (segment.dateSlot && HealthNotificationUtils.isEpochTimestamp(value)) {
+            builder.append(HealthNotificationUtils.formatEpochToDate(value, zoneId, dateFormatter));
+        } else {
+            builder.append(value);
+        }
+    }
+
+    /**
+     * @return The template text this template was compiled from
+     */
+    public String getSource() {
+        return source;
+    }
+
+    /**
+     * @return Number of placeholder slots in the template
+     */
+    public int getPlaceholderCount() {
+        int count = 0;
+        for (Segment segment : segments) {
+            if (segment.placeholder != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * A literal piece of text, or a placeholder slot with its original text kept for missing values.
+     */
+    private static final class Segment {
+
+        private final String text;
+
+        private final String placeholder;
+
+        private final boolean dateSlot;
+
+        private Segment(String text, String placeholder) {
+            this.text = text;
+            this.placeholder = placeholder;
+            this.dateSlot = placeholder != null && placeholder.contains("Date");
+        }
+
+        private static Segment literal(String text) {
+            return new Segment(text, null);
+        }
+
+        private static Segment placeholder(String text, String name) {
+            return new Segment(text, name);
+        }
+    }
+}
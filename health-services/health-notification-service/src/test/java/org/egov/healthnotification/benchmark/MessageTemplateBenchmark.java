@@ -0,0 +1,102 @@
+package org.egov.healthnotification.benchmark;
+
+import org.egov.healthnotification.util.HealthNotificationUtils;
+import org.egov.healthnotification.util.MessageTemplate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Renders per second of one scheduled SMS message, the inner loop of the batch dispatch.
+ * {@code stringReplace} is the former path: the template is scanned once per context entry and the zone and
+ * date formatter are built per message. {@code replacePlaceholders} parses the template on every call.
+ * {@code compiledTemplate} looks up the cached compiled template and renders it into the per-thread builder.
+ *
+ * <pre>
+ * mvn -B test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.egov.healthnotification.benchmark.MessageTemplateBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MessageTemplateBenchmark {
+
+    private static final String TEMPLATE = "Dear {HouseholdHeadName}, your household received {quantity_of_sku} "
+            + "from {Sending_Facility_Name} on {DistributionDate}. Next visit is due on {NextVisitDate}. "
+            + "Please keep your card {BeneficiaryId} safe.";
+
+    // contextData carries more entries than the template uses, as stored by the event adapters
+    @Param({"12"})
+    public int contextEntries;
+
+    private Map<String, Object> contextData;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        contextData = new HashMap<>();
+        contextData.put("HouseholdHeadName", "Amina Bello");
+        contextData.put("quantity_of_sku", "3 ITN Nets");
+        contextData.put("Sending_Facility_Name", "Ward 4 Health Post");
+        contextData.put("DistributionDate", 1760745600000L);
+        contextData.put("NextVisitDate", "1763424000000");
+        contextData.put("BeneficiaryId", "HH-0042-1187");
+        for (int i = contextData.size(); i < contextEntries; i++) {
+            contextData.put("extraField" + i, "value" + i);
+        }
+    }
+
+    @Benchmark
+    public String stringReplace() {
+        ZoneId zoneId = ZoneId.of("Africa/Lagos");
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        String result = TEMPLATE;
+        for (Map.Entry<String, Object> entry : contextData.entrySet()) {
+            Object valueObj = entry.getValue();
+            String value = entry.getKey().contains("Date") && HealthNotificationUtils.isEpochTimestamp(valueObj)
+                    ? HealthNotificationUtils.formatEpochToDate(valueObj, zoneId, formatter)
+                    : valueObj.toString();
+            result = result.replace("{" + entry.getKey() + "}", value);
+        }
+        return result;
+    }
+
+    @Benchmark
+    public String replacePlaceholders() {
+        ZoneId zoneId = ZoneId.of("Africa/Lagos");
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+        return HealthNotificationUtils.replacePlaceholders(TEMPLATE, contextData, zoneId, formatter);
+    }
+
+    @Benchmark
+    public String compiledTemplate() {
+        return MessageTemplate.of("ng", "en_NG", "HH_DISTRIBUTION_SMS", TEMPLATE)
+                .render(contextData, HealthNotificationUtils.notificationZoneId("Africa/Lagos"),
+                        HealthNotificationUtils.NOTIFICATION_DATE_FORMATTER);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MessageTemplateBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,113 @@
+package org.egov.healthnotification.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.egov.common.models.Error;
+import org.egov.healthnotification.config.HealthNotificationProperties;
+import org.egov.healthnotification.repository.ScheduledNotificationRepository;
+import org.egov.healthnotification.service.NotificationDispatchService;
+import org.egov.healthnotification.service.NotificationEncryptionService;
+import org.egov.healthnotification.web.models.ScheduledNotification;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StreamingNotificationDispatcherTest {
+
+    private static final String TENANT_ID = "tenant1";
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 10, 18);
+
+    @Mock
+    private ScheduledNotificationRepository repository;
+
+    @Mock
+    private NotificationDispatchService dispatchService;
+
+    @Mock
+    private HealthNotificationProperties properties;
+
+    @Mock
+    private NotificationEncryptionService encryptionService;
+
+    private StreamingNotificationDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        when(properties.getSchedulerDecryptThreads()).thenReturn(1);
+        when(properties.getSchedulerDispatchThreads()).thenReturn(2);
+        dispatcher = new StreamingNotificationDispatcher(repository, dispatchService, properties, encryptionService);
+
+        when(properties.getSchedulerBatchSize()).thenReturn(2);
+        when(properties.getSchedulerMaxFetch()).thenReturn(100);
+        when(properties.getSchedulerMaxInFlightChunks()).thenReturn(2);
+        when(encryptionService.decrypt(anyList(), anyString(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    private static ScheduledNotification notification(String id) {
+        return ScheduledNotification.builder().id(id).tenantId(TENANT_ID).build();
+    }
+
+    @Test
+    void dispatchDue_claimsChunksUntilNoneLeft_dispatchesEveryChunk() throws Exception {
+        ScheduledNotification first = notification("n1");
+        List<ScheduledNotification> chunk1 = List.of(first, notification("n2"));
+        List<ScheduledNotification> chunk2 = List.of(notification("n3"));
+        when(repository.countPendingNotifications(TENANT_ID, TODAY)).thenReturn(3L);
+        when(repository.claimPendingNotifications(eq(TENANT_ID), eq(TODAY), anyInt()))
+                .thenReturn(chunk1, chunk2, Collections.emptyList());
+        when(dispatchService.dispatchBatch(chunk1, TENANT_ID))
+                .thenReturn(Map.of(first, List.of(Error.builder().errorCode("SMS_FAILED").build())));
+        when(dispatchService.dispatchBatch(chunk2, TENANT_ID)).thenReturn(Collections.emptyMap());
+
+        long claimed = dispatcher.dispatchDue(TENANT_ID, TODAY);
+
+        assertEquals(3, claimed);
+        verify(dispatchService, times(2)).markBatchInProgress(anyList());
+        verify(dispatchService).dispatchBatch(chunk1, TENANT_ID);
+        verify(dispatchService).dispatchBatch(chunk2, TENANT_ID);
+        assertEquals(3, dispatcher.getClaimedCount());
+        assertEquals(2, dispatcher.getDispatchedCount());
+        assertEquals(1, dispatcher.getFailedCount());
+        assertEquals(0, dispatcher.getInFlightChunks());
+        assertEquals(3, dispatcher.getLastBacklog());
+    }
+
+    @Test
+    void dispatchDue_chunkFails_countsWholeChunkAsFailed() throws Exception {
+        List<ScheduledNotification> chunk = List.of(notification("n1"), notification("n2"));
+        when(repository.countPendingNotifications(TENANT_ID, TODAY)).thenReturn(2L);
+        when(repository.claimPendingNotifications(eq(TENANT_ID), eq(TODAY), anyInt()))
+                .thenReturn(chunk, Collections.emptyList());
+        when(dispatchService.dispatchBatch(chunk, TENANT_ID)).thenThrow(new RuntimeException("kafka down"));
+
+        dispatcher.dispatchDue(TENANT_ID, TODAY);
+
+        assertEquals(1, dispatcher.getChunkFailureCount());
+        assertEquals(2, dispatcher.getFailedCount());
+        assertEquals(0, dispatcher.getDispatchedCount());
+    }
+}
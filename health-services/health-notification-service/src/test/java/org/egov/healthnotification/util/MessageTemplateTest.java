@@ -0,0 +1,92 @@
+package org.egov.healthnotification.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class MessageTemplateTest {
+
+    private static final ZoneId UTC = ZoneId.of("UTC");
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    @Test
+    void render_replacesEachOccurrenceAndFormatsDateSlots() {
+        Map<String, Object> context = new HashMap<>();
+        context.put("Name", "Ada");
+        // 2024-01-15 00:00:00 UTC in epoch millis
+        context.put("DeliveryDate", 1705276800000L);
+
+        String result = MessageTemplate.compile("{Name}: delivery on {DeliveryDate}. Thanks {Name}")
+                .render(context, UTC, FORMATTER);
+
+        assertEquals("Ada: delivery on 2024-01-15. Thanks Ada", result);
+    }
+
+    @Test
+    void render_missingPlaceholder_keptAsWritten_nullValue_replacedWithEmpty() {
+        Map<String, Object> context = new HashMap<>();
+        context.put("Name", null);
+
+        String result = MessageTemplate.compile("Hello {Name}{Unknown} {unclosed").render(context, UTC, FORMATTER);
+
+        assertEquals("Hello {Unknown} {unclosed", result);
+    }
+
+    @Test
+    void render_nestedBraces_onlyInnermostIsPlaceholder() {
+        Map<String, Object> context = new HashMap<>();
+        context.put("b", "x");
+
+        assertEquals("{a x}", MessageTemplate.compile("{a {b}}").render(context, UTC, FORMATTER));
+    }
+
+    @Test
+    void render_matchesReplacePlaceholders() {
+        Map<String, Object> context = new HashMap<>();
+        context.put("Sending_Facility_Name", "Warehouse A");
+        context.put("quantity", 50L);
+        context.put("IssueDate", "1705276800000");
+        String template = "{Sending_Facility_Name} issued {quantity} on {IssueDate}";
+
+        assertEquals(StringReplaceReference.replace(template, context),
+                MessageTemplate.compile(template).render(context, UTC, FORMATTER));
+    }
+
+    @Test
+    void of_reusesCompiledTemplate_untilTextChanges() {
+        MessageTemplate first = MessageTemplate.of("mz", "en_MZ", "SMS_CODE", "Hello {Name}");
+
+        assertSame(first, MessageTemplate.of("mz", "en_MZ", "SMS_CODE", "Hello {Name}"));
+        MessageTemplate changed = MessageTemplate.of("mz", "en_MZ", "SMS_CODE", "Hi {Name}");
+        assertNotSame(first, changed);
+        assertEquals("Hi {Name}", changed.getSource());
+        assertEquals(1, changed.getPlaceholderCount());
+    }
+
+    /* The former string-replace implementation, kept to check the compiled rendering against */
+    private static final class StringReplaceReference {
+
+        private static String replace(String template, Map<String, Object> contextData) {
+            String result = template;
+            for (Map.Entry<String, Object> entry : contextData.entrySet()) {
+                Object valueObj = entry.getValue();
+                String value = "";
+                if (valueObj != null) {
+                    value = entry.getKey().contains("Date") && HealthNotificationUtils.isEpochTimestamp(valueObj)
+                            ? HealthNotificationUtils.formatEpochToDate(valueObj, UTC, FORMATTER)
+                            : valueObj.toString();
+                }
+                result = result.replace("{" + entry.getKey() + "}", value);
+            }
+            return result;
+        }
+    }
+}
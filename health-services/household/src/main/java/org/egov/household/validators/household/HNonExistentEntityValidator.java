@@ -13,6 +13,7 @@ import org.egov.common.models.Error;
 import org.egov.common.models.household.Household;
 import org.egov.common.models.household.HouseholdBulkRequest;
 import org.egov.common.models.household.HouseholdSearch;
+import org.egov.common.validator.ValidationContext;
 import org.egov.common.validator.Validator;
 import org.egov.household.repository.HouseholdRepository;
 import org.egov.tracer.model.CustomException;
@@ -93,6 +94,11 @@ public class HNonExistentEntityValidator implements Validator<HouseholdBulkReque
                 throw new CustomException("HOUSEHOLD_SEARCH_FAILED", "Search Failed for Household, " + e.getMessage()); 
             }
             // Check for non-existent entities
+            // later validators of the request look these up by id instead of querying them again
+            ValidationContext.put("household.id", entities.get(0).getTenantId(), existingEntities,
+                    Household::getId);
+            ValidationContext.put("household.clientReferenceId", entities.get(0).getTenantId(), existingEntities,
+                    Household::getClientReferenceId);
             List<Household> nonExistentEntities = checkNonExistentEntities(eMap,
                     existingEntities, idMethod);
             // Populate error details for non-existent entities
@@ -6,10 +6,12 @@ import org.egov.common.models.Error;
 import org.egov.common.models.household.Household;
 import org.egov.common.models.household.HouseholdBulkRequest;
 import org.egov.common.utils.CommonUtils;
+import org.egov.common.validator.ValidationContext;
 import org.egov.common.validator.Validator;
 import org.egov.household.repository.HouseholdRepository;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -48,8 +50,11 @@ public class HRowVersionValidator implements Validator<HouseholdBulkRequest, Hou
         if (!eMap.isEmpty()) {
             List<String> entityIds = new ArrayList<>(eMap.keySet());
             try {
-                List<Household> existingEntities = repository.findById(tenantId, entityIds,
-                        getIdFieldName(idMethod), false).getResponse();
+                List<Household> existingEntities = new ArrayList<>(ValidationContext.find(
+                        "household." + getIdFieldName(idMethod), tenantId, entityIds,
+                        household -> (String) ReflectionUtils.invokeMethod(idMethod, household),
+                        ids -> repository.findById(tenantId, ids, getIdFieldName(idMethod), false)
+                                .getResponse()).values());
                 List<Household> entitiesWithMismatchedRowVersion =
                         getEntitiesWithMismatchedRowVersion(eMap, existingEntities, idMethod);
                 entitiesWithMismatchedRowVersion.forEach(individual -> {
@@ -5,6 +5,7 @@ import org.egov.common.models.Error;
 import org.egov.common.models.individual.Individual;
 import org.egov.common.models.individual.IndividualBulkRequest;
 import org.egov.common.models.individual.IndividualSearch;
+import org.egov.common.validator.ValidationContext;
 import org.egov.common.validator.Validator;
 import org.egov.individual.repository.IndividualRepository;
 import org.egov.tracer.model.CustomException;
@@ -83,6 +84,11 @@ public class NonExistentEntityValidator implements Validator<IndividualBulkReque
                 log.error("Search failed for Individual with error: {}", e.getMessage(), e);
                 throw new CustomException("INDIVIDUAL_SEARCH_FAILED", "Search Failed for Individual, " + e.getMessage()); 
             }
+            // later validators of the request look these up by id instead of querying them again
+            ValidationContext.put("individual.id", individuals.get(0).getTenantId(), existingIndividuals,
+                    Individual::getId);
+            ValidationContext.put("individual.clientReferenceId", individuals.get(0).getTenantId(), existingIndividuals,
+                    Individual::getClientReferenceId);
             List<Individual> nonExistentIndividuals = checkNonExistentEntities(iMap,
                     existingIndividuals, idMethod);
             nonExistentIndividuals.forEach(individual -> {
@@ -6,11 +6,13 @@ import org.egov.common.models.Error;
 import org.egov.common.models.individual.Individual;
 import org.egov.common.models.individual.IndividualBulkRequest;
 import org.egov.common.utils.CommonUtils;
+import org.egov.common.validator.ValidationContext;
 import org.egov.common.validator.Validator;
 import org.egov.individual.repository.IndividualRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -59,8 +61,11 @@ public class RowVersionValidator implements Validator<IndividualBulkRequest, Ind
             // fetch existing individuals from the repository
             // catch InvalidTenantIdException
             try {
-                List<Individual> existingIndividuals = individualRepository.findById( tenantId, individualIds,
-                        getIdFieldName(idMethod), false).getResponse();
+                List<Individual> existingIndividuals = new ArrayList<>(ValidationContext.find(
+                        "individual." + getIdFieldName(idMethod), tenantId, individualIds,
+                        individual -> (String) ReflectionUtils.invokeMethod(idMethod, individual),
+                        ids -> individualRepository.findById(tenantId, ids, getIdFieldName(idMethod), false)
+                                .getResponse()).values());
                 List<Individual> individualsWithMismatchedRowVersion =
                         getEntitiesWithMismatchedRowVersion(iMap, existingIndividuals, idMethod);
                 individualsWithMismatchedRowVersion.forEach(individual -> {
@@ -0,0 +1,162 @@
+package org.egov.common.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.egov.common.contract.models.AuditDetails;
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.contract.request.User;
+import org.egov.common.models.core.EgovOfflineModel;
+import org.egov.common.models.household.Household;
+import org.egov.common.models.individual.Individual;
+import org.egov.common.models.project.Task;
+import org.egov.common.utils.CommonUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import static org.egov.common.utils.CommonUtils.getAuditDetailsForCreate;
+import static org.egov.common.utils.CommonUtils.getAuditDetailsForUpdate;
+import static org.egov.common.utils.CommonUtils.getMethod;
+import static org.egov.common.utils.CommonUtils.getObjClass;
+
+/**
+ * Compares the reflective accessor path that {@link CommonUtils} used before {@code AccessorRegistry}
+ * with the compiled accessor path, on bulk payloads of {@link Individual}, {@link Household} and {@link Task}.
+ *
+ * <p>The {@code reflection*} benchmarks reproduce the previous implementation of the helpers inline so
+ * both paths can be measured against the same build.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessorBenchmark {
+
+    public enum EntityType {
+        INDIVIDUAL(Individual::new),
+        HOUSEHOLD(Household::new),
+        TASK(Task::new);
+
+        private final Supplier<EgovOfflineModel> supplier;
+
+        EntityType(Supplier<EgovOfflineModel> supplier) {
+            this.supplier = supplier;
+        }
+    }
+
+    @Param({"INDIVIDUAL", "HOUSEHOLD", "TASK"})
+    public EntityType entityType;
+
+    @Param({"500"})
+    public int size;
+
+    private List<EgovOfflineModel> entities;
+
+    private List<String> ids;
+
+    private RequestInfo requestInfo;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        requestInfo = RequestInfo.builder()
+                .userInfo(User.builder().uuid("some-uuid").build())
+                .build();
+        entities = new ArrayList<>(size);
+        ids = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            EgovOfflineModel entity = entityType.supplier.get();
+            entity.setTenantId("pg.citya");
+            entity.setClientReferenceId(UUID.randomUUID().toString());
+            entity.setRowVersion(1);
+            entities.add(entity);
+            ids.add(UUID.randomUUID().toString());
+        }
+    }
+
+    @Benchmark
+    public Map<String, EgovOfflineModel> reflectionEnrichAndMap() {
+        Class<?> objClass = getObjClass(entities);
+        AuditDetails auditDetails = getAuditDetailsForCreate(requestInfo);
+        Method setIdMethod = getMethod("setId", objClass);
+        Method setAuditDetailsMethod = getMethod("setAuditDetails", objClass);
+        Method setIsDeletedMethod = getMethod("setIsDeleted", objClass);
+        for (int i = 0; i < entities.size(); i++) {
+            Object obj = entities.get(i);
+            ReflectionUtils.invokeMethod(setIdMethod, obj, ids.get(i));
+            ReflectionUtils.invokeMethod(setAuditDetailsMethod, obj, auditDetails);
+            // The previous implementation resolved the rowVersion setter for every entity
+            Method setRowVersionMethod = getMethod("setRowVersion", objClass);
+            ReflectionUtils.invokeMethod(setRowVersionMethod, obj, 1);
+            ReflectionUtils.invokeMethod(setIsDeletedMethod, obj, Boolean.FALSE);
+        }
+        Method getIdMethod = getMethod("getId", objClass);
+        return entities.stream().collect(Collectors.toMap(
+                obj -> (String) ReflectionUtils.invokeMethod(getIdMethod, obj),
+                obj -> obj,
+                (obj1, obj2) -> obj2));
+    }
+
+    @Benchmark
+    public Map<String, EgovOfflineModel> compiledEnrichAndMap() {
+        CommonUtils.enrichForCreate(entities, ids, requestInfo);
+        return CommonUtils.getIdToObjMap(entities);
+    }
+
+    @Benchmark
+    public List<EgovOfflineModel> reflectionEnrichForDelete() {
+        Class<?> objClass = getObjClass(entities);
+        Method setIsDeletedMethod = getMethod("setIsDeleted", objClass);
+        Method setAuditDetailsMethod = getMethod("setAuditDetails", objClass);
+        Method getAuditDetailsMethod = getMethod("getAuditDetails", objClass);
+        entities.forEach(obj -> {
+            ReflectionUtils.invokeMethod(setIsDeletedMethod, obj, true);
+            // The previous implementation resolved the rowVersion accessors for every entity
+            Method getRowVersionMethod = getMethod("getRowVersion", objClass);
+            Method setRowVersionMethod = getMethod("setRowVersion", objClass);
+            Integer rowVersion = (Integer) ReflectionUtils.invokeMethod(getRowVersionMethod, obj);
+            ReflectionUtils.invokeMethod(setRowVersionMethod, obj, rowVersion + 1);
+            AuditDetails existingAuditDetails = (AuditDetails) ReflectionUtils.invokeMethod(getAuditDetailsMethod, obj);
+            ReflectionUtils.invokeMethod(setAuditDetailsMethod, obj,
+                    getAuditDetailsForUpdate(existingAuditDetails, requestInfo.getUserInfo().getUuid()));
+        });
+        return entities;
+    }
+
+    @Benchmark
+    public List<EgovOfflineModel> compiledEnrichForDelete() {
+        CommonUtils.enrichForDelete(entities, requestInfo, true);
+        return entities;
+    }
+
+    @Benchmark
+    public List<String> reflectionClientReferenceIds() {
+        Method getClientReferenceIdMethod = getMethod("getClientReferenceId", getObjClass(entities));
+        return entities.stream()
+                .map(obj -> (String) ReflectionUtils.invokeMethod(getClientReferenceIdMethod, obj))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<String> compiledClientReferenceIds() {
+        return CommonUtils.getIdList(entities, getMethod("getClientReferenceId", getObjClass(entities)));
+    }
+}
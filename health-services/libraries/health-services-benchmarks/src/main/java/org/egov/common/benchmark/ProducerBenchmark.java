@@ -0,0 +1,108 @@
+package org.egov.common.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.egov.common.models.individual.Individual;
+import org.egov.common.producer.Producer;
+import org.egov.common.utils.MultiStateInstanceUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Measures bulk push throughput against an embedded Kafka broker, comparing a whole bulk list sent
+ * as one record and acknowledged synchronously (what {@code CustomKafkaTemplate} does for
+ * {@link Producer#push(String, String, Object)}) with {@link Producer#pushBatched}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ProducerBenchmark {
+
+    private static final String TOPIC = "save-individual-topic";
+
+    private static final String TENANT_ID = "pg.citya";
+
+    @Param({"500", "5000"})
+    public int size;
+
+    @Param({"100"})
+    public int maxEntitiesPerRecord;
+
+    private EmbeddedKafkaKraftBroker broker;
+
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private Producer producer;
+
+    private List<Individual> individuals;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        broker = new EmbeddedKafkaKraftBroker(1, 6, TOPIC);
+        broker.brokerProperty("message.max.bytes", String.valueOf(64 * 1024 * 1024));
+        broker.afterPropertiesSet();
+
+        Map<String, Object> config = new HashMap<>();
+        config.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        config.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        config.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        config.put(ProducerConfig.MAX_REQUEST_SIZE_CONFIG, 64 * 1024 * 1024);
+        config.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        kafkaTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(config));
+
+        producer = new Producer(null, new MultiStateInstanceUtil(2, false, 0));
+        ReflectionTestUtils.setField(producer, "asyncKafkaTemplate", kafkaTemplate);
+        ReflectionTestUtils.setField(producer, "maxEntitiesPerRecord", maxEntitiesPerRecord);
+
+        individuals = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            individuals.add(Individual.builder()
+                    .id(UUID.randomUUID().toString())
+                    .clientReferenceId(UUID.randomUUID().toString())
+                    .tenantId(TENANT_ID)
+                    .build());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        kafkaTemplate.destroy();
+        broker.destroy();
+    }
+
+    @Benchmark
+    public Object singleRecord() throws Exception {
+        return kafkaTemplate.send(TOPIC, individuals).get();
+    }
+
+    @Benchmark
+    public Object batched() {
+        return producer.pushBatched(TENANT_ID, TOPIC, individuals).join();
+    }
+}
@@ -0,0 +1,180 @@
+package org.egov.common.data.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded in-process cache in front of the Redis entity cache used by
+ * {@link org.egov.common.data.repository.GenericRepository}.
+ *
+ * <p>Entries are kept serialized with the Redis value serializer, so every read returns a fresh copy that
+ * callers can enrich without affecting the cached entity, exactly as with a Redis read.
+ *
+ * <p>Entries are size- and time-bounded. When a pod writes entities it publishes their keys on a Redis
+ * channel, and every other pod drops them from its near cache so the next read goes to Redis.
+ *
+ * <p>Enabled with {@code health.cache.near.enabled=true}, and read only once {@link RedisCacheLayout} is past
+ * {@link RedisCacheLayout#LEGACY}.
+ */
+@Component
+@ConditionalOnProperty(name = "health.cache.near.enabled", havingValue = "true")
+@Slf4j
+public class NearCache {
+
+    private static final String MESSAGE_SEPARATOR = "\n";
+
+    private static final String ID_SEPARATOR = ",";
+
+    private final Cache<String, byte[]> cache;
+
+    private final RedisSerializer<Object> serializer;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    private final String channel;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    @SuppressWarnings("unchecked")
+    public NearCache(RedisTemplate<String, Object> redisTemplate,
+                     @Value("${health.cache.near.max-size:10000}") long maxSize,
+                     @Value("${health.cache.near.time-to-live:30}") long timeToLive,
+                     @Value("${health.cache.near.invalidation-channel:health-near-cache-invalidation}") String channel) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.serializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(timeToLive, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisTemplate.getConnectionFactory());
+        listenerContainer.addMessageListener(this::onMessage, new ChannelTopic(channel));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    @PreDestroy
+    public void close() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    /**
+     * Returns the entries present in the near cache for the given ids.
+     *
+     * @param cacheTableName the schema aware table name used as cache region
+     * @param ids            the ids to look up
+     * @return map of id to cached entity for the ids found
+     */
+    public Map<String, Object> getAll(String cacheTableName, Collection<String> ids) {
+        Map<String, Object> found = new HashMap<>();
+        for (String id : ids) {
+            byte[] value = cache.getIfPresent(key(cacheTableName, id));
+            if (value != null) {
+                found.put(id, serializer.deserialize(value));
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Caches entities read from Redis, without notifying other pods.
+     *
+     * @param cacheTableName the schema aware table name used as cache region
+     * @param objects        map of id to entity
+     */
+    public void putAllLocal(String cacheTableName, Map<String, ?> objects) {
+        objects.forEach((id, value) -> cache.put(key(cacheTableName, id), serializer.serialize(value)));
+    }
+
+    /**
+     * Caches written entities and asks other pods to drop their copies.
+     *
+     * @param cacheTableName the schema aware table name used as cache region
+     * @param objects        map of id to entity
+     */
+    public void putAll(String cacheTableName, Map<String, ?> objects) {
+        if (objects.isEmpty()) {
+            return;
+        }
+        putAllLocal(cacheTableName, objects);
+        try {
+            redisTemplate.convertAndSend(channel, String.join(MESSAGE_SEPARATOR, instanceId, cacheTableName,
+                    String.join(ID_SEPARATOR, objects.keySet())));
+        } catch (Exception exception) {
+            log.warn("Error while publishing near cache invalidation: {}", exception.getMessage());
+        }
+    }
+
+    /**
+     * Drops the given ids from the near cache of this pod.
+     *
+     * @param cacheTableName the schema aware table name used as cache region
+     * @param ids            the ids to drop
+     */
+    public void invalidate(String cacheTableName, Collection<String> ids) {
+        cache.invalidateAll(ids.stream().map(id -> key(cacheTableName, id)).collect(Collectors.toList()));
+    }
+
+    public long getHitCount() {
+        return cache.stats().hitCount();
+    }
+
+    public long getMissCount() {
+        return cache.stats().missCount();
+    }
+
+    public double getHitRatio() {
+        return cache.stats().hitRate();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+
+    void onMessage(Message message, byte[] pattern) {
+        Object body = serializer.deserialize(message.getBody());
+        if (!(body instanceof String)) {
+            return;
+        }
+        String[] parts = ((String) body).split(MESSAGE_SEPARATOR, 3);
+        if (parts.length < 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+        invalidate(parts[1], Arrays.asList(parts[2].split(ID_SEPARATOR)));
+    }
+
+    private static String key(String cacheTableName, String id) {
+        return cacheTableName + ":" + id;
+    }
+}
@@ -0,0 +1,26 @@
+package org.egov.common.data.cache;
+
+/**
+ * How {@link org.egov.common.data.repository.GenericRepository} lays out entities in Redis, set with
+ * {@code health.cache.redis.layout}.
+ *
+ * <p>Releases before 1.1.6 keep one hash per table, later ones one key per entity ({@code <table>:<id>}).
+ * Pods on different layouts do not see each other's writes, so a rolling deploy moves through the values in
+ * order, one full rollout each: {@link #LEGACY} while pods of the old release may still run, then
+ * {@link #DUAL}, then {@link #ENTRY}.
+ */
+public enum RedisCacheLayout {
+    /**
+     * Reads the per-table hash and writes both layouts. Safe next to pods of releases before 1.1.6.
+     * The near cache is bypassed, as those pods do not publish invalidations.
+     */
+    LEGACY,
+    /**
+     * Reads the per-entity keys and writes both layouts. Safe next to {@link #LEGACY} and {@link #ENTRY} pods.
+     */
+    DUAL,
+    /**
+     * Reads and writes the per-entity keys only. Safe next to {@link #DUAL} pods.
+     */
+    ENTRY
+}
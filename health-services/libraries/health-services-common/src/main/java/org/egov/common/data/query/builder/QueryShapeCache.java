@@ -0,0 +1,211 @@
+package org.egov.common.data.query.builder;
+
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.models.core.OrGroup;
+import org.egov.common.utils.ObjectUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of compiled select query shapes.
+ *
+ * <p>The field metadata of a search class (accessible fields, {@link OrGroup} and exclude annotations,
+ * list element types) is read once per class. Every search then only walks the compiled fields to
+ * collect its parameters and a shape key describing which fields are set. The generated SQL is cached
+ * per (table, schema, shape key), so a repeated search shape skips reflection and string building.
+ *
+ * <p>On a miss the SQL is built with {@link GenericQueryBuilder#getFieldsWithCondition}, so the cached
+ * output is identical to the uncached one.
+ */
+@Slf4j
+public final class QueryShapeCache {
+
+    private static final QueryShapeCache INSTANCE = new QueryShapeCache();
+
+    /**
+     * Upper bound on cached query shapes, a guard against unbounded growth for classes with many
+     * optional search fields.
+     */
+    static final int MAX_SHAPES = 10_000;
+
+    private final Map<Class<?>, CompiledField[]> compiledFields = new ConcurrentHashMap<>();
+
+    private final Map<String, String> queries = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private QueryShapeCache() {
+    }
+
+    public static QueryShapeCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the select query for the non-null fields of the given object and populates the
+     * parameter map with their values.
+     *
+     * @param object         the search object
+     * @param tableName      the name of the database table
+     * @param schemaTemplate the name of the database schema
+     * @param paramsMap      map to populate with query parameters
+     * @return the select query
+     * @throws IllegalAccessException if a field value cannot be read
+     */
+    public String getSelectQuery(Object object, String tableName, String schemaTemplate,
+                                 Map<String, Object> paramsMap) throws IllegalAccessException {
+        StringBuilder shapeKey = new StringBuilder(64)
+                .append(tableName).append('|').append(schemaTemplate).append('|');
+        collect(object, shapeKey, paramsMap);
+        String key = shapeKey.toString();
+
+        String query = queries.get(key);
+        if (query != null) {
+            hits.increment();
+            return query;
+        }
+        misses.increment();
+        List<String> whereClauses = GenericQueryBuilder.getFieldsWithCondition(object, QueryFieldChecker.isNotNull,
+                new HashMap<>());
+        query = GenericQueryBuilder.generateQuery(GenericQueryBuilder.selectQueryTemplate(schemaTemplate, tableName),
+                whereClauses).toString();
+        if (queries.size() < MAX_SHAPES) {
+            queries.putIfAbsent(key, query);
+        } else {
+            log.debug("Query shape cache is full, not caching shape for {}", object.getClass().getName());
+        }
+        return query;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public int getSize() {
+        return queries.size();
+    }
+
+    /**
+     * @return ratio of hits to total lookups, or 0 when nothing has been looked up yet
+     */
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total == 0 ? 0.0 : (double) hitCount / total;
+    }
+
+    /**
+     * Clears cached shapes and counters.
+     */
+    public void clear() {
+        compiledFields.clear();
+        queries.clear();
+        hits.reset();
+        misses.reset();
+    }
+
+    /**
+     * Walks the compiled fields of the object, in the same order as
+     * {@link GenericQueryBuilder#getFieldsWithCondition}, appending the index of every contributing field
+     * to the shape key and its value to the parameter map.
+     */
+    private void collect(Object object, StringBuilder shapeKey, Map<String, Object> paramsMap)
+            throws IllegalAccessException {
+        CompiledField[] fields = compiledFields.computeIfAbsent(object.getClass(), QueryShapeCache::compile);
+        for (int i = 0; i < fields.length; i++) {
+            CompiledField compiledField = fields[i];
+            Object value = compiledField.field.get(object);
+            if (value == null) {
+                continue;
+            }
+            switch (compiledField.kind) {
+                case VALUE:
+                    paramsMap.put(compiledField.name, value);
+                    shapeKey.append(i).append(',');
+                    break;
+                case STRING_LIST:
+                    if (!((Collection<?>) value).isEmpty()) {
+                        paramsMap.put(compiledField.name, value);
+                        shapeKey.append(i).append(',');
+                    }
+                    break;
+                default:
+                    shapeKey.append(i).append('{').append(value.getClass().getName()).append(':');
+                    collect(value, shapeKey, paramsMap);
+                    shapeKey.append('}');
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Applies the field classification of {@link GenericQueryBuilder#getFieldsWithCondition} once per class.
+     */
+    private static CompiledField[] compile(Class<?> clazz) {
+        List<CompiledField> fields = new ArrayList<>();
+        for (Field field : GenericQueryBuilder.getAllDeclaredFields(clazz)) {
+            if (field.getType().equals(LocalDate.class) || field.getType().isEnum()
+                    || Modifier.isStatic(field.getModifiers()) || field.getType().isPrimitive()) {
+                continue;
+            }
+            try {
+                field.setAccessible(true);
+            } catch (Exception exception) {
+                continue;
+            }
+            try {
+                if (!QueryFieldChecker.isNotAnnotatedWithExclude.check(field, null)) {
+                    continue;
+                }
+            } catch (IllegalAccessException exception) {
+                continue;
+            }
+            FieldKind kind;
+            if (ObjectUtils.isWrapper(field)) {
+                kind = FieldKind.VALUE;
+            } else if (field.getType().isAssignableFrom(ArrayList.class)
+                    && field.getGenericType() instanceof ParameterizedType
+                    && ((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0].equals(String.class)) {
+                kind = FieldKind.STRING_LIST;
+            } else {
+                kind = FieldKind.NESTED;
+            }
+            fields.add(new CompiledField(field, field.getName(), kind));
+        }
+        return fields.toArray(new CompiledField[0]);
+    }
+
+    private enum FieldKind {
+        VALUE,
+        STRING_LIST,
+        NESTED
+    }
+
+    private static final class CompiledField {
+        private final Field field;
+        private final String name;
+        private final FieldKind kind;
+
+        private CompiledField(Field field, String name, FieldKind kind) {
+            this.field = field;
+            this.name = name;
+            this.kind = kind;
+        }
+    }
+}
@@ -1,12 +1,10 @@
 package org.egov.common.data.query.builder;
 
-import org.apache.commons.lang3.StringUtils;
 import org.egov.common.data.query.exception.QueryBuilderException;
 import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 @Component
@@ -38,7 +36,8 @@ public class SelectQueryBuilder implements GenericQueryBuilder {
     }
 
     /**
-     * Generates a SQL clause for selection from a database table
+     * Generates a SQL clause for selection from a database table. Query shapes are cached per class
+     * and set of non-null fields in {@link QueryShapeCache}.
      *
      * @param schemaTemplate      the name of the database schema
      * @param tableName           the name of the database table
@@ -46,13 +45,10 @@ public class SelectQueryBuilder implements GenericQueryBuilder {
      * @return the generated clause as a string
      */
     public String build(Object object, String tableName, String schemaTemplate) throws QueryBuilderException {
-        StringBuilder queryStringBuilder = null;
         try {
-            List<String> whereClauses = GenericQueryBuilder.getFieldsWithCondition(object, QueryFieldChecker.isNotNull, paramsMap);
-            queryStringBuilder = GenericQueryBuilder.generateQuery(GenericQueryBuilder.selectQueryTemplate(schemaTemplate, tableName), whereClauses);
+            return QueryShapeCache.getInstance().getSelectQuery(object, tableName, schemaTemplate, paramsMap);
         } catch (Exception exception) {
             throw new QueryBuilderException(exception.getMessage());
         }
-        return queryStringBuilder.toString();
     }
 }
@@ -2,36 +2,45 @@ package org.egov.common.data.repository;
 
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.egov.common.contract.models.AuditDetails;
+import org.egov.common.data.cache.CacheStats;
+import org.egov.common.data.cache.NearCache;
+import org.egov.common.data.cache.RedisCacheLayout;
 import org.egov.common.data.query.builder.SelectQueryBuilder;
 import org.egov.common.data.query.exception.QueryBuilderException;
 import org.egov.common.exception.InvalidTenantIdException;
 import org.egov.common.models.core.SearchResponse;
 import org.egov.common.producer.Producer;
+import org.egov.common.utils.AccessorRegistry;
 import org.egov.common.utils.CommonUtils;
 import org.egov.common.utils.MultiStateInstanceUtil;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.util.ObjectUtils;
-import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static org.egov.common.utils.CommonUtils.constructEstimatedCountAndReturnResult;
 import static org.egov.common.utils.CommonUtils.constructTotalCountCTEAndReturnResult;
 import static org.egov.common.utils.CommonUtils.getIdMethod;
-import static org.egov.common.utils.CommonUtils.getMethod;
 import static org.egov.common.utils.CommonUtils.getObjClass;
 import static org.egov.common.utils.CommonUtils.getSchemaName;
 import static org.egov.common.utils.MultiStateInstanceUtil.SCHEMA_REPLACE_STRING;
@@ -57,11 +66,19 @@ public abstract class GenericRepository<T> {
     @Autowired
     protected MultiStateInstanceUtil multiStateInstanceUtil;
 
+    @Autowired(required = false)
+    protected NearCache nearCache;
+
+    private final CacheStats redisCacheStats = new CacheStats();
+
     protected String tableName;
 
     @Value("${spring.cache.redis.time-to-live:60}")
     private String timeToLive;
 
+    @Value("${health.cache.redis.layout:LEGACY}")
+    private RedisCacheLayout cacheLayout;
+
     protected GenericRepository(Producer producer, NamedParameterJdbcTemplate namedParameterJdbcTemplate,
                                 RedisTemplate<String, Object> redisTemplate,
                                 SelectQueryBuilder selectQueryBuilder, RowMapper<T> rowMapper,
@@ -94,27 +111,67 @@ public abstract class GenericRepository<T> {
      * @return A list of entities found by the given IDs.
      */
     protected List<T> findInCache(String tenantId, List<String> ids) {
-        ArrayList<T> objFound = new ArrayList<>();
-        Collection<Object> collection = ids.stream().filter(Objects::nonNull)
+        List<String> idsToSearch = ids.stream().filter(Objects::nonNull).distinct()
                 .collect(Collectors.toList());
         log.info("Searching in cache");
-        String cacheTableName = tableName;
-        String schemaName = getSchemaName(tenantId, multiStateInstanceUtil);
-        if(!ObjectUtils.isEmpty(schemaName)) {
-            cacheTableName = schemaName.concat("-").concat(cacheTableName);
+        String cacheTableName = getCacheTableName(tenantId);
+        if (RedisCacheLayout.LEGACY.equals(cacheLayout)) {
+            return findInCacheTable(cacheTableName, idsToSearch);
         }
-        List<Object> objFromCache = redisTemplate.opsForHash()
-                .multiGet(cacheTableName, collection).stream().filter(Objects::nonNull).collect(Collectors.toList());
-        if (!objFromCache.isEmpty()) {
-            if (objFromCache.size() == 1 && objFromCache.contains(null)) {
-                log.info("Cache miss");
-            } else {
-                log.info("Cache hit, {} items found", objFromCache.size());
-                objFound = (ArrayList<T>) objFromCache.stream().map(Object.class::cast)
-                        .collect(Collectors.toList());
+
+        Map<String, Object> objFromCache = new LinkedHashMap<>();
+        if (nearCache != null) {
+            objFromCache.putAll(nearCache.getAll(cacheTableName, idsToSearch));
+        }
+
+        List<String> idsNotInNearCache = idsToSearch.stream().filter(id -> !objFromCache.containsKey(id))
+                .collect(Collectors.toList());
+        if (!idsNotInNearCache.isEmpty()) {
+            List<Object> objFromRedis = redisTemplate.opsForValue().multiGet(idsNotInNearCache.stream()
+                    .map(id -> getCacheKey(cacheTableName, id)).collect(Collectors.toList()));
+            Map<String, Object> foundInRedis = new HashMap<>();
+            if (objFromRedis != null) {
+                for (int i = 0; i < Math.min(objFromRedis.size(), idsNotInNearCache.size()); i++) {
+                    if (objFromRedis.get(i) != null) {
+                        foundInRedis.put(idsNotInNearCache.get(i), objFromRedis.get(i));
+                    }
+                }
             }
-        } else {
+            redisCacheStats.recordHits(foundInRedis.size());
+            redisCacheStats.recordMisses(idsNotInNearCache.size() - foundInRedis.size());
+            if (nearCache != null) {
+                nearCache.putAllLocal(cacheTableName, foundInRedis);
+            }
+            objFromCache.putAll(foundInRedis);
+        }
+
+        if (objFromCache.isEmpty()) {
+            log.info("Cache miss");
+            return new ArrayList<>();
+        }
+        log.info("Cache hit, {} items found", objFromCache.size());
+        return objFromCache.values().stream().map(obj -> (T) obj).collect(Collectors.toList());
+    }
+
+    /**
+     * Reads entities from the per-table hash written by releases before the per-entity layout.
+     *
+     * @param cacheTableName the schema aware cache table name
+     * @param ids            the distinct non null ids to read
+     * @return the entities found
+     */
+    private List<T> findInCacheTable(String cacheTableName, List<String> ids) {
+        List<Object> objFromRedis = redisTemplate.opsForHash().multiGet(cacheTableName, new ArrayList<>(ids));
+        List<T> objFound = new ArrayList<>();
+        if (objFromRedis != null) {
+            objFromRedis.stream().filter(Objects::nonNull).forEach(obj -> objFound.add((T) obj));
+        }
+        redisCacheStats.recordHits(objFound.size());
+        redisCacheStats.recordMisses(ids.size() - objFound.size());
+        if (objFound.isEmpty()) {
             log.info("Cache miss");
+        } else {
+            log.info("Cache hit, {} items found", objFound.size());
         }
         return objFound;
     }
@@ -148,15 +205,15 @@ public abstract class GenericRepository<T> {
         List<T> objFound = findInCache(tenantId, ids);
 
         if (!objFound.isEmpty()) {
-            Method idMethod = getIdMethod(objFound, columnName);
-            Method isDeleted = getMethod("getIsDeleted", getObjClass(objFound));
+            Function<Object, Object> getId = AccessorRegistry.getter(getIdMethod(objFound, columnName));
+            Function<Object, Object> getIsDeleted = AccessorRegistry.getter("getIsDeleted", getObjClass(objFound));
             if (!includeDeleted) {
                 objFound = objFound.stream()
-                        .filter(entity -> Objects.equals(ReflectionUtils.invokeMethod(isDeleted, entity), false))
+                        .filter(entity -> Objects.equals(getIsDeleted.apply(entity), false))
                         .collect(Collectors.toList());
             }
             ids.removeAll(objFound.stream()
-                    .map(obj -> (String) ReflectionUtils.invokeMethod(idMethod, obj))
+                    .map(obj -> (String) getId.apply(obj))
                     .collect(Collectors.toList()));
             if (ids.isEmpty()) {
                 return objFound;
@@ -220,11 +277,12 @@ public abstract class GenericRepository<T> {
     protected void cacheByKey(List<T> objects, String fieldName) {
         try{
             Method getIdMethod = getIdMethod(objects, fieldName);
-            if (ReflectionUtils.invokeMethod(getIdMethod, objects.stream().findAny().get()) != null) {
+            Function<Object, Object> getId = AccessorRegistry.getter(getIdMethod);
+            if (getId.apply(objects.stream().findAny().get()) != null) {
                 Map<String, T> objMap = objects.stream()
                         .collect(Collectors
                                 .toMap(obj -> {
-                                            String str =  (String) ReflectionUtils.invokeMethod(getIdMethod, obj);
+                                            String str =  (String) getId.apply(obj);
                                             log.info("Caching the {}: {}", getIdMethod.getName(), str);
                                             return str;
                                         }
@@ -232,20 +290,70 @@ public abstract class GenericRepository<T> {
                                         obj -> obj,
                                         // in case of duplicates pick the latter
                                         (obj1, obj2) -> obj2));
-                String cacheTableName = tableName;
-                String tenantId = CommonUtils.getTenantId(objects);
-                String schemaName = getSchemaName(tenantId, multiStateInstanceUtil);
-                if(!ObjectUtils.isEmpty(schemaName)) {
-                    cacheTableName = schemaName.concat("-").concat(cacheTableName);
+                String cacheTableName = getCacheTableName(CommonUtils.getTenantId(objects));
+                long ttl = Long.parseLong(timeToLive);
+                boolean writeCacheTable = !RedisCacheLayout.ENTRY.equals(cacheLayout);
+                // every entry gets its own, slightly jittered, expiry so that entries of a table cached
+                // together do not all expire at the same instant
+                redisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    public <K, V> Object execute(RedisOperations<K, V> operations) {
+                        ValueOperations<String, Object> valueOperations =
+                                (ValueOperations<String, Object>) operations.opsForValue();
+                        objMap.forEach((id, obj) -> valueOperations.set(getCacheKey(cacheTableName, id), obj,
+                                getJitteredTimeToLive(ttl), TimeUnit.SECONDS));
+                        // pods still reading the per-table hash see this write too
+                        if (writeCacheTable) {
+                            K key = (K) cacheTableName;
+                            operations.opsForHash().putAll(key, objMap);
+                            operations.expire(key, ttl, TimeUnit.SECONDS);
+                        }
+                        return null;
+                    }
+                });
+                if (nearCache != null) {
+                    nearCache.putAll(cacheTableName, objMap);
                 }
-                redisTemplate.opsForHash().putAll(cacheTableName, objMap);
-                redisTemplate.expire(cacheTableName, Long.parseLong(timeToLive), TimeUnit.SECONDS);
             }
         } catch (Exception exception) {
             log.warn("Error while saving to cache: {}", ExceptionUtils.getStackTrace(exception));
         }
     }
 
+    /**
+     * Returns the redis cache region for the table, prefixed with the schema name
+     * for the tenant id in a central instance.
+     *
+     * @param tenantId the tenant id
+     * @return the schema aware cache table name
+     */
+    protected String getCacheTableName(String tenantId) {
+        String cacheTableName = tableName;
+        String schemaName = getSchemaName(tenantId, multiStateInstanceUtil);
+        if(!ObjectUtils.isEmpty(schemaName)) {
+            cacheTableName = schemaName.concat("-").concat(cacheTableName);
+        }
+        return cacheTableName;
+    }
+
+    /**
+     * Hit and miss counters of the redis cache tier for this repository.
+     *
+     * @return the redis cache stats
+     */
+    public CacheStats getRedisCacheStats() {
+        return redisCacheStats;
+    }
+
+    private static String getCacheKey(String cacheTableName, String id) {
+        return cacheTableName + ":" + id;
+    }
+
+    private static long getJitteredTimeToLive(long ttl) {
+        long jitter = ttl / 10;
+        return jitter == 0 ? ttl : ttl - jitter + ThreadLocalRandom.current().nextLong(2 * jitter + 1);
+    }
+
     /**
      * Puts objects in cache.
      *
@@ -362,6 +470,89 @@ public abstract class GenericRepository<T> {
         return namedParameterJdbcTemplate.query(query, paramsMap, rowMapper);
     }
 
+    /**
+     * Finds entities based on search criteria using keyset (seek) pagination ordered by (lastModifiedTime, id).
+     *
+     * <p>Unlike {@link #find} and {@link #findWithCount}, the cost of a page does not grow with its depth.
+     * The returned response carries an opaque cursor for the next page, which is null once the last page
+     * has been returned.
+     *
+     * @param searchObject     The object containing search criteria.
+     * @param limit            The maximum number of entities to return.
+     * @param cursor           The cursor returned with the previous page, null or empty for the first page.
+     * @param tenantId         The tenant ID to filter entities.
+     * @param lastChangedSince The timestamp for last modified entities.
+     * @param includeDeleted   Flag to include deleted entities in the search result.
+     * @param totalCountMode   How the total count should be computed, if at all.
+     * @return A page of entities found based on the search criteria with the next cursor and total count,
+     *         the total count being null with {@link TotalCountMode#NONE}.
+     * @throws QueryBuilderException If an error occurs while building the query.
+     * @throws InvalidTenantIdException If an error occurs while replacing database schema name
+     */
+    public SearchResponse<T> findWithCursor(Object searchObject,
+                                            Integer limit,
+                                            String cursor,
+                                            String tenantId,
+                                            Long lastChangedSince,
+                                            Boolean includeDeleted,
+                                            TotalCountMode totalCountMode) throws QueryBuilderException, InvalidTenantIdException {
+        String query = selectQueryBuilder.build(searchObject, tableName, SCHEMA_REPLACE_STRING);
+        query += " AND tenantId=:tenantId ";
+        if (query.contains(tableName + " AND")) {
+            query = query.replace(tableName + " AND", tableName + " WHERE");
+        }
+        if (Boolean.FALSE.equals(includeDeleted)) {
+            query += "AND isDeleted=:isDeleted ";
+        }
+        if (lastChangedSince != null) {
+            query += "AND lastModifiedTime>=:lastModifiedTime ";
+        }
+        Map<String, Object> paramsMap = selectQueryBuilder.getParamsMap();
+        paramsMap.put("tenantId", tenantId);
+        paramsMap.put("isDeleted", includeDeleted);
+        paramsMap.put("lastModifiedTime", lastChangedSince);
+        query = multiStateInstanceUtil.replaceSchemaPlaceholder(query, tenantId);
+
+        Long totalCount = null;
+        if (TotalCountMode.EXACT.equals(totalCountMode)) {
+            totalCount = constructTotalCountCTEAndReturnResult(query, paramsMap, namedParameterJdbcTemplate);
+        } else if (TotalCountMode.ESTIMATED.equals(totalCountMode)) {
+            totalCount = constructEstimatedCountAndReturnResult(query, paramsMap, namedParameterJdbcTemplate);
+        }
+
+        SearchCursor searchCursor = SearchCursor.decode(cursor);
+        if (searchCursor != null) {
+            query += "AND (lastModifiedTime, id) > (:cursorLastModifiedTime, :cursorId) ";
+            paramsMap.put("cursorLastModifiedTime", searchCursor.getLastModifiedTime());
+            paramsMap.put("cursorId", searchCursor.getId());
+        }
+        query += "ORDER BY lastModifiedTime ASC, id ASC LIMIT :limit";
+        paramsMap.put("limit", limit);
+
+        List<T> resultantList = namedParameterJdbcTemplate.query(query, paramsMap, rowMapper);
+
+        String nextCursor = null;
+        if (!resultantList.isEmpty() && resultantList.size() == limit) {
+            nextCursor = getCursor(resultantList.get(resultantList.size() - 1)).encode();
+        }
+        // Without a count the total is unknown, not the size of this page
+        return SearchResponse.<T>builder().response(resultantList).totalCount(totalCount)
+                .totalCountUnknown(totalCount == null).nextCursor(nextCursor).build();
+    }
+
+    /**
+     * Builds the cursor pointing at the given entity, using its id and auditDetails.lastModifiedTime.
+     *
+     * @param entity the last entity of a page
+     * @return the cursor for the entity
+     */
+    protected SearchCursor getCursor(T entity) {
+        AuditDetails auditDetails = (AuditDetails) AccessorRegistry.getter("getAuditDetails", entity.getClass())
+                .apply(entity);
+        String id = (String) AccessorRegistry.getter("getId", entity.getClass()).apply(entity);
+        return new SearchCursor(auditDetails.getLastModifiedTime(), id);
+    }
+
     /**
      * Validates IDs against existing entities.
      *
@@ -376,8 +567,8 @@ public abstract class GenericRepository<T> {
         if (validIds.isEmpty()) {
             return Collections.emptyList();
         }
-        Method idMethod = getIdMethod(validIds, columnName);
-        return validIds.stream().map((obj) -> (String) ReflectionUtils.invokeMethod(idMethod, obj))
+        Function<Object, Object> getId = AccessorRegistry.getter(getIdMethod(validIds, columnName));
+        return validIds.stream().map((obj) -> (String) getId.apply(obj))
                 .collect(Collectors.toList());
     }
 
@@ -0,0 +1,59 @@
+package org.egov.common.data.repository;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.egov.tracer.model.CustomException;
+import org.springframework.util.ObjectUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a page in keyset pagination, ordered by (lastModifiedTime, id).
+ *
+ * <p>The cursor is exchanged with clients as an opaque url-safe base64 string.
+ */
+@Getter
+@AllArgsConstructor
+public class SearchCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private final Long lastModifiedTime;
+
+    private final String id;
+
+    /**
+     * Encodes the cursor as an opaque string.
+     *
+     * @return the encoded cursor
+     */
+    public String encode() {
+        String raw = lastModifiedTime + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously returned by {@link #encode()}.
+     *
+     * @param cursor the encoded cursor, may be empty for the first page
+     * @return the decoded cursor or null if the cursor is empty
+     * @throws CustomException if the cursor is malformed
+     */
+    public static SearchCursor decode(String cursor) {
+        if (ObjectUtils.isEmpty(cursor)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.indexOf(SEPARATOR);
+            if (separatorIndex <= 0 || separatorIndex == raw.length() - 1) {
+                throw new IllegalArgumentException("missing separator");
+            }
+            return new SearchCursor(Long.parseLong(raw.substring(0, separatorIndex)),
+                    raw.substring(separatorIndex + 1));
+        } catch (IllegalArgumentException exception) {
+            throw new CustomException("INVALID_CURSOR", "Invalid search cursor: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package org.egov.common.data.repository;
+
+/**
+ * How the total count is computed for a paginated search.
+ */
+public enum TotalCountMode {
+    /**
+     * Exact count of all matching rows using a COUNT(*) over the search query.
+     */
+    EXACT,
+    /**
+     * Row estimate from the query planner, cheap but approximate.
+     */
+    ESTIMATED,
+    /**
+     * No count is computed.
+     */
+    NONE
+}
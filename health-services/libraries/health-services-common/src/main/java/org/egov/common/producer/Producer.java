@@ -1,13 +1,34 @@
 package org.egov.common.producer;
 
 import lombok.extern.slf4j.Slf4j;
-import org.egov.common.utils.CommonUtils;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.utils.Utils;
+import org.egov.common.utils.AccessorRegistry;
 import org.egov.common.utils.MultiStateInstanceUtil;
 import org.egov.tracer.kafka.CustomKafkaTemplate;
+import org.egov.tracer.model.CustomException;
 import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
 
 import static org.egov.tracer.constants.TracerConstants.TENANTID_MDC;
 
@@ -17,26 +38,84 @@ import static org.egov.tracer.constants.TracerConstants.TENANTID_MDC;
 @Slf4j
 public class Producer {
 
+    private static final int UNKNOWN_PARTITION = -1;
+
     private final CustomKafkaTemplate<String, Object> kafkaTemplate;
     private final MultiStateInstanceUtil multiStateInstanceUtil;
 
+    /**
+     * Plain kafka template used by the batched mode, whose sends are not blocking.
+     */
+    @Autowired(required = false)
+    private KafkaTemplate<String, Object> asyncKafkaTemplate;
+
+    @Value("${health.producer.batch.enabled:false}")
+    private boolean batchEnabled;
+
+    @Value("${health.producer.batch.max-entities-per-record:100}")
+    private int maxEntitiesPerRecord;
+
+    private final Map<String, String> resolvedTopicNames = new ConcurrentHashMap<>();
+
+    private final Map<String, Integer> partitionCounts = new ConcurrentHashMap<>();
+
+    private final List<ProducerFailureHandler> failureHandlers = new CopyOnWriteArrayList<>();
+
+    private final LongAdder sentRecords = new LongAdder();
+
+    private final LongAdder failedRecords = new LongAdder();
+
     @Autowired
     public Producer(CustomKafkaTemplate<String, Object> kafkaTemplate, MultiStateInstanceUtil multiStateInstanceUtil) {
         this.kafkaTemplate = kafkaTemplate;
         this.multiStateInstanceUtil = multiStateInstanceUtil;
     }
 
+    /**
+     * Registers the failure handlers defined as beans.
+     *
+     * @param failureHandlers handlers notified of failed asynchronous sends.
+     */
+    @Autowired(required = false)
+    public void setFailureHandlers(List<ProducerFailureHandler> failureHandlers) {
+        this.failureHandlers.addAll(failureHandlers);
+    }
+
+    /**
+     * Adds a handler notified of failed asynchronous sends.
+     *
+     * @param failureHandler the handler to add.
+     */
+    public void addFailureHandler(ProducerFailureHandler failureHandler) {
+        failureHandlers.add(failureHandler);
+    }
+
     /**
      * push objects to kafka with modified topic for a specified tenant based on
-     * central instance environment configuration
+     * central instance environment configuration.
+     *
+     * <p>When {@code health.producer.batch.enabled} is set, lists are pushed with
+     * {@link #pushBatched(String, String, List)} instead of as a single record. All records are sent before
+     * waiting for any of them, and a failed record fails the push as a blocking send would.
      *
      * @param tenantId tenant id to get the topic for.
      * @param topic    topic name to push changes for.
      * @param value    Object which needs to be pushed.
+     * @throws CustomException if a record of a batched push could not be sent.
      */
     public void push(String tenantId, String topic, Object value) {
-        String updatedTopic = multiStateInstanceUtil.getStateSpecificTopicName(tenantId, topic);
-        log.info("The Kafka topic for the tenantId : {} is : {}", tenantId, updatedTopic);
+        if (batchEnabled && asyncKafkaTemplate != null && value instanceof List) {
+            try {
+                pushBatched(tenantId, topic, (List<?>) value).join();
+            } catch (CompletionException exception) {
+                Throwable cause = exception.getCause() == null ? exception : exception.getCause();
+                throw new CustomException("KAFKA_PUSH_ERROR",
+                        "Error while pushing to topic " + topic + ": " + cause.getMessage());
+            }
+            return;
+        }
+        String updatedTopic = getResolvedTopicName(tenantId, topic);
+        log.debug("The Kafka topic for the tenantId : {} is : {}", tenantId, updatedTopic);
         // seed tenantId into MDC (restore after) so the producer interceptor can stamp the header
         boolean seeded = ObjectUtils.isEmpty(MDC.get(TENANTID_MDC)) && !ObjectUtils.isEmpty(tenantId);
         if (seeded)
@@ -49,6 +128,39 @@ public class Producer {
         }
     }
 
+    /**
+     * push a list of entities to kafka as several records without waiting for the broker.
+     *
+     * <p>Entities are split into records of at most {@code health.producer.batch.max-entities-per-record}
+     * entities. Entities are grouped by the partition their clientReferenceId hashes to, so that all
+     * changes to an entity land on the same partition in order, and every record is keyed by the
+     * clientReferenceId of its first entity. Failed sends are counted and reported to the registered
+     * {@link ProducerFailureHandler}s.
+     *
+     * @param tenantId tenant id to get the topic for.
+     * @param topic    topic name to push changes for.
+     * @param entities entities which need to be pushed.
+     * @return future completed when every record is acknowledged, or completed exceptionally when any failed.
+     */
+    public CompletableFuture<Void> pushBatched(String tenantId, String topic, List<?> entities) {
+        String updatedTopic = getResolvedTopicName(tenantId, topic);
+        List<ProducerRecord<String, Object>> records = toRecords(updatedTopic, entities);
+        log.debug("Pushing {} entities as {} records to topic {}", entities.size(), records.size(), updatedTopic);
+        boolean seeded = ObjectUtils.isEmpty(MDC.get(TENANTID_MDC)) && !ObjectUtils.isEmpty(tenantId);
+        if (seeded)
+            MDC.put(TENANTID_MDC, tenantId);
+        try {
+            CompletableFuture<?>[] futures = new CompletableFuture<?>[records.size()];
+            for (int i = 0; i < records.size(); i++) {
+                futures[i] = send(records.get(i));
+            }
+            return CompletableFuture.allOf(futures);
+        } finally {
+            if (seeded)
+                MDC.remove(TENANTID_MDC);
+        }
+    }
+
     /**
      * push objects to specified kafka topic
      *
@@ -68,6 +180,113 @@ public class Producer {
      * @return resolved topic name (prefixed when central instance is enabled).
      */
     public String getResolvedTopicName(String tenantId, String baseTopic) {
-        return multiStateInstanceUtil.getStateSpecificTopicName(tenantId, baseTopic);
+        if (tenantId == null) {
+            return multiStateInstanceUtil.getStateSpecificTopicName(tenantId, baseTopic);
+        }
+        return resolvedTopicNames.computeIfAbsent(tenantId + "|" + baseTopic,
+                key -> multiStateInstanceUtil.getStateSpecificTopicName(tenantId, baseTopic));
+    }
+
+    public long getSentRecordCount() {
+        return sentRecords.sum();
+    }
+
+    public long getFailedRecordCount() {
+        return failedRecords.sum();
+    }
+
+    private CompletableFuture<?> send(ProducerRecord<String, Object> record) {
+        return asyncKafkaTemplate.send(record).whenComplete((result, throwable) -> {
+            if (throwable == null) {
+                sentRecords.increment();
+                return;
+            }
+            failedRecords.increment();
+            log.error("Error while pushing record with key {} to topic {}", record.key(), record.topic(), throwable);
+            for (ProducerFailureHandler failureHandler : failureHandlers) {
+                try {
+                    failureHandler.onFailure(record.topic(), record.key(), record.value(), throwable);
+                } catch (Exception exception) {
+                    log.error("Producer failure handler failed", exception);
+                }
+            }
+        });
+    }
+
+    /**
+     * Groups the entities by target partition and splits every group into size-bounded records.
+     * Entities without a clientReferenceId, or topics whose partitions cannot be looked up,
+     * are split in their original order and left to the default partitioner.
+     */
+    private List<ProducerRecord<String, Object>> toRecords(String topic, List<?> entities) {
+        if (entities.isEmpty()) {
+            return Collections.singletonList(new ProducerRecord<>(topic, entities));
+        }
+        Function<Object, Object> getClientReferenceId = getClientReferenceIdGetter(entities);
+        int partitions = getClientReferenceId == null ? 0 : getPartitionCount(topic);
+
+        Map<Integer, List<Object>> entitiesByPartition = new LinkedHashMap<>();
+        for (Object entity : entities) {
+            String key = getKey(getClientReferenceId, entity);
+            int partition = key == null || partitions == 0 ? UNKNOWN_PARTITION
+                    : Utils.toPositive(Utils.murmur2(key.getBytes(StandardCharsets.UTF_8))) % partitions;
+            entitiesByPartition.computeIfAbsent(partition, p -> new ArrayList<>()).add(entity);
+        }
+
+        int limit = Math.max(1, maxEntitiesPerRecord);
+        List<ProducerRecord<String, Object>> records = new ArrayList<>();
+        entitiesByPartition.forEach((partition, partitionEntities) -> {
+            for (int from = 0; from < partitionEntities.size(); from += limit) {
+                List<Object> chunk = new ArrayList<>(partitionEntities.subList(from,
+                        Math.min(from + limit, partitionEntities.size())));
+                records.add(new ProducerRecord<>(topic, partition == UNKNOWN_PARTITION ? null : partition,
+                        getKey(getClientReferenceId, chunk.get(0)), chunk));
+            }
+        });
+        return records;
+    }
+
+    private int getPartitionCount(String topic) {
+        Integer count = partitionCounts.get(topic);
+        if (count != null) {
+            return count;
+        }
+        try {
+            List<PartitionInfo> partitionInfos = asyncKafkaTemplate.partitionsFor(topic);
+            count = partitionInfos == null ? 0 : partitionInfos.size();
+        } catch (Exception exception) {
+            log.warn("Could not look up partitions for topic {}: {}", topic, exception.getMessage());
+            return 0;
+        }
+        if (count > 0) {
+            partitionCounts.put(topic, count);
+        }
+        return count;
+    }
+
+    /**
+     * Returns the clientReferenceId getter of the list's entity type, or null when the entities have none.
+     * Entities of another type than the first one are not keyed.
+     */
+    private static Function<Object, Object> getClientReferenceIdGetter(List<?> entities) {
+        Object first = entities.get(0);
+        if (first == null) {
+            return null;
+        }
+        Class<?> entityClass = first.getClass();
+        Method method = ReflectionUtils.findMethod(entityClass, "getClientReferenceId");
+        if (method == null) {
+            return null;
+        }
+        Function<Object, Object> getter = AccessorRegistry.getter(method);
+        return entity -> entityClass.isInstance(entity) ? getter.apply(entity) : null;
+    }
+
+    private static String getKey(Function<Object, Object> getClientReferenceId, Object entity) {
+        if (getClientReferenceId == null) {
+            return null;
+        }
+        Object key = getClientReferenceId.apply(entity);
+        return key == null ? null : key.toString();
     }
 }
@@ -0,0 +1,20 @@
+package org.egov.common.producer;
+
+/**
+ * Callback notified when an asynchronous send of the batched {@link Producer} fails.
+ *
+ * <p>Beans implementing this interface are picked up by the {@link Producer} automatically.
+ */
+@FunctionalInterface
+public interface ProducerFailureHandler {
+
+    /**
+     * Called once for every record that could not be written.
+     *
+     * @param topic     the resolved topic the record was sent to.
+     * @param key       the record key, the clientReferenceId of the first entity in the record.
+     * @param value     the entities carried by the record.
+     * @param throwable the cause of the failure.
+     */
+    void onFailure(String topic, String key, Object value, Throwable throwable);
+}
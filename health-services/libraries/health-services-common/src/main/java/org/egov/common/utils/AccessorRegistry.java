@@ -0,0 +1,158 @@
+package org.egov.common.utils;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Registry of compiled getter and setter accessors for model classes.
+ *
+ * <p>Accessors are generated once per {@link Method} using {@link LambdaMetafactory}, so that repeated
+ * calls on bulk payloads are plain interface calls instead of {@link ReflectionUtils#invokeMethod}.
+ * If a method cannot be compiled (for example a non-public method or a class loaded by a foreign
+ * class loader) the accessor falls back to reflection, keeping the behaviour identical to the old path.
+ */
+@Slf4j
+public class AccessorRegistry {
+
+    private static final Map<Method, Function<Object, Object>> getterCache = new ConcurrentHashMap<>();
+
+    private static final Map<Method, BiConsumer<Object, Object>> setterCache = new ConcurrentHashMap<>();
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private AccessorRegistry() {
+    }
+
+    /**
+     * Returns a compiled getter for the given no-arg method.
+     *
+     * @param method the getter method
+     * @return a function invoking the getter on the object passed to it
+     */
+    public static Function<Object, Object> getter(Method method) {
+        return getterCache.computeIfAbsent(method, AccessorRegistry::compileGetter);
+    }
+
+    /**
+     * Returns a compiled getter for the method with the given name on the given class.
+     *
+     * @param methodName name of the getter method
+     * @param clazz      class declaring or inheriting the method
+     * @return a function invoking the getter on the object passed to it
+     */
+    public static Function<Object, Object> getter(String methodName, Class<?> clazz) {
+        return getter(CommonUtils.getMethod(methodName, clazz));
+    }
+
+    /**
+     * Returns a compiled setter for the given single-arg method.
+     *
+     * @param method the setter method
+     * @return a consumer invoking the setter with (object, value)
+     */
+    public static BiConsumer<Object, Object> setter(Method method) {
+        return setterCache.computeIfAbsent(method, AccessorRegistry::compileSetter);
+    }
+
+    /**
+     * Returns a compiled setter for the method with the given name on the given class.
+     *
+     * @param methodName name of the setter method
+     * @param clazz      class declaring or inheriting the method
+     * @return a consumer invoking the setter with (object, value)
+     */
+    public static BiConsumer<Object, Object> setter(String methodName, Class<?> clazz) {
+        return setter(CommonUtils.getMethod(methodName, clazz));
+    }
+
+    /**
+     * Invokes the getter using its compiled accessor.
+     *
+     * @param method the getter method
+     * @param target the object to invoke the getter on
+     * @return the value returned by the getter
+     */
+    public static Object get(Method method, Object target) {
+        return getter(method).apply(target);
+    }
+
+    /**
+     * Invokes the setter using its compiled accessor.
+     *
+     * @param method the setter method
+     * @param target the object to invoke the setter on
+     * @param value  the value to set
+     */
+    public static void set(Method method, Object target, Object value) {
+        setter(method).accept(target, value);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> compileGetter(Method method) {
+        if (isCompilable(method, 0)) {
+            try {
+                MethodHandles.Lookup lookup = lookupFor(method.getDeclaringClass());
+                MethodHandle handle = lookup.unreflect(method);
+                CallSite site = LambdaMetafactory.metafactory(lookup, "apply",
+                        MethodType.methodType(Function.class),
+                        MethodType.methodType(Object.class, Object.class),
+                        handle,
+                        handle.type().wrap());
+                return (Function<Object, Object>) site.getTarget().invokeExact();
+            } catch (Throwable throwable) {
+                log.debug("Falling back to reflection for getter {}: {}", method, throwable.getMessage());
+            }
+        }
+        return target -> ReflectionUtils.invokeMethod(method, target);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> compileSetter(Method method) {
+        if (isCompilable(method, 1)) {
+            try {
+                MethodHandles.Lookup lookup = lookupFor(method.getDeclaringClass());
+                MethodHandle handle = lookup.unreflect(method);
+                CallSite site = LambdaMetafactory.metafactory(lookup, "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class),
+                        handle,
+                        handle.type().wrap().changeReturnType(void.class));
+                return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+            } catch (Throwable throwable) {
+                log.debug("Falling back to reflection for setter {}: {}", method, throwable.getMessage());
+            }
+        }
+        return (target, value) -> ReflectionUtils.invokeMethod(method, target, value);
+    }
+
+    /**
+     * JDK classes cannot be opened for a private lookup, but their public methods are visible
+     * from every class loader, so the registry's own lookup is used for them.
+     */
+    private static MethodHandles.Lookup lookupFor(Class<?> clazz) throws IllegalAccessException {
+        if (clazz.getClassLoader() == null) {
+            return LOOKUP;
+        }
+        return MethodHandles.privateLookupIn(clazz, LOOKUP);
+    }
+
+    private static boolean isCompilable(Method method, int parameterCount) {
+        int modifiers = method.getModifiers();
+        return method.getParameterCount() == parameterCount
+                && Modifier.isPublic(modifiers)
+                && !Modifier.isStatic(modifiers)
+                && Modifier.isPublic(method.getDeclaringClass().getModifiers());
+    }
+}
@@ -13,6 +13,7 @@ import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
@@ -34,6 +35,7 @@ import org.egov.common.models.Error;
 import org.egov.common.models.ErrorDetails;
 import org.egov.common.models.core.URLParams;
 import org.egov.common.validator.Validator;
+import org.egov.common.validator.ValidatorEngine;
 import org.egov.tracer.model.CustomException;
 import org.egov.tracer.model.ErrorDetail;
 import org.egov.tracer.model.ErrorEntity;
@@ -53,6 +55,8 @@ public class CommonUtils {
 
     private static final Map<Class<?>, Map<String, Method>> methodCache = new ConcurrentHashMap<>();
 
+    private static final Pattern PLAN_ROWS_PATTERN = Pattern.compile("rows=(\\d+)");
+
     private static ObjectMapper objectMapper = new ObjectMapper();
 
     private CommonUtils() {
@@ -65,42 +69,41 @@ public class CommonUtils {
     @Deprecated
     public static boolean isForUpdate(Object obj) {
         Method getApiOperationMethod = getMethod(GET_API_OPERATION, obj.getClass());
-        Object apiOperation = ReflectionUtils.invokeMethod(getApiOperationMethod, obj);
+        Object apiOperation = AccessorRegistry.get(getApiOperationMethod, obj);
         if (apiOperation == null) {
             return false;
         }
         Method nameMethod = CommonUtils.getMethod("name", Enum.class);
-        return "UPDATE".equals(ReflectionUtils.invokeMethod(nameMethod, apiOperation));
+        return "UPDATE".equals(AccessorRegistry.get(nameMethod, apiOperation));
     }
 
     //TODO To be removed as it is only used by Product service which is now depricated
     @Deprecated
     public static boolean isForDelete(Object obj) {
         Method getApiOperationMethod = getMethod(GET_API_OPERATION, obj.getClass());
-        Object apiOperation = ReflectionUtils.invokeMethod(getApiOperationMethod, obj);
+        Object apiOperation = AccessorRegistry.get(getApiOperationMethod, obj);
         if (apiOperation == null) {
             return false;
         }
         Method nameMethod = CommonUtils.getMethod("name", Enum.class);
-        return "DELETE".equals(ReflectionUtils.invokeMethod(nameMethod, apiOperation));
+        return "DELETE".equals(AccessorRegistry.get(nameMethod, apiOperation));
     }
 
     //TODO To be removed as it is only used by Product service which is now depricated
     @Deprecated
     public static boolean isForCreate(Object obj) {
         Method getApiOperationMethod = getMethod(GET_API_OPERATION, obj.getClass());
-        Object apiOperation = ReflectionUtils.invokeMethod(getApiOperationMethod, obj);
+        Object apiOperation = AccessorRegistry.get(getApiOperationMethod, obj);
         if (apiOperation == null) {
             return false;
         }
         Method nameMethod = CommonUtils.getMethod("name", Enum.class);
-        String value = (String) ReflectionUtils.invokeMethod(nameMethod, apiOperation);
+        String value = (String) AccessorRegistry.get(nameMethod, apiOperation);
         return "CREATE".equals(value);
     }
 
     public static <T, R> Set<T> getSet(List<R> objects, String methodName) {
-        return objects.stream().map(o -> (T) ReflectionUtils
-                .invokeMethod(getMethod(methodName, o.getClass()), o))
+        return objects.stream().map(o -> (T) AccessorRegistry.get(getMethod(methodName, o.getClass()), o))
                 .collect(Collectors.toSet());
     }
 
@@ -199,14 +202,14 @@ public class CommonUtils {
         }
 
         // Get the ID of the object
-        Object id = ReflectionUtils.invokeMethod(getFieldMethod, obj);
+        Object id = AccessorRegistry.get(getFieldMethod, obj);
         // If ID is null, return false
         if (id == null) {
             return false;
         }
 
         // Set the ID to the final object
-        ReflectionUtils.invokeMethod(setFieldMethod, finalObject, id);
+        AccessorRegistry.set(setFieldMethod, finalObject, id);
 
         // If the object is an instance of URLParams, set common properties
         if (obj instanceof URLParams) {
@@ -272,10 +275,10 @@ public class CommonUtils {
         Class<?> objClass = getObjClass(objList);
         Method rowVersionMethod = getMethod("getRowVersion", objClass);
         Set<Object> rowVersionMismatch = objList.stream()
-                .filter(obj -> !Objects.equals(ReflectionUtils.invokeMethod(rowVersionMethod, obj),
-                        ReflectionUtils.invokeMethod(rowVersionMethod,
-                                idToObjMap.get(ReflectionUtils.invokeMethod(idMethod, obj)))))
-                .map(obj -> ReflectionUtils.invokeMethod(idMethod, obj)).collect(Collectors.toSet());
+                .filter(obj -> !Objects.equals(AccessorRegistry.get(rowVersionMethod, obj),
+                        AccessorRegistry.get(rowVersionMethod,
+                                idToObjMap.get(AccessorRegistry.get(idMethod, obj)))))
+                .map(obj -> AccessorRegistry.get(idMethod, obj)).collect(Collectors.toSet());
         if (!rowVersionMismatch.isEmpty()) {
             log.error("Mismatch in row versions {}", rowVersionMismatch);
             throw new CustomException("ROW_VERSION_MISMATCH", rowVersionMismatch.toString());
@@ -298,10 +301,10 @@ public class CommonUtils {
         Method rowVersionMethod = getMethod("getRowVersion", objClass);
         // Filter the object list to include only those with mismatched row versions
         return objList.stream()
-                .filter(obj -> !Objects.equals(ReflectionUtils.invokeMethod(rowVersionMethod, obj),
-                        ReflectionUtils.invokeMethod(rowVersionMethod,
-                                idToObjMap.get(ReflectionUtils.invokeMethod(idMethod, obj)))))
-                .map(obj -> idToObjMap.get(ReflectionUtils.invokeMethod(idMethod, obj)))
+                .filter(obj -> !Objects.equals(AccessorRegistry.get(rowVersionMethod, obj),
+                        AccessorRegistry.get(rowVersionMethod,
+                                idToObjMap.get(AccessorRegistry.get(idMethod, obj)))))
+                .map(obj -> idToObjMap.get(AccessorRegistry.get(idMethod, obj)))
                 .collect(Collectors.toList());
     }
 
@@ -317,7 +320,7 @@ public class CommonUtils {
         // Get the method to retrieve the tenant ID
         Method getTenantIdMethod = getMethod("getTenantId", obj.getClass());
         // Invoke the method to retrieve the tenant ID
-        String tenantId = (String) ReflectionUtils.invokeMethod(getTenantIdMethod, obj);
+        String tenantId = (String) AccessorRegistry.get(getTenantIdMethod, obj);
         // Log the retrieved tenant ID
         log.info("tenantId is {}", tenantId);
         return tenantId;
@@ -355,19 +358,20 @@ public class CommonUtils {
                                            boolean updateRowVersion) {
         AuditDetails auditDetails = getAuditDetailsForCreate(requestInfo);
         Class<?> objClass = getObjClass(objList);
-        Method setIdMethod = getMethod("setId", objClass);
-        Method setAuditDetailsMethod = getMethod("setAuditDetails", objClass);
-        Method setIsDeletedMethod = getMethod("setIsDeleted", objClass);
+        BiConsumer<Object, Object> setId = AccessorRegistry.setter("setId", objClass);
+        BiConsumer<Object, Object> setAuditDetails = AccessorRegistry.setter("setAuditDetails", objClass);
+        BiConsumer<Object, Object> setIsDeleted = AccessorRegistry.setter("setIsDeleted", objClass);
+        BiConsumer<Object, Object> setRowVersion = updateRowVersion
+                ? AccessorRegistry.setter("setRowVersion", objClass) : null;
         IntStream.range(0, objList.size())
                 .forEach(i -> {
                     final Object obj = objList.get(i);
-                    ReflectionUtils.invokeMethod(setIdMethod, obj, idList.get(i));
-                    ReflectionUtils.invokeMethod(setAuditDetailsMethod, obj, auditDetails);
+                    setId.accept(obj, idList.get(i));
+                    setAuditDetails.accept(obj, auditDetails);
                     if (updateRowVersion) {
-                        Method setRowVersionMethod = getMethod("setRowVersion", objClass);
-                        ReflectionUtils.invokeMethod(setRowVersionMethod, obj, 1);
+                        setRowVersion.accept(obj, 1);
                     }
-                    ReflectionUtils.invokeMethod(setIsDeletedMethod, obj, Boolean.FALSE);
+                    setIsDeleted.accept(obj, Boolean.FALSE);
                 });
     }
 
@@ -411,7 +415,7 @@ public class CommonUtils {
             // Attempt to retrieve the ID method
             Method getId = getMethod(idMethodName, getObjClass(objList));
             // Invoke the ID method on an object from the list to check if it returns a non-null value
-            Object value = ReflectionUtils.invokeMethod(getId, objList.stream().findAny().get());
+            Object value = AccessorRegistry.get(getId, objList.stream().findAny().get());
             // If the value is not null, return the ID method
             if (value != null) {
                 return getId;
@@ -442,7 +446,7 @@ public class CommonUtils {
                     // Get the object at the current index
                     final Object obj = objList.get(i);
                     // Invoke the method to set the ID on the object using the corresponding ID from the ID list
-                    ReflectionUtils.invokeMethod(setIdMethod, obj, idList.get(i));
+                    AccessorRegistry.set(setIdMethod, obj, idList.get(i));
                 });
     }
 
@@ -458,24 +462,23 @@ public class CommonUtils {
         // Get the class of the request object
         Class<?> requestObjClass = request.getClass();
         // Get methods related to row version, audit details, and request information
-        Method getRowVersionMethod = getMethod("getRowVersion", objClass);
-        Method setRowVersionMethod = getMethod("setRowVersion", objClass);
-        Method setAuditDetailsMethod = getMethod("setAuditDetails", objClass);
-        Method getAuditDetailsMethod = getMethod("getAuditDetails", objClass);
-        Method getRequestInfoMethod = getMethod("getRequestInfo", requestObjClass);
+        Function<Object, Object> getRowVersion = AccessorRegistry.getter("getRowVersion", objClass);
+        BiConsumer<Object, Object> setRowVersion = AccessorRegistry.setter("setRowVersion", objClass);
+        BiConsumer<Object, Object> setAuditDetails = AccessorRegistry.setter("setAuditDetails", objClass);
+        Function<Object, Object> getAuditDetails = AccessorRegistry.getter("getAuditDetails", objClass);
+        // Retrieve request information
+        RequestInfo requestInfo = (RequestInfo) AccessorRegistry.get(getMethod("getRequestInfo", requestObjClass), request);
         // Iterate over the keys (IDs) in the map
         idToObjMap.keySet().forEach(i -> {
             // Get the object corresponding to the current ID
             Object obj = idToObjMap.get(i);
             // Retrieve row version and update it
-            Integer rowVersion = (Integer) ReflectionUtils.invokeMethod(getRowVersionMethod, obj);
-            ReflectionUtils.invokeMethod(setRowVersionMethod, obj, rowVersion + 1);
-            // Retrieve request information
-            RequestInfo requestInfo = (RequestInfo) ReflectionUtils.invokeMethod(getRequestInfoMethod, request);
+            Integer rowVersion = (Integer) getRowVersion.apply(obj);
+            setRowVersion.accept(obj, rowVersion + 1);
             // Retrieve existing audit details and update them
-            AuditDetails existingAuditDetails = (AuditDetails) ReflectionUtils.invokeMethod(getAuditDetailsMethod, obj);
+            AuditDetails existingAuditDetails = (AuditDetails) getAuditDetails.apply(obj);
             AuditDetails auditDetailsForUpdate = getAuditDetailsForUpdate(existingAuditDetails, requestInfo.getUserInfo().getUuid());
-            ReflectionUtils.invokeMethod(setAuditDetailsMethod, obj, auditDetailsForUpdate);
+            setAuditDetails.accept(obj, auditDetailsForUpdate);
         });
     }
 
@@ -493,37 +496,37 @@ public class CommonUtils {
         // Get the class of the request object
         Class<?> requestObjClass = request.getClass();
         // Get methods related to deletion, row version, audit details, and request information
-        Method setIsDeletedMethod = getMethod("setIsDeleted", objClass);
-        Method getRowVersionMethod = getMethod("getRowVersion", objClass);
-        Method setRowVersionMethod = getMethod("setRowVersion", objClass);
-        Method getAuditDetailsMethod = getMethod("getAuditDetails", objClass);
-        Method setAuditDetailsMethod = getMethod("setAuditDetails", objClass);
-        Method getRequestInfoMethod = getMethod("getRequestInfo", requestObjClass);
+        BiConsumer<Object, Object> setIsDeleted = AccessorRegistry.setter("setIsDeleted", objClass);
+        Function<Object, Object> getRowVersion = AccessorRegistry.getter("getRowVersion", objClass);
+        BiConsumer<Object, Object> setRowVersion = AccessorRegistry.setter("setRowVersion", objClass);
+        Function<Object, Object> getAuditDetails = AccessorRegistry.getter("getAuditDetails", objClass);
+        BiConsumer<Object, Object> setAuditDetails = AccessorRegistry.setter("setAuditDetails", objClass);
+        Function<Object, Object> getId = AccessorRegistry.getter(idMethod);
+        // Retrieve request information
+        RequestInfo requestInfo = (RequestInfo) AccessorRegistry.get(getMethod("getRequestInfo", requestObjClass), request);
         // Iterate over the indices of the existing object list
         IntStream.range(0, existingObjList.size()).forEach(i -> {
             // Get the object corresponding to the current index
-            Object obj = idToObjMap.get(ReflectionUtils.invokeMethod(idMethod, existingObjList.get(i)));
+            Object obj = idToObjMap.get(getId.apply(existingObjList.get(i)));
             try {
                 // Get the API operation method and API operation name
                 Method getApiOperationMethod = getMethod(GET_API_OPERATION, requestObjClass);
-                Object apiOperation = ReflectionUtils.invokeMethod(getApiOperationMethod, request);
+                Object apiOperation = AccessorRegistry.get(getApiOperationMethod, request);
                 Method nameMethod = CommonUtils.getMethod("name", Enum.class);
                 // If the API operation is DELETE, set the object's "isDeleted" flag to true
-                if ("DELETE".equals(ReflectionUtils.invokeMethod(nameMethod, apiOperation))) {
-                    ReflectionUtils.invokeMethod(setIsDeletedMethod, obj, true);
+                if ("DELETE".equals(AccessorRegistry.get(nameMethod, apiOperation))) {
+                    setIsDeleted.accept(obj, true);
                 }
             } catch (Exception exception) {
                 // Do nothing; remove later
             }
             // Retrieve row version and update it
-            Integer rowVersion = (Integer) ReflectionUtils.invokeMethod(getRowVersionMethod, obj);
-            ReflectionUtils.invokeMethod(setRowVersionMethod, obj, rowVersion + 1);
-            // Retrieve request information
-            RequestInfo requestInfo = (RequestInfo) ReflectionUtils.invokeMethod(getRequestInfoMethod, request);
+            Integer rowVersion = (Integer) getRowVersion.apply(obj);
+            setRowVersion.accept(obj, rowVersion + 1);
             // Retrieve existing audit details and update them
-            AuditDetails existingAuditDetails = (AuditDetails) ReflectionUtils.invokeMethod(getAuditDetailsMethod, existingObjList.get(i));
+            AuditDetails existingAuditDetails = (AuditDetails) getAuditDetails.apply(existingObjList.get(i));
             AuditDetails auditDetailsForUpdate = getAuditDetailsForUpdate(existingAuditDetails, requestInfo.getUserInfo().getUuid());
-            ReflectionUtils.invokeMethod(setAuditDetailsMethod, obj, auditDetailsForUpdate);
+            setAuditDetails.accept(obj, auditDetailsForUpdate);
         });
     }
 
@@ -566,9 +569,10 @@ public class CommonUtils {
      * @return A map of IDs to objects.
      */
     public static <T> Map<String, T> getIdToObjMap(List<T> objList, Method idMethod) {
-        // Collect the objects into a map using the specified ID method
+        // Collect the objects into a map using the compiled accessor for the specified ID method
+        Function<Object, Object> getId = AccessorRegistry.getter(idMethod);
         return objList.stream().collect(Collectors.toMap(
-                obj -> (String) ReflectionUtils.invokeMethod(idMethod, obj),
+                obj -> (String) getId.apply(obj),
                 obj -> obj,
                 (obj1, obj2) -> obj2
         ));
@@ -656,8 +660,8 @@ public class CommonUtils {
         if (objList == null || objList.isEmpty()) {
             return Collections.emptyList();
         }
-        return objList.stream().map(obj -> (String) ReflectionUtils
-                        .invokeMethod(idMethod, obj))
+        Function<Object, Object> getId = AccessorRegistry.getter(idMethod);
+        return objList.stream().map(obj -> (String) getId.apply(obj))
                 .collect(Collectors.toList());
     }
 
@@ -666,11 +670,10 @@ public class CommonUtils {
             return obj -> true;
         return obj -> {
             Method getAuditDetailsMethod = getMethod("getAuditDetails", obj.getClass());
-            Object auditDetails = ReflectionUtils.invokeMethod(getAuditDetailsMethod, obj);
+            Object auditDetails = AccessorRegistry.get(getAuditDetailsMethod, obj);
             Method getLastModifiedTimeMethod = getMethod("getLastModifiedTime",
                     auditDetails.getClass());
-            Long lastModifiedTime = (Long) ReflectionUtils
-                    .invokeMethod(getLastModifiedTimeMethod, auditDetails);
+            Long lastModifiedTime = (Long) AccessorRegistry.get(getLastModifiedTimeMethod, auditDetails);
             return lastModifiedTime > lastChangedSince;
         };
     }
@@ -679,8 +682,7 @@ public class CommonUtils {
         if (includeDeleted == null || !includeDeleted) {
             return obj -> {
                 Method getIsDeletedMethod = getMethod("getIsDeleted", obj.getClass());
-                Boolean isDeleted = (Boolean) ReflectionUtils
-                        .invokeMethod(getIsDeletedMethod, obj);
+                Boolean isDeleted = (Boolean) AccessorRegistry.get(getIsDeletedMethod, obj);
                 return Objects.equals(isDeleted, false);
             };
         }
@@ -692,8 +694,7 @@ public class CommonUtils {
             return obj -> true;
         return obj -> {
             Method getTenantIdMethod = getMethod("getTenantId", obj.getClass());
-            String actualTenantId  = (String) ReflectionUtils
-                    .invokeMethod(getTenantIdMethod, obj);
+            String actualTenantId  = (String) AccessorRegistry.get(getTenantIdMethod, obj);
             return Objects.equals(actualTenantId, tenantId);
         };
     }
@@ -708,7 +709,7 @@ public class CommonUtils {
     }
 
     public static <T> void identifyNullIds(List<T> objList, Method idMethod) {
-        Long nullCount = objList.stream().filter(obj -> null == ReflectionUtils.invokeMethod(
+        Long nullCount = objList.stream().filter(obj -> null == AccessorRegistry.get(
                 idMethod, obj)).count();
 
         if (nullCount > 0) {
@@ -717,7 +718,7 @@ public class CommonUtils {
     }
 
     public static <T> List<T> identifyObjectsWithNullIds(List<T> objList, Method idMethod) {
-        return objList.stream().filter(obj -> null == ReflectionUtils.invokeMethod(
+        return objList.stream().filter(obj -> null == AccessorRegistry.get(
                 idMethod, obj)).collect(Collectors.toList());
     }
 
@@ -788,7 +789,7 @@ public class CommonUtils {
     }
 
     public static <T> Predicate<T> notHavingErrors() {
-        return obj -> !((Boolean) ReflectionUtils.invokeMethod(getMethod("getHasErrors",
+        return obj -> !((Boolean) AccessorRegistry.get(getMethod("getHasErrors",
                 obj.getClass()), obj));
     }
 
@@ -796,16 +797,16 @@ public class CommonUtils {
                                                          Method idMethod) {
         IntStream.range(0, existingEntities.size()).forEach(i -> {
             T existing = existingEntities.get(i);
-            String id = (String) ReflectionUtils.invokeMethod(getMethod("getId",
+            String id = (String) AccessorRegistry.get(getMethod("getId",
                     existing.getClass()), existing);
-            String clientReferenceId = (String) ReflectionUtils.invokeMethod(getMethod("getClientReferenceId",
+            String clientReferenceId = (String) AccessorRegistry.get(getMethod("getClientReferenceId",
                     existing.getClass()), existing);
             String key = getIdFieldName(idMethod).equalsIgnoreCase("id")
                     ? id : clientReferenceId;
             T toUpdate = idToObjMap.get(key);
-            ReflectionUtils.invokeMethod(getMethod("setId", toUpdate.getClass()),
+            AccessorRegistry.set(getMethod("setId", toUpdate.getClass()),
                     toUpdate, id);
-            ReflectionUtils.invokeMethod(getMethod("setClientReferenceId",
+            AccessorRegistry.set(getMethod("setClientReferenceId",
                     toUpdate.getClass()), toUpdate, clientReferenceId);
         });
     }
@@ -851,21 +852,23 @@ public class CommonUtils {
      */
     public static <T> void enrichForDelete(List<T> objList, RequestInfo requestInfo, boolean updateRowVersion) {
         Class<?> objClass = getObjClass(objList);
-        Method setIsDeletedMethod = getMethod("setIsDeleted", objClass);
-        Method setAuditDetailsMethod = getMethod("setAuditDetails", objClass);
-        Method getAuditDetailsMethod = getMethod("getAuditDetails", objClass);
+        BiConsumer<Object, Object> setIsDeleted = AccessorRegistry.setter("setIsDeleted", objClass);
+        BiConsumer<Object, Object> setAuditDetails = AccessorRegistry.setter("setAuditDetails", objClass);
+        Function<Object, Object> getAuditDetails = AccessorRegistry.getter("getAuditDetails", objClass);
+        Function<Object, Object> getRowVersion = updateRowVersion
+                ? AccessorRegistry.getter("getRowVersion", objClass) : null;
+        BiConsumer<Object, Object> setRowVersion = updateRowVersion
+                ? AccessorRegistry.setter("setRowVersion", objClass) : null;
         objList.forEach(obj -> {
-            ReflectionUtils.invokeMethod(setIsDeletedMethod, obj, true);
+            setIsDeleted.accept(obj, true);
             if (updateRowVersion) {
-                Method getRowVersionMethod = getMethod("getRowVersion", objClass);
-                Method setRowVersionMethod = getMethod("setRowVersion", objClass);
-                Integer rowVersion = (Integer) ReflectionUtils.invokeMethod(getRowVersionMethod, obj);
-                ReflectionUtils.invokeMethod(setRowVersionMethod, obj, rowVersion + 1);
+                Integer rowVersion = (Integer) getRowVersion.apply(obj);
+                setRowVersion.accept(obj, rowVersion + 1);
             }
-            AuditDetails existingAuditDetails = (AuditDetails) ReflectionUtils.invokeMethod(getAuditDetailsMethod, obj);
+            AuditDetails existingAuditDetails = (AuditDetails) getAuditDetails.apply(obj);
             AuditDetails auditDetailsForUpdate = getAuditDetailsForUpdate(existingAuditDetails,
                     requestInfo.getUserInfo().getUuid());
-            ReflectionUtils.invokeMethod(setAuditDetailsMethod, obj, auditDetailsForUpdate);
+            setAuditDetails.accept(obj, auditDetailsForUpdate);
         });
     }
 
@@ -893,13 +896,14 @@ public class CommonUtils {
             throw new CustomException(errorCode, errorDetailsMap.values().toString());
         }
         Method getEntities = getMethod(getPayloadMethodName, request.getClass());
-        List<T> validEntities = (List<T>) ReflectionUtils.invokeMethod(getEntities, request);
+        List<T> validEntities = (List<T>) AccessorRegistry.get(getEntities, request);
         validEntities = validEntities.stream().filter(notHavingErrors()).collect(Collectors.toList());
         return new Tuple<>(validEntities, errorDetailsMap);
     }
 
     /**
      * Validate and return the consolidated errorDetailsMap based on all the validations.
+     * The validators are run by the {@link ValidatorEngine} of the application.
      *
      * @param validators is the list of validators
      * @param applicableValidators is a predicate defining the validators to apply
@@ -914,10 +918,8 @@ public class CommonUtils {
                                                        R request,
                                                        String setPayloadMethodName) {
         Map<T, ErrorDetails> errorDetailsMap = new HashMap<>();
-        validators.stream().filter(applicableValidators)
-                .map(validator -> validator.validate(request))
-                .forEach(e -> populateErrorDetails(request, errorDetailsMap, e,
-                        setPayloadMethodName));
+        ValidatorEngine.current().validate(validators, applicableValidators, request, setPayloadMethodName,
+                e -> populateErrorDetails(request, errorDetailsMap, e, setPayloadMethodName));
         return errorDetailsMap;
     }
 
@@ -941,14 +943,13 @@ public class CommonUtils {
                 if (errorDetailsMap.containsKey(payload)) {
                     errorDetailsMap.get(payload).getErrors().addAll(entry.getValue());
                 } else {
-                    RequestInfo requestInfo = (RequestInfo) ReflectionUtils
-                            .invokeMethod(getMethod("getRequestInfo",
+                    RequestInfo requestInfo = (RequestInfo) AccessorRegistry.get(getMethod("getRequestInfo",
                                     request.getClass()), request);
                     R newRequest = (R) ReflectionUtils.accessibleConstructor(request.getClass(),
                             null).newInstance();
-                    ReflectionUtils.invokeMethod(getMethod("setRequestInfo",
+                    AccessorRegistry.set(getMethod("setRequestInfo",
                             newRequest.getClass()), newRequest, requestInfo);
-                    ReflectionUtils.invokeMethod(getMethod(setPayloadMethodName,
+                    AccessorRegistry.set(getMethod(setPayloadMethodName,
                                     newRequest.getClass()), newRequest,
                             Collections.singletonList(payload));
                     ApiDetails apiDetails = ApiDetails.builder()
@@ -1093,7 +1094,7 @@ public class CommonUtils {
     public static <R,T> HashMap<T, List<Error>> validateForNullId(R request, String getPayloadMethodName) {
         log.info("validating for null id");
         HashMap<T, List<Error>> errorDetailsMap = new HashMap<>();
-        List<T> validPayloads = ((List<T>)ReflectionUtils.invokeMethod(getMethod(getPayloadMethodName,
+        List<T> validPayloads = ((List<T>)AccessorRegistry.get(getMethod(getPayloadMethodName,
                 request.getClass()), request)).stream().filter(notHavingErrors()).collect(Collectors.toList());
         if (!validPayloads.isEmpty()) {
             Class<?> objClass = getObjClass(validPayloads);
@@ -1118,7 +1119,7 @@ public class CommonUtils {
      */
     public static <T> void populateErrorDetails(T payload, Error error,
                                   Map<T, List<Error>> errorDetailsMap) {
-        ReflectionUtils.invokeMethod(getMethod("setHasErrors", payload.getClass()),
+        AccessorRegistry.set(getMethod("setHasErrors", payload.getClass()),
                 payload, Boolean.TRUE);
         if (errorDetailsMap.containsKey(payload)) {
             errorDetailsMap.get(payload).add(error);
@@ -1165,6 +1166,32 @@ public class CommonUtils {
         });
     }
 
+    /**
+     * Estimate the number of rows returned by the query from the query planner, without executing it.
+     * Returns null if the planner output cannot be read.
+     *
+     * @param query the search query without limit and offset
+     * @param paramsMap the query parameters
+     * @param namedParameterJdbcTemplate the jdbc template
+     * @return the estimated row count or null
+     */
+    public static Long constructEstimatedCountAndReturnResult(String query, Map<String, Object> paramsMap, final NamedParameterJdbcTemplate namedParameterJdbcTemplate) {
+        try {
+            return namedParameterJdbcTemplate.query("EXPLAIN " + query, paramsMap, resultSet -> {
+                if (resultSet.next()) {
+                    Matcher matcher = PLAN_ROWS_PATTERN.matcher(resultSet.getString(1));
+                    if (matcher.find()) {
+                        return Long.parseLong(matcher.group(1));
+                    }
+                }
+                return null;
+            });
+        } catch (DataAccessException exception) {
+            log.warn("Could not estimate count: {}", exception.getMessage());
+            return null;
+        }
+    }
+
     /**
      * Finds the database schema name for the given tenant based on configuration
      *
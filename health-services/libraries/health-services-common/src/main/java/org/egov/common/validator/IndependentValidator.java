@@ -0,0 +1,21 @@
+package org.egov.common.validator;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link Validator} that {@link ValidatorEngine} may run at the same time as the other validators of its
+ * {@link org.springframework.core.annotation.Order} that carry this annotation.
+ *
+ * <p>Only put it on a validator that neither reads nor changes the error state of the payload: it must not filter
+ * with {@code notHavingErrors()}, set {@code hasErrors} or call {@code populateErrorDetails}, and must only report
+ * its errors through the map it returns. Validators without it always run on their own, in list order.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface IndependentValidator {
+}
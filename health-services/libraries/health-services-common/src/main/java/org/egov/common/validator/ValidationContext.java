@@ -0,0 +1,175 @@
+package org.egov.common.validator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Entities looked up while the validators of one request run, shared by all validators of the chain.
+ *
+ * <p>Lookups are grouped by a type naming the table and key column (for example {@code "project_task.id"}) and
+ * the tenant. Each id of a type is fetched from the database at most once per request: a validator only queries
+ * the ids which no earlier validator has queried, in one batch, and gets the entities back in a map by id, so that
+ * existence checks are hash lookups. Validators which search the same rows in another way can {@link #put} what
+ * they found for later validators.
+ *
+ * <p>The context is bound by {@link ValidatorEngine} while {@link org.egov.common.utils.CommonUtils#validate}
+ * runs; outside of it every lookup simply calls the loader.
+ */
+public final class ValidationContext {
+
+    private static final ThreadLocal<ValidationContext> CURRENT = new ThreadLocal<>();
+
+    private static final String ID_LOOKUP_SUFFIX = "#ids";
+
+    private final Map<String, Lookup<?>> lookups = new ConcurrentHashMap<>();
+
+    ValidationContext() {
+    }
+
+    /**
+     * Loads the entities of the given ids with one batched query.
+     *
+     * @param <E> is the type of entity
+     * @param <X> is the exception thrown by the query
+     */
+    @FunctionalInterface
+    public interface Loader<E, X extends Exception> {
+        List<E> load(List<String> ids) throws X;
+    }
+
+    /**
+     * Finds the entities of the given ids, querying only the ids not yet queried for this request.
+     *
+     * @param type is the table and key column of the lookup
+     * @param tenantId is the tenant id
+     * @param ids are the ids to find, null ids are ignored
+     * @param keyOf returns the id of an entity in the key column
+     * @param loader queries the entities of the ids not yet queried
+     * @return the entities found, by id
+     * @param <E> is the type of entity
+     * @param <X> is the exception thrown by the query
+     */
+    public static <E, X extends Exception> Map<String, E> find(String type, String tenantId, Collection<String> ids,
+                                                                 Function<E, String> keyOf,
+                                                                 Loader<E, X> loader) throws X {
+        Set<String> idsToFind = new LinkedHashSet<>(ids);
+        idsToFind.remove(null);
+        ValidationContext context = CURRENT.get();
+        if (context == null) {
+            Map<String, E> found = new HashMap<>();
+            if (!idsToFind.isEmpty()) {
+                loader.load(new ArrayList<>(idsToFind)).forEach(entity -> found.put(keyOf.apply(entity), entity));
+            }
+            return found;
+        }
+        return context.<E>lookup(type, tenantId).find(idsToFind, keyOf, loader);
+    }
+
+    /**
+     * Returns the ids which exist, querying only the ids not yet queried for this request.
+     *
+     * @param type is the table and key column of the lookup
+     * @param tenantId is the tenant id
+     * @param ids are the ids to check, null ids are ignored
+     * @param loader returns the ids which exist among the ids not yet queried
+     * @return the existing ids
+     * @param <X> is the exception thrown by the query
+     */
+    public static <X extends Exception> Set<String> findExistingIds(String type, String tenantId,
+                                                                   Collection<String> ids,
+                                                                   Loader<String, X> loader) throws X {
+        return new HashSet<>(find(type + ID_LOOKUP_SUFFIX, tenantId, ids, Function.identity(), loader).keySet());
+    }
+
+    /**
+     * Adds entities found by a validator, so that later lookups of their ids do not query them again.
+     *
+     * @param type is the table and key column of the lookup
+     * @param tenantId is the tenant id
+     * @param entities are the entities found
+     * @param keyOf returns the id of an entity in the key column
+     * @param <E> is the type of entity
+     */
+    public static <E> void put(String type, String tenantId, Collection<E> entities, Function<E, String> keyOf) {
+        ValidationContext context = CURRENT.get();
+        if (context != null && entities != null) {
+            context.<E>lookup(type, tenantId).put(entities, keyOf);
+        }
+    }
+
+    static ValidationContext current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the given task with this context bound to the current thread.
+     */
+    void run(Runnable task) {
+        ValidationContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            task.run();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <E> Lookup<E> lookup(String type, String tenantId) {
+        return (Lookup<E>) lookups.computeIfAbsent(type + "|" + tenantId, key -> new Lookup<E>());
+    }
+
+    /**
+     * Entities found for one type and tenant, with the ids already queried.
+     */
+    private static final class Lookup<E> {
+
+        private final Map<String, E> found = new HashMap<>();
+
+        private final Set<String> queried = new HashSet<>();
+
+        private synchronized <X extends Exception> Map<String, E> find(Set<String> ids, Function<E, String> keyOf,
+                                                                       Loader<E, X> loader) throws X {
+            List<String> idsToQuery = new ArrayList<>();
+            for (String id : ids) {
+                if (!found.containsKey(id) && !queried.contains(id)) {
+                    idsToQuery.add(id);
+                }
+            }
+            if (!idsToQuery.isEmpty()) {
+                put(loader.load(new ArrayList<>(idsToQuery)), keyOf);
+                queried.addAll(idsToQuery);
+            }
+            Map<String, E> result = new HashMap<>();
+            for (String id : ids) {
+                E entity = found.get(id);
+                if (entity != null) {
+                    result.put(id, entity);
+                }
+            }
+            return result;
+        }
+
+        private synchronized void put(Collection<E> entities, Function<E, String> keyOf) {
+            for (E entity : entities) {
+                String key = keyOf.apply(entity);
+                if (Objects.nonNull(key)) {
+                    found.putIfAbsent(key, entity);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package org.egov.common.validator;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.models.Error;
+import org.egov.common.utils.AccessorRegistry;
+import org.slf4j.MDC;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.annotation.OrderUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.egov.common.utils.CommonUtils.getMethod;
+import static org.egov.common.utils.CommonUtils.notHavingErrors;
+
+/**
+ * Runs the validators of a request for {@link org.egov.common.utils.CommonUtils#validate}.
+ *
+ * <p>Validators run in the order of the list. With {@code health.validator.parallel.enabled}, consecutive
+ * validators marked {@link IndependentValidator} and declaring the same
+ * {@link org.springframework.core.annotation.Order} value form a stage and run at the same time, on up to
+ * {@code health.validator.parallelism} threads; a validator only starts after every validator before it in the
+ * list has finished, so it sees the errors they flagged. Validators without the marker or without an order
+ * always run on their own, since most of them read or set the error state of the payload. The errors of a stage
+ * are handed over in list order on the calling thread, so the consumer does not need to be thread safe.
+ *
+ * <p>With {@code health.validator.skip-failed-entities}, each stage is given a copy of the request holding only
+ * the entities without errors, and is skipped when every entity already has errors.
+ *
+ * <p>All validators of a request share one {@link ValidationContext}, so each referenced entity is fetched once.
+ * The latency of every validator is recorded in a {@link ValidatorLatency} histogram.
+ */
+@Component
+@Slf4j
+public class ValidatorEngine {
+
+    private static final ValidatorEngine SEQUENTIAL = new ValidatorEngine(false, 1, false);
+
+    private static volatile ValidatorEngine current = SEQUENTIAL;
+
+    private final boolean parallelEnabled;
+
+    private final boolean skipFailedEntities;
+
+    private final ExecutorService executor;
+
+    private final Map<String, ValidatorLatency> latencies = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ValidatorEngine(@Value("${health.validator.parallel.enabled:false}") boolean parallelEnabled,
+                           @Value("${health.validator.parallelism:0}") int parallelism,
+                           @Value("${health.validator.skip-failed-entities:false}") boolean skipFailedEntities) {
+        this.parallelEnabled = parallelEnabled;
+        this.skipFailedEntities = skipFailedEntities;
+        if (parallelEnabled) {
+            int threads = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+            AtomicInteger threadCount = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+                Thread thread = new Thread(runnable, "validator-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else {
+            this.executor = null;
+        }
+    }
+
+    /**
+     * @return the engine of the application context, or a sequential one when there is none
+     */
+    public static ValidatorEngine current() {
+        return current;
+    }
+
+    @PostConstruct
+    public void install() {
+        current = this;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (current == this) {
+            current = SEQUENTIAL;
+        }
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Runs the applicable validators on the request.
+     *
+     * @param validators is the list of validators
+     * @param applicableValidators is a predicate defining the validators to apply
+     * @param request is the request body
+     * @param setPayloadMethodName is a setter method available on the request body
+     * @param errorConsumer receives the errors of each validator, in the order of the validators
+     * @param <T> is the type of payload
+     * @param <R> is the type of request
+     */
+    public <T, R> void validate(List<Validator<R, T>> validators,
+                                Predicate<Validator<R, T>> applicableValidators,
+                                R request, String setPayloadMethodName,
+                                Consumer<Map<T, List<Error>>> errorConsumer) {
+        List<Validator<R, T>> applicable = validators.stream().filter(applicableValidators)
+                .collect(Collectors.toList());
+        ValidationContext outer = ValidationContext.current();
+        ValidationContext context = outer != null ? outer : new ValidationContext();
+        context.run(() -> runStages(applicable, request, setPayloadMethodName, errorConsumer));
+    }
+
+    /**
+     * @return latency histogram by validator class name
+     */
+    public Map<String, ValidatorLatency> getLatencies() {
+        return Collections.unmodifiableMap(latencies);
+    }
+
+    private <T, R> void runStages(List<Validator<R, T>> applicable, R request, String setPayloadMethodName,
+                                  Consumer<Map<T, List<Error>>> errorConsumer) {
+        int from = 0;
+        while (from < applicable.size()) {
+            int to = stageEnd(applicable, from);
+            List<Validator<R, T>> stage = applicable.subList(from, to);
+            R stageRequest = skipFailedEntities ? withoutFailedEntities(request, setPayloadMethodName) : request;
+            if (stageRequest == null) {
+                stage.forEach(validator -> latency(validator).recordSkipped());
+            } else {
+                runStage(stage, stageRequest).forEach(errorConsumer);
+            }
+            from = to;
+        }
+    }
+
+    private <T, R> int stageEnd(List<Validator<R, T>> validators, int from) {
+        if (!parallelEnabled || !isIndependent(validators.get(from))) {
+            return from + 1;
+        }
+        Integer order = OrderUtils.getOrder(ClassUtils.getUserClass(validators.get(from)));
+        if (order == null) {
+            return from + 1;
+        }
+        int to = from + 1;
+        while (to < validators.size() && isIndependent(validators.get(to))
+                && order.equals(OrderUtils.getOrder(ClassUtils.getUserClass(validators.get(to))))) {
+            to++;
+        }
+        return to;
+    }
+
+    private static boolean isIndependent(Validator<?, ?> validator) {
+        return AnnotationUtils.findAnnotation(ClassUtils.getUserClass(validator), IndependentValidator.class) != null;
+    }
+
+    private <T, R> List<Map<T, List<Error>>> runStage(List<Validator<R, T>> stage, R request) {
+        if (stage.size() == 1) {
+            return Collections.singletonList(run(stage.get(0), request));
+        }
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        ValidationContext context = ValidationContext.current();
+        List<CompletableFuture<Map<T, List<Error>>>> futures = new ArrayList<>(stage.size());
+        for (Validator<R, T> validator : stage.subList(1, stage.size())) {
+            futures.add(CompletableFuture.supplyAsync(() -> runOnWorker(validator, request, mdc, context),
+                    executor));
+        }
+        List<Map<T, List<Error>>> results = new ArrayList<>(stage.size());
+        RuntimeException failure = null;
+        // the calling thread runs the first validator of the stage itself
+        try {
+            results.add(run(stage.get(0), request));
+        } catch (RuntimeException exception) {
+            failure = exception;
+        }
+        // wait for the whole stage before failing, so no validator is still running when the request is rejected
+        for (CompletableFuture<Map<T, List<Error>>> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException exception) {
+                if (failure == null) {
+                    failure = exception.getCause() instanceof RuntimeException cause ? cause : exception;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return results;
+    }
+
+    private <T, R> Map<T, List<Error>> runOnWorker(Validator<R, T> validator, R request, Map<String, String> mdc,
+                                                   ValidationContext context) {
+        if (mdc != null) {
+            MDC.setContextMap(mdc);
+        }
+        try {
+            List<Map<T, List<Error>>> result = new ArrayList<>(1);
+            context.run(() -> result.add(run(validator, request)));
+            return result.get(0);
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    private <T, R> Map<T, List<Error>> run(Validator<R, T> validator, R request) {
+        long start = System.nanoTime();
+        try {
+            Map<T, List<Error>> errors = validator.validate(request);
+            return errors != null ? errors : Collections.emptyMap();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            latency(validator).record(elapsed);
+            log.debug("validator {} took {} µs", ClassUtils.getUserClass(validator).getSimpleName(), elapsed / 1000);
+        }
+    }
+
+    private ValidatorLatency latency(Validator<?, ?> validator) {
+        return latencies.computeIfAbsent(ClassUtils.getUserClass(validator).getName(), name -> new ValidatorLatency());
+    }
+
+    /**
+     * Returns a copy of the request holding only the entities without errors, the request itself when no entity
+     * has errors or the entities cannot be read, or null when every entity has errors.
+     */
+    @SuppressWarnings("unchecked")
+    private <T, R> R withoutFailedEntities(R request, String setPayloadMethodName) {
+        try {
+            Method getEntities = getMethod(setPayloadMethodName.replaceFirst("set", "get"), request.getClass());
+            List<T> entities = (List<T>) AccessorRegistry.get(getEntities, request);
+            if (entities == null || entities.isEmpty()) {
+                return request;
+            }
+            List<T> validEntities = entities.stream().filter(notHavingErrors()).collect(Collectors.toList());
+            if (validEntities.size() == entities.size()) {
+                return request;
+            }
+            if (validEntities.isEmpty()) {
+                return null;
+            }
+            R copy = (R) BeanUtils.instantiateClass(request.getClass());
+            BeanUtils.copyProperties(request, copy);
+            AccessorRegistry.set(getMethod(setPayloadMethodName, copy.getClass()), copy, validEntities);
+            return copy;
+        } catch (Exception exception) {
+            log.debug("could not remove failed entities from {}, validating all of them",
+                    request.getClass().getSimpleName(), exception);
+            return request;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.egov.common.data.query.annotations.Table;
 import org.egov.common.data.query.annotations.UpdateBy;
+import org.egov.common.data.query.builder.QueryShapeCache;
 import org.egov.common.data.query.builder.SelectQueryBuilder;
 import org.egov.common.data.query.builder.UpdateQueryBuilder;
 import org.egov.common.data.query.exception.QueryBuilderException;
@@ -352,4 +353,41 @@ class GenericQueryBuilderTest {
         boolean isMatch = actualQuery.equals(expectedQuery1) || actualQuery.equals(expectedQuery2);
         assertEquals(true, isMatch, "Actual query: " + actualQuery);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("should reuse cached query shape and bind the new values")
+    void shouldReuseCachedQueryShapeAndBindTheNewValues() throws QueryBuilderException {
+        QueryShapeCache cache = QueryShapeCache.getInstance();
+        SelectQueryBuilder firstQueryBuilder = new SelectQueryBuilder();
+        String firstQuery = firstQueryBuilder.build(SCHEMA_REPLACE_STRING, DummyData.builder()
+                .dummyString("first").dummyBoolean(true).build());
+        long hitCount = cache.getHitCount();
+
+        SelectQueryBuilder secondQueryBuilder = new SelectQueryBuilder();
+        String secondQuery = secondQueryBuilder.build(SCHEMA_REPLACE_STRING, DummyData.builder()
+                .dummyString("second").dummyBoolean(false).build());
+
+        assertEquals("SELECT * FROM {schema}.dummyData WHERE dummyString=:dummyString AND dummyBoolean=:dummyBoolean",
+                secondQuery);
+        assertEquals(firstQuery, secondQuery);
+        assertEquals(hitCount + 1, cache.getHitCount());
+        assertEquals("second", secondQueryBuilder.getParamsMap().get("dummyString"));
+        assertEquals(false, secondQueryBuilder.getParamsMap().get("dummyBoolean"));
+    }
+
+    @Test
+    @DisplayName("should not reuse cached query shape when a different set of fields is present")
+    void shouldNotReuseCachedQueryShapeWhenADifferentSetOfFieldsIsPresent() throws QueryBuilderException {
+        ArrayList<String> strings = new ArrayList<>();
+        strings.add("value1");
+        SelectQueryBuilder queryBuilder = new SelectQueryBuilder();
+        queryBuilder.build(SCHEMA_REPLACE_STRING, DummyData.builder().dummyDouble(1.0).build());
+
+        String actualQuery = new SelectQueryBuilder().build(SCHEMA_REPLACE_STRING, DummyData.builder()
+                .dummyDouble(2.0).dummyStringList(strings)
+                .dummyAddress(DummyAddress.builder().addressString("123").build()).build());
+
+        assertEquals("SELECT * FROM {schema}.dummyData WHERE dummyDouble=:dummyDouble AND " +
+                "dummyStringList IN (:dummyStringList) AND addressString=:addressString", actualQuery);
+    }
+}
@@ -1,21 +1,27 @@
 package org.egov.common.data.repository;
 
+import org.egov.common.contract.models.AuditDetails;
+import org.egov.common.data.cache.RedisCacheLayout;
 import org.egov.common.data.query.builder.SelectQueryBuilder;
 import org.egov.common.data.query.exception.QueryBuilderException;
 import org.egov.common.exception.InvalidTenantIdException;
 import org.egov.common.helpers.SomeObject;
 import org.egov.common.helpers.SomeRepository;
 import org.egov.common.helpers.SomeRowMapper;
+import org.egov.common.models.core.SearchResponse;
 import org.egov.common.utils.MultiStateInstanceUtil;
+import org.egov.tracer.model.CustomException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -29,12 +35,17 @@ import java.util.stream.Collectors;
 
 import static org.egov.common.utils.MultiStateInstanceUtil.SCHEMA_REPLACE_STRING;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -56,7 +67,10 @@ class GenericRepositoryFindTest {
     private SomeRowMapper productVariantRowMapper;
 
     @Mock
-    private HashOperations hashOperations;
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
 
     private List<String> someObjectIds;
 
@@ -76,15 +90,16 @@ class GenericRepositoryFindTest {
                 .build());
         someObjectIds = someObjects.stream().map(SomeObject::getId)
                 .collect(Collectors.toList());
-        lenient().when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         ReflectionTestUtils.setField(someRepository, "timeToLive", "60");
+        ReflectionTestUtils.setField(someRepository, "cacheLayout", RedisCacheLayout.ENTRY);
         ReflectionTestUtils.setField(someRepository, "multiStateInstanceUtil", new MultiStateInstanceUtil(2, false, 0));
     }
 
     @Test
     @DisplayName("should find objects by ids and return the results")
     void shouldFindObjectsByIdsAndReturnTheResults() throws InvalidTenantIdException {
-        when(hashOperations.multiGet(anyString(), anyList())).thenReturn(Collections.emptyList());
+        when(valueOperations.multiGet(anyList())).thenReturn(Collections.emptyList());
         when(namedParameterJdbcTemplate.query(anyString(), anyMap(), any(RowMapper.class)))
                 .thenReturn(someObjects);
 
@@ -96,7 +111,7 @@ class GenericRepositoryFindTest {
     @Test
     @DisplayName("should return empty list if the record is not found in db and cache")
     void shouldReturnEmptyListIfRecordIsNotFoundInDbAndCache() throws InvalidTenantIdException {
-        when(hashOperations.multiGet(anyString(), anyList())).thenReturn(Collections.emptyList());
+        when(valueOperations.multiGet(anyList())).thenReturn(Collections.emptyList());
         when(namedParameterJdbcTemplate.query(anyString(), anyMap(), any(RowMapper.class)))
                 .thenReturn(Collections.emptyList());
 
@@ -105,6 +120,38 @@ class GenericRepositoryFindTest {
         assertEquals(result.size(), 0);
     }
 
+    @Test
+    @DisplayName("should read per entry keys from cache and record redis hits and misses")
+    void shouldReadPerEntryKeysFromCacheAndRecordRedisHitsAndMisses() throws InvalidTenantIdException {
+        ArgumentCaptor<List<String>> keysCaptor = ArgumentCaptor.forClass(List.class);
+        when(valueOperations.multiGet(keysCaptor.capture())).thenReturn(Arrays.asList(someObjects.get(0), null));
+        when(namedParameterJdbcTemplate.query(anyString(), anyMap(), any(RowMapper.class)))
+                .thenReturn(Collections.singletonList(someObjects.get(1)));
+
+        someRepository.findById(TENANT_ID, someObjectIds, true);
+
+        assertEquals(Arrays.asList("some-table:some-id", "some-table:other-id"), keysCaptor.getValue());
+        assertEquals(1, someRepository.getRedisCacheStats().getHitCount());
+        assertEquals(1, someRepository.getRedisCacheStats().getMissCount());
+    }
+
+    @Test
+    @DisplayName("should read the per table hash from cache in the legacy layout")
+    void shouldReadThePerTableHashFromCacheInTheLegacyLayout() throws InvalidTenantIdException {
+        ReflectionTestUtils.setField(someRepository, "cacheLayout", RedisCacheLayout.LEGACY);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.multiGet(eq("some-table"), eq(someObjectIds)))
+                .thenReturn(Arrays.asList(someObjects.get(0), null));
+        when(namedParameterJdbcTemplate.query(anyString(), anyMap(), any(RowMapper.class)))
+                .thenReturn(Collections.singletonList(someObjects.get(1)));
+
+        someRepository.findById(TENANT_ID, someObjectIds, true);
+
+        verify(valueOperations, never()).multiGet(anyList());
+        assertEquals(1, someRepository.getRedisCacheStats().getHitCount());
+        assertEquals(1, someRepository.getRedisCacheStats().getMissCount());
+    }
+
     @Test
     @DisplayName("should get objects from db for the search request")
     void shouldReturnObjectsFromDBForSearchRequest() throws QueryBuilderException, InvalidTenantIdException {
@@ -140,9 +187,9 @@ class GenericRepositoryFindTest {
     @Test
     @DisplayName("should validate id using column name")
     void shouldReturnValidIdsFromDBOrCache() throws InvalidTenantIdException {
-        when(hashOperations.multiGet(anyString(), anyList())).thenReturn(
+        when(valueOperations.multiGet(anyList())).thenReturn(
                 Arrays.asList(SomeObject.builder().id("id1").isDeleted(Boolean.FALSE).build()
-                        ,SomeObject.builder().isDeleted(Boolean.FALSE).id("id2").build()));
+                        ,SomeObject.builder().isDeleted(Boolean.FALSE).id("id2").build(), null, null));
         when(namedParameterJdbcTemplate.query(any(String.class), any(Map.class), any(SomeRowMapper.class)))
                 .thenReturn(someObjects);
         List<String> idsToValidate = new ArrayList<>();
@@ -154,4 +201,49 @@ class GenericRepositoryFindTest {
 
         assertEquals(idsFound.size(), 4);
     }
+
+    @Test
+    @DisplayName("should return next cursor when a keyset page is full")
+    void shouldReturnNextCursorWhenAKeysetPageIsFull() throws QueryBuilderException, InvalidTenantIdException {
+        List<SomeObject> page = Arrays.asList(
+                SomeObject.builder().id("id1").auditDetails(AuditDetails.builder().lastModifiedTime(10L).build()).build(),
+                SomeObject.builder().id("id2").auditDetails(AuditDetails.builder().lastModifiedTime(20L).build()).build());
+        when(selectQueryBuilder.build(any(Object.class), anyString(), eq(SCHEMA_REPLACE_STRING)))
+                .thenReturn("SELECT * FROM {schema}.some-table");
+        ArgumentCaptor<String> queryCaptor = ArgumentCaptor.forClass(String.class);
+        when(namedParameterJdbcTemplate.query(queryCaptor.capture(), any(Map.class), any(SomeRowMapper.class)))
+                .thenReturn(page);
+        String cursor = new SearchCursor(5L, "id0").encode();
+
+        SearchResponse<SomeObject> response = someRepository.findWithCursor(someObjects.get(0), 2, cursor,
+                TENANT_ID, null, false, TotalCountMode.NONE);
+
+        SearchCursor nextCursor = SearchCursor.decode(response.getNextCursor());
+        assertEquals(20L, nextCursor.getLastModifiedTime());
+        assertEquals("id2", nextCursor.getId());
+        assertTrue(queryCaptor.getValue().contains("(lastModifiedTime, id) > (:cursorLastModifiedTime, :cursorId)"));
+        assertTrue(queryCaptor.getValue().endsWith("ORDER BY lastModifiedTime ASC, id ASC LIMIT :limit"));
+    }
+
+    @Test
+    @DisplayName("should not return next cursor on the last keyset page")
+    void shouldNotReturnNextCursorOnTheLastKeysetPage() throws QueryBuilderException, InvalidTenantIdException {
+        when(selectQueryBuilder.build(any(Object.class), anyString(), eq(SCHEMA_REPLACE_STRING)))
+                .thenReturn("SELECT * FROM {schema}.some-table");
+        when(namedParameterJdbcTemplate.query(any(String.class), any(Map.class), any(SomeRowMapper.class)))
+                .thenReturn(Collections.singletonList(SomeObject.builder().id("id1")
+                        .auditDetails(AuditDetails.builder().lastModifiedTime(10L).build()).build()));
+
+        SearchResponse<SomeObject> response = someRepository.findWithCursor(someObjects.get(0), 2, null,
+                TENANT_ID, null, false, TotalCountMode.NONE);
+
+        assertNull(response.getNextCursor());
+        assertNull(response.getTotalCount());
+    }
+
+    @Test
+    @DisplayName("should throw exception for malformed cursor")
+    void shouldThrowExceptionForMalformedCursor() {
+        assertThrows(CustomException.class, () -> SearchCursor.decode("not-a-cursor"));
+    }
 }
@@ -0,0 +1,151 @@
+package org.egov.common.producer;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.egov.common.helpers.SomeObjectWithClientRefId;
+import org.egov.common.utils.MultiStateInstanceUtil;
+import org.egov.tracer.kafka.CustomKafkaTemplate;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProducerTest {
+
+    private static final String TENANT_ID = "default";
+
+    private static final String TOPIC = "save-topic";
+
+    @Mock
+    private CustomKafkaTemplate<String, Object> customKafkaTemplate;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private MultiStateInstanceUtil multiStateInstanceUtil;
+
+    private Producer producer;
+
+    @BeforeEach
+    void setUp() {
+        producer = new Producer(customKafkaTemplate, multiStateInstanceUtil);
+        ReflectionTestUtils.setField(producer, "asyncKafkaTemplate", kafkaTemplate);
+        ReflectionTestUtils.setField(producer, "maxEntitiesPerRecord", 2);
+        when(multiStateInstanceUtil.getStateSpecificTopicName(TENANT_ID, TOPIC)).thenReturn(TOPIC);
+    }
+
+    @Test
+    @DisplayName("should split entities into size bounded records per partition")
+    void shouldSplitEntitiesIntoSizeBoundedRecordsPerPartition() {
+        when(kafkaTemplate.partitionsFor(TOPIC)).thenReturn(Arrays.asList(
+                new PartitionInfo(TOPIC, 0, null, null, null),
+                new PartitionInfo(TOPIC, 1, null, null, null)));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        producer.pushBatched(TENANT_ID, TOPIC, getEntities(5)).join();
+
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(3)).send(captor.capture());
+        int entityCount = 0;
+        for (ProducerRecord<String, Object> record : captor.getAllValues()) {
+            List<SomeObjectWithClientRefId> entities = (List<SomeObjectWithClientRefId>) record.value();
+            assertTrue(entities.size() <= 2);
+            assertEquals(entities.get(0).getClientReferenceId(), record.key());
+            entityCount += entities.size();
+        }
+        assertEquals(5, entityCount);
+        assertEquals(3, producer.getSentRecordCount());
+    }
+
+    @Test
+    @DisplayName("should split entities in order when partitions are unknown")
+    void shouldSplitEntitiesInOrderWhenPartitionsAreUnknown() {
+        when(kafkaTemplate.partitionsFor(TOPIC)).thenThrow(new RuntimeException("no broker"));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(CompletableFuture.completedFuture(null));
+
+        producer.pushBatched(TENANT_ID, TOPIC, getEntities(3)).join();
+
+        ArgumentCaptor<ProducerRecord<String, Object>> captor = ArgumentCaptor.forClass(ProducerRecord.class);
+        verify(kafkaTemplate, times(2)).send(captor.capture());
+        assertNull(captor.getAllValues().get(0).partition());
+        assertEquals("client-ref-0", captor.getAllValues().get(0).key());
+        assertEquals("client-ref-2", captor.getAllValues().get(1).key());
+    }
+
+    @Test
+    @DisplayName("should notify failure handlers when a send fails")
+    void shouldNotifyFailureHandlersWhenASendFails() {
+        List<String> failedKeys = new ArrayList<>();
+        producer.addFailureHandler((topic, key, value, throwable) -> failedKeys.add(key));
+        when(kafkaTemplate.partitionsFor(TOPIC)).thenReturn(null);
+        CompletableFuture<SendResult<String, Object>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new RuntimeException("broker down"));
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(failed);
+
+        CompletableFuture<Void> result = producer.pushBatched(TENANT_ID, TOPIC, getEntities(1));
+
+        assertTrue(result.isCompletedExceptionally());
+        assertEquals(Arrays.asList("client-ref-0"), failedKeys);
+        assertEquals(1, producer.getFailedRecordCount());
+    }
+
+    @Test
+    @DisplayName("should throw from push when a batched send fails")
+    void shouldThrowFromPushWhenABatchedSendFails() {
+        ReflectionTestUtils.setField(producer, "batchEnabled", true);
+        when(kafkaTemplate.partitionsFor(TOPIC)).thenReturn(null);
+        CompletableFuture<SendResult<String, Object>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new RuntimeException("broker down"));
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(null), failed);
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> producer.push(TENANT_ID, TOPIC, getEntities(3)));
+
+        assertEquals("KAFKA_PUSH_ERROR", exception.getCode());
+        verify(kafkaTemplate, times(2)).send(any(ProducerRecord.class));
+        assertEquals(1, producer.getFailedRecordCount());
+    }
+
+    @Test
+    @DisplayName("should resolve topic name once per tenant and topic")
+    void shouldResolveTopicNameOncePerTenantAndTopic() {
+        producer.push(TENANT_ID, TOPIC, getEntities(1));
+        producer.push(TENANT_ID, TOPIC, getEntities(1));
+
+        verify(multiStateInstanceUtil, times(1)).getStateSpecificTopicName(TENANT_ID, TOPIC);
+        verify(customKafkaTemplate, times(2)).send(anyString(), any(Object.class));
+    }
+
+    private static List<SomeObjectWithClientRefId> getEntities(int count) {
+        List<SomeObjectWithClientRefId> entities = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            entities.add(SomeObjectWithClientRefId.builder().clientReferenceId("client-ref-" + i).build());
+        }
+        return entities;
+    }
+}
@@ -0,0 +1,64 @@
+package org.egov.common.utils;
+
+import org.egov.common.helpers.SomeObject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static org.egov.common.utils.CommonUtils.getMethod;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class AccessorRegistryTest {
+
+    @Test
+    @DisplayName("should read values through compiled getter")
+    void shouldReadValuesThroughCompiledGetter() {
+        SomeObject someObject = SomeObject.builder().id("some-id").rowVersion(2).build();
+
+        assertEquals("some-id", AccessorRegistry.getter("getId", SomeObject.class).apply(someObject));
+        assertEquals(2, AccessorRegistry.getter("getRowVersion", SomeObject.class).apply(someObject));
+        assertNull(AccessorRegistry.getter("getTenantId", SomeObject.class).apply(someObject));
+    }
+
+    @Test
+    @DisplayName("should write values through compiled setter")
+    void shouldWriteValuesThroughCompiledSetter() {
+        SomeObject someObject = SomeObject.builder().build();
+
+        AccessorRegistry.setter("setId", SomeObject.class).accept(someObject, "some-id");
+        AccessorRegistry.setter("setIsDeleted", SomeObject.class).accept(someObject, Boolean.TRUE);
+
+        assertEquals("some-id", someObject.getId());
+        assertEquals(Boolean.TRUE, someObject.getIsDeleted());
+    }
+
+    @Test
+    @DisplayName("should reuse the same accessor for a method")
+    void shouldReuseTheSameAccessorForAMethod() {
+        Method getIdMethod = getMethod("getId", SomeObject.class);
+        Method setIdMethod = getMethod("setId", SomeObject.class);
+
+        Function<Object, Object> getter = AccessorRegistry.getter(getIdMethod);
+        BiConsumer<Object, Object> setter = AccessorRegistry.setter(setIdMethod);
+
+        assertSame(getter, AccessorRegistry.getter(getIdMethod));
+        assertSame(setter, AccessorRegistry.setter(setIdMethod));
+    }
+
+    @Test
+    @DisplayName("should read enum name from jdk class")
+    void shouldReadEnumNameFromJdkClass() {
+        Method nameMethod = getMethod("name", Enum.class);
+
+        assertEquals("UPDATE", AccessorRegistry.get(nameMethod, SomeEnum.UPDATE));
+    }
+
+    enum SomeEnum {
+        UPDATE
+    }
+}
@@ -0,0 +1,80 @@
+package org.egov.common.validator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidationContextTest {
+
+    /* Returns the ids starting with "e" as existing and records every query */
+    private static ValidationContext.Loader<String, RuntimeException> existing(List<List<String>> queries) {
+        return ids -> {
+            queries.add(new ArrayList<>(ids));
+            return ids.stream().filter(id -> id.startsWith("e")).collect(Collectors.toList());
+        };
+    }
+
+    @Test
+    @DisplayName("should query each id once per request")
+    void shouldQueryEachIdOnce() {
+        List<List<String>> queries = new ArrayList<>();
+        List<Set<String>> results = new ArrayList<>();
+
+        new ValidationContext().run(() -> {
+            results.add(ValidationContext.findExistingIds("project.id", "mz", Arrays.asList("e1", "m1"),
+                    existing(queries)));
+            results.add(ValidationContext.findExistingIds("project.id", "mz", Arrays.asList("e1", "m1", "e2"),
+                    existing(queries)));
+        });
+
+        assertEquals(Arrays.asList(Arrays.asList("e1", "m1"), Collections.singletonList("e2")), queries);
+        assertEquals(new HashSet<>(Collections.singletonList("e1")), results.get(0));
+        assertEquals(new HashSet<>(Arrays.asList("e1", "e2")), results.get(1));
+    }
+
+    @Test
+    @DisplayName("should not query entities put by an earlier validator")
+    void shouldNotQueryEntitiesPut() {
+        List<List<String>> queries = new ArrayList<>();
+        List<Map<String, String>> results = new ArrayList<>();
+
+        new ValidationContext().run(() -> {
+            ValidationContext.put("stock.id", "mz", Collections.singletonList("e1"), Function.identity());
+            results.add(ValidationContext.find("stock.id", "mz", Arrays.asList("e1", "e2"), Function.identity(),
+                    existing(queries)));
+        });
+
+        assertEquals(Collections.singletonList(Collections.singletonList("e2")), queries);
+        assertEquals(2, results.get(0).size());
+    }
+
+    @Test
+    @DisplayName("should keep lookups of different tenants apart and query directly outside of a request")
+    void shouldKeepTenantsApartAndQueryOutsideOfRequest() {
+        List<List<String>> queries = new ArrayList<>();
+
+        new ValidationContext().run(() -> {
+            ValidationContext.findExistingIds("project.id", "mz", Collections.singletonList("e1"), existing(queries));
+            ValidationContext.findExistingIds("project.id", "ng", Collections.singletonList("e1"), existing(queries));
+        });
+        Set<String> outside = ValidationContext.findExistingIds("project.id", "mz", Collections.singletonList("e1"),
+                existing(queries));
+
+        assertEquals(3, queries.size());
+        assertTrue(outside.contains("e1"));
+        assertNull(ValidationContext.current());
+    }
+}
@@ -0,0 +1,207 @@
+package org.egov.common.validator;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.models.Error;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.Order;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ValidatorEngineTest {
+
+    private ValidatorEngine engine;
+
+    @AfterEach
+    void tearDown() {
+        if (engine != null) {
+            engine.shutdown();
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Entity {
+        private String id;
+        private Boolean hasErrors;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class EntityRequest {
+        private RequestInfo requestInfo;
+        private List<Entity> entities;
+    }
+
+    private static EntityRequest request(String... ids) {
+        List<Entity> entities = new ArrayList<>();
+        for (String id : ids) {
+            entities.add(new Entity(id, false));
+        }
+        return new EntityRequest(RequestInfo.builder().build(), entities);
+    }
+
+    private static Map<Entity, List<Error>> errorFor(Entity entity) {
+        entity.setHasErrors(true);
+        return Collections.singletonMap(entity, Collections.singletonList(Error.builder().errorCode(entity.getId()).build()));
+    }
+
+    /* Waits until every validator of the stage has started */
+    @Order(1)
+    @IndependentValidator
+    static class LatchValidator implements Validator<EntityRequest, Entity> {
+        private final CountDownLatch latch;
+        private final int index;
+
+        LatchValidator(CountDownLatch latch, int index) {
+            this.latch = latch;
+            this.index = index;
+        }
+
+        @Override
+        public Map<Entity, List<Error>> validate(EntityRequest request) {
+            latch.countDown();
+            try {
+                if (!latch.await(5, TimeUnit.SECONDS)) {
+                    throw new CustomException("NOT_CONCURRENT", "validators of a stage did not run concurrently");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return errorFor(request.getEntities().get(index));
+        }
+    }
+
+    /* Flags the first entity */
+    @Order(1)
+    static class FirstEntityValidator implements Validator<EntityRequest, Entity> {
+        @Override
+        public Map<Entity, List<Error>> validate(EntityRequest request) {
+            return errorFor(request.getEntities().get(0));
+        }
+    }
+
+    /* Records the entities it was given and flags all of them */
+    @Order(2)
+    static class RecordingValidator implements Validator<EntityRequest, Entity> {
+        private final List<String> seen = new ArrayList<>();
+
+        @Override
+        public Map<Entity, List<Error>> validate(EntityRequest request) {
+            request.getEntities().forEach(entity -> seen.add(entity.getId()));
+            request.getEntities().forEach(entity -> entity.setHasErrors(true));
+            return Collections.emptyMap();
+        }
+    }
+
+    @Order(3)
+    static class LaterRecordingValidator extends RecordingValidator {
+    }
+
+    @Order(3)
+    @IndependentValidator
+    static class FailingValidator implements Validator<EntityRequest, Entity> {
+        @Override
+        public Map<Entity, List<Error>> validate(EntityRequest request) {
+            throw new CustomException("LOOKUP_FAILED", "lookup failed");
+        }
+    }
+
+    @Test
+    @DisplayName("should run validators with the same order concurrently and hand over errors in list order")
+    void shouldRunSameOrderValidatorsConcurrently() {
+        engine = new ValidatorEngine(true, 2, false);
+        CountDownLatch latch = new CountDownLatch(2);
+        List<Validator<EntityRequest, Entity>> validators = Arrays.asList(new LatchValidator(latch, 0),
+                new LatchValidator(latch, 1));
+        List<String> errorCodes = new ArrayList<>();
+
+        engine.validate(validators, v -> true, request("e1", "e2"), "setEntities",
+                errors -> errors.values().forEach(list -> errorCodes.add(list.get(0).getErrorCode())));
+
+        assertEquals(Arrays.asList("e1", "e2"), errorCodes);
+        assertEquals(2, engine.getLatencies().get(LatchValidator.class.getName()).getCount());
+    }
+
+    /* Flags every entity through the payload, like populateErrorDetails */
+    @Order(4)
+    static class FlaggingValidator implements Validator<EntityRequest, Entity> {
+        @Override
+        public Map<Entity, List<Error>> validate(EntityRequest request) {
+            request.getEntities().forEach(entity -> entity.setHasErrors(true));
+            return Collections.emptyMap();
+        }
+    }
+
+    /* Records how many entities already had errors when it ran */
+    @Order(4)
+    static class ErrorCountingValidator implements Validator<EntityRequest, Entity> {
+        private long flagged = -1;
+
+        @Override
+        public Map<Entity, List<Error>> validate(EntityRequest request) {
+            flagged = request.getEntities().stream().filter(Entity::getHasErrors).count();
+            return Collections.emptyMap();
+        }
+    }
+
+    @Test
+    @DisplayName("should run validators with the same order in list order when they are not marked independent")
+    void shouldRunUnmarkedSameOrderValidatorsInListOrder() {
+        engine = new ValidatorEngine(true, 2, false);
+        ErrorCountingValidator counting = new ErrorCountingValidator();
+        List<Validator<EntityRequest, Entity>> validators = Arrays.asList(new FlaggingValidator(), counting);
+
+        engine.validate(validators, v -> true, request("e1", "e2"), "setEntities", errors -> { });
+
+        assertEquals(2, counting.flagged);
+    }
+
+    @Test
+    @DisplayName("should only give entities without errors to later stages when skipping failed entities")
+    void shouldSkipFailedEntities() {
+        engine = new ValidatorEngine(true, 2, true);
+        RecordingValidator recording = new RecordingValidator();
+        RecordingValidator skipped = new LaterRecordingValidator();
+        List<Validator<EntityRequest, Entity>> validators = Arrays.asList(new FirstEntityValidator(), recording,
+                skipped);
+        EntityRequest request = request("e1", "e2");
+
+        engine.validate(validators, v -> true, request, "setEntities", errors -> { });
+
+        assertEquals(Collections.singletonList("e2"), recording.seen);
+        assertTrue(skipped.seen.isEmpty());
+        assertEquals(2, request.getEntities().size());
+        assertEquals(1, engine.getLatencies().get(LaterRecordingValidator.class.getName()).getSkippedCount());
+    }
+
+    @Test
+    @DisplayName("should rethrow the exception of a validator")
+    void shouldRethrowValidatorException() {
+        engine = new ValidatorEngine(true, 2, false);
+        List<Validator<EntityRequest, Entity>> validators = Arrays.asList(new FailingValidator(),
+                new FailingValidator());
+
+        CustomException exception = assertThrows(CustomException.class, () -> engine.validate(validators,
+                v -> true, request("e1"), "setEntities", errors -> { }));
+
+        assertEquals("LOOKUP_FAILED", exception.getCode());
+    }
+}
@@ -3,6 +3,8 @@ package org.egov.common.models.core;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import io.swagger.annotations.ApiModel;
 import lombok.AccessLevel;
@@ -30,7 +32,25 @@ public class SearchResponse<E> {
     @Builder.Default
     private List<E> response = new ArrayList<>();
 
+    /**
+     * Opaque cursor to fetch the next page in keyset pagination mode, null when there are no more records
+     * or when the search was made with limit and offset.
+     */
+    @JsonProperty("NextCursor")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor;
+
+    /**
+     * Set when the search computed no total count, in which case {@link #getTotalCount()} returns null
+     * instead of falling back to the size of the page.
+     */
+    @JsonIgnore
+    @Builder.Default
+    private boolean totalCountUnknown = false;
+
     public Long getTotalCount() {
+        if(totalCountUnknown)
+            return null;
         if(totalCount == null)
             totalCount = (long) response.size();
         return totalCount;
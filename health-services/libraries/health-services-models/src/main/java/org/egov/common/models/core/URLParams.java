@@ -60,6 +60,14 @@ public class URLParams {
     @JsonProperty("includeDeleted")
     private Boolean includeDeleted = Boolean.FALSE;
 
+    /**
+     * Opaque cursor returned as NextCursor by a previous page. When set on a search that supports keyset
+     * pagination, the next page is read after this cursor and offset is ignored; an empty cursor reads the
+     * first page.
+     */
+    @JsonProperty("cursor")
+    private String cursor;
+
     /**
      * Sets the URL parameters from the given URLParams object.
      * This method allows updating the current URLParams instance with values from another instance.
@@ -81,6 +89,9 @@ public class URLParams {
 
         // Update includeDeleted if provided in the input URLParams
         if (urlParams.getIncludeDeleted() != null) this.includeDeleted = urlParams.getIncludeDeleted();
+
+        // Update cursor if provided in the input URLParams
+        if (urlParams.getCursor() != null) this.cursor = urlParams.getCursor();
     }
 
 }
@@ -58,6 +58,13 @@ public class ProjectFacilityBulkResponse {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private Map<String, List<String>> facilityMap = null;
 
+    /**
+     * Opaque cursor to fetch the next page, populated only for a search made with a cursor.
+     */
+    @JsonProperty("NextCursor")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String nextCursor = null;
+
     /**
      * Adds a single project facility to the list and returns the updated response.
      */
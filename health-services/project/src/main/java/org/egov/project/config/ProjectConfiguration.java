@@ -240,4 +240,9 @@ public class ProjectConfiguration {
 
     @Value("${project.kafka.batch.size:100}") // Default 100 projects per batch
     private int kafkaBatchSize;
+
+    // When true, ancestor / descendant project searches match ids against the elements of projectHierarchy
+    // (served by the idx_project_projectHierarchy_path GIN index) instead of LIKE '%id%' scans.
+    @Value("${project.search.hierarchy.path.query.enabled:false}")
+    private Boolean isHierarchyPathQueryEnabled;
 }
@@ -0,0 +1,112 @@
+package org.egov.project.repository;
+
+import org.apache.commons.lang3.StringUtils;
+import org.egov.common.models.project.Document;
+import org.egov.common.models.project.Project;
+import org.egov.common.models.project.Target;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index of the projects, targets and documents fetched for one project search, so that each project is matched to
+ * its ancestors, descendants, targets and documents by hash lookups instead of scanning the fetched lists.
+ *
+ * <p>Projects are related by the ids in their {@code projectHierarchy} (root first, ending with the project itself).
+ * Ancestors and descendants of a project are returned in the order in which they were fetched.
+ */
+final class ProjectHierarchyIndex {
+
+    private static final String HIERARCHY_SEPARATOR = "\\.";
+
+    private static final String INACTIVE = "INACTIVE";
+
+    private final Map<String, Integer> ancestorPositions = new HashMap<>();
+
+    private final List<Project> ancestors;
+
+    private final Map<String, List<Project>> descendantsByAncestorId = new HashMap<>();
+
+    private final Map<String, Map<String, Target>> targetsByProjectId = new HashMap<>();
+
+    private final Map<String, Map<String, Document>> documentsByProjectId = new HashMap<>();
+
+    ProjectHierarchyIndex(List<Target> targets, List<Document> documents, List<Project> ancestors,
+                          List<Project> descendants) {
+        this.ancestors = ancestors != null ? ancestors : Collections.emptyList();
+        for (int i = 0; i < this.ancestors.size(); i++) {
+            ancestorPositions.putIfAbsent(this.ancestors.get(i).getId(), i);
+        }
+        if (descendants != null) {
+            for (Project descendant : descendants) {
+                if (StringUtils.isBlank(descendant.getParent()) || StringUtils.isBlank(descendant.getProjectHierarchy())) {
+                    continue;
+                }
+                for (String ancestorId : descendant.getProjectHierarchy().split(HIERARCHY_SEPARATOR)) {
+                    if (!ancestorId.equals(descendant.getId())) {
+                        descendantsByAncestorId.computeIfAbsent(ancestorId, id -> new ArrayList<>()).add(descendant);
+                    }
+                }
+            }
+        }
+        if (targets != null) {
+            // the first occurrence of a target id wins
+            for (Target target : targets) {
+                if (!target.getIsDeleted()) {
+                    targetsByProjectId.computeIfAbsent(target.getProjectid(), id -> new LinkedHashMap<>())
+                            .putIfAbsent(target.getId(), target);
+                }
+            }
+        }
+        if (documents != null) {
+            for (Document document : documents) {
+                if (!INACTIVE.equals(document.getStatus())) {
+                    documentsByProjectId.computeIfAbsent(document.getProjectid(), id -> new LinkedHashMap<>())
+                            .putIfAbsent(document.getId(), document);
+                }
+            }
+        }
+    }
+
+    /* Ancestors of the project, excluding itself, in fetched order */
+    List<Project> getAncestors(Project project) {
+        if (StringUtils.isBlank(project.getProjectHierarchy())) {
+            return new ArrayList<>();
+        }
+        List<Integer> positions = new ArrayList<>();
+        for (String ancestorId : project.getProjectHierarchy().split(HIERARCHY_SEPARATOR)) {
+            Integer position = ancestorPositions.get(ancestorId);
+            if (position != null && !ancestorId.equals(project.getId()) && !positions.contains(position)) {
+                positions.add(position);
+            }
+        }
+        Collections.sort(positions);
+        List<Project> projectAncestors = new ArrayList<>(positions.size());
+        for (Integer position : positions) {
+            projectAncestors.add(ancestors.get(position));
+        }
+        return projectAncestors;
+    }
+
+    /* Descendants of the project, excluding itself, in fetched order */
+    List<Project> getDescendants(Project project) {
+        List<Project> descendants = descendantsByAncestorId.get(project.getId());
+        return descendants != null ? new ArrayList<>(descendants) : new ArrayList<>();
+    }
+
+    /* Non deleted targets of the project, without duplicate ids */
+    List<Target> getTargets(String projectId) {
+        Map<String, Target> targets = targetsByProjectId.get(projectId);
+        return targets != null ? new ArrayList<>(targets.values()) : new ArrayList<>();
+    }
+
+    /* Documents of the project which are not INACTIVE, without duplicate ids */
+    List<Document> getDocuments(String projectId) {
+        Map<String, Document> documents = documentsByProjectId.get(projectId);
+        return documents != null ? new ArrayList<>(documents.values()) : new ArrayList<>();
+    }
+}
@@ -273,64 +273,47 @@ public class ProjectRepository extends GenericRepository<Project> {
 
     /* Constructs Project Objects with fetched projects, targets and documents using Project id and return list of Projects */
     private List<Project> buildProjectSearchResult(List<Project> projects, List<Target> targets, List<Document> documents, List<Project> ancestors, List<Project> descendants) {
+        ProjectHierarchyIndex index = new ProjectHierarchyIndex(targets, documents, ancestors, descendants);
         for (Project project: projects) {
-            log.info("Constructing project object for project " + project.getId());
+            log.debug("Constructing project object for project {}", project.getId());
             if (targets != null && targets.size() > 0) {
-                log.info("Adding Targets to project " + project.getId());
-                addTargetToProject(project, targets);
+                addTargetToProject(project, index);
             }
             if (documents != null && documents.size() > 0) {
-                log.info("Adding Documents to project " + project.getId());
-                addDocumentToProject(project, documents);
+                addDocumentToProject(project, index);
             }
             if (ancestors != null && !ancestors.isEmpty() && StringUtils.isNotBlank(project.getParent())) {
-                log.info("Adding ancestors to project " + project.getId());
-                addAncestorsToProjectSearchResult(project, ancestors, targets, documents);
+                addAncestorsToProjectSearchResult(project, index);
             }
             if (descendants != null && !descendants.isEmpty()) {
-                log.info("Adding descendants to project " + project.getId());
-                addDescendantsToProjectSearchResult(project, descendants, targets, documents);
+                addDescendantsToProjectSearchResult(project, index);
             }
-            log.info("Constructed project object for project " + project.getId());
         }
+        log.info("Constructed {} project objects", projects.size());
         return projects;
     }
 
-    /* Add Targets to projects based on projectId and targets list passed */
-    private void addTargetToProject(Project project, List<Target> targets) {
-        project.setTargets(new ArrayList<>());
-        for (Target target: targets) {
-            if (target.getProjectid().equals(project.getId()) && !target.getIsDeleted() && project.getTargets().stream().noneMatch(t -> t.getId().equals(target.getId()))) {
-                project.getTargets().add(target);
-            }
-        }
+    /* Add Targets to projects based on projectId and the indexed targets */
+    private void addTargetToProject(Project project, ProjectHierarchyIndex index) {
+        project.setTargets(index.getTargets(project.getId()));
     }
 
-    /* Add Documents to projects based on projectId and documents list passed */
-    private void addDocumentToProject(Project project, List<Document> documents) {
-        project.setDocuments(new ArrayList<>());
-        for (Document document: documents) {
-            if (document.getProjectid().equals(project.getId())
-                    && (document.getStatus() == null || document.getStatus() != null && !document.getStatus().equals("INACTIVE"))
-                    && project.getDocuments().stream().noneMatch(t -> t.getId().equals(document.getId()))) {
-                project.getDocuments().add(document);
-            }
-        }
+    /* Add Documents to projects based on projectId and the indexed documents */
+    private void addDocumentToProject(Project project, ProjectHierarchyIndex index) {
+        project.setDocuments(index.getDocuments(project.getId()));
     }
 
 
-    /* Adds ancestors to Project based on project and ancestors list  */
-    private void addAncestorsToProjectSearchResult(Project project, List<Project> ancestors, List<Target> targets, List<Document> documents) {
-        List<Project> currentProjectAncestors = ancestors.stream().filter(a -> (project.getProjectHierarchy().contains(a.getId())
-                && !project.getId().equals(a.getId()))).collect(Collectors.toList());
-        //Add target and document to ancestor projects using targets and documents list
+    /* Adds ancestors to Project based on project and the indexed ancestors  */
+    private void addAncestorsToProjectSearchResult(Project project, ProjectHierarchyIndex index) {
+        List<Project> currentProjectAncestors = index.getAncestors(project);
+        //Add target and document to ancestor projects using the indexed targets and documents
         for (Project ancestor: currentProjectAncestors) {
-            addTargetToProject(ancestor, targets);
-            addDocumentToProject(ancestor, documents);
-            log.info("Targets and Documents mapped to ancestor projects");
+            addTargetToProject(ancestor, index);
+            addDocumentToProject(ancestor, index);
         }
         project.setAncestors(currentProjectAncestors);
-        log.info("Ancestors set for project " + project.getId());
+        log.debug("Ancestors set for project {}", project.getId());
 
         /* The below code returns Project ancestors with tree structure. If project hierarchy A.B.C, "ancestor" field of project C will contain project B
          * "ancestor" field of project B will contain project A and so on. For this to work, change type of "ancestor" to Project instead of List<Project>.
@@ -346,19 +329,16 @@ public class ProjectRepository extends GenericRepository<Project> {
     }
 
     /* Adds ancestors to Project based on project and descendants list  */
-    private void addDescendantsToProjectSearchResult(Project project, List<Project> descendants, List<Target> targets, List<Document> documents) {
-        List<Project> subProjects = descendants.stream().filter(d -> StringUtils.isNotBlank(d.getParent())
-                && d.getProjectHierarchy().contains(project.getId())
-                && !d.getId().equals(project.getId())).collect(Collectors.toList());
-        //Add target and document to descendants projects using targets and documents list
-        for (Project ancestor: subProjects) {
-            addTargetToProject(ancestor, targets);
-            addDocumentToProject(ancestor, documents);
-            log.info("Targets and Documents mapped to descendant projects");
+    private void addDescendantsToProjectSearchResult(Project project, ProjectHierarchyIndex index) {
+        List<Project> subProjects = index.getDescendants(project);
+        //Add target and document to descendants projects using the indexed targets and documents
+        for (Project descendant: subProjects) {
+            addTargetToProject(descendant, index);
+            addDocumentToProject(descendant, index);
         }
         if (!subProjects.isEmpty()) {
             project.setDescendants(subProjects);
-            log.info("Descendants set for project " + project.getId());
+            log.debug("Descendants set for project {}", project.getId());
         }
 
         /* The below code returns Project descendants with tree structure. If project hierarchy A.B.C and A.D, "descendants" field of project A will contain project B and project D
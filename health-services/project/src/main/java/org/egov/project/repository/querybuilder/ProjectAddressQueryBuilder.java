@@ -47,6 +47,9 @@ public class ProjectAddressQueryBuilder {
             "left join " + SCHEMA_REPLACE_STRING + ".project_address addr " +
             "on prj.id = addr.projectId ";;
 
+    /* projectHierarchy as an array of project ids, matches the expression of idx_project_projectHierarchy_path */
+    private static final String HIERARCHY_PATH = "string_to_array(prj.projectHierarchy, '.')";
+
     /**
      * Constructs project search query based on conditions
      * @param isAncestorProjectId if set to true, project id in the projects would be considered as ancestor project id.
@@ -79,8 +82,13 @@ public class ProjectAddressQueryBuilder {
              */
             if (isAncestorProjectId && StringUtils.isNotBlank(project.getId())) {
                 addClauseIfRequired(preparedStmtList, queryBuilder);
-                queryBuilder.append(" ( prj.projectHierarchy LIKE ? OR prj.id =? ) ");
-                preparedStmtList.add('%' + project.getId() + '%');
+                if (Boolean.TRUE.equals(config.getIsHierarchyPathQueryEnabled())) {
+                    queryBuilder.append(" ( " + HIERARCHY_PATH + " @> ARRAY[?]::text[] OR prj.id =? ) ");
+                    preparedStmtList.add(project.getId());
+                } else {
+                    queryBuilder.append(" ( prj.projectHierarchy LIKE ? OR prj.id =? ) ");
+                    preparedStmtList.add('%' + project.getId() + '%');
+                }
                 preparedStmtList.add(project.getId());
             } else if (StringUtils.isNotBlank(project.getId())) {
                 addClauseIfRequired(preparedStmtList, queryBuilder);
@@ -382,6 +390,15 @@ public class ProjectAddressQueryBuilder {
     /* Returns query to search for projects where project_hierarchy contains project Ids */
     public String getProjectDescendantsSearchQueryBasedOnIds(List<String> projectIds, List<Object> preparedStmtListDescendants) {
         StringBuilder queryBuilder = new StringBuilder(FETCH_PROJECT_ADDRESS_QUERY);
+        if (Boolean.TRUE.equals(config.getIsHierarchyPathQueryEnabled()) && !projectIds.isEmpty()) {
+            /* Any project id being an element of the materialised path, in a single index scan */
+            addConditionalClause(preparedStmtListDescendants, queryBuilder);
+            queryBuilder.append(" ( " + HIERARCHY_PATH + " && ARRAY[")
+                    .append(createQuery(projectIds))
+                    .append("]::text[] )");
+            addToPreparedStatement(preparedStmtListDescendants, projectIds);
+            return queryBuilder.toString();
+        }
         for (String projectId : projectIds) {
             addConditionalClause(preparedStmtListDescendants, queryBuilder);
             queryBuilder.append(" ( prj.projectHierarchy LIKE ? )");
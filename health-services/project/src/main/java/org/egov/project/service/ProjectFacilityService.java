@@ -11,6 +11,7 @@ import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.egov.common.data.repository.TotalCountMode;
 import org.egov.common.ds.Tuple;
 import org.egov.common.contract.request.RequestInfo;
 import org.egov.common.models.ErrorDetails;
@@ -243,6 +244,46 @@ public class ProjectFacilityService {
         return search(request, limit, offset, tenantId, lastChangedSince, includeDeleted);
     }
 
+    /**
+     * Searches project facilities a page at a time with keyset pagination, for clients syncing a whole
+     * tenant where offset pages get slower with depth. No total count is computed, so TotalCount is null.
+     *
+     * @param request          The search request.
+     * @param limit            The maximum number of facilities in the page.
+     * @param cursor           The NextCursor of the previous page, null for the first page.
+     * @param tenantId         The tenant id.
+     * @param lastChangedSince Only facilities modified at or after this time, if set.
+     * @param includeDeleted   Whether deleted facilities are included.
+     * @return The page with the cursor of the next page, null after the last page.
+     * @throws CustomException if the request also asks for the hierarchy search (boundaryTypes) or only
+     *                         searches by id, which are not paged.
+     */
+    public ProjectFacilityBulkResponse searchFacilitiesByCursor(
+            ProjectFacilitySearchRequest request,
+            Integer limit,
+            String cursor,
+            String tenantId,
+            Long lastChangedSince,
+            Boolean includeDeleted) throws Exception {
+        ProjectFacilitySearch searchCriteria = request.getProjectFacility();
+        if (searchCriteria.getBoundaryTypes() != null && !searchCriteria.getBoundaryTypes().isEmpty()) {
+            throw new CustomException("INVALID_CURSOR_SEARCH",
+                    "cursor cannot be combined with boundaryTypes, the hierarchy search is not paged");
+        }
+        if (isSearchByIdOnly(searchCriteria)) {
+            throw new CustomException("INVALID_CURSOR_SEARCH",
+                    "cursor cannot be combined with a search by id only, search by id without a cursor");
+        }
+        log.info("searching project facility using cursor");
+        SearchResponse<ProjectFacility> searchResponse = projectFacilityRepository.findWithCursor(
+                request.getProjectFacility(), limit, cursor, tenantId, lastChangedSince, includeDeleted,
+                TotalCountMode.NONE);
+        ProjectFacilityBulkResponse response = buildResponse(searchResponse.getResponse(),
+                searchResponse.getTotalCount(), null, request.getRequestInfo());
+        response.setNextCursor(searchResponse.getNextCursor());
+        return response;
+    }
+
     private ProjectFacilityBulkResponse search(ProjectFacilitySearchRequest projectFacilitySearchRequest,
                                                   Integer limit,
                                                   Integer offset,
@@ -5,6 +5,7 @@ import org.egov.common.exception.InvalidTenantIdException;
 import org.egov.common.models.Error;
 import org.egov.common.models.project.ProjectResource;
 import org.egov.common.models.project.ProjectResourceBulkRequest;
+import org.egov.common.validator.ValidationContext;
 import org.egov.common.validator.Validator;
 import org.egov.project.repository.ProjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -16,6 +17,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.egov.common.utils.CommonUtils.getIdFieldName;
@@ -52,8 +54,9 @@ public class PrProjectIdValidator implements Validator<ProjectResourceBulkReques
         if (!eMap.isEmpty()) {
             List<String> entityIds = new ArrayList<>(eMap.keySet());
             try {
-                List<String> existingProjectIds = projectRepository.validateIds(tenantId, entityIds,
-                        getIdFieldName(idMethod));
+                Set<String> existingProjectIds = ValidationContext.findExistingIds(
+                        "project." + getIdFieldName(idMethod), tenantId, entityIds,
+                        ids -> projectRepository.validateIds(tenantId, ids, getIdFieldName(idMethod)));
                 List<ProjectResource> invalidEntities = entities.stream().filter(notHavingErrors()).filter(entity ->
                                 !existingProjectIds.contains(entity.getProjectId()))
                         .toList();
@@ -13,6 +13,7 @@ import org.egov.common.models.Error;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskBulkRequest;
 import org.egov.common.models.project.TaskSearch;
+import org.egov.common.validator.ValidationContext;
 import org.egov.common.validator.Validator;
 import org.egov.project.repository.ProjectTaskRepository;
 import org.egov.tracer.model.CustomException;
@@ -80,6 +81,11 @@ public class PtNonExistentEntityValidator implements Validator<TaskBulkRequest,
                 log.error("Search failed for ProjectTask with error: {}", e.getMessage(), e);
                 throw new CustomException("SEARCH_FAILED", "Search Failed for given ProjectTask, " + e.getMessage());
             }
+            // later validators of the request look these up by id instead of querying them again
+            ValidationContext.put("project_task.id", entities.get(0).getTenantId(), existingEntities,
+                    Task::getId);
+            ValidationContext.put("project_task.clientReferenceId", entities.get(0).getTenantId(), existingEntities,
+                    Task::getClientReferenceId);
             List<Task> nonExistentEntities = checkNonExistentEntities(eMap,
                     existingEntities, idMethod);
             nonExistentEntities.forEach(task -> {
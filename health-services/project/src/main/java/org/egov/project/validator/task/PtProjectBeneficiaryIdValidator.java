@@ -5,6 +5,7 @@ import org.egov.common.exception.InvalidTenantIdException;
 import org.egov.common.models.Error;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskBulkRequest;
+import org.egov.common.validator.ValidationContext;
 import org.egov.common.validator.Validator;
 import org.egov.project.config.ProjectConfiguration;
 import org.egov.project.repository.ProjectBeneficiaryRepository;
@@ -17,6 +18,7 @@ import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static org.egov.common.utils.CommonUtils.getIdList;
@@ -73,9 +75,10 @@ public class PtProjectBeneficiaryIdValidator implements Validator<TaskBulkReques
             entities = entities.stream().filter(notHavingErrors()).collect(Collectors.toList());
             String tenantId = getTenantId(entities);
             try {
-                List<String> existingProjectBeneficiaryIds = projectBeneficiaryRepository
-                        .validateIds(tenantId, getIdList(entities, idMethod),
-                        columnName);
+                String lookupColumnName = columnName;
+                Set<String> existingProjectBeneficiaryIds = ValidationContext.findExistingIds(
+                        "project_beneficiary." + columnName, tenantId, getIdList(entities, idMethod),
+                        ids -> projectBeneficiaryRepository.validateIds(tenantId, ids, lookupColumnName));
                 List<Task> invalidEntities = eMap.values().stream().filter(entity ->
                                 !existingProjectBeneficiaryIds
                                         .contains(ReflectionUtils.invokeMethod(idMethod, entity)))
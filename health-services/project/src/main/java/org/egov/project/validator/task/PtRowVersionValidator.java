@@ -5,11 +5,13 @@ import org.egov.common.exception.InvalidTenantIdException;
 import org.egov.common.models.Error;
 import org.egov.common.models.project.Task;
 import org.egov.common.models.project.TaskBulkRequest;
+import org.egov.common.validator.ValidationContext;
 import org.egov.common.validator.Validator;
 import org.egov.project.repository.ProjectTaskRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -53,8 +55,11 @@ public class PtRowVersionValidator implements Validator<TaskBulkRequest, Task> {
         if (!eMap.isEmpty()) {
             List<String> entityIds = new ArrayList<>(eMap.keySet());
             try {
-                List<Task> existingEntities = projectTaskRepository.findById(tenantId, entityIds,
-                        getIdFieldName(idMethod), false).getResponse();
+                List<Task> existingEntities = new ArrayList<>(ValidationContext.find(
+                        "project_task." + getIdFieldName(idMethod), tenantId, entityIds,
+                        task -> (String) ReflectionUtils.invokeMethod(idMethod, task),
+                        ids -> projectTaskRepository.findById(tenantId, ids, getIdFieldName(idMethod), false)
+                                .getResponse()).values());
                 List<Task> entitiesWithMismatchedRowVersion =
                         getEntitiesWithMismatchedRowVersion(eMap, existingEntities, idMethod);
                 entitiesWithMismatchedRowVersion.forEach(individual -> {
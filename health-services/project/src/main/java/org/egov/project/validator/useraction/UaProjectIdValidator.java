@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +13,7 @@ import org.egov.common.exception.InvalidTenantIdException;
 import org.egov.common.models.Error;
 import org.egov.common.models.project.useraction.UserAction;
 import org.egov.common.models.project.useraction.UserActionBulkRequest;
+import org.egov.common.validator.ValidationContext;
 import org.egov.common.validator.Validator;
 import org.egov.project.repository.ProjectRepository;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -77,7 +79,9 @@ public class UaProjectIdValidator implements Validator<UserActionBulkRequest, Us
 
             try {
                 // Validate the Project IDs by checking their existence in the Project repository
-                List<String> existingProjectIds = projectRepository.validateIds(tenantId, entityIds, getIdFieldName(idMethod));
+                Set<String> existingProjectIds = ValidationContext.findExistingIds(
+                        "project." + getIdFieldName(idMethod), tenantId, entityIds,
+                        ids -> projectRepository.validateIds(tenantId, ids, getIdFieldName(idMethod)));
                 log.info("Retrieved list of existing Project IDs from Project repository: {}", existingProjectIds);
 
                 // Identify invalid UserAction entities with non-existent Project IDs
@@ -224,6 +224,16 @@ public class ProjectApiController {
             @Valid @ModelAttribute URLParams urlParams,
             @ApiParam(value = "Capture details of Project facility.", required = true) @Valid @RequestBody ProjectFacilitySearchRequest projectFacilitySearchRequest
     ) throws Exception {
+        if (urlParams.getCursor() != null) {
+            return ResponseEntity.status(HttpStatus.OK).body(projectFacilityService.searchFacilitiesByCursor(
+                    projectFacilitySearchRequest,
+                    urlParams.getLimit(),
+                    urlParams.getCursor(),
+                    urlParams.getTenantId(),
+                    urlParams.getLastChangedSince(),
+                    urlParams.getIncludeDeleted()
+            ));
+        }
         ProjectFacilityBulkResponse response = projectFacilityService.searchFacilities(
                 projectFacilitySearchRequest,
                 urlParams.getLimit(),
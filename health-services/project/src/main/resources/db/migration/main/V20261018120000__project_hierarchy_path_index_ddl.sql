@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_project_projectHierarchy_path ON project USING GIN (string_to_array(projectHierarchy, '.'));
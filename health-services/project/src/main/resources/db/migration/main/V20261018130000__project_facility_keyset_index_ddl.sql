@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_project_facility_tenantId_lastModifiedTime_id ON PROJECT_FACILITY (tenantId, lastModifiedTime, id);
@@ -0,0 +1,70 @@
+package org.egov.project.repository;
+
+import org.egov.common.models.project.Document;
+import org.egov.common.models.project.Project;
+import org.egov.common.models.project.Target;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ProjectHierarchyIndexTest {
+
+    private static Project project(String id, String parent, String projectHierarchy) {
+        return Project.builder().id(id).parent(parent).projectHierarchy(projectHierarchy).build();
+    }
+
+    private static List<String> ids(List<Project> projects) {
+        return projects.stream().map(Project::getId).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("should return ancestors in fetched order excluding the project itself")
+    void shouldReturnAncestorsInFetchedOrder() {
+        Project root = project("p1", null, "p1");
+        Project district = project("p2", "p1", "p1.p2");
+        Project other = project("p9", null, "p9");
+        Project village = project("p3", "p2", "p1.p2.p3");
+        ProjectHierarchyIndex index = new ProjectHierarchyIndex(null, null,
+                Arrays.asList(district, other, root, village), null);
+
+        assertEquals(Arrays.asList("p2", "p1"), ids(index.getAncestors(village)));
+    }
+
+    @Test
+    @DisplayName("should match hierarchy ids exactly and not as substrings")
+    void shouldMatchHierarchyIdsExactly() {
+        Project root = project("p1", null, "p1");
+        Project child = project("p11", "p10", "p10.p11");
+        Project grandChild = project("p12", "p11", "p1.p11.p12");
+        ProjectHierarchyIndex index = new ProjectHierarchyIndex(null, null,
+                Collections.emptyList(), Arrays.asList(child, grandChild));
+
+        assertEquals(Collections.singletonList("p12"), ids(index.getDescendants(root)));
+        assertEquals(Collections.singletonList("p12"), ids(index.getDescendants(child)));
+        assertTrue(index.getDescendants(grandChild).isEmpty());
+    }
+
+    @Test
+    @DisplayName("should skip deleted targets, inactive documents and duplicate ids")
+    void shouldSkipDeletedTargetsInactiveDocumentsAndDuplicates() {
+        Target target = Target.builder().id("t1").projectid("p1").isDeleted(false).build();
+        Target duplicate = Target.builder().id("t1").projectid("p1").isDeleted(false).build();
+        Target deleted = Target.builder().id("t2").projectid("p1").isDeleted(true).build();
+        Document document = Document.builder().id("d1").projectid("p1").status("ACTIVE").build();
+        Document inactive = Document.builder().id("d2").projectid("p1").status("INACTIVE").build();
+        ProjectHierarchyIndex index = new ProjectHierarchyIndex(Arrays.asList(target, duplicate, deleted),
+                Arrays.asList(document, inactive), null, null);
+
+        assertEquals(1, index.getTargets("p1").size());
+        assertEquals(target, index.getTargets("p1").get(0));
+        assertEquals(Collections.singletonList(document), index.getDocuments("p1"));
+        assertTrue(index.getTargets("p2").isEmpty());
+    }
+}
@@ -1,5 +1,6 @@
 package org.egov.project.service;
 
+import org.egov.common.data.repository.TotalCountMode;
 import org.egov.common.exception.InvalidTenantIdException;
 import org.egov.common.helper.RequestInfoTestBuilder;
 import org.egov.common.models.core.SearchResponse;
@@ -154,6 +155,59 @@ class ProjectFacilityServiceSearchTest {
         assertEquals(1, response.getProjectFacilities().size());
     }
 
+    @Test
+    @DisplayName("should return next cursor and no total count for cursor search")
+    void shouldReturnNextCursorAndNoTotalCountForCursorSearch() throws Exception {
+        projectFacilities.add(ProjectFacilityTestBuilder.builder().withId().withAuditDetails().build());
+        when(projectFacilityRepository.findWithCursor(any(ProjectFacilitySearch.class), eq(1), eq(""),
+                eq("default"), eq(null), eq(false), eq(TotalCountMode.NONE)))
+                .thenReturn(SearchResponse.<ProjectFacility>builder().response(projectFacilities)
+                        .totalCountUnknown(true).nextCursor("next-cursor").build());
+        ProjectFacilitySearch projectFacilitySearch = ProjectFacilitySearch.builder()
+                .projectId(Collections.singletonList("some-projectId")).build();
+        ProjectFacilitySearchRequest projectFacilitySearchRequest = ProjectFacilitySearchRequest.builder()
+                .projectFacility(projectFacilitySearch).requestInfo(RequestInfoTestBuilder.builder()
+                        .withCompleteRequestInfo().build()).build();
+
+        ProjectFacilityBulkResponse response = projectFacilityService.searchFacilitiesByCursor(
+                projectFacilitySearchRequest, 1, "", "default", null, false);
+
+        assertEquals("next-cursor", response.getNextCursor());
+        assertNull(response.getTotalCount());
+        assertEquals(1, response.getProjectFacilities().size());
+    }
+
+    @Test
+    @DisplayName("should reject a cursor combined with boundary types")
+    void shouldRejectCursorSearchWithBoundaryTypes() {
+        ProjectFacilitySearch search = ProjectFacilitySearch.builder()
+                .projectId(Collections.singletonList("some-projectId"))
+                .boundaryTypes(Collections.singletonList("VILLAGE")).build();
+        ProjectFacilitySearchRequest request = ProjectFacilitySearchRequest.builder()
+                .projectFacility(search).requestInfo(RequestInfoTestBuilder.builder()
+                        .withCompleteRequestInfo().build()).build();
+
+        CustomException exception = assertThrows(CustomException.class, () -> projectFacilityService
+                .searchFacilitiesByCursor(request, 10, "", "default", null, false));
+
+        assertEquals("INVALID_CURSOR_SEARCH", exception.getCode());
+    }
+
+    @Test
+    @DisplayName("should reject a cursor combined with a search by id only")
+    void shouldRejectCursorSearchById() {
+        ProjectFacilitySearch search = ProjectFacilitySearch.builder()
+                .id(Collections.singletonList("ID101")).build();
+        ProjectFacilitySearchRequest request = ProjectFacilitySearchRequest.builder()
+                .projectFacility(search).requestInfo(RequestInfoTestBuilder.builder()
+                        .withCompleteRequestInfo().build()).build();
+
+        CustomException exception = assertThrows(CustomException.class, () -> projectFacilityService
+                .searchFacilitiesByCursor(request, 10, "", "default", null, false));
+
+        assertEquals("INVALID_CURSOR_SEARCH", exception.getCode());
+    }
+
     // ==================== Hierarchy Search (via searchFacilities) ====================
 
     @Test
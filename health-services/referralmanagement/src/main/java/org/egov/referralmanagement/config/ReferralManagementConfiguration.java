@@ -178,6 +178,18 @@ public class ReferralManagementConfiguration {
     @Value("${egov.s3.presign.endpoint:}")
     private String s3PresignEndpoint;
 
+    @Value("${egov.s3.upload.part.size.mb:8}")
+    private int s3UploadPartSizeMb;
+
+    @Value("${egov.s3.upload.concurrency:4}")
+    private int s3UploadConcurrency;
+
+    @Value("${egov.s3.upload.pool.size:16}")
+    private int s3UploadPoolSize;
+
+    @Value("${egov.s3.upload.max.buffers:32}")
+    private int s3UploadMaxBuffers;
+
     @Value("${egov.wardfilegen.ward.pool.size:8}")
     private int wardPoolSize;
 
@@ -199,4 +211,37 @@ public class ReferralManagementConfiguration {
     @Value("${egov.downsync.pregen.enabled}")
     private boolean pregenEnabled;
 
+    @Value("${egov.downsync.parallel.enabled:true}")
+    private boolean downsyncParallelEnabled;
+
+    @Value("${egov.downsync.step.pool.size:32}")
+    private int downsyncStepPoolSize;
+
+    @Value("${egov.downsync.batch.pool.size:32}")
+    private int downsyncBatchPoolSize;
+
+    @Value("${egov.downsync.batch.parallelism:4}")
+    private int downsyncBatchParallelism;
+
+    @Value("${egov.downsync.individual.pipeline.enabled:true}")
+    private boolean individualPipelineEnabled;
+
+    @Value("${egov.downsync.individual.decrypt.concurrency:4}")
+    private int individualDecryptConcurrency;
+
+    @Value("${egov.downsync.individual.write.queue.depth:2}")
+    private int individualWriteQueueDepth;
+
+    @Value("${egov.downsync.individual.decrypt.pool.size:16}")
+    private int individualDecryptPoolSize;
+
+    @Value("${egov.downsync.delta.enabled:false}")
+    private boolean downsyncDeltaEnabled;
+
+    @Value("${egov.downsync.delta.max.count:10}")
+    private int downsyncDeltaMaxCount;
+
+    @Value("${egov.downsync.delta.max.base.age.hours:168}")
+    private int downsyncDeltaMaxBaseAgeHours;
+
 }
@@ -92,17 +92,52 @@ public class DownsyncGenerationJobRepository {
             "SET status=:status, failureReason=:failureReason, endTime=:endTime " +
             "WHERE id=:id";
 
+    // Latest BASE file per fileType followed by the DELTA files generated after it, oldest first
     private static final String FIND_LATEST_FILES_FOR_LOCALITY =
-            "SELECT DISTINCT ON (f.fileType) f.fileType, f.s3Key, f.recordCount " +
-            "FROM {schema}.downsync_locality_file f " +
-            "JOIN {schema}.downsync_generation_locality l ON l.id = f.localityRowId " +
-            "JOIN {schema}.downsync_generation_job j ON j.id = l.jobId " +
-            "WHERE l.tenantId = :tenantId " +
-            "  AND l.locality = :locality " +
-            "  AND ((:projectId IS NULL AND l.projectId IS NULL) OR l.projectId = :projectId) " +
-            "  AND j.status IN ('COMPLETED','PARTIAL_FAILURE') " +
-            "  AND f.status = 'SUCCESS' AND f.s3Key IS NOT NULL " +
-            "ORDER BY f.fileType, f.endTime DESC";
+            "WITH files AS (" +
+            "  SELECT f.fileType, f.fileKind, f.s3Key, f.recordCount, f.sinceTime, f.watermark, f.startTime, f.endTime " +
+            "  FROM {schema}.downsync_locality_file f " +
+            "  JOIN {schema}.downsync_generation_locality l ON l.id = f.localityRowId " +
+            "  JOIN {schema}.downsync_generation_job j ON j.id = l.jobId " +
+            "  WHERE l.tenantId = :tenantId " +
+            "    AND l.locality = :locality " +
+            "    AND ((:projectId IS NULL AND l.projectId IS NULL) OR l.projectId = :projectId) " +
+            "    AND (:fileType IS NULL OR f.fileType = :fileType) " +
+            "    AND j.status IN ('COMPLETED','PARTIAL_FAILURE') " +
+            "    AND f.status = 'SUCCESS'" +
+            "), bases AS (" +
+            "  SELECT fileType, MAX(endTime) AS endTime FROM files WHERE fileKind = 'BASE' GROUP BY fileType" +
+            ") " +
+            "SELECT files.* FROM files " +
+            "JOIN bases ON bases.fileType = files.fileType AND files.endTime >= bases.endTime " +
+            "ORDER BY files.fileType, files.endTime";
+
+    // Registry files older than the latest BASE served by a job that finished before :cutoff. Files sharing
+    // their key with a file still served (bases written before keys were versioned) are left alone
+    private static final String FIND_SUPERSEDED_REGISTRY_FILES =
+            "WITH registry AS (" +
+            "  SELECT f.id, f.s3Key, f.fileType, f.fileKind, f.status, f.endTime, l.locality, " +
+            "         j.status AS jobStatus, j.lastModifiedTime AS jobEndTime " +
+            "  FROM {schema}.downsync_locality_file f " +
+            "  JOIN {schema}.downsync_generation_locality l ON l.id = f.localityRowId " +
+            "  JOIN {schema}.downsync_generation_job j ON j.id = l.jobId " +
+            "  WHERE l.tenantId = :tenantId AND l.projectId IS NULL " +
+            "), served AS (" +
+            "  SELECT locality, fileType, MAX(endTime) AS endTime FROM registry " +
+            "  WHERE fileKind = 'BASE' AND status = 'SUCCESS' " +
+            "    AND jobStatus IN ('COMPLETED','PARTIAL_FAILURE') AND jobEndTime < :cutoff " +
+            "  GROUP BY locality, fileType" +
+            ") " +
+            "SELECT r.id, r.s3Key FROM registry r " +
+            "JOIN served b ON b.locality = r.locality AND b.fileType = r.fileType " +
+            "WHERE r.status = 'SUCCESS' AND r.s3Key IS NOT NULL AND r.endTime < b.endTime " +
+            "  AND r.s3Key NOT IN (" +
+            "    SELECT live.s3Key FROM registry live " +
+            "    WHERE live.locality = r.locality AND live.fileType = r.fileType " +
+            "      AND live.s3Key IS NOT NULL AND live.endTime >= b.endTime)";
+
+    private static final String UPDATE_FILES_SUPERSEDED =
+            "UPDATE {schema}.downsync_locality_file SET status = 'SUPERSEDED' WHERE id IN (:ids)";
 
     private static final String FIND_ALL_LOCALITIES_BY_JOB =
             "SELECT id, tenantId, projectId, locality, category, status, failureReason, " +
@@ -110,7 +145,7 @@ public class DownsyncGenerationJobRepository {
             "FROM {schema}.downsync_generation_locality WHERE jobId = :jobId ORDER BY createdTime";
 
     private static final String FIND_ALL_FILES_BY_JOB =
-            "SELECT id, localityRowId, fileType, status, s3Key, recordCount, filesize, " +
+            "SELECT id, localityRowId, fileType, fileKind, sinceTime, status, s3Key, recordCount, filesize, " +
             "       failureReason, startTime, endTime " +
             "FROM {schema}.downsync_locality_file WHERE jobId = :jobId ORDER BY localityRowId, fileType";
 
@@ -124,7 +159,9 @@ public class DownsyncGenerationJobRepository {
             "VALUES (:id, :localityRowId, :jobId, :fileType, :status)";
 
     private static final String UPDATE_FILE_STARTED =
-            "UPDATE {schema}.downsync_locality_file SET status='IN_PROGRESS', startTime=:startTime " +
+            "UPDATE {schema}.downsync_locality_file " +
+            "SET status='IN_PROGRESS', fileKind=:fileKind, sinceTime=:sinceTime, watermark=:watermark, " +
+            "    startTime=:startTime " +
             "WHERE localityRowId=:localityRowId AND fileType=:fileType";
 
     private static final String UPDATE_FILE_COMPLETED =
@@ -160,17 +197,19 @@ public class DownsyncGenerationJobRepository {
             "  AND j.status IN ('COMPLETED','PARTIAL_FAILURE') " +
             "  AND f.fileType = :fileType AND f.status = 'SUCCESS'";
 
+    // Registry staleness reads the base tables including deleted rows, so a deletion alone regenerates the file
     private static final String FIND_MAX_HOUSEHOLD_MODIFIED_TIME =
-            "SELECT MAX(lastmodifiedtime) FROM {schema}.household_address_mv " +
-            "WHERE localitycode = :locality AND tenantid = :tenantId AND isdeleted = false";
+            "SELECT MAX(h.lastmodifiedtime) " +
+            "FROM {schema}.household h " +
+            "JOIN {schema}.address a ON (h.addressid)::text = (a.id)::text " +
+            "WHERE a.localitycode = :locality AND h.tenantid = :tenantId";
 
     private static final String FIND_MAX_HH_MEMBER_MODIFIED_TIME =
             "SELECT MAX(hm.lastmodifiedtime) " +
             "FROM {schema}.HOUSEHOLD_MEMBER hm " +
             "JOIN {schema}.household h ON (hm.householdClientReferenceId)::text = (h.clientReferenceId)::text " +
             "JOIN {schema}.address a ON (h.addressid)::text = (a.id)::text " +
-            "WHERE a.localitycode = :locality AND h.tenantid = :tenantId " +
-            "  AND h.isdeleted = false AND hm.isDeleted = false";
+            "WHERE a.localitycode = :locality AND h.tenantid = :tenantId";
 
     private static final String FIND_MAX_INDIVIDUAL_MODIFIED_TIME =
             "SELECT MAX(ind.lastmodifiedtime) " +
@@ -179,8 +218,7 @@ public class DownsyncGenerationJobRepository {
             "  ON (ind.clientReferenceId)::text = (hm.individualClientReferenceId)::text " +
             "JOIN {schema}.household h ON (hm.householdClientReferenceId)::text = (h.clientReferenceId)::text " +
             "JOIN {schema}.address a ON (h.addressid)::text = (a.id)::text " +
-            "WHERE a.localitycode = :locality AND h.tenantid = :tenantId " +
-            "  AND h.isdeleted = false AND hm.isDeleted = false AND ind.isDeleted = false";
+            "WHERE a.localitycode = :locality AND h.tenantid = :tenantId";
 
     // ── Project file staleness queries ────────────────────────────────────────
 
@@ -483,17 +521,38 @@ public class DownsyncGenerationJobRepository {
                 .build();
     }
 
+    /**
+     * Returns, per fileType, the latest successful BASE file followed by the DELTA files generated
+     * after it, oldest first. Files without data (null s3Key) are included.
+     */
     public List<DownsyncLocalityFile> findLatestFilesForLocality(String tenantId, String projectId,
                                                                    String locality) {
+        return findLatestFiles(tenantId, projectId, locality, null);
+    }
+
+    /** Returns the latest successful BASE file of fileType followed by its DELTA files, oldest first. */
+    public List<DownsyncLocalityFile> findLatestFileChain(String tenantId, String projectId,
+                                                          String locality, String fileType) {
+        return findLatestFiles(tenantId, projectId, locality, fileType);
+    }
+
+    private List<DownsyncLocalityFile> findLatestFiles(String tenantId, String projectId,
+                                                       String locality, String fileType) {
         return jdbcTemplate.query(resolveSql(FIND_LATEST_FILES_FOR_LOCALITY, tenantId),
                 new MapSqlParameterSource()
                         .addValue("tenantId", tenantId)
                         .addValue("projectId", projectId, Types.VARCHAR)
-                        .addValue("locality", locality),
+                        .addValue("locality", locality)
+                        .addValue("fileType", fileType, Types.VARCHAR),
                 (rs, i) -> DownsyncLocalityFile.builder()
                         .fileType(rs.getString("fileType"))
+                        .fileKind(rs.getString("fileKind"))
                         .s3Key(rs.getString("s3Key"))
                         .recordCount(rs.getObject("recordCount", Long.class))
+                        .sinceTime(rs.getObject("sinceTime", Long.class))
+                        .watermark(rs.getObject("watermark", Long.class))
+                        .startTime(rs.getObject("startTime", Long.class))
+                        .endTime(rs.getObject("endTime", Long.class))
                         .build());
     }
 
@@ -523,6 +582,8 @@ public class DownsyncGenerationJobRepository {
                                 .localityRowId(rs.getString("localityRowId"))
                                 .jobId(jobId)
                                 .fileType(rs.getString("fileType"))
+                                .fileKind(rs.getString("fileKind"))
+                                .sinceTime(rs.getObject("sinceTime", Long.class))
                                 .status(rs.getString("status"))
                                 .s3Key(rs.getString("s3Key"))
                                 .recordCount(rs.getObject("recordCount", Long.class))
@@ -557,9 +618,21 @@ public class DownsyncGenerationJobRepository {
     }
 
     public void updateFileStarted(String tenantId, String localityRowId, String fileType, long startTime) {
+        updateFileStarted(tenantId, localityRowId, fileType, "BASE", null, null, startTime);
+    }
+
+    /**
+     * Marks the file started as a BASE file, or as a DELTA of the rows modified after sinceTime. The
+     * watermark is where the next DELTA of the file type starts from.
+     */
+    public void updateFileStarted(String tenantId, String localityRowId, String fileType, String fileKind,
+                                  Long sinceTime, Long watermark, long startTime) {
         jdbcTemplate.update(resolveSql(UPDATE_FILE_STARTED, tenantId), new MapSqlParameterSource()
                 .addValue("localityRowId", localityRowId)
                 .addValue("fileType", fileType)
+                .addValue("fileKind", fileKind)
+                .addValue("sinceTime", sinceTime, Types.BIGINT)
+                .addValue("watermark", watermark, Types.BIGINT)
                 .addValue("startTime", startTime));
     }
 
@@ -577,6 +650,29 @@ public class DownsyncGenerationJobRepository {
                 .addValue("endTime", endTime));
     }
 
+    /**
+     * Returns the id and S3 key of every successful registry file of the tenant that a newer BASE replaced,
+     * where the job publishing that base finished before cutoff. Links handed out before then, which may
+     * still point at the replaced files, have expired by the time those files are returned.
+     */
+    public List<DownsyncLocalityFile> findSupersededRegistryFiles(String tenantId, long cutoff) {
+        return jdbcTemplate.query(resolveSql(FIND_SUPERSEDED_REGISTRY_FILES, tenantId),
+                new MapSqlParameterSource()
+                        .addValue("tenantId", tenantId)
+                        .addValue("cutoff", cutoff),
+                (rs, i) -> DownsyncLocalityFile.builder()
+                        .id(rs.getString("id"))
+                        .s3Key(rs.getString("s3Key"))
+                        .build());
+    }
+
+    /** Marks files whose objects were deleted, so later sweeps do not return them again. */
+    public void markFilesSuperseded(String tenantId, List<String> fileIds) {
+        if (fileIds.isEmpty()) return;
+        jdbcTemplate.update(resolveSql(UPDATE_FILES_SUPERSEDED, tenantId),
+                new MapSqlParameterSource("ids", fileIds));
+    }
+
     public List<String> findResumableFileTypes(String tenantId, String localityRowId) {
         return jdbcTemplate.queryForList(resolveSql(FIND_RESUMABLE_FILE_TYPES, tenantId),
                 new MapSqlParameterSource("localityRowId", localityRowId), String.class);
@@ -638,7 +734,7 @@ public class DownsyncGenerationJobRepository {
         }
     }
 
-    /** Returns MAX(lastmodifiedtime) from household_address_mv for the locality, or null. */
+    /** Returns MAX(lastmodifiedtime) from household for the locality, deleted rows included, or null. */
     public Long findMaxHouseholdModifiedTime(String tenantId, String locality) {
         return jdbcTemplate.queryForObject(resolveSql(FIND_MAX_HOUSEHOLD_MODIFIED_TIME, tenantId),
                 new MapSqlParameterSource()
@@ -647,7 +743,7 @@ public class DownsyncGenerationJobRepository {
                 Long.class);
     }
 
-    /** Returns MAX(lastmodifiedtime) from HOUSEHOLD_MEMBER for the locality, or null. */
+    /** Returns MAX(lastmodifiedtime) from HOUSEHOLD_MEMBER for the locality, deleted rows included, or null. */
     public Long findMaxHhMemberModifiedTime(String tenantId, String locality) {
         return jdbcTemplate.queryForObject(resolveSql(FIND_MAX_HH_MEMBER_MODIFIED_TIME, tenantId),
                 new MapSqlParameterSource()
@@ -656,7 +752,7 @@ public class DownsyncGenerationJobRepository {
                 Long.class);
     }
 
-    /** Returns MAX(lastmodifiedtime) from individual for the locality, or null. */
+    /** Returns MAX(lastmodifiedtime) from individual for the locality, deleted rows included, or null. */
     public Long findMaxIndividualModifiedTime(String tenantId, String locality) {
         return jdbcTemplate.queryForObject(resolveSql(FIND_MAX_INDIVIDUAL_MODIFIED_TIME, tenantId),
                 new MapSqlParameterSource()
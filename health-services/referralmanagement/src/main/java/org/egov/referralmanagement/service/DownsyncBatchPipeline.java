@@ -0,0 +1,241 @@
+package org.egov.referralmanagement.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.slf4j.MDC;
+
+/**
+ * Bounded three-stage pipeline for file generation: the calling thread reads batches and {@link #submit}s them,
+ * up to {@code concurrency} batches are transformed at the same time on a shared pool, and a single writer
+ * writes the transformed batches in submission order.
+ *
+ * <p>At most {@code concurrency} batches are transformed and {@code writeDepth} transformed batches wait for the
+ * writer; beyond that {@link #submit} blocks, so a slow stage holds back the reader instead of buffering. A failed
+ * transform or write stops the pipeline and is rethrown to the reader by its next {@link #submit} or by
+ * {@link #finish}.
+ *
+ * @param <T> batch type
+ */
+public class DownsyncBatchPipeline<T> {
+
+    private static final long POLL_MILLIS = 100;
+
+    /** Marks the end of the batches for the writer. */
+    private final CompletableFuture<T> end = new CompletableFuture<>();
+
+    private final ExecutorService transformPool;
+
+    private final UnaryOperator<T> transform;
+
+    private final BatchWriter<T> writer;
+
+    private final Semaphore transforming;
+
+    private final BlockingQueue<CompletableFuture<T>> ordered;
+
+    private final CompletableFuture<Void> writing;
+
+    private final Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+    private final LongAdder transformNanos = new LongAdder();
+
+    private final LongAdder writeNanos = new LongAdder();
+
+    private volatile boolean aborted;
+
+    private long readNanos;
+
+    private long blockedNanos;
+
+    private long lastSubmitEnd = System.nanoTime();
+
+    /**
+     * Writes one transformed batch; always called from the single writer thread.
+     */
+    @FunctionalInterface
+    public interface BatchWriter<T> {
+        void write(T batch) throws IOException;
+    }
+
+    /**
+     * Elapsed time per stage in milliseconds. Transform time is summed over the concurrent workers;
+     * {@code blockedMs} is the time the reader waited on the other stages.
+     */
+    public record Timings(long readMs, long blockedMs, long transformMs, long writeMs) {}
+
+    /**
+     * Starts the writer of a new pipeline.
+     *
+     * @param transformPool pool running the transforms
+     * @param writerPool    pool running the writer, for the lifetime of the pipeline
+     * @param concurrency   batches transformed at the same time
+     * @param writeDepth    transformed batches allowed to wait for the writer
+     * @param transform     transforms one batch
+     * @param writer        writes one transformed batch
+     */
+    public DownsyncBatchPipeline(ExecutorService transformPool, ExecutorService writerPool, int concurrency,
+                                 int writeDepth, UnaryOperator<T> transform, BatchWriter<T> writer) {
+        this.transformPool = transformPool;
+        this.transform = transform;
+        this.writer = writer;
+        this.transforming = new Semaphore(Math.max(1, concurrency));
+        this.ordered = new ArrayBlockingQueue<>(Math.max(1, concurrency) + Math.max(0, writeDepth));
+        this.writing = CompletableFuture.runAsync(withMdc(this::drain), writerPool);
+    }
+
+    /**
+     * Hands a batch to the transform stage, blocking while the pipeline is full.
+     *
+     * @param batch batch read by the caller; must not be modified by the caller afterwards
+     * @throws IOException when a transform or write already failed, or the reader was interrupted
+     */
+    public void submit(T batch) throws IOException {
+        long start = System.nanoTime();
+        readNanos += start - lastSubmitEnd;
+        rethrowIfWriterStopped();
+        try {
+            while (!transforming.tryAcquire(POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                rethrowIfWriterStopped();
+            }
+            CompletableFuture<T> transformed = CompletableFuture.supplyAsync(withMdc(() -> {
+                long transformStart = System.nanoTime();
+                try {
+                    return transform.apply(batch);
+                } finally {
+                    transformNanos.add(System.nanoTime() - transformStart);
+                    transforming.release();
+                }
+            }), transformPool);
+            put(transformed);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort();
+            throw new InterruptedIOException("Interrupted while submitting a batch");
+        }
+        lastSubmitEnd = System.nanoTime();
+        blockedNanos += lastSubmitEnd - start;
+    }
+
+    /**
+     * Waits until every submitted batch is written.
+     *
+     * @return elapsed time per stage
+     * @throws IOException when a write failed
+     */
+    public Timings finish() throws IOException {
+        readNanos += System.nanoTime() - lastSubmitEnd;
+        try {
+            put(end);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort();
+            throw new InterruptedIOException("Interrupted while finishing the pipeline");
+        }
+        long start = System.nanoTime();
+        try {
+            writing.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+        blockedNanos += System.nanoTime() - start;
+        return new Timings(TimeUnit.NANOSECONDS.toMillis(readNanos), TimeUnit.NANOSECONDS.toMillis(blockedNanos),
+                TimeUnit.NANOSECONDS.toMillis(transformNanos.sum()), TimeUnit.NANOSECONDS.toMillis(writeNanos.sum()));
+    }
+
+    /**
+     * Stops the writer without writing the remaining batches and waits for it, so the caller can safely
+     * close the output. Safe to call more than once.
+     */
+    public void abort() {
+        aborted = true;
+        if (!ordered.offer(end)) {
+            ordered.clear();
+            ordered.offer(end);
+        }
+        try {
+            writing.join();
+        } catch (Exception ignored) {
+            // the failure, if any, was already reported to the reader
+        }
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                CompletableFuture<T> next = ordered.take();
+                if (next == end || aborted) return;
+                T batch = next.join();
+                long start = System.nanoTime();
+                writer.write(batch);
+                writeNanos.add(System.nanoTime() - start);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    private void put(CompletableFuture<T> future) throws InterruptedException, IOException {
+        while (!ordered.offer(future, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+            rethrowIfWriterStopped();
+        }
+    }
+
+    /** The writer only stops on its own when a transform or write failed. */
+    private void rethrowIfWriterStopped() throws IOException {
+        if (!writing.isDone()) return;
+        try {
+            writing.join();
+        } catch (CompletionException e) {
+            throw unwrap(e);
+        }
+        throw new IOException("Pipeline writer stopped before all batches were submitted");
+    }
+
+    private static IOException unwrap(CompletionException e) {
+        Throwable cause = e;
+        while (cause instanceof CompletionException && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof UncheckedIOException unchecked) return unchecked.getCause();
+        if (cause instanceof RuntimeException runtime) throw runtime;
+        if (cause instanceof Error error) throw error;
+        return new IOException(cause);
+    }
+
+    private <R> Supplier<R> withMdc(Supplier<R> supplier) {
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (mdc != null) MDC.setContextMap(mdc);
+            try {
+                return supplier.get();
+            } finally {
+                if (previous != null) MDC.setContextMap(previous);
+                else MDC.clear();
+            }
+        };
+    }
+
+    private Runnable withMdc(Runnable runnable) {
+        Supplier<Void> supplier = withMdc(() -> {
+            runnable.run();
+            return null;
+        });
+        return supplier::get;
+    }
+}
@@ -0,0 +1,195 @@
+package org.egov.referralmanagement.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.exception.InvalidTenantIdException;
+import org.egov.referralmanagement.config.ReferralManagementConfiguration;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs the steps of an online downsync as a dependency graph.
+ *
+ * <p>Every step is started as soon as the steps it depends on have finished, so independent branches
+ * (for example hf referrals, individuals and beneficiaries) run at the same time. Steps run on a
+ * dedicated pool and the id batches of a step on a second one, so a step waiting for its batches can
+ * never starve them. The MDC of the calling thread is carried into the workers for log correlation.
+ *
+ * <p>With {@code egov.downsync.parallel.enabled=false} steps and batches run inline on the calling thread.
+ */
+@Component
+@Slf4j
+public class DownsyncExecutor {
+
+    private final ReferralManagementConfiguration configs;
+
+    private ExecutorService stepPool;
+
+    private ExecutorService batchPool;
+
+    @Autowired
+    public DownsyncExecutor(ReferralManagementConfiguration configs) {
+        this.configs = configs;
+    }
+
+    @PostConstruct
+    public void init() {
+        stepPool = Executors.newFixedThreadPool(configs.getDownsyncStepPoolSize());
+        batchPool = Executors.newFixedThreadPool(configs.getDownsyncBatchPoolSize());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stepPool.shutdown();
+        batchPool.shutdown();
+    }
+
+    /**
+     * Creates the step graph for one downsync request.
+     *
+     * @return a new, empty graph
+     */
+    public Graph newGraph() {
+        return new Graph();
+    }
+
+    /**
+     * Fetches the given id batches with at most {@code egov.downsync.batch.parallelism} concurrent calls
+     * and returns the results in batch order.
+     *
+     * @param batches id batches to fetch
+     * @param fetch   fetches one batch
+     * @return the concatenated results, in the order of the batches
+     */
+    public <T> List<T> fetchBatches(List<List<String>> batches, Function<List<String>, List<T>> fetch) {
+        if (batches.size() <= 1 || !configs.isDownsyncParallelEnabled() || configs.getDownsyncBatchParallelism() <= 1) {
+            List<T> results = new ArrayList<>();
+            batches.forEach(batch -> results.addAll(fetch.apply(batch)));
+            return results;
+        }
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
+        List<T> results = new ArrayList<>();
+        int window = configs.getDownsyncBatchParallelism();
+        for (int from = 0; from < batches.size(); from += window) {
+            List<CompletableFuture<List<T>>> futures = new ArrayList<>();
+            for (List<String> batch : batches.subList(from, Math.min(from + window, batches.size()))) {
+                futures.add(CompletableFuture.supplyAsync(withMdc(mdc, () -> fetch.apply(batch)), batchPool));
+            }
+            for (CompletableFuture<List<T>> future : futures) {
+                results.addAll(future.join());
+            }
+        }
+        return results;
+    }
+
+    private static <T> Supplier<T> withMdc(Map<String, String> mdc, Supplier<T> supplier) {
+        return () -> {
+            Map<String, String> previous = MDC.getCopyOfContextMap();
+            if (mdc != null) MDC.setContextMap(mdc);
+            try {
+                return supplier.get();
+            } finally {
+                if (previous != null) MDC.setContextMap(previous);
+                else MDC.clear();
+            }
+        };
+    }
+
+    /**
+     * The steps of one downsync request together with their elapsed times.
+     */
+    public class Graph {
+
+        private final Map<String, String> mdc = MDC.getCopyOfContextMap();
+
+        private final Map<String, Long> timings = Collections.synchronizedMap(new LinkedHashMap<>());
+
+        private Graph() {
+        }
+
+        /**
+         * Starts a step once all of its dependencies have completed.
+         *
+         * @param name         step name used for timing and logs
+         * @param step         the work of the step
+         * @param dependencies steps which must complete first
+         * @return future of the step result
+         */
+        public <T> CompletableFuture<T> step(String name, Callable<T> step, CompletableFuture<?>... dependencies) {
+            Supplier<T> timedStep = withMdc(mdc, () -> {
+                long start = System.currentTimeMillis();
+                try {
+                    return step.call();
+                } catch (RuntimeException exception) {
+                    throw exception;
+                } catch (Exception exception) {
+                    throw new CompletionException(exception);
+                } finally {
+                    timings.put(name, System.currentTimeMillis() - start);
+                }
+            });
+            if (!configs.isDownsyncParallelEnabled()) {
+                // steps are declared in dependency order, so running them inline keeps the old serial flow
+                try {
+                    return CompletableFuture.completedFuture(timedStep.get());
+                } catch (RuntimeException exception) {
+                    return CompletableFuture.failedFuture(exception);
+                }
+            }
+            if (dependencies.length == 0) {
+                return CompletableFuture.supplyAsync(timedStep, stepPool);
+            }
+            return CompletableFuture.allOf(dependencies).thenApplyAsync(ignored -> timedStep.get(), stepPool);
+        }
+
+        /**
+         * Waits for the given steps and rethrows a step failure with its original type.
+         *
+         * @param steps the steps to wait for
+         * @throws InvalidTenantIdException if a step failed with it
+         */
+        public void await(CompletableFuture<?>... steps) throws InvalidTenantIdException {
+            try {
+                CompletableFuture.allOf(steps).join();
+            } catch (CompletionException exception) {
+                Throwable cause = exception;
+                while (cause instanceof CompletionException && cause.getCause() != null) {
+                    cause = cause.getCause();
+                }
+                if (cause instanceof InvalidTenantIdException) {
+                    throw (InvalidTenantIdException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw exception;
+            } finally {
+                log.info("Downsync step timings in ms: {}", timings);
+            }
+        }
+
+        /**
+         * @return elapsed time in milliseconds per completed step
+         */
+        public Map<String, Long> getTimings() {
+            synchronized (timings) {
+                return new LinkedHashMap<>(timings);
+            }
+        }
+    }
+}
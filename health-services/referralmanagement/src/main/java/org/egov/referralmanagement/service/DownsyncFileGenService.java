@@ -1,6 +1,8 @@
 package org.egov.referralmanagement.service;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -13,6 +15,7 @@ import org.egov.common.utils.MultiStateInstanceUtil;
 import org.egov.referralmanagement.config.ReferralManagementConfiguration;
 import org.egov.referralmanagement.repository.DownsyncGenerationJobRepository;
 import org.egov.referralmanagement.service.DownsyncS3Service.S3Result;
+import org.egov.referralmanagement.web.models.DownsyncLocalityFile;
 import org.egov.referralmanagement.web.models.LocalityDownsyncCriteria;
 import org.egov.tracer.config.TracerProperties;
 import org.egov.tracer.http.RestTemplateLoggingInterceptor;
@@ -41,9 +44,12 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.zip.GZIPOutputStream;
 
 @Service
@@ -68,6 +74,30 @@ public class DownsyncFileGenService {
             "   WHERE localitycode = :locality AND isdeleted = false) " +
             "AND isDeleted = false";
 
+    // Delta variants read the base tables, not household_address_mv: the view drops deleted households
+    // and only changes when refreshed. Deleted rows are kept so devices receive the deletions.
+    private static final String LOCALITY_HOUSEHOLD_SUBQUERY =
+            "SELECT h.clientReferenceId FROM {schema}.HOUSEHOLD h " +
+            "JOIN {schema}.ADDRESS a ON a.id = h.addressId " +
+            "WHERE a.localityCode = :locality";
+
+    // Same columns as household_address_mv
+    private static final String HH_DELTA_QUERY =
+            "SELECT h.id, h.tenantid, h.clientreferenceid, h.numberofmembers, h.addressid, h.additionaldetails, " +
+            "  h.createdby, h.lastmodifiedby, h.createdtime, h.lastmodifiedtime, h.rowversion, h.isdeleted, " +
+            "  h.clientcreatedtime, h.clientlastmodifiedtime, h.clientcreatedby, h.clientlastmodifiedby, " +
+            "  h.householdtype, a.id AS aid, a.tenantid AS atenantid, a.clientreferenceid AS aclientreferenceid, " +
+            "  a.doorno, a.latitude, a.longitude, a.locationaccuracy, a.type, a.addressline1, a.addressline2, " +
+            "  a.landmark, a.city, a.pincode, a.buildingname, a.street, a.localitycode " +
+            "FROM {schema}.HOUSEHOLD h " +
+            "JOIN {schema}.ADDRESS a ON a.id = h.addressId " +
+            "WHERE a.localityCode = :locality AND h.lastModifiedTime > :since";
+
+    private static final String HH_MEMBER_DELTA_QUERY =
+            "SELECT * FROM {schema}.HOUSEHOLD_MEMBER " +
+            "WHERE householdClientReferenceId IN (" + LOCALITY_HOUSEHOLD_SUBQUERY + ") " +
+            "AND lastModifiedTime > :since";
+
     private static final String LOCALITY_BENE_SUBQUERY =
             "SELECT pb.clientReferenceId FROM {schema}.PROJECT_BENEFICIARY pb " +
             "WHERE pb.projectId = :projectId AND pb.isDeleted = false " +
@@ -84,7 +114,7 @@ public class DownsyncFileGenService {
             "  )" +
             ")";
 
-    private static final String INDIVIDUAL_QUERY =
+    private static final String INDIVIDUAL_SELECT =
             "SELECT ind.*," +
             "  addr_agg.addresses_json," +
             "  ident_agg.identifiers_json," +
@@ -156,7 +186,10 @@ public class DownsyncFileGenService {
             "   FROM {schema}.INDIVIDUAL_SKILL sk" +
             "   WHERE sk.isDeleted = false" +
             "   GROUP BY sk.individualId" +
-            " ) skill_agg ON skill_agg.individualId = ind.id" +
+            " ) skill_agg ON skill_agg.individualId = ind.id";
+
+    private static final String INDIVIDUAL_QUERY =
+            INDIVIDUAL_SELECT +
             " WHERE ind.clientReferenceId IN (" +
             "  SELECT hm.individualClientReferenceId" +
             "  FROM {schema}.HOUSEHOLD_MEMBER hm" +
@@ -167,6 +200,14 @@ public class DownsyncFileGenService {
             "  )" +
             ") AND ind.isDeleted = false";
 
+    private static final String INDIVIDUAL_DELTA_QUERY =
+            INDIVIDUAL_SELECT +
+            " WHERE ind.clientReferenceId IN (" +
+            "  SELECT hm.individualClientReferenceId" +
+            "  FROM {schema}.HOUSEHOLD_MEMBER hm" +
+            "  WHERE hm.householdClientReferenceId IN (" + LOCALITY_HOUSEHOLD_SUBQUERY + ")" +
+            ") AND ind.lastModifiedTime > :since";
+
     private static final String BENEFICIARY_QUERY =
             "SELECT pb.* FROM {schema}.PROJECT_BENEFICIARY pb " +
             "WHERE pb.projectId = :projectId AND pb.isDeleted = false " +
@@ -259,23 +300,23 @@ public class DownsyncFileGenService {
     private RestTemplate restTemplate;
     private static final int CURSOR_FETCH_SIZE = 1000;
 
-    private static final List<String> IND_COLS = List.of(
-            "id", "clientReferenceId", "tenantId", "individualId", "userId", "userUuid",
-            "givenName", "familyName", "otherNames", "dateOfBirth",
-            "gender", "bloodGroup", "mobileNumber", "altContactNumber", "email",
-            "fatherName", "husbandName", "relationship", "photo",
-            "isSystemUser", "isSystemUserActive", "rowVersion", "isDeleted", "additionalDetails",
-            "addresses_json", "identifiers_json", "skills_json",
-            "createdBy", "createdTime", "lastModifiedBy", "lastModifiedTime",
-            "clientCreatedBy", "clientCreatedTime", "clientLastModifiedBy", "clientLastModifiedTime"
-    );
-
     private ExecutorService wardPool;
+    private ExecutorService decryptPool;
+    private ExecutorService individualWriterPool;
     private TransactionTemplate readOnlyTx;
 
+    // cumulative INDIVIDUALS pipeline stage timings in ms, see getIndividualPipelineTimings()
+    private final LongAdder individualReadMs      = new LongAdder();
+    private final LongAdder individualBlockedMs   = new LongAdder();
+    private final LongAdder individualDecryptMs   = new LongAdder();
+    private final LongAdder individualWriteMs     = new LongAdder();
+
     @PostConstruct
     public void init() {
         wardPool   = Executors.newFixedThreadPool(config.getWardPoolSize());
+        decryptPool = Executors.newFixedThreadPool(config.getIndividualDecryptPoolSize());
+        // one long-lived writer per INDIVIDUALS file being generated
+        individualWriterPool = Executors.newCachedThreadPool();
         readOnlyTx = new TransactionTemplate(txManager);
         readOnlyTx.setReadOnly(true);
         SimpleClientHttpRequestFactory httpFactory = new SimpleClientHttpRequestFactory();
@@ -288,18 +329,38 @@ public class DownsyncFileGenService {
     @PreDestroy
     public void shutdown() {
         wardPool.shutdown();
+        decryptPool.shutdown();
+        individualWriterPool.shutdown();
+    }
+
+    /**
+     * Cumulative time in ms spent by INDIVIDUALS file generation in each pipeline stage since startup:
+     * reading the cursor, the reader waiting on decrypt/write, decrypting (summed over workers) and writing.
+     */
+    public Map<String, Long> getIndividualPipelineTimings() {
+        Map<String, Long> timings = new LinkedHashMap<>();
+        timings.put("readMs", individualReadMs.sum());
+        timings.put("blockedMs", individualBlockedMs.sum());
+        timings.put("decryptMs", individualDecryptMs.sum());
+        timings.put("writeMs", individualWriteMs.sum());
+        return timings;
     }
 
     // ── Registry generation (HH_MEMBERS + INDIVIDUALS, locality-scoped) ───────
 
-    public void generateRegistry(List<LocalityDownsyncCriteria> localities, String jobId) {
+    /**
+     * @param mvRefreshTime Time up to which household_address_mv holds the household changes, taken before
+     *                      the job's refresh check. BASE files are scoped through the view, so it is their
+     *                      delta watermark; null when unknown, in which case the next run rebuilds the base.
+     */
+    public void generateRegistry(List<LocalityDownsyncCriteria> localities, String jobId, Long mvRefreshTime) {
         List<CompletableFuture<Void>> futures = localities.stream()
-                .map(c -> CompletableFuture.runAsync(() -> generateRegistryLocality(c, jobId), wardPool))
+                .map(c -> CompletableFuture.runAsync(() -> generateRegistryLocality(c, jobId, mvRefreshTime), wardPool))
                 .toList();
         futures.forEach(CompletableFuture::join);
     }
 
-    private void generateRegistryLocality(LocalityDownsyncCriteria criteria, String jobId) {
+    private void generateRegistryLocality(LocalityDownsyncCriteria criteria, String jobId, Long mvRefreshTime) {
         String tid = criteria.getTenantId();
         String localityRowId = criteria.getLocalityRowId();
         jobRepository.updateLocalityStarted(tid, localityRowId, System.currentTimeMillis());
@@ -322,7 +383,8 @@ public class DownsyncFileGenService {
                         continue;
                     }
                 }
-                if (!runRegistryFile(ft, criteria, localityRowId).success()) failed++;
+                Long sinceTime = criteria.isForceRefresh() ? null : getDeltaSinceTime(criteria, ft);
+                if (!runRegistryFile(ft, criteria, localityRowId, sinceTime, mvRefreshTime).success()) failed++;
             }
 
             String localityStatus;
@@ -423,6 +485,51 @@ public class DownsyncFileGenService {
         return "Skipped: no data changes since last generation";
     }
 
+    /**
+     * Returns the watermark a DELTA file of fileType should be generated from, or null when a full BASE
+     * file is needed: deltas are disabled, no base exists yet, or the base is due for compaction because
+     * it already has {@code egov.downsync.delta.max.count} deltas or is older than
+     * {@code egov.downsync.delta.max.base.age.hours}.
+     *
+     * The watermark is the one recorded with the latest file of the chain: a DELTA reads the base tables
+     * and records its start time, while a BASE is scoped through household_address_mv and records the time
+     * the view was refreshed, so rows changed between the refresh and the file are picked up again.
+     * Files without a watermark get a new base.
+     */
+    public Long getDeltaSinceTime(LocalityDownsyncCriteria c, String fileType) {
+        if (!config.isDownsyncDeltaEnabled() || !REGISTRY_FILE_TYPES.contains(fileType)) return null;
+
+        List<DownsyncLocalityFile> chain = jobRepository.findLatestFileChain(
+                c.getTenantId(), null, c.getLocality(), fileType);
+        if (chain.isEmpty()) return null;
+
+        DownsyncLocalityFile base = chain.get(0);
+        long maxBaseAgeMs = (long) config.getDownsyncDeltaMaxBaseAgeHours() * 3_600_000L;
+        if (chain.size() - 1 >= config.getDownsyncDeltaMaxCount()
+                || base.getEndTime() == null
+                || System.currentTimeMillis() - base.getEndTime() > maxBaseAgeMs) {
+            log.info("Compacting {} for locality={} — {} deltas since base", fileType, c.getLocality(), chain.size() - 1);
+            return null;
+        }
+        return chain.get(chain.size() - 1).getWatermark();
+    }
+
+    /**
+     * Deletes the registry files of the tenant that a newer BASE replaced, once that base has been served
+     * for a full presigned URL lifetime. Called after a job reaches a terminal status: until then links are
+     * still handed out for the previous chain, and links handed out just before may be used until they
+     * expire, so the previous base and its deltas must stay readable that long. Files replaced more
+     * recently are deleted by the sweep of a later job.
+     */
+    public void deleteSupersededFiles(String tenantId) {
+        long cutoff = System.currentTimeMillis() - (long) config.getPresignedUrlExpirySecs() * 1000;
+        List<DownsyncLocalityFile> superseded = jobRepository.findSupersededRegistryFiles(tenantId, cutoff);
+        if (superseded.isEmpty()) return;
+        log.info("Deleting {} superseded registry files for tenant={}", superseded.size(), tenantId);
+        s3Service.deleteObjects(superseded.stream().map(DownsyncLocalityFile::getS3Key).distinct().toList());
+        jobRepository.markFilesSuperseded(tenantId, superseded.stream().map(DownsyncLocalityFile::getId).toList());
+    }
+
     private Long maxOf(Long... values) {
         Long result = null;
         for (Long v : values) {
@@ -433,10 +540,11 @@ public class DownsyncFileGenService {
 
     // ── File dispatchers ──────────────────────────────────────────────────────
 
-    private FileResult runRegistryFile(String fileType, LocalityDownsyncCriteria c, String rowId) {
+    private FileResult runRegistryFile(String fileType, LocalityDownsyncCriteria c, String rowId, Long sinceTime,
+                                       Long mvRefreshTime) {
         return switch (fileType) {
-            case "HH_MEMBERS"  -> streamHhMembersFile(c, rowId);
-            case "INDIVIDUALS" -> streamIndividualsFile(c, rowId);
+            case "HH_MEMBERS"  -> streamHhMembersFile(c, rowId, sinceTime, mvRefreshTime);
+            case "INDIVIDUALS" -> streamIndividualsFile(c, rowId, sinceTime, mvRefreshTime);
             default -> throw new CustomException("UNKNOWN_REGISTRY_FILE_TYPE",
                     "Unrecognised registry file type '" + fileType + "'. Expected one of: HH_MEMBERS, INDIVIDUALS.");
         };
@@ -453,14 +561,20 @@ public class DownsyncFileGenService {
 
     // ── File streaming methods ────────────────────────────────────────────────
 
-    private FileResult streamHhMembersFile(LocalityDownsyncCriteria c, String rowId) {
+    /** Streams the full HH_MEMBERS file, or when sinceTime is set a delta of the rows modified after it. */
+    private FileResult streamHhMembersFile(LocalityDownsyncCriteria c, String rowId, Long sinceTime,
+                                           Long mvRefreshTime) {
         String tid = c.getTenantId();
-        String key = s3RegistryKey(c, "hh_members");
-        jobRepository.updateFileStarted(tid, rowId, "HH_MEMBERS", System.currentTimeMillis());
+        long startTime = System.currentTimeMillis();
+        String key = registryFileKey(c, "hh_members", sinceTime, startTime);
+        jobRepository.updateFileStarted(tid, rowId, "HH_MEMBERS", fileKind(sinceTime), sinceTime,
+                sinceTime == null ? mvRefreshTime : Long.valueOf(startTime), startTime);
         try {
+            String hhSql = resolveSql(sinceTime == null ? HH_QUERY : HH_DELTA_QUERY, tid);
+            String memberSql = resolveSql(sinceTime == null ? HH_MEMBER_QUERY : HH_MEMBER_DELTA_QUERY, tid);
             S3Result s3 = s3Service.streamToS3(key, gzip -> {
-                long n = streamQuery(gzip, resolveSql(HH_QUERY, tid), localityParams(c), "HOUSEHOLD");
-                return n + streamQuery(gzip, resolveSql(HH_MEMBER_QUERY, tid), localityParams(c), "HOUSEHOLD_MEMBER");
+                long n = streamQuery(gzip, hhSql, localityParams(c, sinceTime), "HOUSEHOLD");
+                return n + streamQuery(gzip, memberSql, localityParams(c, sinceTime), "HOUSEHOLD_MEMBER");
             });
             jobRepository.updateFileCompleted(tid, rowId, "HH_MEMBERS", "SUCCESS",
                     s3.rowCount() > 0 ? key : null, s3.rowCount(), s3.fileSize(), null, System.currentTimeMillis());
@@ -472,13 +586,18 @@ public class DownsyncFileGenService {
         }
     }
 
-    private FileResult streamIndividualsFile(LocalityDownsyncCriteria c, String rowId) {
+    /** Streams the full INDIVIDUALS file, or when sinceTime is set a delta of the rows modified after it. */
+    private FileResult streamIndividualsFile(LocalityDownsyncCriteria c, String rowId, Long sinceTime,
+                                             Long mvRefreshTime) {
         String tid = c.getTenantId();
-        String key = s3RegistryKey(c, "individuals");
-        jobRepository.updateFileStarted(tid, rowId, "INDIVIDUALS", System.currentTimeMillis());
+        long startTime = System.currentTimeMillis();
+        String key = registryFileKey(c, "individuals", sinceTime, startTime);
+        jobRepository.updateFileStarted(tid, rowId, "INDIVIDUALS", fileKind(sinceTime), sinceTime,
+                sinceTime == null ? mvRefreshTime : Long.valueOf(startTime), startTime);
         try {
+            String sql = resolveSql(sinceTime == null ? INDIVIDUAL_QUERY : INDIVIDUAL_DELTA_QUERY, tid);
             S3Result s3 = s3Service.streamToS3(key, gzip ->
-                    streamIndividualQuery(gzip, resolveSql(INDIVIDUAL_QUERY, tid), localityParams(c)));
+                    streamIndividualQuery(gzip, sql, localityParams(c, sinceTime)));
             jobRepository.updateFileCompleted(tid, rowId, "INDIVIDUALS", "SUCCESS",
                     s3.rowCount() > 0 ? key : null, s3.rowCount(), s3.fileSize(), null, System.currentTimeMillis());
             return new FileResult("INDIVIDUALS", true, s3.rowCount() > 0 ? key : null, s3.rowCount(), null);
@@ -820,10 +939,15 @@ public class DownsyncFileGenService {
                         JsonGenerator gen = objectMapper.getFactory().createGenerator(gzip);
                         gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
                         try {
-                            List<Map<String, Object>> buffer = new ArrayList<>(CURSOR_FETCH_SIZE);
+                            if (config.isIndividualPipelineEnabled()) {
+                                count[0] = pipelineIndividualRows(rs, gen);
+                                return null;
+                            }
+                            int[] columns = IndividualRowBatch.resolveColumns(rs);
+                            IndividualRowBatch buffer = new IndividualRowBatch(CURSOR_FETCH_SIZE);
                             while (rs.next()) {
-                                buffer.add(readIndividualRow(rs));
-                                if (buffer.size() == CURSOR_FETCH_SIZE) {
+                                buffer.add(rs, columns);
+                                if (buffer.isFull()) {
                                     decryptIndividualBatch(buffer);
                                     writeIndividualBuffer(gen, buffer);
                                     count[0] += buffer.size();
@@ -851,28 +975,71 @@ public class DownsyncFileGenService {
         return count[0];
     }
 
-    private Map<String, Object> readIndividualRow(ResultSet rs) throws SQLException {
-        Map<String, Object> row = new LinkedHashMap<>(IND_COLS.size() * 2);
-        for (String col : IND_COLS)
-            row.put(col, rs.getObject(col));
-        return row;
+    /**
+     * Reads individual rows on the calling (cursor) thread while earlier batches are decrypted on the
+     * decrypt pool and written, in cursor order, by a writer thread. Written batches are cleared and
+     * handed back to the reader for reuse. Returns the number of rows written.
+     */
+    private long pipelineIndividualRows(ResultSet rs, JsonGenerator gen) throws SQLException, IOException {
+        Queue<IndividualRowBatch> written = new ConcurrentLinkedQueue<>();
+        DownsyncBatchPipeline<IndividualRowBatch> pipeline = new DownsyncBatchPipeline<>(
+                decryptPool, individualWriterPool,
+                config.getIndividualDecryptConcurrency(), config.getIndividualWriteQueueDepth(),
+                batch -> {
+                    decryptIndividualBatch(batch);
+                    return batch;
+                },
+                batch -> {
+                    writeIndividualBuffer(gen, batch);
+                    batch.clear();
+                    written.offer(batch);
+                });
+        long rows = 0;
+        try {
+            int[] columns = IndividualRowBatch.resolveColumns(rs);
+            IndividualRowBatch buffer = new IndividualRowBatch(CURSOR_FETCH_SIZE);
+            while (rs.next()) {
+                buffer.add(rs, columns);
+                if (buffer.isFull()) {
+                    rows += buffer.size();
+                    pipeline.submit(buffer);
+                    IndividualRowBatch reused = written.poll();
+                    buffer = reused != null ? reused : new IndividualRowBatch(CURSOR_FETCH_SIZE);
+                }
+            }
+            if (!buffer.isEmpty()) {
+                rows += buffer.size();
+                pipeline.submit(buffer);
+            }
+            DownsyncBatchPipeline.Timings timings = pipeline.finish();
+            individualReadMs.add(timings.readMs());
+            individualBlockedMs.add(timings.blockedMs());
+            individualDecryptMs.add(timings.transformMs());
+            individualWriteMs.add(timings.writeMs());
+            log.info("INDIVIDUALS pipeline: {} rows, read={}ms blocked={}ms decrypt={}ms write={}ms",
+                    rows, timings.readMs(), timings.blockedMs(), timings.transformMs(), timings.writeMs());
+            return rows;
+        } catch (SQLException | IOException | RuntimeException e) {
+            pipeline.abort();
+            throw e;
+        }
     }
 
-    private void decryptIndividualBatch(List<Map<String, Object>> batch) {
+    private void decryptIndividualBatch(IndividualRowBatch batch) {
         List<Integer> targets = new ArrayList<>();
         ArrayNode payload = objectMapper.createArrayNode();
 
         for (int i = 0; i < batch.size(); i++) {
-            Map<String, Object> row = batch.get(i);
-            String mobile = (String) row.get("mobileNumber");
-            JsonNode identifiers = parseIdentifiersJson(row.get("identifiers_json"));
+            String mobile = (String) batch.get(IndividualRowBatch.MOBILE_NUMBER, i);
+            String identifiersJson = jsonText(batch.get(IndividualRowBatch.IDENTIFIERS_JSON, i));
             boolean mobileEnc = isCipherText(mobile);
-            boolean identEnc  = hasEncryptedIdentifier(identifiers);
+            boolean identEnc  = hasEncryptedIdentifier(identifiersJson);
             if (!mobileEnc && !identEnc) continue;
 
             ObjectNode node = objectMapper.createObjectNode();
             if (mobileEnc) node.put("mobileNumber", mobile);
-            if (identEnc)  node.set("identifiers", identifiers);
+            // the tree is only built for rows which are actually sent for decryption
+            if (identEnc)  node.set("identifiers", parseIdentifiersJson(identifiersJson));
             payload.add(node);
             targets.add(i);
         }
@@ -902,12 +1069,12 @@ public class DownsyncFileGenService {
         }
 
         for (int j = 0; j < targets.size(); j++) {
-            Map<String, Object> row = batch.get(targets.get(j));
+            int row = targets.get(j);
             JsonNode dec = decrypted.get(j);
             if (dec.has("mobileNumber"))
-                row.put("mobileNumber", dec.get("mobileNumber").asText(null));
+                batch.set(IndividualRowBatch.MOBILE_NUMBER, row, dec.get("mobileNumber").asText(null));
             if (dec.has("identifiers"))
-                row.put("identifiers_json", dec.get("identifiers").toString());
+                batch.set(IndividualRowBatch.IDENTIFIERS_JSON, row, dec.get("identifiers").toString());
         }
     }
 
@@ -921,126 +1088,143 @@ public class DownsyncFileGenService {
         return !base64.isEmpty() && (base64.length() % 4 == 0 || base64.endsWith("="));
     }
 
-    private JsonNode parseIdentifiersJson(Object pgObj) {
+    private static String jsonText(Object pgObj) {
         if (pgObj == null) return null;
-        String json = pgObj instanceof PGobject pg ? pg.getValue() : pgObj.toString();
-        if (json == null) return null;
+        return pgObj instanceof PGobject pg ? pg.getValue() : pgObj.toString();
+    }
+
+    private JsonNode parseIdentifiersJson(String json) {
         try {
             return objectMapper.readTree(json);
         } catch (IOException e) {
-            throw new CustomException("IDENTIFIERS_JSON_PARSE_ERROR",
-                    "Failed to parse identifiers_json column value as JSON array. " +
-                    "Raw value starts with: '" + json.substring(0, Math.min(json.length(), 100)) + "'. Cause: " + e.getMessage());
+            throw identifiersParseError(json, e);
         }
     }
 
-    private boolean hasEncryptedIdentifier(JsonNode identifiers) {
-        if (identifiers == null || !identifiers.isArray()) return false;
-        for (JsonNode id : identifiers) {
-            JsonNode v = id.get("identifierId");
-            if (v != null && isCipherText(v.asText(null))) return true;
+    /**
+     * Returns true if any {@code identifierId} in the identifiers JSON array is ciphertext. Scans the JSON
+     * as a token stream without building a tree, and skips parsing entirely when the text has no '|',
+     * which every ciphertext contains.
+     */
+    boolean hasEncryptedIdentifier(String identifiersJson) {
+        if (identifiersJson == null || identifiersJson.indexOf('|') < 0) return false;
+        try (JsonParser parser = objectMapper.getFactory().createParser(identifiersJson)) {
+            JsonToken token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && "identifierId".equals(parser.currentName())
+                        && parser.nextToken() == JsonToken.VALUE_STRING
+                        && isCipherText(parser.getText()))
+                    return true;
+            }
+            return false;
+        } catch (IOException e) {
+            throw identifiersParseError(identifiersJson, e);
         }
-        return false;
     }
 
-    private void writeIndividualBuffer(JsonGenerator gen, List<Map<String, Object>> buffer)
-            throws IOException {
-        for (Map<String, Object> row : buffer) {
+    private static CustomException identifiersParseError(String json, IOException e) {
+        return new CustomException("IDENTIFIERS_JSON_PARSE_ERROR",
+                "Failed to parse identifiers_json column value as JSON array. " +
+                "Raw value starts with: '" + json.substring(0, Math.min(json.length(), 100)) + "'. Cause: " + e.getMessage());
+    }
+
+    private void writeIndividualBuffer(JsonGenerator gen, IndividualRowBatch buffer) throws IOException {
+        for (int row = 0; row < buffer.size(); row++) {
             gen.writeStartObject();
             gen.writeStringField("_t", "INDIVIDUAL");
-            writeIndividualFromMap(gen, row);
+            writeIndividualRow(gen, buffer, row);
             gen.writeEndObject();
             gen.writeRaw('\n');
         }
     }
 
-    private void writeIndividualFromMap(JsonGenerator gen, Map<String, Object> row) throws IOException {
-        wsm(gen, "id",                row, "id");
-        wsm(gen, "clientReferenceId", row, "clientReferenceId");
-        wsm(gen, "tenantId",          row, "tenantId");
-        wsm(gen, "individualId",      row, "individualId");
-        wsm(gen, "userId",            row, "userId");
-        wsm(gen, "userUuid",          row, "userUuid");
+    private void writeIndividualRow(JsonGenerator gen, IndividualRowBatch b, int row) throws IOException {
+        wsc(gen, "id",                b, row, IndividualRowBatch.ID);
+        wsc(gen, "clientReferenceId", b, row, IndividualRowBatch.CLIENT_REFERENCE_ID);
+        wsc(gen, "tenantId",          b, row, IndividualRowBatch.TENANT_ID);
+        wsc(gen, "individualId",      b, row, IndividualRowBatch.INDIVIDUAL_ID);
+        wsc(gen, "userId",            b, row, IndividualRowBatch.USER_ID);
+        wsc(gen, "userUuid",          b, row, IndividualRowBatch.USER_UUID);
 
         gen.writeFieldName("name");
         gen.writeStartObject();
-        wsm(gen, "givenName",  row, "givenName");
-        wsm(gen, "familyName", row, "familyName");
-        wsm(gen, "otherNames", row, "otherNames");
+        wsc(gen, "givenName",  b, row, IndividualRowBatch.GIVEN_NAME);
+        wsc(gen, "familyName", b, row, IndividualRowBatch.FAMILY_NAME);
+        wsc(gen, "otherNames", b, row, IndividualRowBatch.OTHER_NAMES);
         gen.writeEndObject();
 
-        Object dob = row.get("dateOfBirth");
+        Object dob = b.get(IndividualRowBatch.DATE_OF_BIRTH, row);
         if (dob == null) gen.writeNullField("dateOfBirth");
         else gen.writeStringField("dateOfBirth", ((java.sql.Date) dob).toLocalDate().format(DOB_FMT));
 
-        wsm(gen, "gender",             row, "gender");
-        wsm(gen, "bloodGroup",         row, "bloodGroup");
-        wsm(gen, "mobileNumber",       row, "mobileNumber");
-        wsm(gen, "altContactNumber",   row, "altContactNumber");
-        wsm(gen, "email",              row, "email");
-        wsm(gen, "fatherName",         row, "fatherName");
-        wsm(gen, "husbandName",        row, "husbandName");
-        wsm(gen, "relationship",       row, "relationship");
-        wsm(gen, "photo",              row, "photo");
-        wbm(gen, "isSystemUser",       row, "isSystemUser");
-        wbm(gen, "isSystemUserActive", row, "isSystemUserActive");
-        wim(gen, "rowVersion",         row, "rowVersion");
-        wbm(gen, "isDeleted",          row, "isDeleted");
-        wjsonm(gen, "additionalFields", row, "additionalDetails");
-        wjsonm(gen, "address",         row, "addresses_json");
-        wjsonm(gen, "identifiers",     row, "identifiers_json");
-        wjsonm(gen, "skills",          row, "skills_json");
+        wsc(gen, "gender",             b, row, IndividualRowBatch.GENDER);
+        wsc(gen, "bloodGroup",         b, row, IndividualRowBatch.BLOOD_GROUP);
+        wsc(gen, "mobileNumber",       b, row, IndividualRowBatch.MOBILE_NUMBER);
+        wsc(gen, "altContactNumber",   b, row, IndividualRowBatch.ALT_CONTACT_NUMBER);
+        wsc(gen, "email",              b, row, IndividualRowBatch.EMAIL);
+        wsc(gen, "fatherName",         b, row, IndividualRowBatch.FATHER_NAME);
+        wsc(gen, "husbandName",        b, row, IndividualRowBatch.HUSBAND_NAME);
+        wsc(gen, "relationship",       b, row, IndividualRowBatch.RELATIONSHIP);
+        wsc(gen, "photo",              b, row, IndividualRowBatch.PHOTO);
+        wbc(gen, "isSystemUser",       b, row, IndividualRowBatch.IS_SYSTEM_USER);
+        wbc(gen, "isSystemUserActive", b, row, IndividualRowBatch.IS_SYSTEM_USER_ACTIVE);
+        wic(gen, "rowVersion",         b, row, IndividualRowBatch.ROW_VERSION);
+        wbc(gen, "isDeleted",          b, row, IndividualRowBatch.IS_DELETED);
+        wjsonc(gen, "additionalFields", b, row, IndividualRowBatch.ADDITIONAL_DETAILS);
+        wjsonc(gen, "address",         b, row, IndividualRowBatch.ADDRESSES_JSON);
+        wjsonc(gen, "identifiers",     b, row, IndividualRowBatch.IDENTIFIERS_JSON);
+        wjsonc(gen, "skills",          b, row, IndividualRowBatch.SKILLS_JSON);
 
         gen.writeFieldName("auditDetails");
         gen.writeStartObject();
-        wsm(gen, "createdBy",        row, "createdBy");
-        wlm(gen, "createdTime",      row, "createdTime");
-        wsm(gen, "lastModifiedBy",   row, "lastModifiedBy");
-        wlm(gen, "lastModifiedTime", row, "lastModifiedTime");
+        wsc(gen, "createdBy",        b, row, IndividualRowBatch.CREATED_BY);
+        wlc(gen, "createdTime",      b, row, IndividualRowBatch.CREATED_TIME);
+        wsc(gen, "lastModifiedBy",   b, row, IndividualRowBatch.LAST_MODIFIED_BY);
+        wlc(gen, "lastModifiedTime", b, row, IndividualRowBatch.LAST_MODIFIED_TIME);
         gen.writeEndObject();
 
         gen.writeFieldName("clientAuditDetails");
         gen.writeStartObject();
-        wsm(gen, "createdBy",        row, "clientCreatedBy");
-        wlm(gen, "createdTime",      row, "clientCreatedTime");
-        wsm(gen, "lastModifiedBy",   row, "clientLastModifiedBy");
-        wlm(gen, "lastModifiedTime", row, "clientLastModifiedTime");
+        wsc(gen, "createdBy",        b, row, IndividualRowBatch.CLIENT_CREATED_BY);
+        wlc(gen, "createdTime",      b, row, IndividualRowBatch.CLIENT_CREATED_TIME);
+        wsc(gen, "lastModifiedBy",   b, row, IndividualRowBatch.CLIENT_LAST_MODIFIED_BY);
+        wlc(gen, "lastModifiedTime", b, row, IndividualRowBatch.CLIENT_LAST_MODIFIED_TIME);
         gen.writeEndObject();
     }
 
-    // ── Map-based write helpers (mirror RS-based ones for buffered individual rows) ──
+    // ── Column-based write helpers (mirror RS-based ones for buffered individual rows) ──
 
-    private void wsm(JsonGenerator gen, String field, Map<String, Object> row, String col)
+    private void wsc(JsonGenerator gen, String field, IndividualRowBatch b, int row, int col)
             throws IOException {
-        Object v = row.get(col);
+        Object v = b.get(col, row);
         if (v == null) gen.writeNullField(field);
         else gen.writeStringField(field, (String) v);
     }
 
-    private void wlm(JsonGenerator gen, String field, Map<String, Object> row, String col)
+    private void wlc(JsonGenerator gen, String field, IndividualRowBatch b, int row, int col)
             throws IOException {
-        Object v = row.get(col);
+        Object v = b.get(col, row);
         if (v == null) gen.writeNullField(field);
         else gen.writeNumberField(field, ((Number) v).longValue());
     }
 
-    private void wim(JsonGenerator gen, String field, Map<String, Object> row, String col)
+    private void wic(JsonGenerator gen, String field, IndividualRowBatch b, int row, int col)
             throws IOException {
-        Object v = row.get(col);
+        Object v = b.get(col, row);
         if (v == null) gen.writeNullField(field);
         else gen.writeNumberField(field, ((Number) v).intValue());
     }
 
-    private void wbm(JsonGenerator gen, String field, Map<String, Object> row, String col)
+    private void wbc(JsonGenerator gen, String field, IndividualRowBatch b, int row, int col)
             throws IOException {
-        Object v = row.get(col);
+        Object v = b.get(col, row);
         if (v == null) gen.writeNullField(field);
         else gen.writeBooleanField(field, (Boolean) v);
     }
 
-    private void wjsonm(JsonGenerator gen, String field, Map<String, Object> row, String col)
+    private void wjsonc(JsonGenerator gen, String field, IndividualRowBatch b, int row, int col)
             throws IOException {
-        Object val = row.get(col);
+        Object val = b.get(col, row);
         if (val == null) {
             gen.writeNullField(field);
         } else if (val instanceof PGobject pg) {
@@ -1148,6 +1332,10 @@ public class DownsyncFileGenService {
         return Map.of("locality", c.getLocality());
     }
 
+    private Map<String, Object> localityParams(LocalityDownsyncCriteria c, Long sinceTime) {
+        return sinceTime == null ? localityParams(c) : Map.of("locality", c.getLocality(), "since", sinceTime);
+    }
+
     private Map<String, Object> projectLocalityParams(LocalityDownsyncCriteria c) {
         return Map.of("projectId", c.getProjectId(), "locality", c.getLocality());
     }
@@ -1166,6 +1354,17 @@ public class DownsyncFileGenService {
         return c.getTenantId() + "/" + c.getLocality() + "/" + fileType + ".ndjson.gz";
     }
 
+    private String registryFileKey(LocalityDownsyncCriteria c, String fileType, Long sinceTime, long startTime) {
+        String fileKey = s3RegistryKey(c, fileType);
+        return sinceTime == null
+                ? DownsyncS3Service.baseKey(fileKey, startTime)
+                : DownsyncS3Service.deltaKey(fileKey, sinceTime);
+    }
+
+    private String fileKind(Long sinceTime) {
+        return sinceTime == null ? "BASE" : "DELTA";
+    }
+
     private String s3ProjectKey(LocalityDownsyncCriteria c, String fileType) {
         String rootProjectId = c.getRootProjectId() != null ? c.getRootProjectId() : c.getProjectId();
         return c.getTenantId() + "/" + rootProjectId + "/" + c.getLocality() + "/" + fileType + ".ndjson.gz";
@@ -61,6 +61,7 @@ public class DownsyncJobResumeRunner implements ApplicationRunner {
                     jobRepository.findResumableLocalities(job.getTenantId(), job.getId());
 
             if (!resumable.isEmpty()) {
+                long mvRefreshTime = System.currentTimeMillis();
                 if (jobRepository.shouldRefreshMv(job.getTenantId())) {
                     log.info("Refreshing household_address_mv on resume — tenant={}", job.getTenantId());
                     jobRepository.refreshHouseholdAddressMv(job.getTenantId());
@@ -88,7 +89,7 @@ public class DownsyncJobResumeRunner implements ApplicationRunner {
 
                 CompletableFuture<Void> regFuture = registryCriteria.isEmpty()
                         ? CompletableFuture.completedFuture(null)
-                        : CompletableFuture.runAsync(() -> service.generateRegistry(registryCriteria, job.getId()));
+                        : CompletableFuture.runAsync(() -> service.generateRegistry(registryCriteria, job.getId(), mvRefreshTime));
                 CompletableFuture<Void> prjFuture = projectCriteria.isEmpty()
                         ? CompletableFuture.completedFuture(null)
                         : CompletableFuture.runAsync(() -> service.generateProject(projectCriteria, job.getId()));
@@ -113,6 +114,13 @@ public class DownsyncJobResumeRunner implements ApplicationRunner {
                     .build());
 
             log.info("Job {} resume complete — status={}", job.getId(), status);
+
+            // The job is terminal now, so the links served no longer point at the files it replaced
+            try {
+                service.deleteSupersededFiles(job.getTenantId());
+            } catch (Exception e) {
+                log.warn("Could not delete superseded downsync files for tenant={}: {}", job.getTenantId(), e.getMessage());
+            }
         } catch (Exception e) {
             log.error("Resume failed for job {}: {}", job.getId(), e.getMessage(), e);
         } finally {
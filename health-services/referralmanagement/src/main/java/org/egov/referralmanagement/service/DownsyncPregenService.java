@@ -29,6 +29,9 @@ public class DownsyncPregenService {
      * Step 2 — Project files (BENE_AE_REF + TASKS): resolve leaf projectId from rootProjectId,
      *           then fetch its SUCCESS locality row.
      *
+     * Per fileType the BASE file comes first, followed by its DELTA files in generation order;
+     * the device applies the deltas on top of the base in that order. Files without data are left out.
+     *
      * Returns empty list if nothing found — caller falls through to live scan.
      */
     public List<DownsyncFileLink> getPregenLinks(DownsyncCriteria criteria) {
@@ -43,14 +46,14 @@ public class DownsyncPregenService {
 
         // Step 1 — Registry files (projectId = null)
         for (DownsyncLocalityFile f : jobRepository.findLatestFilesForLocality(tenantId, null, locality))
-            links.add(toLink(f, expiresAt));
+            if (f.getS3Key() != null) links.add(toLink(f, expiresAt));
 
         // Step 2 — Project files (resolved leaf projectId)
         if (StringUtils.hasText(rootProjectId)) {
             String leafProjectId = jobRepository.findLeafProjectIdForLocality(tenantId, rootProjectId, locality);
             if (leafProjectId != null) {
                 for (DownsyncLocalityFile f : jobRepository.findLatestFilesForLocality(tenantId, leafProjectId, locality))
-                    links.add(toLink(f, expiresAt));
+                    if (f.getS3Key() != null) links.add(toLink(f, expiresAt));
             } else {
                 log.debug("No leaf project found for rootProjectId={} locality={} tenant={}",
                         rootProjectId, locality, tenantId);
@@ -67,6 +70,8 @@ public class DownsyncPregenService {
     private DownsyncFileLink toLink(DownsyncLocalityFile f, long expiresAt) {
         return DownsyncFileLink.builder()
                 .fileType(f.getFileType())
+                .fileKind(f.getFileKind())
+                .sinceTime(f.getSinceTime())
                 .url(s3Service.presign(f.getS3Key()))
                 .recordCount(f.getRecordCount())
                 .expiresAt(expiresAt)
@@ -1,5 +1,7 @@
 package org.egov.referralmanagement.service;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.egov.referralmanagement.config.ReferralManagementConfiguration;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,29 +12,59 @@ import software.amazon.awssdk.services.s3.model.*;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.zip.GZIPOutputStream;
 
 /**
  * Central S3 facade for downsync file generation.
  * Owns multipart upload, file-size lookup, and presigned URL generation.
  * Nothing else should import S3Client or S3Presigner directly.
+ *
+ * Parts are uploaded in the background on a shared upload pool while the writer keeps filling the
+ * next part, with at most {@code egov.s3.upload.concurrency} parts of a file in flight. Part buffers
+ * are pooled direct buffers of {@code egov.s3.upload.part.size.mb}.
  */
 @Service
 @Slf4j
 public class DownsyncS3Service {
 
-    private static final int PART_SIZE_BYTES = 5 * 1024 * 1024;
+    /** S3 rejects parts smaller than 5 MiB, except the last one. */
+    private static final int MIN_PART_SIZE_BYTES = 5 * 1024 * 1024;
 
     @Autowired private S3Client s3Client;
     @Autowired private S3Presigner s3Presigner;
     @Autowired private ReferralManagementConfiguration config;
 
+    private ExecutorService uploadPool;
+    private PartBufferPool bufferPool;
+    private int partSizeBytes;
+
+    @PostConstruct
+    public void init() {
+        partSizeBytes = Math.max(MIN_PART_SIZE_BYTES, config.getS3UploadPartSizeMb() * 1024 * 1024);
+        uploadPool    = Executors.newFixedThreadPool(config.getS3UploadPoolSize());
+        // every upload can always get its filling buffer and a full set of in-flight parts
+        int maxBuffers = Math.max(Math.max(1, config.getS3UploadConcurrency()) + 1, config.getS3UploadMaxBuffers());
+        bufferPool    = new PartBufferPool(partSizeBytes, maxBuffers);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        uploadPool.shutdown();
+    }
+
     // ── Types ─────────────────────────────────────────────────────────────────
 
     @FunctionalInterface
@@ -60,33 +92,36 @@ public class DownsyncS3Service {
                             .build()
             ).uploadId();
 
-            List<CompletedPart> parts = new ArrayList<>();
-            S3PartOutputStream partOut = new S3PartOutputStream(
-                    s3Client, config.getS3Bucket(), s3Key, uploadId, parts);
+            S3PartOutputStream partOut = new S3PartOutputStream(s3Key, uploadId);
+            try {
+                GZIPOutputStream gzip = new GZIPOutputStream(partOut);
+                long rowCount = writer.write(gzip);
+                gzip.finish();
 
-            GZIPOutputStream gzip = new GZIPOutputStream(partOut);
-            long rowCount = writer.write(gzip);
-            gzip.finish();
-
-            if (rowCount == 0) {
-                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
-                        .bucket(config.getS3Bucket()).key(s3Key).uploadId(uploadId).build());
-                s3Client.deleteObject(DeleteObjectRequest.builder()
-                        .bucket(config.getS3Bucket()).key(s3Key).build());
-                log.debug("No data for {}, aborted upload", s3Key);
-                return new S3Result(0, null);
-            }
+                if (rowCount == 0) {
+                    partOut.discard();
+                    s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                            .bucket(config.getS3Bucket()).key(s3Key).uploadId(uploadId).build());
+                    s3Client.deleteObject(DeleteObjectRequest.builder()
+                            .bucket(config.getS3Bucket()).key(s3Key).build());
+                    log.debug("No data for {}, aborted upload", s3Key);
+                    return new S3Result(0, null);
+                }
 
-            partOut.uploadFinalPart();
-            s3Client.completeMultipartUpload(
-                    CompleteMultipartUploadRequest.builder()
-                            .bucket(config.getS3Bucket()).key(s3Key).uploadId(uploadId)
-                            .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
-                            .build());
+                List<CompletedPart> parts = partOut.uploadFinalPart();
+                s3Client.completeMultipartUpload(
+                        CompleteMultipartUploadRequest.builder()
+                                .bucket(config.getS3Bucket()).key(s3Key).uploadId(uploadId)
+                                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                                .build());
 
-            Long fileSize = headObjectSize(s3Key);
-            log.debug("S3 upload complete: {} ({} rows, {} bytes)", s3Key, rowCount, fileSize);
-            return new S3Result(rowCount, fileSize);
+                Long fileSize = headObjectSize(s3Key);
+                log.debug("S3 upload complete: {} ({} rows, {} parts, {} bytes)", s3Key, rowCount, parts.size(), fileSize);
+                return new S3Result(rowCount, fileSize);
+            } finally {
+                // waits for parts still in flight so the abort below sees them, and returns the buffers
+                partOut.discard();
+            }
 
         } catch (Exception e) {
             if (uploadId != null) {
@@ -100,6 +135,38 @@ public class DownsyncS3Service {
         }
     }
 
+    /**
+     * Key of a base file, versioned so that a new base never overwrites the one clients are still served:
+     * {@code .../hh_members.ndjson.gz} → {@code .../hh_members.base.<version>.ndjson.gz}.
+     */
+    public static String baseKey(String fileKey, long version) {
+        String suffix = ".ndjson.gz";
+        String stem = fileKey.endsWith(suffix) ? fileKey.substring(0, fileKey.length() - suffix.length()) : fileKey;
+        return stem + ".base." + version + suffix;
+    }
+
+    /**
+     * Key of the delta file holding the rows modified after {@code sinceTime}, stored next to its base file:
+     * {@code .../hh_members.ndjson.gz} → {@code .../hh_members.delta.<sinceTime>.ndjson.gz}.
+     */
+    public static String deltaKey(String baseKey, long sinceTime) {
+        String suffix = ".ndjson.gz";
+        String stem = baseKey.endsWith(suffix) ? baseKey.substring(0, baseKey.length() - suffix.length()) : baseKey;
+        return stem + ".delta." + sinceTime + suffix;
+    }
+
+    /** Deletes the given objects, logging the keys that could not be deleted. */
+    public void deleteObjects(List<String> s3Keys) {
+        for (String s3Key : s3Keys) {
+            try {
+                s3Client.deleteObject(DeleteObjectRequest.builder()
+                        .bucket(config.getS3Bucket()).key(s3Key).build());
+            } catch (Exception e) {
+                log.warn("Could not delete {}: {}", s3Key, e.getMessage());
+            }
+        }
+    }
+
     // ── Presigned URL ─────────────────────────────────────────────────────────
 
     public String presign(String s3Key) {
@@ -144,39 +211,168 @@ public class DownsyncS3Service {
 
     // ── S3PartOutputStream ────────────────────────────────────────────────────
 
-    private static class S3PartOutputStream extends OutputStream {
+    /**
+     * Fills one pooled part buffer at a time and hands full buffers to the upload pool. The writer blocks
+     * once {@code egov.s3.upload.concurrency} parts of this file are in flight, so a slow upload holds back
+     * the JDBC cursor instead of buffering the whole file in memory. An upload failure is rethrown to the
+     * writer on its next write.
+     */
+    private class S3PartOutputStream extends OutputStream {
 
-        private final S3Client s3;
-        private final String bucket;
         private final String key;
         private final String uploadId;
-        private final List<CompletedPart> parts;
-        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(PART_SIZE_BYTES + 65536);
+        private final Semaphore inFlight = new Semaphore(Math.max(1, config.getS3UploadConcurrency()));
+        private final List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+        private volatile Throwable failure;
+        private ByteBuffer buffer;
         private int partNum = 1;
 
-        S3PartOutputStream(S3Client s3, String bucket, String key,
-                           String uploadId, List<CompletedPart> parts) {
-            this.s3 = s3; this.bucket = bucket; this.key = key;
-            this.uploadId = uploadId; this.parts = parts;
+        S3PartOutputStream(String key, String uploadId) {
+            this.key = key;
+            this.uploadId = uploadId;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureBuffer();
+            buffer.put((byte) b);
+            if (!buffer.hasRemaining()) submitPart();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                ensureBuffer();
+                int n = Math.min(len, buffer.remaining());
+                buffer.put(b, off, n);
+                off += n;
+                len -= n;
+                if (!buffer.hasRemaining()) submitPart();
+            }
         }
 
-        @Override public void write(int b)                      { buffer.write(b);         flushIfFull(); }
-        @Override public void write(byte[] b, int off, int len) { buffer.write(b, off, len); flushIfFull(); }
+        /** Uploads the last, possibly short, part and returns all parts in part-number order. */
+        List<CompletedPart> uploadFinalPart() throws IOException {
+            if (buffer != null && buffer.position() > 0) submitPart();
+            List<CompletedPart> completed = new ArrayList<>(parts.size());
+            try {
+                for (CompletableFuture<CompletedPart> part : parts) completed.add(part.join());
+            } catch (Exception e) {
+                throw new IOException("Part upload failed for " + key, e.getCause() != null ? e.getCause() : e);
+            }
+            return completed;
+        }
 
-        private void flushIfFull() { if (buffer.size() >= PART_SIZE_BYTES) flushPart(); }
+        /** Waits for in-flight parts and returns every buffer to the pool. Safe to call more than once. */
+        void discard() {
+            for (CompletableFuture<CompletedPart> part : parts) {
+                try { part.join(); } catch (Exception ignored) {}
+            }
+            if (buffer != null) {
+                bufferPool.release(buffer);
+                buffer = null;
+            }
+        }
 
-        void uploadFinalPart() { if (buffer.size() > 0) flushPart(); }
+        private void ensureBuffer() throws IOException {
+            if (failure != null)
+                throw new IOException("Part upload failed for " + key + ": " + failure.getMessage(), failure);
+            if (buffer == null) {
+                try {
+                    buffer = bufferPool.acquire();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for a part buffer of " + key);
+                }
+            }
+        }
 
-        private void flushPart() {
-            byte[] data = buffer.toByteArray();
-            UploadPartResponse resp = s3.uploadPart(
+        private void submitPart() throws IOException {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting to upload part of " + key);
+            }
+            ByteBuffer data = buffer;
+            buffer = null;
+            data.flip();
+            int partNumber = partNum++;
+            parts.add(CompletableFuture.supplyAsync(() -> uploadPart(data, partNumber), uploadPool)
+                    .whenComplete((part, e) -> {
+                        if (e != null && failure == null) failure = e;
+                        bufferPool.release(data);
+                        inFlight.release();
+                    }));
+        }
+
+        private CompletedPart uploadPart(ByteBuffer data, int partNumber) {
+            int length = data.remaining();
+            // the content provider is called again on retries, so every attempt reads the part from the start
+            RequestBody body = RequestBody.fromContentProvider(
+                    () -> new ByteBufferInputStream(data.duplicate()), length, "application/octet-stream");
+            UploadPartResponse resp = s3Client.uploadPart(
                     UploadPartRequest.builder()
-                            .bucket(bucket).key(key).uploadId(uploadId).partNumber(partNum).build(),
-                    RequestBody.fromBytes(data));
-            parts.add(CompletedPart.builder().partNumber(partNum++).eTag(resp.eTag()).build());
-            buffer.reset();
+                            .bucket(config.getS3Bucket()).key(key).uploadId(uploadId)
+                            .partNumber(partNumber).contentLength((long) length).build(),
+                    body);
+            return CompletedPart.builder().partNumber(partNumber).eTag(resp.eTag()).build();
         }
 
         @Override public void close() {}
     }
+
+    // ── Part buffers ──────────────────────────────────────────────────────────
+
+    /**
+     * Direct part buffers shared by all uploads, at most {@code egov.s3.upload.max.buffers} of them at once.
+     * Buffers are allocated on demand and kept for reuse, so steady-state generation does not allocate, and
+     * an upload needing a buffer while all are taken waits until another upload returns one.
+     */
+    static class PartBufferPool {
+
+        private final int bufferSize;
+        private final Semaphore available;
+        private final ConcurrentLinkedQueue<ByteBuffer> idle = new ConcurrentLinkedQueue<>();
+
+        PartBufferPool(int bufferSize, int maxBuffers) {
+            this.bufferSize = bufferSize;
+            this.available = new Semaphore(maxBuffers);
+        }
+
+        ByteBuffer acquire() throws InterruptedException {
+            available.acquire();
+            ByteBuffer buffer = idle.poll();
+            return buffer != null ? buffer : ByteBuffer.allocateDirect(bufferSize);
+        }
+
+        void release(ByteBuffer buffer) {
+            buffer.clear();
+            idle.offer(buffer);
+            available.release();
+        }
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) { this.buffer = buffer; }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (!buffer.hasRemaining()) return -1;
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+
+        @Override
+        public int available() { return buffer.remaining(); }
+    }
 }
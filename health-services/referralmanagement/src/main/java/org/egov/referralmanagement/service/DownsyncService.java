@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import lombok.extern.slf4j.Slf4j;
@@ -85,6 +86,8 @@ public class DownsyncService {
 
     private HouseholdRepository householdRepository;
 
+    private DownsyncExecutor downsyncExecutor;
+
     @Autowired
     public DownsyncService( ServiceRequestClient serviceRequestClient,
                             ReferralManagementConfiguration referralManagementConfiguration,
@@ -94,7 +97,8 @@ public class DownsyncService {
                             HFReferralService hfReferralService,
                             MasterDataService masterDataService,
                             MultiStateInstanceUtil multiStateInstanceUtil,
-                            HouseholdRepository householdRepository) {
+                            HouseholdRepository householdRepository,
+                            DownsyncExecutor downsyncExecutor) {
 
         this.restClient = serviceRequestClient;
         this.configs = referralManagementConfiguration;
@@ -105,9 +109,12 @@ public class DownsyncService {
         this.masterDataService = masterDataService;
         this.multiStateInstanceUtil = multiStateInstanceUtil;
         this.householdRepository = householdRepository;
+        this.downsyncExecutor = downsyncExecutor;
     }
 
     /**
+     * Runs the downsync searches as a dependency graph on {@link DownsyncExecutor}. Steps which do not
+     * depend on each other, like hf referrals, individuals and beneficiaries, run concurrently.
      *
      * @param downsyncRequest
      * @return Downsync
@@ -117,13 +124,6 @@ public class DownsyncService {
         Downsync downsync = new Downsync();
         DownsyncCriteria downsyncCriteria = downsyncRequest.getDownsyncCriteria();
 
-        List<Household> households = null;
-        List<String> householdClientRefIds = null;
-        List<String> individualClientRefIds = null;
-        List<String> beneficiaryClientRefIds = null;
-        List<String> taskClientRefIds = null;
-
-
         boolean isSyncTimeAvailable = null != downsyncCriteria.getLastSyncedTime();
         // removing incremental downsync for matview flow — mutate after capturing isSyncTimeAvailable
         if (configs.isEnableMatviewSearch()) {
@@ -131,58 +131,92 @@ public class DownsyncService {
         }
         downsync.setDownsyncCriteria(downsyncCriteria);
 
+        DownsyncExecutor.Graph graph = downsyncExecutor.newGraph();
+
         //Project project = getProjectType(downsyncRequest);
-        LinkedHashMap<String, Object> projectType = masterDataService.getProjectType(downsyncRequest);
+        CompletableFuture<LinkedHashMap<String, Object>> projectTypeStep = graph.step("projectType",
+                () -> masterDataService.getProjectType(downsyncRequest));
 
         /* search household */
-        householdClientRefIds = searchHouseholds(downsyncRequest, downsync);
+        CompletableFuture<List<String>> householdStep = graph.step("households",
+                () -> searchHouseholds(downsyncRequest, downsync));
+
+        /* search hf referrals - HFReferrals can be directly created by Distributors */
+        CompletableFuture<Void> hfReferralStep = graph.step("hfReferrals", () -> {
+            hfReferralSearch(downsyncRequest, downsync);
+            return null;
+        });
 
         /* search household member using household client reference ids */
-        if (isSyncTimeAvailable || !CollectionUtils.isEmpty(householdClientRefIds)) {
-            individualClientRefIds = searchMembers(downsyncRequest, downsync, householdClientRefIds);
-        }
+        CompletableFuture<List<String>> memberStep = graph.step("members", () -> {
+            List<String> householdClientRefIds = householdStep.join();
+            if (isSyncTimeAvailable || !CollectionUtils.isEmpty(householdClientRefIds)) {
+                return searchMembers(downsyncRequest, downsync, householdClientRefIds);
+            }
+            return null;
+        }, householdStep);
 
         /* search individuals using individual client reference ids */
-        if (isSyncTimeAvailable || !CollectionUtils.isEmpty(individualClientRefIds) ) {
-            searchIndividuals(downsyncRequest, downsync, individualClientRefIds);
-        }
+        CompletableFuture<Void> individualStep = graph.step("individuals", () -> {
+            List<String> individualClientRefIds = memberStep.join();
+            if (isSyncTimeAvailable || !CollectionUtils.isEmpty(individualClientRefIds)) {
+                searchIndividuals(downsyncRequest, downsync, individualClientRefIds);
+            }
+            return null;
+        }, memberStep);
 
         /* search beneficiary using individual ids OR household ids */
+        CompletableFuture<List<String>> beneficiaryStep = graph.step("beneficiaries", () -> {
+            String beneficiaryType = (String) projectTypeStep.join().get("beneficiaryType");
 
-        String beneficiaryType = (String) projectType.get("beneficiaryType");
-
-        beneficiaryClientRefIds = individualClientRefIds;
+            List<String> beneficiaryClientRefIds = memberStep.join();
 
-        if(HOUSEHOLD.equalsIgnoreCase(beneficiaryType))
-            beneficiaryClientRefIds = householdClientRefIds;
+            if(HOUSEHOLD.equalsIgnoreCase(beneficiaryType))
+                beneficiaryClientRefIds = householdStep.join();
 
-        //fetch beneficiary in the db
-        if (isSyncTimeAvailable || !CollectionUtils.isEmpty(beneficiaryClientRefIds)) {
-            beneficiaryClientRefIds = searchBeneficiaries(downsyncRequest, downsync, beneficiaryClientRefIds);
-        }
+            //fetch beneficiary in the db
+            if (isSyncTimeAvailable || !CollectionUtils.isEmpty(beneficiaryClientRefIds)) {
+                beneficiaryClientRefIds = searchBeneficiaries(downsyncRequest, downsync, beneficiaryClientRefIds);
+            }
+            return beneficiaryClientRefIds;
+        }, projectTypeStep, householdStep, memberStep);
 
         /* search tasks using beneficiary uuids */
-        if (isSyncTimeAvailable || !CollectionUtils.isEmpty(beneficiaryClientRefIds)) {
-
-            taskClientRefIds = searchTasks(downsyncRequest, downsync, beneficiaryClientRefIds, projectType);
-
-            /* ref search */
-            referralSearch(downsyncRequest, downsync, beneficiaryClientRefIds);
-        }
-
-        /* search hf referrals - HFReferrals can be directly created by Distributors */
-        hfReferralSearch(downsyncRequest, downsync);
-
+        CompletableFuture<List<String>> taskStep = graph.step("tasks", () -> {
+            List<String> beneficiaryClientRefIds = beneficiaryStep.join();
+            if (isSyncTimeAvailable || !CollectionUtils.isEmpty(beneficiaryClientRefIds)) {
+                return searchTasks(downsyncRequest, downsync, beneficiaryClientRefIds, projectTypeStep.join());
+            }
+            return null;
+        }, beneficiaryStep);
+
+        /* ref search */
+        CompletableFuture<Void> referralStep = graph.step("referrals", () -> {
+            List<String> beneficiaryClientRefIds = beneficiaryStep.join();
+            if (isSyncTimeAvailable || !CollectionUtils.isEmpty(beneficiaryClientRefIds)) {
+                referralSearch(downsyncRequest, downsync, beneficiaryClientRefIds);
+            }
+            return null;
+        }, beneficiaryStep);
 
-        if (isSyncTimeAvailable || !CollectionUtils.isEmpty(taskClientRefIds)) {
-            searchSideEffect(downsyncRequest, downsync, taskClientRefIds);
-        }
+        CompletableFuture<Void> sideEffectStep = graph.step("sideEffects", () -> {
+            List<String> taskClientRefIds = taskStep.join();
+            if (isSyncTimeAvailable || !CollectionUtils.isEmpty(taskClientRefIds)) {
+                searchSideEffect(downsyncRequest, downsync, taskClientRefIds);
+            }
+            return null;
+        }, taskStep);
 
         /* search service request services when enabled based on individual client reference ids
         *  and household client reference ids as reference ids for services */
-        if (configs.getServiceRequestDownsyncEnabled()) {
-            searchServices(downsyncRequest, downsync, individualClientRefIds, householdClientRefIds);
-        }
+        CompletableFuture<Void> serviceStep = graph.step("services", () -> {
+            if (configs.getServiceRequestDownsyncEnabled()) {
+                searchServices(downsyncRequest, downsync, memberStep.join(), householdStep.join());
+            }
+            return null;
+        }, householdStep, memberStep);
+
+        graph.await(hfReferralStep, individualStep, referralStep, sideEffectStep, serviceStep);
 
         return downsync;
     }
@@ -254,29 +288,30 @@ public class DownsyncService {
         StringBuilder url = new StringBuilder(configs.getIndividualHost())
                 .append(configs.getIndividualSearchUrl());
 
-        List<Individual> allIndividuals = new ArrayList<>();
-
         /* get batch size to fetch individuals from environment */
         int batchSize = configs.getIndividualSearchBatchSize();
 
         appendUrlParams(url, criteria, 0, batchSize, true);
 
-        /* fetches the data in the batches of batch size */
+        List<List<String>> batches = new ArrayList<>();
         for (int i = 0; i < individualIds.size(); i += batchSize) {
-            List<String> batch = getIdsForBatch(batchSize, i, individualIds);
+            batches.add(getIdsForBatch(batchSize, i, individualIds));
+        }
 
+        /* fetches the data in the batches of batch size, a bounded number of batches at a time */
+        String individualUrl = url.toString();
+        List<Individual> allIndividuals = downsyncExecutor.fetchBatches(batches, batch -> {
             IndividualSearch individualSearch = IndividualSearch.builder()
                     .id(batch)
                     .build();
 
-        IndividualSearchRequest searchRequest = IndividualSearchRequest.builder()
-                .individual(individualSearch)
-                .requestInfo(requestInfo)
-                .build();
+            IndividualSearchRequest searchRequest = IndividualSearchRequest.builder()
+                    .individual(individualSearch)
+                    .requestInfo(requestInfo)
+                    .build();
 
-            List<Individual> individuals = restClient.fetchResult(url, searchRequest, IndividualBulkResponse.class).getIndividual();
-            allIndividuals.addAll(individuals);
-        }
+            return restClient.fetchResult(new StringBuilder(individualUrl), searchRequest, IndividualBulkResponse.class).getIndividual();
+        });
         downsync.setIndividuals(allIndividuals);
 
         return allIndividuals.stream().map(Individual::getClientReferenceId).collect(Collectors.toList());
@@ -0,0 +1,118 @@
+package org.egov.referralmanagement.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Reusable columnar buffer of INDIVIDUAL rows for file generation: one value array per column of
+ * {@link #COLUMNS}, addressed by the column constants below, instead of a map per row. A batch is
+ * filled from a cursor, decrypted and written, then {@link #clear()}ed and filled again.
+ */
+class IndividualRowBatch {
+
+    static final List<String> COLUMNS = List.of(
+            "id", "clientReferenceId", "tenantId", "individualId", "userId", "userUuid",
+            "givenName", "familyName", "otherNames", "dateOfBirth",
+            "gender", "bloodGroup", "mobileNumber", "altContactNumber", "email",
+            "fatherName", "husbandName", "relationship", "photo",
+            "isSystemUser", "isSystemUserActive", "rowVersion", "isDeleted", "additionalDetails",
+            "addresses_json", "identifiers_json", "skills_json",
+            "createdBy", "createdTime", "lastModifiedBy", "lastModifiedTime",
+            "clientCreatedBy", "clientCreatedTime", "clientLastModifiedBy", "clientLastModifiedTime"
+    );
+
+    // column ordinals, in COLUMNS order
+    static final int ID = 0;
+    static final int CLIENT_REFERENCE_ID = 1;
+    static final int TENANT_ID = 2;
+    static final int INDIVIDUAL_ID = 3;
+    static final int USER_ID = 4;
+    static final int USER_UUID = 5;
+    static final int GIVEN_NAME = 6;
+    static final int FAMILY_NAME = 7;
+    static final int OTHER_NAMES = 8;
+    static final int DATE_OF_BIRTH = 9;
+    static final int GENDER = 10;
+    static final int BLOOD_GROUP = 11;
+    static final int MOBILE_NUMBER = 12;
+    static final int ALT_CONTACT_NUMBER = 13;
+    static final int EMAIL = 14;
+    static final int FATHER_NAME = 15;
+    static final int HUSBAND_NAME = 16;
+    static final int RELATIONSHIP = 17;
+    static final int PHOTO = 18;
+    static final int IS_SYSTEM_USER = 19;
+    static final int IS_SYSTEM_USER_ACTIVE = 20;
+    static final int ROW_VERSION = 21;
+    static final int IS_DELETED = 22;
+    static final int ADDITIONAL_DETAILS = 23;
+    static final int ADDRESSES_JSON = 24;
+    static final int IDENTIFIERS_JSON = 25;
+    static final int SKILLS_JSON = 26;
+    static final int CREATED_BY = 27;
+    static final int CREATED_TIME = 28;
+    static final int LAST_MODIFIED_BY = 29;
+    static final int LAST_MODIFIED_TIME = 30;
+    static final int CLIENT_CREATED_BY = 31;
+    static final int CLIENT_CREATED_TIME = 32;
+    static final int CLIENT_LAST_MODIFIED_BY = 33;
+    static final int CLIENT_LAST_MODIFIED_TIME = 34;
+
+    private final Object[][] values;
+
+    private final int capacity;
+
+    private int size;
+
+    IndividualRowBatch(int capacity) {
+        this.capacity = capacity;
+        this.values = new Object[COLUMNS.size()][capacity];
+    }
+
+    /**
+     * Resolves the result set index of every column once per query, so rows are read by index
+     * rather than looked up by name.
+     */
+    static int[] resolveColumns(ResultSet rs) throws SQLException {
+        int[] indexes = new int[COLUMNS.size()];
+        for (int col = 0; col < indexes.length; col++)
+            indexes[col] = rs.findColumn(COLUMNS.get(col));
+        return indexes;
+    }
+
+    /** Appends the current row of {@code rs}; {@code indexes} come from {@link #resolveColumns}. */
+    void add(ResultSet rs, int[] indexes) throws SQLException {
+        for (int col = 0; col < indexes.length; col++)
+            values[col][size] = rs.getObject(indexes[col]);
+        size++;
+    }
+
+    Object get(int col, int row) {
+        return values[col][row];
+    }
+
+    void set(int col, int row, Object value) {
+        values[col][row] = value;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    boolean isFull() {
+        return size == capacity;
+    }
+
+    /** Empties the batch for reuse, dropping the references to the previous rows. */
+    void clear() {
+        for (Object[] column : values)
+            Arrays.fill(column, 0, size, null);
+        size = 0;
+    }
+}
@@ -167,7 +167,9 @@ public class DownsyncFileGenController {
 
         // household_address_mv is the locality-scoping join for both registry and project queries —
         // refresh only if household data has changed since the last completed job.
-        CompletableFuture<Void> mvFuture = CompletableFuture.runAsync(() -> {
+        // The view holds every household change made before the check, which makes it the delta watermark
+        CompletableFuture<Long> mvFuture = CompletableFuture.supplyAsync(() -> {
+            long mvRefreshTime = System.currentTimeMillis();
             try {
                 if (jobRepository.shouldRefreshMv(tenantId)) {
                     log.info("Refreshing household_address_mv — tenant={}", tenantId);
@@ -179,11 +181,13 @@ public class DownsyncFileGenController {
                 log.error("household_address_mv refresh failed for tenant={}: {}", tenantId, e.getMessage(), e);
                 throw e;
             }
+            return mvRefreshTime;
         });
 
         CompletableFuture<Void> registryFuture = finalRegistry.isEmpty()
                 ? CompletableFuture.completedFuture(null)
-                : mvFuture.thenRunAsync(() -> downsyncFileGenService.generateRegistry(finalRegistry, jobId));
+                : mvFuture.thenAcceptAsync(mvRefreshTime ->
+                        downsyncFileGenService.generateRegistry(finalRegistry, jobId, mvRefreshTime));
 
         CompletableFuture<Void> projectFuture = finalProject.isEmpty()
                 ? CompletableFuture.completedFuture(null)
@@ -218,6 +222,7 @@ public class DownsyncFileGenController {
                     .build());
 
             log.info("Job {} finished — status={}, succeeded={}, failed={}", jobId, finalStatus, succeeded, failed);
+            deleteSupersededFiles(tenantId);
         });
 
         log.info("Job {} accepted — {} registry + {} project localities, tenant={}",
@@ -232,6 +237,15 @@ public class DownsyncFileGenController {
                         .build());
     }
 
+    // Runs once the job is terminal, so the links served no longer point at the files it replaced
+    private void deleteSupersededFiles(String tenantId) {
+        try {
+            downsyncFileGenService.deleteSupersededFiles(tenantId);
+        } catch (Exception e) {
+            log.warn("Could not delete superseded downsync files for tenant={}: {}", tenantId, e.getMessage());
+        }
+    }
+
     // ── Search ────────────────────────────────────────────────────────────────
 
     @PostMapping("/v1/jobs/_search")
@@ -14,6 +14,12 @@ public class DownsyncFileLink {
     @JsonProperty("fileType")
     private String fileType;
 
+    @JsonProperty("fileKind")
+    private String fileKind;
+
+    @JsonProperty("sinceTime")
+    private Long sinceTime;
+
     @JsonProperty("url")
     private String url;
 
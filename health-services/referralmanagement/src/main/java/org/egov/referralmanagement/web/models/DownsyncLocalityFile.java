@@ -14,6 +14,9 @@ public class DownsyncLocalityFile {
     private String localityRowId;
     private String jobId;
     private String fileType;    // HH_MEMBERS | INDIVIDUALS | BENE_AE_REF | TASKS
+    private String fileKind;    // BASE | DELTA
+    private Long sinceTime;     // DELTA only — rows modified after this time
+    private Long watermark;     // time the next DELTA starts from
     private String status;      // PENDING | IN_PROGRESS | SUCCESS | FAILED | SKIPPED
     private String s3Key;
     private Long recordCount;
@@ -0,0 +1,3 @@
+ALTER TABLE downsync_locality_file ADD COLUMN IF NOT EXISTS fileKind VARCHAR(10) NOT NULL DEFAULT 'BASE';
+
+ALTER TABLE downsync_locality_file ADD COLUMN IF NOT EXISTS sinceTime BIGINT;
@@ -0,0 +1 @@
+ALTER TABLE downsync_locality_file ADD COLUMN IF NOT EXISTS watermark BIGINT;
@@ -0,0 +1,112 @@
+package org.egov.referralmanagement.benchmark;
+
+import org.egov.referralmanagement.config.ReferralManagementConfiguration;
+import org.egov.referralmanagement.helper.InMemoryS3Client;
+import org.egov.referralmanagement.service.DownsyncS3Service;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wall time to generate and upload one locality file through {@link DownsyncS3Service#streamToS3}, against
+ * {@link InMemoryS3Client} with a simulated per-part round trip and per-connection bandwidth.
+ * {@code concurrency=1} keeps a single part in flight and is the closest to the former synchronous upload.
+ *
+ * <pre>
+ * mvn -B test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.egov.referralmanagement.benchmark.DownsyncS3UploadBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DownsyncS3UploadBenchmark {
+
+    private static final int DISTINCT_ROWS = 4096;
+
+    @Param({"200000"})
+    public int rows;
+
+    @Param({"1", "4", "8"})
+    public int concurrency;
+
+    @Param({"8"})
+    public int partSizeMb;
+
+    @Param({"50"})
+    public long partLatencyMs;
+
+    @Param({"30"})
+    public long mbPerSecond;
+
+    private DownsyncS3Service s3Service;
+
+    private byte[][] ndjsonRows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ReferralManagementConfiguration config = ReferralManagementConfiguration.builder()
+                .s3Bucket("downsync-benchmark")
+                .s3UploadPartSizeMb(partSizeMb)
+                .s3UploadConcurrency(concurrency)
+                .s3UploadPoolSize(16)
+                .build();
+        s3Service = new DownsyncS3Service();
+        ReflectionTestUtils.setField(s3Service, "s3Client", new InMemoryS3Client(partLatencyMs, mbPerSecond * 1024 * 1024));
+        ReflectionTestUtils.setField(s3Service, "config", config);
+        s3Service.init();
+
+        Random random = new Random(42);
+        ndjsonRows = new byte[DISTINCT_ROWS][];
+        for (int i = 0; i < DISTINCT_ROWS; i++) {
+            ndjsonRows[i] = ("{\"_t\":\"INDIVIDUAL\",\"id\":\"" + new UUID(random.nextLong(), random.nextLong())
+                    + "\",\"clientReferenceId\":\"" + new UUID(random.nextLong(), random.nextLong())
+                    + "\",\"tenantId\":\"pg.citya\",\"givenName\":\"Name" + random.nextInt(1_000_000)
+                    + "\",\"mobileNumber\":\"" + (7_000_000_000L + random.nextInt(999_999_999))
+                    + "\",\"isDeleted\":false,\"auditDetails\":{\"createdBy\":\"" + new UUID(random.nextLong(), random.nextLong())
+                    + "\",\"createdTime\":" + (1_700_000_000_000L + random.nextInt()) + "}}\n")
+                    .getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        s3Service.shutdown();
+    }
+
+    @Benchmark
+    public Object generateLocalityFile() {
+        return s3Service.streamToS3("pg.citya/LOC_1/individuals.ndjson.gz", gzip -> {
+            for (int i = 0; i < rows; i++) {
+                gzip.write(ndjsonRows[i % DISTINCT_ROWS]);
+            }
+            return rows;
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(DownsyncS3UploadBenchmark.class.getSimpleName()).build()).run();
+    }
+}
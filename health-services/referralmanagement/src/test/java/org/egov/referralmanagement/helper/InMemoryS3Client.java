@@ -0,0 +1,170 @@
+package org.egov.referralmanagement.helper;
+
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectResponse;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsRequest;
+import software.amazon.awssdk.services.s3.model.ListMultipartUploadsResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Multipart-only S3 stand-in keeping objects in memory. Every part upload can be slowed down by a fixed
+ * latency plus a transfer time at the given bandwidth, to model the round trip to a real bucket.
+ */
+public class InMemoryS3Client implements S3Client {
+
+    private final long partLatencyMs;
+
+    private final long bytesPerSecond;
+
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+
+    private final AtomicInteger concurrentParts = new AtomicInteger();
+
+    private final AtomicInteger maxConcurrentParts = new AtomicInteger();
+
+    private volatile int failPartNumber = -1;
+
+    public InMemoryS3Client() {
+        this(0, 0);
+    }
+
+    public InMemoryS3Client(long partLatencyMs, long bytesPerSecond) {
+        this.partLatencyMs = partLatencyMs;
+        this.bytesPerSecond = bytesPerSecond;
+    }
+
+    /** Makes every upload of the given part number fail. */
+    public void failPart(int partNumber) {
+        this.failPartNumber = partNumber;
+    }
+
+    public byte[] getObject(String key) {
+        return objects.get(key);
+    }
+
+    public int getOpenUploadCount() {
+        return uploads.size();
+    }
+
+    public int getMaxConcurrentParts() {
+        return maxConcurrentParts.get();
+    }
+
+    @Override
+    public ListMultipartUploadsResponse listMultipartUploads(ListMultipartUploadsRequest request) {
+        return ListMultipartUploadsResponse.builder().build();
+    }
+
+    @Override
+    public CreateMultipartUploadResponse createMultipartUpload(CreateMultipartUploadRequest request) {
+        String uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new ConcurrentHashMap<>());
+        return CreateMultipartUploadResponse.builder().uploadId(uploadId).key(request.key()).build();
+    }
+
+    @Override
+    public UploadPartResponse uploadPart(UploadPartRequest request, RequestBody body) {
+        int concurrent = concurrentParts.incrementAndGet();
+        maxConcurrentParts.accumulateAndGet(concurrent, Math::max);
+        try {
+            byte[] data = readAll(body);
+            simulateTransfer(data.length);
+            if (request.partNumber() == failPartNumber) {
+                throw new IllegalStateException("Simulated failure of part " + failPartNumber);
+            }
+            Map<Integer, byte[]> parts = uploads.get(request.uploadId());
+            if (parts == null) {
+                throw new IllegalStateException("Unknown upload " + request.uploadId());
+            }
+            parts.put(request.partNumber(), data);
+            return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+        } finally {
+            concurrentParts.decrementAndGet();
+        }
+    }
+
+    @Override
+    public CompleteMultipartUploadResponse completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        Map<Integer, byte[]> parts = uploads.remove(request.uploadId());
+        ByteArrayOutputStream object = new ByteArrayOutputStream();
+        for (CompletedPart part : request.multipartUpload().parts()) {
+            object.writeBytes(parts.get(part.partNumber()));
+        }
+        objects.put(request.key(), object.toByteArray());
+        return CompleteMultipartUploadResponse.builder().key(request.key()).build();
+    }
+
+    @Override
+    public AbortMultipartUploadResponse abortMultipartUpload(AbortMultipartUploadRequest request) {
+        uploads.remove(request.uploadId());
+        return AbortMultipartUploadResponse.builder().build();
+    }
+
+    @Override
+    public DeleteObjectResponse deleteObject(DeleteObjectRequest request) {
+        objects.remove(request.key());
+        return DeleteObjectResponse.builder().build();
+    }
+
+    @Override
+    public HeadObjectResponse headObject(HeadObjectRequest request) {
+        byte[] object = objects.get(request.key());
+        if (object == null) {
+            throw NoSuchKeyException.builder().message("No object " + request.key()).build();
+        }
+        return HeadObjectResponse.builder().contentLength((long) object.length).build();
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static byte[] readAll(RequestBody body) {
+        try (InputStream in = body.contentStreamProvider().newStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void simulateTransfer(int length) {
+        long millis = partLatencyMs + (bytesPerSecond > 0 ? length * 1000L / bytesPerSecond : 0);
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.egov.referralmanagement.service;
+
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("DownsyncBatchPipeline — read, transform and ordered write stages")
+class DownsyncBatchPipelineTest {
+
+    private ExecutorService transformPool;
+
+    private ExecutorService writerPool;
+
+    @BeforeEach
+    void setUp() {
+        transformPool = Executors.newFixedThreadPool(4);
+        writerPool = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transformPool.shutdown();
+        writerPool.shutdown();
+    }
+
+    @Test
+    @DisplayName("batches are written in submission order while transforms overlap")
+    void batchesWrittenInOrder() throws IOException {
+        AtomicInteger transforming = new AtomicInteger();
+        AtomicInteger maxTransforming = new AtomicInteger();
+        List<Integer> written = Collections.synchronizedList(new ArrayList<>());
+        DownsyncBatchPipeline<Integer> pipeline = new DownsyncBatchPipeline<>(transformPool, writerPool, 3, 1,
+                batch -> {
+                    maxTransforming.accumulateAndGet(transforming.incrementAndGet(), Math::max);
+                    sleep(ThreadLocalRandom.current().nextInt(5, 30));
+                    transforming.decrementAndGet();
+                    return batch * 10;
+                },
+                written::add);
+
+        for (int i = 0; i < 20; i++) {
+            pipeline.submit(i);
+        }
+        pipeline.finish();
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            expected.add(i * 10);
+        }
+        assertEquals(expected, written);
+        assertTrue(maxTransforming.get() > 1);
+        assertTrue(maxTransforming.get() <= 3);
+    }
+
+    @Test
+    @DisplayName("a slow writer blocks the reader once the pipeline is full")
+    void slowWriterBlocksReader() throws IOException {
+        AtomicInteger transformed = new AtomicInteger();
+        AtomicInteger written = new AtomicInteger();
+        AtomicInteger maxAhead = new AtomicInteger();
+        DownsyncBatchPipeline<Integer> pipeline = new DownsyncBatchPipeline<>(transformPool, writerPool, 2, 1,
+                batch -> {
+                    transformed.incrementAndGet();
+                    return batch;
+                },
+                batch -> {
+                    sleep(20);
+                    written.incrementAndGet();
+                });
+
+        for (int i = 0; i < 10; i++) {
+            pipeline.submit(i);
+            maxAhead.accumulateAndGet(transformed.get() - written.get(), Math::max);
+        }
+        pipeline.finish();
+
+        assertEquals(10, written.get());
+        // at most 2 transforming, 1 waiting and 1 being written
+        assertTrue(maxAhead.get() <= 4);
+    }
+
+    @Test
+    @DisplayName("a failed transform is rethrown to the reader with its original type")
+    void failedTransformRethrown() {
+        DownsyncBatchPipeline<Integer> pipeline = new DownsyncBatchPipeline<>(transformPool, writerPool, 2, 1,
+                batch -> {
+                    if (batch == 3) {
+                        throw new CustomException("ENC_SERVICE_DECRYPT_FAILED", "decrypt failed");
+                    }
+                    return batch;
+                },
+                batch -> { });
+
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            for (int i = 0; i < 100; i++) {
+                pipeline.submit(i);
+            }
+            pipeline.finish();
+        });
+        assertEquals("ENC_SERVICE_DECRYPT_FAILED", exception.getCode());
+        pipeline.abort();
+    }
+
+    @Test
+    @DisplayName("a failed write is rethrown as IOException")
+    void failedWriteRethrown() {
+        DownsyncBatchPipeline<Integer> pipeline = new DownsyncBatchPipeline<>(transformPool, writerPool, 2, 1,
+                batch -> batch,
+                batch -> {
+                    throw new IOException("disk full");
+                });
+
+        assertThrows(IOException.class, () -> {
+            for (int i = 0; i < 100; i++) {
+                pipeline.submit(i);
+            }
+            pipeline.finish();
+        });
+        pipeline.abort();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.egov.referralmanagement.service;
+
+import org.egov.common.exception.InvalidTenantIdException;
+import org.egov.referralmanagement.config.ReferralManagementConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("DownsyncExecutor — dependency ordered downsync steps")
+class DownsyncExecutorTest {
+
+    private DownsyncExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        ReferralManagementConfiguration configs = ReferralManagementConfiguration.builder()
+                .downsyncParallelEnabled(true)
+                .downsyncStepPoolSize(4)
+                .downsyncBatchPoolSize(4)
+                .downsyncBatchParallelism(2)
+                .build();
+        executor = new DownsyncExecutor(configs);
+        executor.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("independent steps run concurrently and dependents see their results")
+    void independentStepsRunConcurrently() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        DownsyncExecutor.Graph graph = executor.newGraph();
+
+        CompletableFuture<String> first = graph.step("first", () -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            return "a";
+        });
+        CompletableFuture<String> second = graph.step("second", () -> {
+            bothStarted.countDown();
+            assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+            return "b";
+        });
+        CompletableFuture<String> dependent = graph.step("dependent", () -> first.join() + second.join(), first, second);
+
+        graph.await(dependent);
+
+        assertEquals("ab", dependent.join());
+        assertEquals(3, graph.getTimings().size());
+    }
+
+    @Test
+    @DisplayName("a failing step rethrows its original exception")
+    void failingStepRethrowsOriginalException() {
+        DownsyncExecutor.Graph graph = executor.newGraph();
+
+        CompletableFuture<Void> failing = graph.step("failing", () -> {
+            throw new InvalidTenantIdException("invalid tenant");
+        });
+        CompletableFuture<Void> dependent = graph.step("dependent", () -> null, failing);
+
+        assertThrows(InvalidTenantIdException.class, () -> graph.await(dependent));
+    }
+
+    @Test
+    @DisplayName("batches are fetched concurrently and returned in batch order")
+    void batchesReturnedInOrder() {
+        List<List<String>> batches = Arrays.asList(
+                Arrays.asList("1", "2"), Collections.singletonList("3"), Arrays.asList("4", "5"));
+
+        List<String> results = executor.fetchBatches(batches, batch -> batch);
+
+        assertEquals(Arrays.asList("1", "2", "3", "4", "5"), results);
+    }
+}
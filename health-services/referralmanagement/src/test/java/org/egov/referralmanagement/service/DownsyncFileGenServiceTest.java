@@ -0,0 +1,214 @@
+package org.egov.referralmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.egov.referralmanagement.config.ReferralManagementConfiguration;
+import org.egov.referralmanagement.repository.DownsyncGenerationJobRepository;
+import org.egov.referralmanagement.web.models.DownsyncLocalityFile;
+import org.egov.referralmanagement.web.models.LocalityDownsyncCriteria;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DownsyncFileGenService — delta file planning and individual rows")
+class DownsyncFileGenServiceTest {
+
+    private static final String TENANT_ID = "pg.citya";
+
+    private static final String LOCALITY = "LOC_1";
+
+    private static final String CIPHER = "9f2c4e1a-7b3d-4c8e-a1f0-2d6b9e3c5a7f|bXktc2VjcmV0LWlk";
+
+    @Spy
+    private ReferralManagementConfiguration config = ReferralManagementConfiguration.builder()
+            .downsyncDeltaEnabled(true)
+            .downsyncDeltaMaxCount(2)
+            .downsyncDeltaMaxBaseAgeHours(24)
+            .presignedUrlExpirySecs(3600)
+            .build();
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private DownsyncGenerationJobRepository jobRepository;
+
+    @Mock
+    private DownsyncS3Service s3Service;
+
+    @InjectMocks
+    private DownsyncFileGenService fileGenService;
+
+    @Test
+    @DisplayName("delta starts at the watermark of the latest generation")
+    void deltaStartsAtLatestGeneration() {
+        long now = System.currentTimeMillis();
+        when(jobRepository.findLatestFileChain(TENANT_ID, null, LOCALITY, "HH_MEMBERS"))
+                .thenReturn(chain(file("BASE", now - 6_000, now - 5_000, now - 4_000),
+                        file("DELTA", now - 2_000, now - 2_000, now - 1_000)));
+
+        assertEquals(now - 2_000, fileGenService.getDeltaSinceTime(criteria(), "HH_MEMBERS"));
+    }
+
+    @Test
+    @DisplayName("first delta after a base starts at the view refresh, not at the base start")
+    void firstDeltaStartsAtViewRefresh() {
+        long now = System.currentTimeMillis();
+        when(jobRepository.findLatestFileChain(TENANT_ID, null, LOCALITY, "INDIVIDUALS"))
+                .thenReturn(chain(file("BASE", now - 9_000, now - 5_000, now - 4_000)));
+
+        assertEquals(now - 9_000, fileGenService.getDeltaSinceTime(criteria(), "INDIVIDUALS"));
+    }
+
+    @Test
+    @DisplayName("base without a watermark is rebuilt")
+    void baseWithoutWatermarkRebuilt() {
+        long now = System.currentTimeMillis();
+        when(jobRepository.findLatestFileChain(TENANT_ID, null, LOCALITY, "HH_MEMBERS"))
+                .thenReturn(chain(file("BASE", null, now - 5_000, now - 4_000)));
+
+        assertNull(fileGenService.getDeltaSinceTime(criteria(), "HH_MEMBERS"));
+    }
+
+    @Test
+    @DisplayName("base is regenerated once it has the maximum number of deltas")
+    void baseCompactedAtMaxDeltaCount() {
+        long now = System.currentTimeMillis();
+        when(jobRepository.findLatestFileChain(TENANT_ID, null, LOCALITY, "INDIVIDUALS"))
+                .thenReturn(chain(file("BASE", now - 6_000, now - 5_000, now - 4_000),
+                        file("DELTA", now - 3_000, now - 3_000, now - 2_500),
+                        file("DELTA", now - 2_000, now - 2_000, now - 1_000)));
+
+        assertNull(fileGenService.getDeltaSinceTime(criteria(), "INDIVIDUALS"));
+    }
+
+    @Test
+    @DisplayName("base is regenerated once it is older than the maximum base age")
+    void baseCompactedAtMaxAge() {
+        long dayAgo = System.currentTimeMillis() - 25 * 3_600_000L;
+        when(jobRepository.findLatestFileChain(TENANT_ID, null, LOCALITY, "HH_MEMBERS"))
+                .thenReturn(chain(file("BASE", dayAgo - 2_000, dayAgo - 1_000, dayAgo)));
+
+        assertNull(fileGenService.getDeltaSinceTime(criteria(), "HH_MEMBERS"));
+    }
+
+    @Test
+    @DisplayName("project files and first generations are always full files")
+    void noDeltaWithoutBaseOrForProjectFiles() {
+        when(jobRepository.findLatestFileChain(TENANT_ID, null, LOCALITY, "HH_MEMBERS")).thenReturn(new ArrayList<>());
+
+        assertNull(fileGenService.getDeltaSinceTime(criteria(), "HH_MEMBERS"));
+        assertNull(fileGenService.getDeltaSinceTime(criteria(), "TASKS"));
+    }
+
+    @Test
+    @DisplayName("delta key is stored next to its base file")
+    void deltaKeyNextToBase() {
+        assertEquals("pg.citya/LOC_1/hh_members.delta.1700.ndjson.gz",
+                DownsyncS3Service.deltaKey("pg.citya/LOC_1/hh_members.ndjson.gz", 1700L));
+    }
+
+    @Test
+    @DisplayName("base key is versioned, so a new base does not overwrite the served one")
+    void baseKeyVersioned() {
+        assertEquals("pg.citya/LOC_1/hh_members.base.1700.ndjson.gz",
+                DownsyncS3Service.baseKey("pg.citya/LOC_1/hh_members.ndjson.gz", 1700L));
+    }
+
+    @Test
+    @DisplayName("superseded files are deleted once links to them have expired, and marked")
+    void supersededFilesDeletedAfterLinkExpiry() {
+        long before = System.currentTimeMillis();
+        when(jobRepository.findSupersededRegistryFiles(eq(TENANT_ID), anyLong())).thenReturn(List.of(
+                superseded("f1", "pg.citya/LOC_1/hh_members.base.100.ndjson.gz"),
+                superseded("f2", "pg.citya/LOC_1/hh_members.delta.200.ndjson.gz")));
+
+        fileGenService.deleteSupersededFiles(TENANT_ID);
+
+        ArgumentCaptor<Long> cutoff = ArgumentCaptor.forClass(Long.class);
+        verify(jobRepository).findSupersededRegistryFiles(eq(TENANT_ID), cutoff.capture());
+        assertTrue(cutoff.getValue() <= System.currentTimeMillis() - 3_600_000L);
+        assertTrue(cutoff.getValue() >= before - 3_600_000L);
+        verify(s3Service).deleteObjects(List.of("pg.citya/LOC_1/hh_members.base.100.ndjson.gz",
+                "pg.citya/LOC_1/hh_members.delta.200.ndjson.gz"));
+        verify(jobRepository).markFilesSuperseded(TENANT_ID, List.of("f1", "f2"));
+    }
+
+    @Test
+    @DisplayName("nothing is deleted when no file is superseded")
+    void nothingSuperseded() {
+        when(jobRepository.findSupersededRegistryFiles(eq(TENANT_ID), anyLong())).thenReturn(List.of());
+
+        fileGenService.deleteSupersededFiles(TENANT_ID);
+
+        verify(s3Service, never()).deleteObjects(any());
+        verify(jobRepository, never()).markFilesSuperseded(any(), any());
+    }
+
+    @Test
+    @DisplayName("plain identifiers are not detected as encrypted")
+    void plainIdentifiersNotEncrypted() {
+        assertFalse(fileGenService.hasEncryptedIdentifier(null));
+        assertFalse(fileGenService.hasEncryptedIdentifier("[]"));
+        assertFalse(fileGenService.hasEncryptedIdentifier(
+                "[{\"identifierType\":\"UNIQUE_BENEFICIARY_ID\",\"identifierId\":\"UBI-0001\"}]"));
+        // a '|' outside identifierId does not make the row encrypted
+        assertFalse(fileGenService.hasEncryptedIdentifier(
+                "[{\"identifierType\":\"" + CIPHER + "\",\"identifierId\":\"UBI|0001\"}]"));
+    }
+
+    @Test
+    @DisplayName("an encrypted identifierId anywhere in the array is detected")
+    void encryptedIdentifierDetected() {
+        assertTrue(fileGenService.hasEncryptedIdentifier(
+                "[{\"identifierType\":\"UNIQUE_BENEFICIARY_ID\",\"identifierId\":\"UBI-0001\"},"
+                        + "{\"identifierType\":\"AADHAAR\",\"details\":{\"verified\":true},\"identifierId\":\"" + CIPHER + "\"}]"));
+    }
+
+    @Test
+    @DisplayName("malformed identifiers fail with IDENTIFIERS_JSON_PARSE_ERROR")
+    void malformedIdentifiersRejected() {
+        CustomException exception = assertThrows(CustomException.class,
+                () -> fileGenService.hasEncryptedIdentifier("[{\"identifierId\" \"" + CIPHER + "\"}]"));
+
+        assertEquals("IDENTIFIERS_JSON_PARSE_ERROR", exception.getCode());
+    }
+
+    private static LocalityDownsyncCriteria criteria() {
+        return LocalityDownsyncCriteria.builder().tenantId(TENANT_ID).locality(LOCALITY).build();
+    }
+
+    private static List<DownsyncLocalityFile> chain(DownsyncLocalityFile... files) {
+        return List.of(files);
+    }
+
+    private static DownsyncLocalityFile superseded(String id, String s3Key) {
+        return DownsyncLocalityFile.builder().id(id).s3Key(s3Key).build();
+    }
+
+    private static DownsyncLocalityFile file(String fileKind, Long watermark, long startTime, long endTime) {
+        return DownsyncLocalityFile.builder().fileKind(fileKind).watermark(watermark)
+                .startTime(startTime).endTime(endTime).build();
+    }
+}
@@ -0,0 +1,139 @@
+package org.egov.referralmanagement.service;
+
+import org.egov.referralmanagement.config.ReferralManagementConfiguration;
+import org.egov.referralmanagement.helper.InMemoryS3Client;
+import org.egov.referralmanagement.service.DownsyncS3Service.S3Result;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("DownsyncS3Service — parallel multipart upload")
+class DownsyncS3ServiceTest {
+
+    private static final String KEY = "pg.citya/LOC_1/hh_members.ndjson.gz";
+
+    private DownsyncS3Service s3Service;
+
+    private InMemoryS3Client s3Client;
+
+    @AfterEach
+    void tearDown() {
+        s3Service.shutdown();
+    }
+
+    @Test
+    @DisplayName("parts uploaded concurrently are reassembled in order")
+    void partsReassembledInOrder() throws IOException {
+        setUp(new InMemoryS3Client(300, 0));
+        byte[] content = randomBytes(23 * 1024 * 1024);
+
+        S3Result result = s3Service.streamToS3(KEY, gzip -> {
+            gzip.write(content);
+            return 1;
+        });
+
+        assertEquals(1, result.rowCount());
+        assertEquals(s3Client.getObject(KEY).length, result.fileSize());
+        assertArrayEquals(content, gunzip(s3Client.getObject(KEY)));
+        assertTrue(s3Client.getMaxConcurrentParts() > 1);
+        assertTrue(s3Client.getMaxConcurrentParts() <= 2);
+    }
+
+    @Test
+    @DisplayName("an empty file aborts the upload and stores nothing")
+    void emptyFileAbortsUpload() {
+        setUp(new InMemoryS3Client());
+
+        S3Result result = s3Service.streamToS3(KEY, gzip -> {
+            gzip.write("{}".getBytes(StandardCharsets.UTF_8));
+            return 0;
+        });
+
+        assertEquals(0, result.rowCount());
+        assertNull(result.fileSize());
+        assertNull(s3Client.getObject(KEY));
+        assertEquals(0, s3Client.getOpenUploadCount());
+    }
+
+    @Test
+    @DisplayName("a failed part fails the file and aborts the upload")
+    void failedPartAbortsUpload() {
+        setUp(new InMemoryS3Client());
+        s3Client.failPart(2);
+        byte[] content = randomBytes(12 * 1024 * 1024);
+
+        assertThrows(RuntimeException.class, () -> s3Service.streamToS3(KEY, gzip -> {
+            gzip.write(content);
+            return 1;
+        }));
+
+        assertNull(s3Client.getObject(KEY));
+        assertEquals(0, s3Client.getOpenUploadCount());
+    }
+
+    @Test
+    @DisplayName("part buffers are bounded and a full pool blocks until one is returned")
+    void partBuffersBounded() throws Exception {
+        setUp(new InMemoryS3Client());
+        DownsyncS3Service.PartBufferPool pool = new DownsyncS3Service.PartBufferPool(1024, 2);
+        ByteBuffer first = pool.acquire();
+        pool.acquire();
+
+        CompletableFuture<ByteBuffer> third = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pool.acquire();
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(200);
+        assertFalse(third.isDone());
+
+        pool.release(first);
+        assertSame(first, third.get(5, TimeUnit.SECONDS));
+    }
+
+    private void setUp(InMemoryS3Client client) {
+        s3Client = client;
+        ReferralManagementConfiguration config = ReferralManagementConfiguration.builder()
+                .s3Bucket("downsynctest")
+                .s3UploadPartSizeMb(5)
+                .s3UploadConcurrency(2)
+                .s3UploadPoolSize(4)
+                .build();
+        s3Service = new DownsyncS3Service();
+        ReflectionTestUtils.setField(s3Service, "s3Client", s3Client);
+        ReflectionTestUtils.setField(s3Service, "config", config);
+        s3Service.init();
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+        new Random(42).nextBytes(bytes);
+        return bytes;
+    }
+
+    private static byte[] gunzip(byte[] gzipped) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            return in.readAllBytes();
+        }
+    }
+}
@@ -121,6 +121,13 @@ public class Configuration {
 	@Value("${batch.size}")
 	private Integer batchSize;
 
+	//plan estimate calculation
+	@Value("${plan.estimate.calculation.parallelism}")
+	private Integer calculationParallelism;
+
+	@Value("${plan.estimate.calculation.chunk.size}")
+	private Integer calculationChunkSize;
+
 	//census additional field configs
 	@Value("${census.additional.field.override.keys}")
 	public List<String> censusAdditionalFieldOverrideKeys;
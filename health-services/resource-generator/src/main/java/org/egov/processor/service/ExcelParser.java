@@ -246,85 +246,108 @@ public class ExcelParser implements FileParser {
 
 	/**
 	 * Processes census records in batches based on the given plan configuration request.
-	 * The method retrieves census records in chunks of a configured batch size and processes them iteratively.
+	 * The method retrieves census records in chunks of a configured batch size and processes them iteratively,
+	 * gathering batches until they fill every calculation thread with a chunk.
 	 *
 	 * @param planConfigurationRequest              The request containing plan configuration details.
 	 * @param boundaryCodeToCensusAdditionalDetails A map to store additional census details indexed by boundary code.
 	 */
 	public void batchProcessCensusRecords(PlanConfigurationRequest planConfigurationRequest, Map<String, Object> boundaryCodeToCensusAdditionalDetails) {
 		int offset = 0;
-		List<Census> censusRecords;
 
-		do {
-			// Fetch census records in batches
-			censusRecords = enrichmentUtil.getCensusRecordsInBatches(planConfigurationRequest, config.getBatchSize(), offset);
+		// Fetch the first batch of census records, nothing to process if there are none
+		List<Census> censusRecords = enrichmentUtil.getCensusRecordsInBatches(planConfigurationRequest, config.getBatchSize(), offset);
+		if(CollectionUtils.isEmpty(censusRecords)) {
+			return;
+		}
 
-			// Break the loop if no census records found
-			if(CollectionUtils.isEmpty(censusRecords)) {
-				break;
-			}
+		PlanConfiguration planConfiguration = planConfigurationRequest.getPlanConfiguration();
+
+		// Fetch mixed strategy logic from the MDMS and fixed post details once for all batches.
+		List<MixedStrategyOperationLogic> mixedStrategyOperationLogicList = mixedStrategyUtil
+				.fetchMixedStrategyOperationLogicFromMDMS(planConfigurationRequest);
+		Map<String, Boolean> boundaryCodeToFixedPostMap = fetchFixedPostDetails(planConfigurationRequest);
+		Map<Boolean, List<String>> categoriesNotAllowedByFixedPost = getCategoriesNotAllowedByFixedPost(planConfiguration, mixedStrategyOperationLogicList);
 
-			// Process the retrieved batch of census records
-			processCensusRecordsForPlan(censusRecords, boundaryCodeToCensusAdditionalDetails, planConfigurationRequest);
-			log.info("Processed {} census records", censusRecords.size());
+		// Compile the operations and assumptions once; census features are keyed by the input names.
+		CompiledPlanCalculation calculation = calculationUtil.compile(planConfiguration, null);
 
-			// Increment offset for next batch
+		// Batches are smaller than a calculation chunk, so they are gathered until every calculation thread gets one.
+		int runSize = calculationUtil.getParallelRunSize();
+		List<Census> pendingRecords = new ArrayList<>();
+		do {
+			pendingRecords.addAll(censusRecords);
+
+			// Increment offset and fetch the next batch
 			offset += config.getBatchSize();
+			censusRecords = enrichmentUtil.getCensusRecordsInBatches(planConfigurationRequest, config.getBatchSize(), offset);
+
+			// Process the gathered census records once there are enough of them or none are left
+			if (pendingRecords.size() >= runSize || CollectionUtils.isEmpty(censusRecords)) {
+				processCensusRecordsForPlan(pendingRecords, boundaryCodeToCensusAdditionalDetails, planConfigurationRequest,
+						calculation, boundaryCodeToFixedPostMap, categoriesNotAllowedByFixedPost);
+				log.info("Processed {} census records", pendingRecords.size());
+				pendingRecords = new ArrayList<>();
+			}
 		} while (!CollectionUtils.isEmpty(censusRecords));
 	}
 
 	/**
 	 * Executes processing of census records by performing calculations, data enrichment, and mixed strategy evaluations.
+	 * The records are calculated together, in parallel chunks when there are enough of them, before their plans
+	 * are created in order.
 	 *
 	 * @param censusRecords                         The list of census records to be processed.
 	 * @param boundaryCodeToCensusAdditionalDetails A map to store census additional details, indexed by boundary code.
 	 * @param planConfigurationRequest              The request object containing the plan configuration.
+	 * @param calculation                           The compiled operations of the plan configuration.
+	 * @param boundaryCodeToFixedPostMap            A map of boundary code to whether its facility is fixed post.
+	 * @param categoriesNotAllowedByFixedPost       The categories not allowed for fixed post and other boundaries.
 	 */
-	private void processCensusRecordsForPlan(List<Census> censusRecords, Map<String, Object> boundaryCodeToCensusAdditionalDetails, PlanConfigurationRequest planConfigurationRequest) {
+	private void processCensusRecordsForPlan(List<Census> censusRecords, Map<String, Object> boundaryCodeToCensusAdditionalDetails,
+											 PlanConfigurationRequest planConfigurationRequest, CompiledPlanCalculation calculation,
+											 Map<String, Boolean> boundaryCodeToFixedPostMap, Map<Boolean, List<String>> categoriesNotAllowedByFixedPost) {
 
 		PlanConfiguration planConfiguration = planConfigurationRequest.getPlanConfiguration();
 
-		// Fetch mixed strategy logic from the MDMS.
-		List<MixedStrategyOperationLogic> mixedStrategyOperationLogicList = mixedStrategyUtil
-				.fetchMixedStrategyOperationLogicFromMDMS(planConfigurationRequest);
-
-		// Create a mapping of boundary codes to fixed post details.
-		Map<String, Boolean> boundaryCodeToFixedPostMap = fetchFixedPostDetails(planConfigurationRequest);
-
+		// Convert census data into structured JSON feature nodes and perform the calculations for all of them.
+		List<JsonNode> featureNodes = new ArrayList<>(censusRecords.size());
 		for (Census census : censusRecords) {
-			String boundaryCode = census.getBoundaryCode();
-
-			// Convert census data into a structured JSON feature node.
-			JsonNode featureNode = createFeatureNodeFromCensus(census);
-			Map<String, BigDecimal> resultMap = new HashMap<>();
+			featureNodes.add(createFeatureNodeFromCensus(census));
+		}
+		List<BigDecimal[]> results = calculationUtil.calculate(calculation, featureNodes);
 
-			// Perform calculations for each operation defined in the plan configuration.
-			performCalculationsForOperations(planConfiguration, featureNode, resultMap);
+		for (int i = 0; i < censusRecords.size(); i++) {
+			Census census = censusRecords.get(i);
+			String boundaryCode = census.getBoundaryCode();
+			Map<String, BigDecimal> resultMap = calculation.toResultMap(results.get(i));
 
 			// Store census additional details mapped to their respective boundary codes.
 			boundaryCodeToCensusAdditionalDetails.put(boundaryCode, census.getAdditionalDetails());
 
 			// Process result map using mixed strategy logic
-			mixedStrategyUtil.processResultMap(resultMap, planConfiguration.getOperations(), mixedStrategyUtil.getCategoriesNotAllowed(
-							boundaryCodeToFixedPostMap.get(boundaryCode), planConfiguration, mixedStrategyOperationLogicList));
+			boolean isFixedPost = boundaryCodeToFixedPostMap.get(boundaryCode);
+			mixedStrategyUtil.processResultMap(resultMap, planConfiguration.getOperations(), categoriesNotAllowedByFixedPost.get(isFixedPost));
 
 			// Trigger plan estimate create based on the estimates calculated.
-			planUtil.create(planConfigurationRequest, featureNode, resultMap, boundaryCodeToCensusAdditionalDetails);
+			planUtil.create(planConfigurationRequest, featureNodes.get(i), resultMap, boundaryCodeToCensusAdditionalDetails);
 			log.info("Successfully created plan for {} boundary", boundaryCode);
 		}
 	}
 
-	public void performCalculationsForOperations(PlanConfiguration planConfiguration, JsonNode featureNode, Map<String, BigDecimal> resultMap) {
-
-		// Convert assumptions into a map for efficient retrieval.
-		Map<String, BigDecimal> assumptionValueMap = calculationUtil.convertAssumptionsToMap(planConfiguration.getAssumptions());
-
-		// Perform calculations for each operation defined in the plan configuration.
-		for (Operation operation : planConfiguration.getOperations()) {
-			BigDecimal result = calculationUtil.calculateResult(operation, featureNode, assumptionValueMap, resultMap);
-			String output = operation.getOutput();
-			resultMap.put(output, result);
-		}
+	/**
+	 * Resolves the categories not allowed to have output values for fixed post and for other boundaries, once per run
+	 * instead of once per boundary.
+	 *
+	 * @param planConfiguration The plan configuration containing the registration and distribution process.
+	 * @param logicList         The mixed strategy logic fetched from MDMS.
+	 * @return A map of whether the boundary is fixed post to its categories not allowed.
+	 */
+	private Map<Boolean, List<String>> getCategoriesNotAllowedByFixedPost(PlanConfiguration planConfiguration, List<MixedStrategyOperationLogic> logicList) {
+		Map<Boolean, List<String>> categoriesNotAllowedByFixedPost = new HashMap<>();
+		categoriesNotAllowedByFixedPost.put(Boolean.TRUE, mixedStrategyUtil.getCategoriesNotAllowed(true, planConfiguration, logicList));
+		categoriesNotAllowedByFixedPost.put(Boolean.FALSE, mixedStrategyUtil.getCategoriesNotAllowed(false, planConfiguration, logicList));
+		return categoriesNotAllowedByFixedPost;
 	}
 
 	/**
@@ -473,8 +496,9 @@ public class ExcelParser implements FileParser {
 
 	/**
 	 * Performs row-level calculations and processing on each row in the sheet.
-	 * Validates rows, maps resource values, converts assumptions, creates feature nodes,
+	 * Validates rows, maps resource values, compiles the operations and assumptions, creates feature nodes,
 	 * calculates operations results, updates campaign boundaries, and creates plan entities.
+	 * All rows are validated and calculated, in parallel chunks for large sheets, before any plan is created.
 	 *
 	 * @param planConfigurationRequest The request containing configuration details including tenant ID.
 	 * @param sheet The sheet from which rows are processed.
@@ -491,8 +515,7 @@ public class ExcelParser implements FileParser {
 				.filter(rm -> rm.getFilestoreId().equals(fileStoreId))
 				.filter(rm -> rm.getActive().equals(Boolean.TRUE))
 				.collect(Collectors.toMap(ResourceMapping::getMappedTo, ResourceMapping::getMappedFrom));
-		Map<String, BigDecimal> assumptionValueMap = calculationUtil
-				.convertAssumptionsToMap(planConfig.getAssumptions());
+		CompiledPlanCalculation calculation = calculationUtil.compile(planConfig, mappedValues);
 		Map<String, Integer> mapOfColumnNameAndIndex = parsingUtil.getAttributeNameIndexFromExcel(sheet);
 
 		Integer indexOfBoundaryCode = parsingUtil.getIndexOfBoundaryCode(0,
@@ -500,7 +523,12 @@ public class ExcelParser implements FileParser {
 
 		List<MixedStrategyOperationLogic> mixedStrategyOperationLogicList = mixedStrategyUtil
 				.fetchMixedStrategyOperationLogicFromMDMS(planConfigurationRequest);
+		Map<Boolean, List<String>> categoriesNotAllowedByFixedPost = skipFixedPost
+				? Collections.emptyMap()
+				: getCategoriesNotAllowedByFixedPost(planConfig, mixedStrategyOperationLogicList);
 
+		List<Row> rows = new ArrayList<>();
+		List<JsonNode> features = new ArrayList<>();
 		for (Row row : sheet) {
 			if(parsingUtil.isRowEmpty(row))
 				continue;
@@ -510,60 +538,57 @@ public class ExcelParser implements FileParser {
 				continue;
 			}
 
-			Map<String, BigDecimal> resultMap = new HashMap<>();
 			validateRows(indexOfBoundaryCode, row, firstRow, attributeNameVsDataTypeMap, mappedValues, mapOfColumnNameAndIndex,
 					planConfigurationRequest, boundaryCodeList, sheet);
-			JsonNode feature = createFeatureNodeFromRow(row, mapOfColumnNameAndIndex);
-			performCalculationsOnOperations(sheet, planConfig, row, resultMap, mappedValues,
-					assumptionValueMap, feature);
+			rows.add(row);
+			features.add(createFeatureNodeFromRow(row, mapOfColumnNameAndIndex));
+		}
+
+		List<BigDecimal[]> results = calculationUtil.calculate(calculation, features);
+
+		for (int i = 0; i < rows.size(); i++) {
+			Row row = rows.get(i);
+			BigDecimal[] values = results.get(i);
+			writeCalculationResults(sheet, calculation, row, values);
+			Map<String, BigDecimal> resultMap = calculation.toResultMap(values);
 
 			// Get Boundary Code for the current row.
 			String boundaryCode = row.getCell(indexOfBoundaryCode).getStringCellValue();
 
 			// Skip processing the result map for mixed strategies if the flag is true
 			if (!skipFixedPost) {
+				boolean isFixedPost = boundaryCodeToFixedPostMap.get(boundaryCode);
 				mixedStrategyUtil.processResultMap(resultMap, planConfig.getOperations(),
-						mixedStrategyUtil.getCategoriesNotAllowed(boundaryCodeToFixedPostMap.get(boundaryCode),
-								planConfig, mixedStrategyOperationLogicList));
+						categoriesNotAllowedByFixedPost.get(isFixedPost));
 			}
 
 			if(!planConfigurationRequest.getPlanConfiguration().getStatus().equalsIgnoreCase(DRAFT_STATUS))
-				planUtil.create(planConfigurationRequest, feature, resultMap, boundaryCodeToCensusAdditionalDetails);
+				planUtil.create(planConfigurationRequest, features.get(i), resultMap, boundaryCodeToCensusAdditionalDetails);
 
 		}
 	}
 
 
 	/**
-	 * Performs calculations on operations for a specific row in the sheet.
-	 * Calculates results based on plan configuration operations, updates result map, and sets cell values.
+	 * Writes the results of the operations for a specific row in the sheet.
+	 * Appends one cell per operation after the last cell of the row, and the output headers for the first data row.
 	 *
-	 * @param sheet The sheet where calculations are performed.
-	 * @param planConfig The configuration details for the plan.
-	 * @param row The row in the sheet where calculations are applied.
-	 * @param resultMap The map to store calculation results.
-	 * @param mappedValues Mapping of values needed for calculations.
-	 * @param assumptionValueMap Map of assumption values used in calculations.
-	 * @param feature JSON node containing additional features or data for calculations.
+	 * @param sheet The sheet where the results are written.
+	 * @param calculation The compiled operations of the plan configuration.
+	 * @param row The row in the sheet where the results are written.
+	 * @param values The result of each operation for the row, in the configured order.
 	 */
-	private void performCalculationsOnOperations(Sheet sheet, PlanConfiguration planConfig, Row row,
-			Map<String, BigDecimal> resultMap, Map<String, String> mappedValues,
-			Map<String, BigDecimal> assumptionValueMap, JsonNode feature) {
+	private void writeCalculationResults(Sheet sheet, CompiledPlanCalculation calculation, Row row, BigDecimal[] values) {
 		int columnIndex = row.getLastCellNum(); // Get the index of the last cell in the row
 
-		for (Operation operation : planConfig.getOperations()) {
-			BigDecimal result = calculationUtil.calculateResult(operation, feature, mappedValues,
-					assumptionValueMap, resultMap);
-			String output = operation.getOutput();
-			resultMap.put(output, result);
-
+		for (int step = 0; step < values.length; step++) {
 			Cell cell = row.createCell(columnIndex++);
-			cell.setCellValue(result.doubleValue());
+			cell.setCellValue(values[step].doubleValue());
 			cell.getCellStyle().setLocked(false); // Ensure the new cell is editable
 
 			if (row.getRowNum() == 1) {
 				Cell headerCell = sheet.getRow(0).createCell(row.getLastCellNum() - 1);
-				headerCell.setCellValue(output);
+				headerCell.setCellValue(calculation.getOutput(step));
 				headerCell.getCellStyle().setLocked(true);
 			}
 		}
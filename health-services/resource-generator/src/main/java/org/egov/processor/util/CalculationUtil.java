@@ -2,6 +2,8 @@ package org.egov.processor.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import jakarta.annotation.PreDestroy;
+import org.egov.processor.config.Configuration;
 import org.egov.processor.config.ServiceConstants;
 import org.egov.processor.web.models.Assumption;
 import org.egov.processor.web.models.Operation;
@@ -13,10 +15,13 @@ import org.springframework.util.ObjectUtils;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.egov.processor.config.ServiceConstants.PROPERTIES;
 
@@ -25,8 +30,24 @@ public class CalculationUtil {
 	
 	private PlanUtil planUtil;
 
-    public CalculationUtil(PlanUtil planUtil) {
+	private Configuration config;
+
+	// Shared by all calculations, null when they run sequentially
+	private final ForkJoinPool calculationPool;
+
+    public CalculationUtil(PlanUtil planUtil, Configuration config) {
 		this.planUtil = planUtil;
+		this.config = config;
+		Integer parallelism = config.getCalculationParallelism();
+		this.calculationPool = parallelism != null && parallelism > 1 && config.getCalculationChunkSize() != null
+				? new ForkJoinPool(parallelism) : null;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (calculationPool != null) {
+			calculationPool.shutdown();
+		}
 	}
 
     /**
@@ -98,26 +119,39 @@ public class CalculationUtil {
 
         // Try to fetch the value from the feature (if it exists)
         if(ObjectUtils.isEmpty(inputValue)) {
-            if (feature.has(PROPERTIES) && feature.get(PROPERTIES).has(columnName)) {
-                try {
-                    String cellValue = String.valueOf(feature.get(PROPERTIES).get(columnName));
-                    BigDecimal value;
-                    if (cellValue.contains(ServiceConstants.SCIENTIFIC_NOTATION_INDICATOR)) {
-                        value = new BigDecimal(cellValue);
-                    } else {
-                        String cleanedValue = cellValue.replaceAll("[^\\d.\\-E]", "");
-                        value = new BigDecimal(cleanedValue);
-                    }
-                    return value;
-                } catch (NumberFormatException | NullPointerException e) {
-                    // Handle potential parsing issues
-                    throw new CustomException("INPUT_VALUE_NOT_FOUND", "Input value not found: " + input);                }
-            }
+            return getInputValueFromFeature(feature, input, columnName);
         }
 
         return inputValue;
     }
 
+    /**
+     * Parses the value of a column from the properties of the JSON node feature.
+     *
+     * @param feature    The JSON node feature.
+     * @param input      The input key, used in the error message.
+     * @param columnName The column to read.
+     * @return The parsed value, or null if the feature has no such column.
+     */
+    static BigDecimal getInputValueFromFeature(JsonNode feature, String input, String columnName) {
+        if (feature.has(PROPERTIES) && feature.get(PROPERTIES).has(columnName)) {
+            try {
+                String cellValue = String.valueOf(feature.get(PROPERTIES).get(columnName));
+                BigDecimal value;
+                if (cellValue.contains(ServiceConstants.SCIENTIFIC_NOTATION_INDICATOR)) {
+                    value = new BigDecimal(cellValue);
+                } else {
+                    String cleanedValue = cellValue.replaceAll("[^\\d.\\-E]", "");
+                    value = new BigDecimal(cleanedValue);
+                }
+                return value;
+            } catch (NumberFormatException | NullPointerException e) {
+                // Handle potential parsing issues
+                throw new CustomException("INPUT_VALUE_NOT_FOUND", "Input value not found: " + input);                }
+        }
+        return null;
+    }
+
     /**
      * Calculates a result based on the provided operation and inputs.
      *
@@ -165,4 +199,80 @@ public class CalculationUtil {
         return calculateOutputValue(inputValue, operation.getOperator(), assumptionValue);
     }
 
+    /**
+     * Compiles the operations and assumptions of a plan configuration into a program that can be evaluated
+     * for every row or census record of a run.
+     *
+     * @param planConfig   The plan configuration with the operations and assumptions.
+     * @param mappedValues The mapping of input keys to the columns they are read from, or null when the
+     *                     feature properties are named by the input keys themselves.
+     * @return The compiled calculation.
+     */
+    public CompiledPlanCalculation compile(PlanConfiguration planConfig, Map<String, String> mappedValues) {
+        return new CompiledPlanCalculation(this, planConfig.getOperations(),
+                convertAssumptionsToMap(planConfig.getAssumptions()), mappedValues);
+    }
+
+    /**
+     * Evaluates a compiled calculation for each feature. Runs of more than one chunk are evaluated in parallel
+     * chunks on a pool shared by all runs; the results keep the order of the features, and a failure is rethrown as is for the first
+     * feature that failed, as a sequential run would.
+     *
+     * @param calculation The compiled calculation.
+     * @param features    The features, one per boundary.
+     * @return The results of each feature, in the order of the features.
+     */
+    public List<BigDecimal[]> calculate(CompiledPlanCalculation calculation, List<JsonNode> features) {
+        BigDecimal[][] results = new BigDecimal[features.size()][];
+        int chunkSize = calculationPool != null ? Math.max(1, config.getCalculationChunkSize()) : 0;
+
+        if (calculationPool == null || features.size() <= chunkSize) {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = calculation.evaluate(features.get(i));
+            }
+            return Arrays.asList(results);
+        }
+
+        int chunks = (features.size() + chunkSize - 1) / chunkSize;
+        RuntimeException[] failures = new RuntimeException[chunks];
+        calculationPool.submit(() -> IntStream.range(0, chunks).parallel()
+                .forEach(chunk -> failures[chunk] = calculateChunk(calculation, features, results, chunk * chunkSize, chunkSize)))
+                .join();
+
+        for (RuntimeException failure : failures) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Returns the number of features a run needs so that every calculation thread gets a chunk, for callers that
+     * fetch their features in smaller batches and gather them before calculating.
+     *
+     * @return The number of features, or 1 when calculations run sequentially.
+     */
+    public int getParallelRunSize() {
+        return calculationPool != null
+                ? Math.max(1, config.getCalculationChunkSize()) * calculationPool.getParallelism() : 1;
+    }
+
+    /**
+     * Evaluates one chunk and returns its first failure instead of throwing it, so that it reaches the caller
+     * unwrapped and chunks after a failing one are not mistaken for the first failure.
+     */
+    private RuntimeException calculateChunk(CompiledPlanCalculation calculation, List<JsonNode> features,
+                                            BigDecimal[][] results, int from, int chunkSize) {
+        int to = Math.min(features.size(), from + chunkSize);
+        try {
+            for (int i = from; i < to; i++) {
+                results[i] = calculation.evaluate(features.get(i));
+            }
+            return null;
+        } catch (RuntimeException e) {
+            return e;
+        }
+    }
+
 }
@@ -0,0 +1,194 @@
+package org.egov.processor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.egov.processor.web.models.Operation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The operations of a plan configuration compiled once into a program over arrays. Every operand is bound
+ * at compile time to what {@link CalculationUtil#calculateResult} would read for it: the latest earlier
+ * operation with that output, else the assumption, else the (mapped) feature column. The operations run in
+ * their configured order, so an operand naming the output of a later operation still reads the column.
+ * Built by {@link CalculationUtil#compile}; immutable and safe to evaluate from several threads.
+ */
+public final class CompiledPlanCalculation {
+
+    private static final byte STEP = 0;
+    private static final byte CONSTANT = 1;
+    private static final byte COLUMN = 2;
+
+    private final CalculationUtil calculationUtil;
+
+    private final Operation.OperatorEnum[] operators;
+
+    private final String[] outputs;
+
+    private final byte[] inputKinds;
+
+    private final int[] inputIndexes;
+
+    private final String[] inputKeys;
+
+    private final byte[] assumptionKinds;
+
+    private final int[] assumptionIndexes;
+
+    private final String[] assumptionKeys;
+
+    private final BigDecimal[] constants;
+
+    private final String[] columns;
+
+    CompiledPlanCalculation(CalculationUtil calculationUtil, List<Operation> operations,
+                            Map<String, BigDecimal> assumptionValueMap, Map<String, String> mappedValues) {
+        int size = operations.size();
+        this.calculationUtil = calculationUtil;
+        this.operators = new Operation.OperatorEnum[size];
+        this.outputs = new String[size];
+        this.inputKinds = new byte[size];
+        this.inputIndexes = new int[size];
+        this.inputKeys = new String[size];
+        this.assumptionKinds = new byte[size];
+        this.assumptionIndexes = new int[size];
+        this.assumptionKeys = new String[size];
+
+        Binder binder = new Binder(assumptionValueMap, mappedValues);
+        for (int step = 0; step < size; step++) {
+            Operation operation = operations.get(step);
+            operators[step] = operation.getOperator();
+            outputs[step] = operation.getOutput();
+            inputKeys[step] = operation.getInput();
+            assumptionKeys[step] = operation.getAssumptionValue();
+            binder.bind(inputKeys[step], step, inputKinds, inputIndexes);
+            binder.bind(assumptionKeys[step], step, assumptionKinds, assumptionIndexes);
+
+            // Later operands naming this output read this step, like the result map overwrite
+            binder.latestStepByOutput.put(operation.getOutput(), step);
+        }
+
+        this.constants = binder.constants.toArray(new BigDecimal[0]);
+        this.columns = binder.columns.toArray(new String[0]);
+    }
+
+    /**
+     * @return The number of operations, which is also the length of the arrays returned by {@link #evaluate}.
+     */
+    public int size() {
+        return outputs.length;
+    }
+
+    /**
+     * @param step The index of the operation in the configured order.
+     * @return The output key of that operation.
+     */
+    public String getOutput(int step) {
+        return outputs[step];
+    }
+
+    /**
+     * Runs every operation over one feature. Each feature column is parsed at most once, on first use, so
+     * a column that cannot be parsed fails at the same operation as in the map based path.
+     *
+     * @param feature The feature node with the row or census values under its properties.
+     * @return The result of each operation, in the configured order.
+     */
+    public BigDecimal[] evaluate(JsonNode feature) {
+        BigDecimal[] values = new BigDecimal[outputs.length];
+        BigDecimal[] columnValues = new BigDecimal[columns.length];
+
+        for (int step = 0; step < values.length; step++) {
+            BigDecimal input = operand(inputKinds[step], inputIndexes[step], inputKeys[step], values, columnValues, feature);
+            BigDecimal assumption = operand(assumptionKinds[step], assumptionIndexes[step], assumptionKeys[step], values, columnValues, feature);
+            values[step] = calculationUtil.calculateOutputValue(input, operators[step], assumption);
+        }
+        return values;
+    }
+
+    private BigDecimal operand(byte kind, int index, String key, BigDecimal[] values, BigDecimal[] columnValues, JsonNode feature) {
+        if (kind == STEP) {
+            return values[index];
+        }
+        if (kind == CONSTANT) {
+            return constants[index];
+        }
+        BigDecimal value = columnValues[index];
+        if (value == null) {
+            value = CalculationUtil.getInputValueFromFeature(feature, key, columns[index]);
+            columnValues[index] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Builds the result map the plan is created from, with the same puts in the same order as the map based
+     * path, so a repeated output keeps the value of its last operation.
+     *
+     * @param values The results returned by {@link #evaluate}.
+     * @return A mutable map of output key to result.
+     */
+    public Map<String, BigDecimal> toResultMap(BigDecimal[] values) {
+        Map<String, BigDecimal> resultMap = new HashMap<>();
+        for (int step = 0; step < values.length; step++) {
+            resultMap.put(outputs[step], values[step]);
+        }
+        return resultMap;
+    }
+
+    /**
+     * Resolves operand keys in the lookup order of the map based path. A key with no mapped column becomes a
+     * null constant, as the map based path then also passes null to the operator.
+     */
+    private static final class Binder {
+
+        private final Map<String, BigDecimal> assumptionValueMap;
+
+        private final Map<String, String> mappedValues;
+
+        private final Map<String, Integer> latestStepByOutput = new HashMap<>();
+
+        private final List<BigDecimal> constants = new ArrayList<>();
+
+        private final Map<String, Integer> constantIndexes = new HashMap<>();
+
+        private final List<String> columns = new ArrayList<>();
+
+        private final Map<String, Integer> columnIndexes = new HashMap<>();
+
+        private Binder(Map<String, BigDecimal> assumptionValueMap, Map<String, String> mappedValues) {
+            this.assumptionValueMap = assumptionValueMap;
+            this.mappedValues = mappedValues;
+        }
+
+        private void bind(String key, int step, byte[] kinds, int[] indexes) {
+            Integer outputStep = latestStepByOutput.get(key);
+            if (outputStep != null) {
+                kinds[step] = STEP;
+                indexes[step] = outputStep;
+                return;
+            }
+
+            BigDecimal assumption = assumptionValueMap.get(key);
+            String column = mappedValues == null ? key : mappedValues.get(key);
+            if (assumption != null || column == null) {
+                kinds[step] = CONSTANT;
+                indexes[step] = constantIndexes.computeIfAbsent(key, k -> {
+                    constants.add(assumption);
+                    return constants.size() - 1;
+                });
+                return;
+            }
+
+            kinds[step] = COLUMN;
+            indexes[step] = columnIndexes.computeIfAbsent(column, c -> {
+                columns.add(c);
+                return columns.size() - 1;
+            });
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package org.egov.processor.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.egov.processor.config.Configuration;
+import org.egov.processor.util.CalculationUtil;
+import org.egov.processor.util.CompiledPlanCalculation;
+import org.egov.processor.web.models.Assumption;
+import org.egov.processor.web.models.Operation;
+import org.egov.processor.web.models.PlanConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to calculate the estimates of one 50k-boundary sheet with a 20-operation plan configuration reading
+ * 8 mapped columns. {@code mapBased} runs {@link CalculationUtil#calculateResult} per operation and row, as
+ * before compilation; {@code compiled} compiles the configuration once and evaluates the rows, in one pass
+ * for {@code parallelism} 1 and in parallel chunks of {@code chunkSize} rows otherwise.
+ *
+ * <pre>
+ * mvn -B test-compile exec:java -Dexec.classpathScope=test \
+ *     -Dexec.mainClass=org.egov.processor.benchmark.PlanCalculationBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PlanCalculationBenchmark {
+
+    private static final int COLUMNS = 8;
+
+    private static final int OPERATIONS = 20;
+
+    @Param({"50000"})
+    public int rows;
+
+    @Param({"1", "4"})
+    public int parallelism;
+
+    @Param({"1000"})
+    public int chunkSize;
+
+    private CalculationUtil calculationUtil;
+    private PlanConfiguration planConfig;
+    private Map<String, String> mappedValues;
+    private List<JsonNode> features;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Configuration config = new Configuration();
+        config.setCalculationParallelism(parallelism);
+        config.setCalculationChunkSize(chunkSize);
+        calculationUtil = new CalculationUtil(null, config);
+
+        Random random = new Random(42);
+        mappedValues = new HashMap<>();
+        for (int c = 0; c < COLUMNS; c++) {
+            mappedValues.put("INPUT_" + c, "HCM_COLUMN_" + c);
+        }
+
+        List<Assumption> assumptions = new ArrayList<>();
+        for (int a = 0; a < 6; a++) {
+            assumptions.add(Assumption.builder().key("ASSUMPTION_" + a)
+                    .value(BigDecimal.valueOf(1 + random.nextInt(20), 1)).build());
+        }
+
+        // Each operation reads a column or an earlier output, and an assumption or a column
+        Operation.OperatorEnum[] operators = {Operation.OperatorEnum.PLUS, Operation.OperatorEnum.STAR,
+                Operation.OperatorEnum.SLASH, Operation.OperatorEnum.MINUS};
+        List<Operation> operations = new ArrayList<>();
+        for (int o = 0; o < OPERATIONS; o++) {
+            String input = o > 0 && random.nextBoolean() ? "OUTPUT_" + random.nextInt(o) : "INPUT_" + random.nextInt(COLUMNS);
+            String assumption = random.nextInt(4) == 0 ? "INPUT_" + random.nextInt(COLUMNS) : "ASSUMPTION_" + random.nextInt(6);
+            operations.add(Operation.builder().input(input).operator(operators[o % operators.length])
+                    .assumptionValue(assumption).output("OUTPUT_" + o).build());
+        }
+        planConfig = PlanConfiguration.builder().assumptions(assumptions).operations(operations).build();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        features = new ArrayList<>(rows);
+        for (int r = 0; r < rows; r++) {
+            ObjectNode feature = objectMapper.createObjectNode();
+            ObjectNode properties = feature.putObject("properties");
+            for (int c = 0; c < COLUMNS; c++) {
+                properties.put("HCM_COLUMN_" + c, 1 + random.nextInt(5000));
+            }
+            features.add(feature);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        calculationUtil.shutdown();
+    }
+
+    @Benchmark
+    public void mapBased(Blackhole blackhole) {
+        Map<String, BigDecimal> assumptionValueMap = calculationUtil.convertAssumptionsToMap(planConfig.getAssumptions());
+        for (JsonNode feature : features) {
+            Map<String, BigDecimal> resultMap = new HashMap<>();
+            for (Operation operation : planConfig.getOperations()) {
+                resultMap.put(operation.getOutput(),
+                        calculationUtil.calculateResult(operation, feature, mappedValues, assumptionValueMap, resultMap));
+            }
+            blackhole.consume(resultMap);
+        }
+    }
+
+    @Benchmark
+    public List<BigDecimal[]> compiled() {
+        CompiledPlanCalculation calculation = calculationUtil.compile(planConfig, mappedValues);
+        return calculationUtil.calculate(calculation, features);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(PlanCalculationBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,231 @@
+package org.egov.processor.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.egov.processor.config.Configuration;
+import org.egov.processor.web.models.Assumption;
+import org.egov.processor.web.models.Operation;
+import org.egov.processor.web.models.PlanConfiguration;
+import org.egov.tracer.model.CustomException;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * The compiled calculation must give the results and failures of the map based path
+ * ({@link CalculationUtil#calculateResult}), for row (mapped) and census (unmapped) runs, sequentially and in
+ * parallel chunks.
+ */
+class CompiledPlanCalculationTest {
+
+    private static final String[] KEYS = {"k0", "k1", "k2", "k3", "k4", "k5", "k6", "k7"};
+
+    private static final String[] COLUMNS = {"c0", "c1", "c2", "c3", "c4", "c5"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void compiledMatchesMapBasedPath_forRandomConfigurations() {
+        for (int seed = 0; seed < 2000; seed++) {
+            Random random = new Random(seed);
+            boolean census = random.nextBoolean();
+            PlanConfiguration planConfig = randomPlanConfiguration(random);
+            Map<String, String> mappedValues = census ? null : randomMapping(random);
+            List<JsonNode> features = randomFeatures(random, census ? KEYS : COLUMNS);
+            CalculationUtil calculationUtil = calculationUtil(random.nextBoolean() ? 4 : 1, 1 + random.nextInt(3));
+
+            Object expected = mapBasedResults(calculationUtil, planConfig, mappedValues, features);
+            Object actual = compiledResults(calculationUtil, planConfig, mappedValues, features);
+            calculationUtil.shutdown();
+
+            // BigDecimal.equals compares the scale as well, so the results must match to the scale
+            assertEquals(expected, actual, "seed " + seed);
+        }
+    }
+
+    @Test
+    void operandNamingLaterOutput_readsTheColumn() {
+        // k1 is only produced by the second operation, so the first one reads the k1 column
+        PlanConfiguration planConfig = planConfiguration(List.of(),
+                operation("k0", Operation.OperatorEnum.PLUS, "k1", "k2"),
+                operation("k0", Operation.OperatorEnum.STAR, "k0", "k1"));
+        JsonNode feature = feature(Map.of("k0", 3, "k1", 10));
+        CalculationUtil calculationUtil = calculationUtil(1, 1000);
+
+        CompiledPlanCalculation calculation = calculationUtil.compile(planConfig, null);
+        Map<String, BigDecimal> results = calculation.toResultMap(calculation.evaluate(feature));
+
+        assertEquals(new BigDecimal("13"), results.get("k2"));
+        assertEquals(new BigDecimal("9"), results.get("k1"));
+    }
+
+    @Test
+    void repeatedOutput_keepsTheLastOperationAndFeedsLaterOperands() {
+        PlanConfiguration planConfig = planConfiguration(List.of(assumption("rate", "2")),
+                operation("k0", Operation.OperatorEnum.PLUS, "rate", "out"),
+                operation("out", Operation.OperatorEnum.STAR, "rate", "out"),
+                operation("out", Operation.OperatorEnum.MINUS, "rate", "final"));
+        JsonNode feature = feature(Map.of("c0", 5));
+        CalculationUtil calculationUtil = calculationUtil(1, 1000);
+
+        CompiledPlanCalculation calculation = calculationUtil.compile(planConfig, Map.of("k0", "c0"));
+        Map<String, BigDecimal> results = calculation.toResultMap(calculation.evaluate(feature));
+
+        assertEquals(new BigDecimal("14"), results.get("out"));
+        assertEquals(new BigDecimal("12"), results.get("final"));
+    }
+
+    @Test
+    void unparsableColumn_failsLikeTheMapBasedPath() {
+        PlanConfiguration planConfig = planConfiguration(List.of(assumption("rate", "2")),
+                operation("k0", Operation.OperatorEnum.STAR, "rate", "out"));
+        List<JsonNode> features = List.of(feature(Map.of("c0", 5)), feature(Map.of("c0", "abc")));
+        CalculationUtil calculationUtil = calculationUtil(4, 1);
+        CompiledPlanCalculation calculation = calculationUtil.compile(planConfig, Map.of("k0", "c0"));
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> calculationUtil.calculate(calculation, features));
+        calculationUtil.shutdown();
+
+        assertEquals("INPUT_VALUE_NOT_FOUND", exception.getCode());
+    }
+
+    private Object mapBasedResults(CalculationUtil calculationUtil, PlanConfiguration planConfig,
+                                   Map<String, String> mappedValues, List<JsonNode> features) {
+        try {
+            Map<String, BigDecimal> assumptionValueMap = calculationUtil.convertAssumptionsToMap(planConfig.getAssumptions());
+            List<Map<String, BigDecimal>> results = new ArrayList<>();
+            for (JsonNode feature : features) {
+                Map<String, BigDecimal> resultMap = new HashMap<>();
+                for (Operation operation : planConfig.getOperations()) {
+                    BigDecimal result = mappedValues == null
+                            ? calculationUtil.calculateResult(operation, feature, assumptionValueMap, resultMap)
+                            : calculationUtil.calculateResult(operation, feature, mappedValues, assumptionValueMap, resultMap);
+                    resultMap.put(operation.getOutput(), result);
+                }
+                results.add(resultMap);
+            }
+            return results;
+        } catch (RuntimeException e) {
+            return failure(e);
+        }
+    }
+
+    private Object compiledResults(CalculationUtil calculationUtil, PlanConfiguration planConfig,
+                                   Map<String, String> mappedValues, List<JsonNode> features) {
+        try {
+            CompiledPlanCalculation calculation = calculationUtil.compile(planConfig, mappedValues);
+            List<Map<String, BigDecimal>> results = new ArrayList<>();
+            for (BigDecimal[] values : calculationUtil.calculate(calculation, features)) {
+                results.add(calculation.toResultMap(values));
+            }
+            return results;
+        } catch (RuntimeException e) {
+            return failure(e);
+        }
+    }
+
+    private static String failure(RuntimeException e) {
+        return e instanceof CustomException customException
+                ? e.getClass().getName() + ":" + customException.getCode()
+                : e.getClass().getName();
+    }
+
+    private static CalculationUtil calculationUtil(int parallelism, int chunkSize) {
+        Configuration config = new Configuration();
+        config.setCalculationParallelism(parallelism);
+        config.setCalculationChunkSize(chunkSize);
+        return new CalculationUtil(null, config);
+    }
+
+    private static PlanConfiguration randomPlanConfiguration(Random random) {
+        List<Assumption> assumptions = new ArrayList<>();
+        for (String key : KEYS) {
+            if (random.nextInt(3) == 0) {
+                assumptions.add(assumption(key, (random.nextInt(9)) + (random.nextBoolean() ? "" : ".5")));
+            }
+        }
+        // _U is left out: a large exponent makes BigDecimal.pow run for a long time on either path
+        Operation.OperatorEnum[] operators = {Operation.OperatorEnum.PLUS, Operation.OperatorEnum.MINUS,
+                Operation.OperatorEnum.SLASH, Operation.OperatorEnum.STAR, Operation.OperatorEnum.PERCENT};
+        int size = 1 + random.nextInt(8);
+        Operation[] operations = new Operation[size];
+        for (int i = 0; i < size; i++) {
+            operations[i] = operation(KEYS[random.nextInt(KEYS.length)], operators[random.nextInt(operators.length)],
+                    KEYS[random.nextInt(KEYS.length)], KEYS[random.nextInt(KEYS.length)]);
+        }
+        return planConfiguration(assumptions, operations);
+    }
+
+    private static Map<String, String> randomMapping(Random random) {
+        Map<String, String> mappedValues = new HashMap<>();
+        for (String key : KEYS) {
+            if (random.nextInt(4) != 0) {
+                mappedValues.put(key, COLUMNS[random.nextInt(COLUMNS.length)]);
+            }
+        }
+        return mappedValues;
+    }
+
+    private List<JsonNode> randomFeatures(Random random, String[] columns) {
+        List<JsonNode> features = new ArrayList<>();
+        int rows = random.nextInt(12);
+        for (int i = 0; i < rows; i++) {
+            ObjectNode feature = objectMapper.createObjectNode();
+            ObjectNode properties = feature.putObject("properties");
+            for (String column : columns) {
+                int kind = random.nextInt(20);
+                if (kind < 9) {
+                    properties.put(column, BigDecimal.valueOf((double) (random.nextInt(50) + 1)));
+                } else if (kind < 11) {
+                    // printed in scientific notation
+                    properties.put(column, BigDecimal.valueOf(1e7 * (random.nextInt(3) + 1)));
+                } else if (kind < 13) {
+                    properties.put(column, String.valueOf(random.nextInt(40)));
+                } else if (kind == 13) {
+                    properties.put(column, "abc");
+                } else if (kind == 14) {
+                    properties.putNull(column);
+                } else if (kind == 15) {
+                    properties.put(column, random.nextInt(30));
+                } else if (kind == 16) {
+                    properties.put(column, BigDecimal.ZERO);
+                }
+            }
+            features.add(feature);
+        }
+        return features;
+    }
+
+    private JsonNode feature(Map<String, Object> properties) {
+        ObjectNode feature = objectMapper.createObjectNode();
+        feature.set("properties", objectMapper.valueToTree(properties));
+        return feature;
+    }
+
+    private static PlanConfiguration planConfiguration(List<Assumption> assumptions, Operation... operations) {
+        return PlanConfiguration.builder()
+                .assumptions(new ArrayList<>(assumptions))
+                .operations(new ArrayList<>(List.of(operations)))
+                .build();
+    }
+
+    private static Assumption assumption(String key, String value) {
+        return Assumption.builder().key(key).value(new BigDecimal(value)).build();
+    }
+
+    private static Operation operation(String input, Operation.OperatorEnum operator, String assumptionValue,
+                                       String output) {
+        return Operation.builder().input(input).operator(operator).assumptionValue(assumptionValue).output(output)
+                .build();
+    }
+}
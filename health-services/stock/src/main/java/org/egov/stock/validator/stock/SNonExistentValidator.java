@@ -12,6 +12,7 @@ import org.egov.common.models.Error;
 import org.egov.common.models.stock.Stock;
 import org.egov.common.models.stock.StockBulkRequest;
 import org.egov.common.models.stock.StockSearch;
+import org.egov.common.validator.ValidationContext;
 import org.egov.common.validator.Validator;
 import org.egov.stock.repository.StockRepository;
 import org.egov.tracer.model.CustomException;
@@ -71,6 +72,11 @@ public class SNonExistentValidator implements Validator<StockBulkRequest, Stock>
                 log.error("Search failed for Stock with error: {}", e.getMessage(), e);
                 throw new CustomException("STOCK_SEARCH_FAILED", "Search Failed for Stock, " + e.getMessage()); 
             }
+            // later validators of the request look these up by id instead of querying them again
+            ValidationContext.put("stock.id", entities.get(0).getTenantId(), existingEntities,
+                    Stock::getId);
+            ValidationContext.put("stock.clientReferenceId", entities.get(0).getTenantId(), existingEntities,
+                    Stock::getClientReferenceId);
             List<Stock> nonExistentEntities = checkNonExistentEntities(eMap,
                     existingEntities, idMethod);
             nonExistentEntities.forEach(task -> {
@@ -6,10 +6,12 @@ import org.egov.common.models.Error;
 import org.egov.common.models.stock.Stock;
 import org.egov.common.models.stock.StockBulkRequest;
 import org.egov.common.utils.CommonUtils;
+import org.egov.common.validator.ValidationContext;
 import org.egov.common.validator.Validator;
 import org.egov.stock.repository.StockRepository;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ReflectionUtils;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
@@ -48,8 +50,10 @@ public class SRowVersionValidator implements Validator<StockBulkRequest, Stock>
             List<String> entityIds = new ArrayList<>(eMap.keySet());
             // Catc the InvalidTenantIdException
             try {
-                List<Stock> existingEntities = stockRepository.findById(tenantId, entityIds, false,
-                        getIdFieldName(idMethod));
+                List<Stock> existingEntities = new ArrayList<>(ValidationContext.find(
+                        "stock." + getIdFieldName(idMethod), tenantId, entityIds,
+                        stock -> (String) ReflectionUtils.invokeMethod(idMethod, stock),
+                        ids -> stockRepository.findById(tenantId, ids, false, getIdFieldName(idMethod))).values());
                 List<Stock> entitiesWithMismatchedRowVersion =
                         getEntitiesWithMismatchedRowVersion(eMap, existingEntities, idMethod);
                 entitiesWithMismatchedRowVersion.forEach(individual -> {
@@ -0,0 +1,225 @@
+package org.egov.transformer.boundary;
+
+import java.util.AbstractMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.contract.request.RequestInfo;
+import org.egov.common.http.client.ServiceRequestClient;
+import org.egov.tracer.model.CustomException;
+import org.egov.transformer.config.TransformerProperties;
+import org.egov.transformer.models.boundary.BoundarySearchResponse;
+import org.egov.transformer.models.boundary.EnrichedBoundary;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * In-memory index of the boundary hierarchy, built as {@link BoundaryTree}s.
+ *
+ * <p>The whole hierarchy of a tenant is loaded from boundary-service on first use. Boundaries created
+ * afterwards are grafted into the loaded tree the first time they are looked up, and the hierarchy is
+ * reloaded in the background every {@code transformer.boundary.index.refresh.interval.minutes} while the
+ * loaded one keeps serving lookups.
+ */
+@Component
+@Slf4j
+public class BoundaryHierarchyIndex {
+
+    private final TransformerProperties transformerProperties;
+
+    private final ServiceRequestClient serviceRequestClient;
+
+    private final Map<String, Hierarchy> hierarchies = new ConcurrentHashMap<>();
+
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor();
+
+    public BoundaryHierarchyIndex(TransformerProperties transformerProperties,
+                                  ServiceRequestClient serviceRequestClient) {
+        this.transformerProperties = transformerProperties;
+        this.serviceRequestClient = serviceRequestClient;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    /**
+     * Returns boundary type to boundary name for the given boundary and all of its ancestors, the name being
+     * the part of the code after its last '_'. The returned map is shared and must not be modified.
+     */
+    public Map<String, String> getBoundaryCodeToNameMap(String locationCode, String tenantId) {
+        String hierarchyType = transformerProperties.getBoundaryHierarchyName();
+        String key = tenantId + "|" + hierarchyType;
+        Hierarchy hierarchy = hierarchies.computeIfAbsent(key, k -> loadHierarchy(tenantId, hierarchyType));
+        refreshIfDue(key, hierarchy, tenantId, hierarchyType);
+
+        Map<String, String> labels = hierarchy.getLabels(locationCode);
+        if (labels != null) {
+            return labels;
+        }
+        // boundary created after the hierarchy was loaded
+        log.debug("Boundary {} not in hierarchy index for tenantId: {}, fetching its parents", locationCode, tenantId);
+        hierarchy.graft(searchBoundaries(tenantId, hierarchyType, locationCode));
+        labels = hierarchy.getLabels(locationCode);
+        return labels != null ? labels : Collections.emptyMap();
+    }
+
+    private void refreshIfDue(String key, Hierarchy hierarchy, String tenantId, String hierarchyType) {
+        long now = System.currentTimeMillis();
+        long due = hierarchy.nextRefreshAt.get();
+        if (now < due || !hierarchy.nextRefreshAt.compareAndSet(due, now + refreshIntervalMillis())) {
+            return;
+        }
+        refreshExecutor.execute(() -> {
+            try {
+                hierarchies.put(key, loadHierarchy(tenantId, hierarchyType));
+            } catch (Exception e) {
+                log.error("Failed to reload boundary hierarchy {} for tenantId: {}, keeping the loaded one",
+                        hierarchyType, tenantId, e);
+            }
+        });
+    }
+
+    private Hierarchy loadHierarchy(String tenantId, String hierarchyType) {
+        long start = System.currentTimeMillis();
+        Hierarchy hierarchy = new Hierarchy(tenantId, System.currentTimeMillis() + refreshIntervalMillis());
+        hierarchy.graft(searchBoundaries(tenantId, hierarchyType, null));
+        log.info("Loaded boundary hierarchy {} for tenantId: {} with {} boundaries in {} ms",
+                hierarchyType, tenantId, hierarchy.size(), System.currentTimeMillis() - start);
+        return hierarchy;
+    }
+
+    private long refreshIntervalMillis() {
+        return TimeUnit.MINUTES.toMillis(transformerProperties.getBoundaryIndexRefreshIntervalMinutes());
+    }
+
+    /**
+     * Searches boundary relationships; the whole hierarchy when {@code code} is null, otherwise the boundary
+     * with its parents.
+     */
+    private List<EnrichedBoundary> searchBoundaries(String tenantId, String hierarchyType, String code) {
+        try {
+            StringBuilder uri = new StringBuilder(transformerProperties.getBoundaryServiceHost()
+                    + transformerProperties.getBoundaryRelationshipSearchUrl()
+                    + "?tenantId=" + tenantId
+                    + "&hierarchyType=" + hierarchyType);
+            if (code != null) {
+                uri.append("&includeParents=true&codes=").append(code);
+            } else {
+                uri.append("&includeChildren=true");
+            }
+            BoundarySearchResponse boundarySearchResponse = serviceRequestClient.fetchResult(uri,
+                    RequestInfo.builder().build(), BoundarySearchResponse.class);
+            if (boundarySearchResponse.getTenantBoundary() == null) {
+                return Collections.emptyList();
+            }
+            return boundarySearchResponse.getTenantBoundary().stream()
+                    .filter(hierarchyRelation -> !CollectionUtils.isEmpty(hierarchyRelation.getBoundary()))
+                    .flatMap(hierarchyRelation -> hierarchyRelation.getBoundary().stream())
+                    .collect(Collectors.toList());
+        } catch (Exception e) {
+            log.error("Exception while searching boundaries for tenantId: {}", tenantId, e);
+            throw new CustomException("BOUNDARY_SERVICE_SEARCH_ERROR",
+                    "Error in while fetching boundaries from Boundary Service : " + e.getMessage());
+        }
+    }
+
+    /**
+     * Boundary trees of one tenant hierarchy by code, with the label map of each boundary computed on first
+     * lookup.
+     */
+    private static final class Hierarchy {
+
+        private final String tenantId;
+
+        private final Map<String, BoundaryTree> treesByCode = new ConcurrentHashMap<>();
+
+        private final Map<String, Map<String, String>> labelsByCode = new ConcurrentHashMap<>();
+
+        private final AtomicLong nextRefreshAt;
+
+        private Hierarchy(String tenantId, long nextRefreshAt) {
+            this.tenantId = tenantId;
+            this.nextRefreshAt = new AtomicLong(nextRefreshAt);
+        }
+
+        private int size() {
+            return treesByCode.size();
+        }
+
+        private Map<String, String> getLabels(String code) {
+            Map<String, String> labels = labelsByCode.get(code);
+            if (labels != null) {
+                return labels;
+            }
+            BoundaryTree tree = treesByCode.get(code);
+            if (tree == null) {
+                return null;
+            }
+            return labelsByCode.computeIfAbsent(code, c -> toLabels(tree));
+        }
+
+        /**
+         * Adds the given boundaries and their children below their parents, keeping the boundaries which are
+         * already indexed.
+         */
+        private synchronized void graft(List<EnrichedBoundary> roots) {
+            Deque<Map.Entry<EnrichedBoundary, BoundaryTree>> stack = new ArrayDeque<>();
+            for (EnrichedBoundary root : roots) {
+                if (root != null) {
+                    stack.push(new AbstractMap.SimpleEntry<>(root, null));
+                }
+            }
+            while (!stack.isEmpty()) {
+                Map.Entry<EnrichedBoundary, BoundaryTree> entry = stack.pop();
+                EnrichedBoundary current = entry.getKey();
+                BoundaryTree tree = treesByCode.get(current.getCode());
+                if (tree == null) {
+                    BoundaryTree parent = entry.getValue();
+                    tree = BoundaryTree.builder()
+                            .boundaryNode(BoundaryMapper.from(current, tenantId))
+                            .parent(parent)
+                            .boundaryTrees(new ArrayList<>())
+                            .build();
+                    if (parent != null) {
+                        parent.getBoundaryTrees().add(tree);
+                    }
+                    treesByCode.put(current.getCode(), tree);
+                }
+                if (current.getChildren() != null) {
+                    for (EnrichedBoundary child : current.getChildren()) {
+                        if (child != null) {
+                            stack.push(new AbstractMap.SimpleEntry<>(child, tree));
+                        }
+                    }
+                }
+            }
+        }
+
+        private static Map<String, String> toLabels(BoundaryTree tree) {
+            Map<String, String> labels = new HashMap<>();
+            addLabel(labels, tree.getBoundaryNode());
+            tree.getParentNodes().forEach(node -> addLabel(labels, node));
+            return Collections.unmodifiableMap(labels);
+        }
+
+        private static void addLabel(Map<String, String> labels, BoundaryNode node) {
+            String code = node.getCode();
+            labels.putIfAbsent(node.getBoundaryType(), code.substring(code.lastIndexOf('_') + 1));
+        }
+    }
+}
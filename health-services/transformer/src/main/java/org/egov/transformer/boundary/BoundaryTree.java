@@ -3,7 +3,9 @@ package org.egov.transformer.boundary;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -15,6 +17,9 @@ import java.util.List;
 @Builder
 public class BoundaryTree {
     private BoundaryNode boundaryNode;
+    // excluded so that parent <-> child links do not recurse
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private BoundaryTree parent;
     private List<BoundaryTree> boundaryTrees;
 
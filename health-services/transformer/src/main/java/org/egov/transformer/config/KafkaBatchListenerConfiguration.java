@@ -0,0 +1,38 @@
+package org.egov.transformer.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+/**
+ * Container factory of the batch listeners, enabled with {@code transformer.consumer.batch.enabled}.
+ *
+ * <p>Uses the configuration of the default consumer factory, with each poll returning up to
+ * {@code transformer.consumer.batch.size} records and the broker holding a fetch for up to
+ * {@code transformer.consumer.batch.wait.ms} until {@code transformer.consumer.batch.min.bytes} are available.
+ */
+@Configuration
+public class KafkaBatchListenerConfiguration {
+
+    public static final String BATCH_LISTENER_CONTAINER_FACTORY = "batchKafkaListenerContainerFactory";
+
+    @Bean(BATCH_LISTENER_CONTAINER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<String, Object> batchKafkaListenerContainerFactory(
+            ConsumerFactory<?, ?> consumerFactory, TransformerProperties properties) {
+        Map<String, Object> config = new HashMap<>(consumerFactory.getConfigurationProperties());
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, properties.getConsumerBatchSize());
+        config.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, properties.getConsumerBatchWaitMs());
+        config.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, properties.getConsumerBatchMinBytes());
+
+        ConcurrentKafkaListenerContainerFactory<String, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(config));
+        factory.setBatchListener(true);
+        return factory;
+    }
+}
@@ -86,4 +86,37 @@ public class TransformerProperties {
     @Value("${egov.boundary.hierarchy.name}")
     private String boundaryHierarchyName;
 
+    @Value("${transformer.boundary.index.enabled:true}")
+    private boolean boundaryIndexEnabled;
+
+    @Value("${transformer.boundary.index.refresh.interval.minutes:60}")
+    private long boundaryIndexRefreshIntervalMinutes;
+
+    @Value("${transformer.consumer.batch.enabled:false}")
+    private boolean consumerBatchEnabled;
+
+    @Value("${transformer.consumer.batch.size:500}")
+    private int consumerBatchSize;
+
+    @Value("${transformer.consumer.batch.wait.ms:500}")
+    private int consumerBatchWaitMs;
+
+    @Value("${transformer.consumer.batch.min.bytes:65536}")
+    private int consumerBatchMinBytes;
+
+    @Value("${transformer.transform.parallelism:0}")
+    private int transformParallelism;
+
+    @Value("${transformer.producer.chunk.size:500}")
+    private int producerChunkSize;
+
+    @Value("${transformer.consumer.update.project.topic}")
+    private String transformerConsumerUpdateProjectTopic;
+
+    @Value("${transformer.project.cache.max.size:10000}")
+    private long projectCacheMaxSize;
+
+    @Value("${transformer.project.cache.expiry.minutes:60}")
+    private long projectCacheExpiryMinutes;
+
 }
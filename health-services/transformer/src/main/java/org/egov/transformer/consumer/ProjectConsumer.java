@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.egov.common.models.project.Project;
 import org.egov.common.models.project.ProjectRequest;
+import org.egov.transformer.config.TransformerProperties;
 import org.egov.transformer.enums.Operation;
 import org.egov.transformer.handler.TransformationHandler;
 import org.egov.transformer.service.ProjectService;
@@ -15,6 +16,11 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.egov.transformer.config.KafkaBatchListenerConfiguration.BATCH_LISTENER_CONTAINER_FACTORY;
+
 @Component
 @Slf4j
 public class ProjectConsumer {
@@ -25,26 +31,63 @@ public class ProjectConsumer {
 
     private final ProjectService projectService;
 
+    private final TransformerProperties properties;
+
     @Autowired
     public ProjectConsumer(TransformationHandler<Project> transformationHandler,
-                           @Qualifier("objectMapper") ObjectMapper objectMapper, ProjectService projectService) {
+                           @Qualifier("objectMapper") ObjectMapper objectMapper, ProjectService projectService,
+                           TransformerProperties properties) {
         this.transformationHandler = transformationHandler;
         this.objectMapper = objectMapper;
         this.projectService = projectService;
+        this.properties = properties;
     }
 
     @KafkaListener(topics = { "${transformer.consumer.create.project.topic}",
-            "${transformer.consumer.update.project.topic}"})
+            "${transformer.consumer.update.project.topic}"},
+            autoStartup = "#{!${transformer.consumer.batch.enabled:false}}")
     public void consumeProjects(ConsumerRecord<String, Object> payload,
                                 @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
         try {
             ProjectRequest request = objectMapper
                     .readValue((String) payload.value(),
                             ProjectRequest.class);
-            projectService.updateProjectsInCache(request);
+            refreshCache(request, topic);
             transformationHandler.handle(request.getProjects(), Operation.PROJECT);
         } catch (Exception exception) {
             log.error("error in project consumer", exception);
         }
     }
+
+    @KafkaListener(topics = { "${transformer.consumer.create.project.topic}",
+            "${transformer.consumer.update.project.topic}"},
+            containerFactory = BATCH_LISTENER_CONTAINER_FACTORY,
+            autoStartup = "${transformer.consumer.batch.enabled:false}")
+    public void consumeProjectBatch(List<ConsumerRecord<String, Object>> payloads) {
+        List<Project> projects = new ArrayList<>();
+        for (ConsumerRecord<String, Object> payload : payloads) {
+            try {
+                ProjectRequest request = objectMapper
+                        .readValue((String) payload.value(),
+                                ProjectRequest.class);
+                refreshCache(request, payload.topic());
+                projects.addAll(request.getProjects());
+            } catch (Exception exception) {
+                log.error("error in project consumer", exception);
+            }
+        }
+        try {
+            transformationHandler.handle(projects, Operation.PROJECT);
+        } catch (Exception exception) {
+            log.error("error in project consumer", exception);
+        }
+    }
+
+    private void refreshCache(ProjectRequest request, String topic) {
+        if (properties.getTransformerConsumerUpdateProjectTopic().equals(topic)) {
+            // an update may rename the project
+            projectService.invalidateProjectsInCache(request);
+        }
+        projectService.updateProjectsInCache(request);
+    }
 }
@@ -13,9 +13,12 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.egov.transformer.config.KafkaBatchListenerConfiguration.BATCH_LISTENER_CONTAINER_FACTORY;
+
 @Component
 @Slf4j
 public class ProjectStaffConsumer {
@@ -32,7 +35,8 @@ public class ProjectStaffConsumer {
     }
 
     @KafkaListener(topics = {"${transformer.consumer.bulk.create.project.staff.topic}",
-                    "${transformer.consumer.bulk.update.project.staff.topic}"})
+                    "${transformer.consumer.bulk.update.project.staff.topic}"},
+            autoStartup = "#{!${transformer.consumer.batch.enabled:false}}")
     public void consumeStaff(ConsumerRecord<String, Object> payload,
                            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
         try {
@@ -44,4 +48,26 @@ public class ProjectStaffConsumer {
             log.error("error in project staff bulk consumer", exception);
         }
     }
+
+    @KafkaListener(topics = {"${transformer.consumer.bulk.create.project.staff.topic}",
+                    "${transformer.consumer.bulk.update.project.staff.topic}"},
+            containerFactory = BATCH_LISTENER_CONTAINER_FACTORY,
+            autoStartup = "${transformer.consumer.batch.enabled:false}")
+    public void consumeStaffs(List<ConsumerRecord<String, Object>> payloads) {
+        List<ProjectStaff> payloadList = new ArrayList<>();
+        for (ConsumerRecord<String, Object> payload : payloads) {
+            try {
+                payloadList.addAll(Arrays.asList(objectMapper
+                        .readValue((String) payload.value(),
+                                ProjectStaff[].class)));
+            } catch (Exception exception) {
+                log.error("error in project staff bulk consumer", exception);
+            }
+        }
+        try {
+            transformationHandler.handle(payloadList, Operation.PROJECT_STAFF);
+        } catch (Exception exception) {
+            log.error("error in project staff bulk consumer", exception);
+        }
+    }
 }
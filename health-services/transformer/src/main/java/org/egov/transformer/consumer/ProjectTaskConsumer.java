@@ -13,9 +13,12 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.egov.transformer.config.KafkaBatchListenerConfiguration.BATCH_LISTENER_CONTAINER_FACTORY;
+
 @Component
 @Slf4j
 public class ProjectTaskConsumer {
@@ -32,7 +35,8 @@ public class ProjectTaskConsumer {
     }
 
     @KafkaListener(topics = { "${transformer.consumer.bulk.create.project.task.topic}",
-            "${transformer.consumer.bulk.update.project.task.topic}"})
+            "${transformer.consumer.bulk.update.project.task.topic}"},
+            autoStartup = "#{!${transformer.consumer.batch.enabled:false}}")
     public void consumeTask(ConsumerRecord<String, Object> payload,
                            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
         try {
@@ -44,4 +48,26 @@ public class ProjectTaskConsumer {
             log.error("error in project task bulk consumer", exception);
         }
     }
+
+    @KafkaListener(topics = { "${transformer.consumer.bulk.create.project.task.topic}",
+            "${transformer.consumer.bulk.update.project.task.topic}"},
+            containerFactory = BATCH_LISTENER_CONTAINER_FACTORY,
+            autoStartup = "${transformer.consumer.batch.enabled:false}")
+    public void consumeTasks(List<ConsumerRecord<String, Object>> payloads) {
+        List<Task> payloadList = new ArrayList<>();
+        for (ConsumerRecord<String, Object> payload : payloads) {
+            try {
+                payloadList.addAll(Arrays.asList(objectMapper
+                        .readValue((String) payload.value(),
+                                Task[].class)));
+            } catch (Exception exception) {
+                log.error("error in project task bulk consumer", exception);
+            }
+        }
+        try {
+            transformationHandler.handle(payloadList, Operation.TASK);
+        } catch (Exception exception) {
+            log.error("error in project task bulk consumer", exception);
+        }
+    }
 }
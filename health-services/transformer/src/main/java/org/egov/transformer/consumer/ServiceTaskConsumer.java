@@ -14,10 +14,13 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static org.egov.transformer.config.KafkaBatchListenerConfiguration.BATCH_LISTENER_CONTAINER_FACTORY;
+
 @Component
 @Slf4j
 public class ServiceTaskConsumer {
@@ -32,7 +35,8 @@ public class ServiceTaskConsumer {
         this.objectMapper = objectMapper;
     }
 
-    @KafkaListener(topics = {"${transformer.consumer.create.service.topic}"})
+    @KafkaListener(topics = {"${transformer.consumer.create.service.topic}"},
+            autoStartup = "#{!${transformer.consumer.batch.enabled:false}}")
     public void consumeServiceTask(ConsumerRecord<String, Object> payload,
                              @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
         try {
@@ -45,4 +49,24 @@ public class ServiceTaskConsumer {
         }
     }
 
+    @KafkaListener(topics = {"${transformer.consumer.create.service.topic}"},
+            containerFactory = BATCH_LISTENER_CONTAINER_FACTORY,
+            autoStartup = "${transformer.consumer.batch.enabled:false}")
+    public void consumeServiceTasks(List<ConsumerRecord<String, Object>> payloads) {
+        List<Service> services = new ArrayList<>();
+        for (ConsumerRecord<String, Object> payload : payloads) {
+            try {
+                ServiceRequest request = objectMapper
+                        .readValue((String) payload.value(), ServiceRequest.class);
+                services.add(request.getService());
+            } catch (Exception exception) {
+                log.error("error in service task consumer", exception);
+            }
+        }
+        try {
+            transformationHandler.handle(services, Operation.SERVICE);
+        } catch (Exception exception) {
+            log.error("error in service task consumer", exception);
+        }
+    }
 }
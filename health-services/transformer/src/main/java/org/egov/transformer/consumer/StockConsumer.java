@@ -11,9 +11,12 @@ import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import static org.egov.transformer.config.KafkaBatchListenerConfiguration.BATCH_LISTENER_CONTAINER_FACTORY;
+
 @Component
 @Slf4j
 public class StockConsumer {
@@ -28,7 +31,8 @@ public class StockConsumer {
     }
 
     @KafkaListener(topics = { "${transformer.consumer.bulk.create.stock.topic}",
-            "${transformer.consumer.bulk.update.stock.topic}"})
+            "${transformer.consumer.bulk.update.stock.topic}"},
+            autoStartup = "#{!${transformer.consumer.batch.enabled:false}}")
     public void consumeStock(ConsumerRecord<String, Object> payload,
                            @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
         try {
@@ -40,4 +44,26 @@ public class StockConsumer {
             log.error("error in stock consumer bulk create", exception);
         }
     }
+
+    @KafkaListener(topics = { "${transformer.consumer.bulk.create.stock.topic}",
+            "${transformer.consumer.bulk.update.stock.topic}"},
+            containerFactory = BATCH_LISTENER_CONTAINER_FACTORY,
+            autoStartup = "${transformer.consumer.batch.enabled:false}")
+    public void consumeStocks(List<ConsumerRecord<String, Object>> payloads) {
+        List<Stock> payloadList = new ArrayList<>();
+        for (ConsumerRecord<String, Object> payload : payloads) {
+            try {
+                payloadList.addAll(Arrays.asList(objectMapper
+                        .readValue((String) payload.value(),
+                                Stock[].class)));
+            } catch (Exception exception) {
+                log.error("error in stock consumer bulk create", exception);
+            }
+        }
+        try {
+            transformationHandler.handle(payloadList, Operation.STOCK);
+        } catch (Exception exception) {
+            log.error("error in stock consumer bulk create", exception);
+        }
+    }
 }
@@ -0,0 +1,83 @@
+package org.egov.transformer.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Enrichment lookups (boundary, facility, ...) made while one batch of records is transformed.
+ * Within a batch each distinct key is looked up once, also when the records are transformed on several
+ * threads at the same time: the first caller loads the value and the others wait for it.
+ *
+ * <p>The batch is bound to the transforming threads by {@link TransformationExecutor}; outside of a batch
+ * {@link #lookup} simply calls the loader.
+ */
+public final class BatchLookups {
+
+    private static final ThreadLocal<BatchLookups> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, CompletableFuture<Object>> values = new ConcurrentHashMap<>();
+
+    BatchLookups() {
+    }
+
+    /**
+     * Returns the value of the given key, loading it once per batch.
+     *
+     * @param type   lookup type, keeps the keys of different lookups apart
+     * @param key    lookup key, including the tenant when the value depends on it
+     * @param loader loads the value; exceptions are rethrown to every caller waiting for the same key
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> V lookup(String type, String key, Supplier<V> loader) {
+        BatchLookups batch = CURRENT.get();
+        if (batch == null) {
+            return loader.get();
+        }
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> value = batch.values.putIfAbsent(type + "|" + key, created);
+        if (value == null) {
+            try {
+                created.complete(loader.get());
+            } catch (RuntimeException | Error e) {
+                created.completeExceptionally(e);
+                throw e;
+            }
+            value = created;
+        }
+        try {
+            return (V) value.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    static BatchLookups current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Runs the given task with this batch bound to the current thread.
+     */
+    void run(Runnable task) {
+        BatchLookups previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            task.run();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+}
@@ -41,6 +41,10 @@ public class FacilityService {
     }
 
     public Facility findFacilityById(String facilityId, String tenantId) {
+        return BatchLookups.lookup("facility", tenantId + "|" + facilityId, () -> searchFacility(facilityId, tenantId));
+    }
+
+    private Facility searchFacility(String facilityId, String tenantId) {
 
         FacilitySearchRequest facilitySearchRequest = FacilitySearchRequest.builder()
                 .facility(FacilitySearch.builder().id(Collections.singletonList(facilityId)).build())
@@ -15,8 +15,9 @@ public class ProjectIndexV1TransformationService extends ProjectTransformationSe
 
     @Autowired
     public ProjectIndexV1TransformationService(ProjectIndexV1Transformer transformer,
-                                               Producer producer, TransformerProperties properties) {
-        super(transformer, producer, properties);
+                                               Producer producer, TransformerProperties properties,
+                                               TransformationExecutor transformationExecutor) {
+        super(transformer, producer, properties, transformationExecutor);
     }
 
     @Override
@@ -1,18 +1,23 @@
 package org.egov.transformer.service;
 
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import digit.models.coremodels.mdms.MasterDetail;
 import digit.models.coremodels.mdms.MdmsCriteria;
 import digit.models.coremodels.mdms.MdmsCriteriaReq;
@@ -24,6 +29,7 @@ import org.egov.common.models.project.Project;
 import org.egov.common.models.project.ProjectRequest;
 import org.egov.common.models.project.ProjectResponse;
 import org.egov.tracer.model.CustomException;
+import org.egov.transformer.boundary.BoundaryHierarchyIndex;
 import org.egov.transformer.config.TransformerProperties;
 import org.egov.common.http.client.ServiceRequestClient;
 import org.egov.transformer.models.boundary.BoundarySearchResponse;
@@ -47,48 +53,90 @@ public class ProjectService {
 
     private final MdmsService mdmsService;
 
-    private static final Map<String, Project> projectMap = new ConcurrentHashMap<>();
+    private final BoundaryHierarchyIndex boundaryHierarchyIndex;
+
+    /**
+     * Projects by tenant and project id.
+     */
+    private final LoadingCache<ProjectKey, Project> projectsById;
+
+    /**
+     * Project ids by tenant and project name; the projects themselves are kept in {@link #projectsById}.
+     */
+    private final LoadingCache<ProjectKey, String> projectIdsByName;
 
     public ProjectService(TransformerProperties transformerProperties,
                           ServiceRequestClient serviceRequestClient,
-                          ObjectMapper objectMapper, MdmsService mdmsService) {
+                          ObjectMapper objectMapper, MdmsService mdmsService,
+                          BoundaryHierarchyIndex boundaryHierarchyIndex) {
         this.transformerProperties = transformerProperties;
         this.serviceRequestClient = serviceRequestClient;
         this.objectMapper = objectMapper;
         this.mdmsService = mdmsService;
+        this.boundaryHierarchyIndex = boundaryHierarchyIndex;
+        // concurrent misses for the same key wait for a single load
+        this.projectsById = Caffeine.newBuilder()
+                .maximumSize(transformerProperties.getProjectCacheMaxSize())
+                .expireAfterWrite(Duration.ofMinutes(transformerProperties.getProjectCacheExpiryMinutes()))
+                .recordStats()
+                .build(key -> firstProject(searchProject(key.value(), key.tenantId())));
+        this.projectIdsByName = Caffeine.newBuilder()
+                .maximumSize(transformerProperties.getProjectCacheMaxSize())
+                .expireAfterWrite(Duration.ofMinutes(transformerProperties.getProjectCacheExpiryMinutes()))
+                .recordStats()
+                .build(this::loadProjectIdByName);
     }
 
+    private record ProjectKey(String tenantId, String value) {
+    }
 
     public void updateProjectsInCache(ProjectRequest projectRequest) {
-        projectRequest.getProjects().forEach(project -> projectMap.put(project.getId(), project));
+        projectRequest.getProjects().forEach(project ->
+                projectsById.put(new ProjectKey(project.getTenantId(), project.getId()), project));
+    }
+
+    /**
+     * Drops the given projects, and the names pointing to them, from the cache.
+     */
+    public void invalidateProjectsInCache(ProjectRequest projectRequest) {
+        Set<String> projectIds = projectRequest.getProjects().stream()
+                .map(Project::getId)
+                .collect(Collectors.toSet());
+        projectRequest.getProjects().forEach(project ->
+                projectsById.invalidate(new ProjectKey(project.getTenantId(), project.getId())));
+        projectIdsByName.asMap().values().removeIf(projectIds::contains);
     }
 
     public Project getProject(String projectId, String tenantId) {
-        if (projectMap.containsKey(projectId)) {
-            log.info("getting project {} from cache", projectId);
-            return projectMap.get(projectId);
-        }
-        List<Project> projects = searchProject(projectId, tenantId);
-        Project project = null;
-        if (!projects.isEmpty()) {
-            project = projects.get(0);
-            projectMap.put(projectId, project);
-        }
-        return project;
+        return projectsById.get(new ProjectKey(tenantId, projectId));
     }
 
     public Project getProjectByName(String projectName, String tenantId) {
-        if (projectMap.containsKey(projectName)) {
-            log.info("getting project {} from cache", projectName);
-            return projectMap.get(projectName);
-        }
-        List<Project> projects = searchProjectByName(projectName, tenantId);
-        Project project = null;
-        if (!projects.isEmpty()) {
-            project = projects.get(0);
-            projectMap.put(projectName, project);
+        String projectId = projectIdsByName.get(new ProjectKey(tenantId, projectName));
+        return projectId == null ? null : getProject(projectId, tenantId);
+    }
+
+    /**
+     * Hit, miss and load statistics of the project caches, by id and by name.
+     */
+    public Map<String, CacheStats> getProjectCacheStats() {
+        Map<String, CacheStats> stats = new LinkedHashMap<>();
+        stats.put("projectsById", projectsById.stats());
+        stats.put("projectIdsByName", projectIdsByName.stats());
+        return stats;
+    }
+
+    private String loadProjectIdByName(ProjectKey key) {
+        Project project = firstProject(searchProjectByName(key.value(), key.tenantId()));
+        if (project == null) {
+            return null;
         }
-        return project;
+        projectsById.put(new ProjectKey(key.tenantId(), project.getId()), project);
+        return project.getId();
+    }
+
+    private static Project firstProject(List<Project> projects) {
+        return projects == null || projects.isEmpty() ? null : projects.get(0);
     }
 
     public Map<String, String> getBoundaryCodeToNameMapByProjectId(String projectId, String tenantId) {
@@ -98,6 +146,14 @@ public class ProjectService {
     }
 
     public Map<String, String> getBoundaryCodeToNameMap(String locationCode, String tenantId) {
+        if (transformerProperties.isBoundaryIndexEnabled()) {
+            return boundaryHierarchyIndex.getBoundaryCodeToNameMap(locationCode, tenantId);
+        }
+        return BatchLookups.lookup("boundary", tenantId + "|" + locationCode,
+                () -> searchBoundaryCodeToNameMap(locationCode, tenantId));
+    }
+
+    private Map<String, String> searchBoundaryCodeToNameMap(String locationCode, String tenantId) {
         List<EnrichedBoundary> boundaries = new ArrayList<>();
         try {
             // Fetch boundary details from the service
@@ -224,6 +280,11 @@ public class ProjectService {
     }
 
     public List<String> getProducts(String tenantId, String projectTypeId) {
+        return BatchLookups.lookup("products", tenantId + "|" + projectTypeId,
+                () -> searchProducts(tenantId, projectTypeId));
+    }
+
+    private List<String> searchProducts(String tenantId, String projectTypeId) {
         String filter = "$[?(@.id == '" + projectTypeId + "')].resources.*.productVariantId";
 
         RequestInfo requestInfo = RequestInfo.builder()
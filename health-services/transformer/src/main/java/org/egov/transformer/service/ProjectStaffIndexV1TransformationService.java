@@ -15,8 +15,9 @@ public class ProjectStaffIndexV1TransformationService extends ProjectStaffTransf
 
     @Autowired
     public ProjectStaffIndexV1TransformationService(ProjectStaffIndexV1Transformer transformer,
-                                                    Producer producer, TransformerProperties properties) {
-        super(transformer, producer, properties);
+                                                    Producer producer, TransformerProperties properties,
+                                                    TransformationExecutor transformationExecutor) {
+        super(transformer, producer, properties, transformationExecutor);
     }
 
     @Override
@@ -10,7 +10,6 @@ import org.egov.transformer.service.transformer.Transformer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -24,25 +23,26 @@ public abstract class ProjectStaffTransformationService implements Transformatio
 
     protected final TransformerProperties properties;
 
+    protected final TransformationExecutor transformationExecutor;
+
     @Autowired
     protected ProjectStaffTransformationService(ProjectStaffIndexV1Transformer transformer,
-                                                Producer producer, TransformerProperties properties) {
+                                                Producer producer, TransformerProperties properties,
+                                                TransformationExecutor transformationExecutor) {
         this.transformer = transformer;
         this.producer = producer;
         this.properties = properties;
+        this.transformationExecutor = transformationExecutor;
     }
 
     @Override
     public void transform(List<ProjectStaff> payloadList) {
-        log.info("transforming for ids {}", payloadList.stream()
+        log.info("transforming {} records", payloadList.size());
+        log.debug("transforming for ids {}", payloadList.stream()
                 .map(ProjectStaff::getId).collect(Collectors.toList()));
-        List<ProjectStaffIndexV1> transformedPayloadList = payloadList.stream()
-                .map(transformer::transform)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
+        List<ProjectStaffIndexV1> transformedPayloadList = transformationExecutor.transform(payloadList, transformer);
         log.info("transformation successful");
-        producer.push(getTopic(),
-                transformedPayloadList);
+        transformationExecutor.push(producer, getTopic(), transformedPayloadList);
     }
 
     public abstract String getTopic();
@@ -68,7 +68,7 @@ public abstract class ProjectStaffTransformationService implements Transformatio
         public List<ProjectStaffIndexV1> transform(ProjectStaff projectStaff) {
             Map<String, String> boundaryLabelToNameMap = projectService
                     .getBoundaryCodeToNameMapByProjectId(projectStaff.getProjectId(), projectStaff.getTenantId());
-            log.info("boundary labels {}", boundaryLabelToNameMap.toString());
+            log.debug("boundary labels {}", boundaryLabelToNameMap);
             return Collections.singletonList(ProjectStaffIndexV1.builder()
                     .id(projectStaff.getId())
                     .projectId(projectStaff.getProjectId())
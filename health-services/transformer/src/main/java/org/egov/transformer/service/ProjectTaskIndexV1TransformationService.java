@@ -15,8 +15,9 @@ public class ProjectTaskIndexV1TransformationService extends ProjectTaskTransfor
 
     @Autowired
     public ProjectTaskIndexV1TransformationService(ProjectTaskIndexV1Transformer transformer,
-                                                   Producer producer, TransformerProperties properties) {
-        super(transformer, producer, properties);
+                                                   Producer producer, TransformerProperties properties,
+                                                   TransformationExecutor transformationExecutor) {
+        super(transformer, producer, properties, transformationExecutor);
     }
 
     @Override
@@ -10,7 +10,6 @@ import org.egov.transformer.service.transformer.Transformer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -23,25 +22,26 @@ public abstract class ProjectTaskTransformationService implements Transformation
 
     protected final TransformerProperties properties;
 
+    protected final TransformationExecutor transformationExecutor;
+
     @Autowired
     protected ProjectTaskTransformationService(ProjectTaskIndexV1Transformer transformer,
-                                               Producer producer, TransformerProperties properties) {
+                                               Producer producer, TransformerProperties properties,
+                                               TransformationExecutor transformationExecutor) {
         this.transformer = transformer;
         this.producer = producer;
         this.properties = properties;
+        this.transformationExecutor = transformationExecutor;
     }
 
     @Override
     public void transform(List<Task> payloadList) {
-        log.info("transforming for ids {}", payloadList.stream()
+        log.info("transforming {} records", payloadList.size());
+        log.debug("transforming for ids {}", payloadList.stream()
                 .map(Task::getId).collect(Collectors.toList()));
-        List<ProjectTaskIndexV1> transformedPayloadList = payloadList.stream()
-                .map(transformer::transform)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
+        List<ProjectTaskIndexV1> transformedPayloadList = transformationExecutor.transform(payloadList, transformer);
         log.info("transformation successful");
-        producer.push(getTopic(),
-                transformedPayloadList);
+        transformationExecutor.push(producer, getTopic(), transformedPayloadList);
     }
 
     public abstract String getTopic();
@@ -73,7 +73,7 @@ public abstract class ProjectTaskTransformationService implements Transformation
                 boundaryLabelToNameMap = projectService
                         .getBoundaryCodeToNameMapByProjectId(task.getProjectId(), task.getTenantId());
             }
-            log.info("boundary labels {}", boundaryLabelToNameMap.toString());
+            log.debug("boundary labels {}", boundaryLabelToNameMap);
             Map<String, String> finalBoundaryLabelToNameMap = boundaryLabelToNameMap;
             return task.getResources().stream().map(r ->
                     ProjectTaskIndexV1.builder()
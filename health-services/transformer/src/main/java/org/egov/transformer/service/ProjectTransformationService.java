@@ -11,7 +11,6 @@ import org.egov.transformer.service.transformer.Transformer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -25,25 +24,26 @@ public abstract class ProjectTransformationService implements TransformationServ
 
     protected final TransformerProperties properties;
 
+    protected final TransformationExecutor transformationExecutor;
+
     @Autowired
     protected ProjectTransformationService(ProjectIndexV1Transformer transformer,
-                                           Producer producer, TransformerProperties properties) {
+                                           Producer producer, TransformerProperties properties,
+                                           TransformationExecutor transformationExecutor) {
         this.transformer = transformer;
         this.producer = producer;
         this.properties = properties;
+        this.transformationExecutor = transformationExecutor;
     }
 
     @Override
     public void transform(List<Project> payloadList) {
-        log.info("transforming for ids {}", payloadList.stream()
+        log.info("transforming {} records", payloadList.size());
+        log.debug("transforming for ids {}", payloadList.stream()
                 .map(Project::getId).collect(Collectors.toList()));
-        List<ProjectIndexV1> transformedPayloadList = payloadList.stream()
-                .map(transformer::transform)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
+        List<ProjectIndexV1> transformedPayloadList = transformationExecutor.transform(payloadList, transformer);
         log.info("transformation successful");
-        producer.push(getTopic(),
-                transformedPayloadList);
+        transformationExecutor.push(producer, getTopic(), transformedPayloadList);
     }
 
     public abstract String getTopic();
@@ -71,7 +71,7 @@ public abstract class ProjectTransformationService implements TransformationServ
         public List<ProjectIndexV1> transform(Project project) {
             Map<String, String> boundaryLabelToNameMap = projectService
                     .getBoundaryCodeToNameMap(project.getAddress().getBoundary(), project.getTenantId());
-            log.info("boundary labels {}", boundaryLabelToNameMap.toString());
+            log.debug("boundary labels {}", boundaryLabelToNameMap);
             List<Target> targets = project.getTargets();
             if (targets == null || targets.isEmpty()) {
                 return Collections.emptyList();
@@ -36,6 +36,11 @@ public class ServiceDefinitionService {
     }
 
     public ServiceDefinition getServiceDefinition(String serviceDefId, String tenantId) {
+        return BatchLookups.lookup("serviceDefinition", tenantId + "|" + serviceDefId,
+                () -> loadServiceDefinition(serviceDefId, tenantId));
+    }
+
+    private ServiceDefinition loadServiceDefinition(String serviceDefId, String tenantId) {
 
         if (serviceMap.containsKey(serviceDefId)) {
             log.info("getting project {} from cache",serviceDefId);
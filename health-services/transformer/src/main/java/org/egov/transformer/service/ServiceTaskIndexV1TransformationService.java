@@ -13,8 +13,9 @@ import java.util.List;
 public class ServiceTaskIndexV1TransformationService extends ServiceTaskTransformationService {
 
 
-    protected ServiceTaskIndexV1TransformationService(ServiceTaskIndexV1Transformer transformer, Producer producer, TransformerProperties properties) {
-        super(transformer, producer, properties);
+    protected ServiceTaskIndexV1TransformationService(ServiceTaskIndexV1Transformer transformer, Producer producer, TransformerProperties properties,
+                                                      TransformationExecutor transformationExecutor) {
+        super(transformer, producer, properties, transformationExecutor);
     }
 
     @Override
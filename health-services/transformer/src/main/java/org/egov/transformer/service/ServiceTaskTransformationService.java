@@ -12,7 +12,6 @@ import org.egov.transformer.service.transformer.Transformer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -26,25 +25,26 @@ public abstract class ServiceTaskTransformationService implements Transformation
 
     protected final TransformerProperties properties;
 
+    protected final TransformationExecutor transformationExecutor;
+
     @Autowired
     protected ServiceTaskTransformationService(ServiceTaskTransformationService.ServiceTaskIndexV1Transformer transformer,
-                                                Producer producer, TransformerProperties properties) {
+                                                Producer producer, TransformerProperties properties,
+                                                TransformationExecutor transformationExecutor) {
         this.transformer = transformer;
         this.producer = producer;
         this.properties = properties;
+        this.transformationExecutor = transformationExecutor;
     }
 
     @Override
     public void transform(List<Service> payloadList) {
-        log.info("transforming for ids {}", payloadList.stream()
+        log.info("transforming {} records", payloadList.size());
+        log.debug("transforming for ids {}", payloadList.stream()
                 .map(Service::getId).collect(Collectors.toList()));
-        List<ServiceIndexV1> transformedPayloadList = payloadList.stream()
-                .map(transformer::transform)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
+        List<ServiceIndexV1> transformedPayloadList = transformationExecutor.transform(payloadList, transformer);
         log.info("transformation successful");
-        producer.push(getTopic(),
-                transformedPayloadList);
+        transformationExecutor.push(producer, getTopic(), transformedPayloadList);
     }
 
     public abstract String getTopic();
@@ -78,7 +78,7 @@ public abstract class ServiceTaskTransformationService implements Transformation
             String supervisorLevel = parts[2];
             String projectId = projectService.getProjectByName(projectName, service.getTenantId()).getId();
             Map<String, String> boundaryLabelToNameMap = projectService.getBoundaryCodeToNameMapByProjectId(projectId, service.getTenantId());
-            log.info("boundary labels {}", boundaryLabelToNameMap.toString());
+            log.debug("boundary labels {}", boundaryLabelToNameMap);
 
             return Collections.singletonList(ServiceIndexV1.builder()
                     .id(service.getId())
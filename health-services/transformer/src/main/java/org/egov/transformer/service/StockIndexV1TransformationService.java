@@ -15,8 +15,9 @@ public class StockIndexV1TransformationService extends StockTransformationServic
 
     @Autowired
     protected StockIndexV1TransformationService(StockIndexV1Transformer transformer,
-                                                Producer producer, TransformerProperties properties) {
-        super(transformer, producer, properties);
+                                                Producer producer, TransformerProperties properties,
+                                                TransformationExecutor transformationExecutor) {
+        super(transformer, producer, properties, transformationExecutor);
     }
 
     @Override
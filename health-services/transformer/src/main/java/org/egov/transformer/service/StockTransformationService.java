@@ -12,7 +12,6 @@ import org.egov.common.producer.Producer;
 import org.egov.transformer.service.transformer.Transformer;
 import org.springframework.stereotype.Component;
 
-import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -28,25 +27,26 @@ public abstract class StockTransformationService implements TransformationServic
 
     protected final TransformerProperties properties;
 
+    protected final TransformationExecutor transformationExecutor;
+
     protected StockTransformationService(StockIndexV1Transformer transformer,
                                          Producer producer,
-                                         TransformerProperties properties) {
+                                         TransformerProperties properties,
+                                         TransformationExecutor transformationExecutor) {
         this.transformer = transformer;
         this.producer = producer;
         this.properties = properties;
+        this.transformationExecutor = transformationExecutor;
     }
 
     @Override
     public void transform(List<Stock> payloadList) {
-        log.info("transforming for ids {}", payloadList.stream()
+        log.info("transforming {} records", payloadList.size());
+        log.debug("transforming for ids {}", payloadList.stream()
                 .map(Stock::getId).collect(Collectors.toList()));
-        List<StockIndexV1> transformedPayloadList = payloadList.stream()
-                .map(transformer::transform)
-                .flatMap(Collection::stream)
-                .collect(Collectors.toList());
+        List<StockIndexV1> transformedPayloadList = transformationExecutor.transform(payloadList, transformer);
         log.info("transformation successful");
-        producer.push(getTopic(),
-                transformedPayloadList);
+        transformationExecutor.push(producer, getTopic(), transformedPayloadList);
     }
 
     @Override
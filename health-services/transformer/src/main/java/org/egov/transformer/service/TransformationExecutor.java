@@ -0,0 +1,111 @@
+package org.egov.transformer.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.egov.common.producer.Producer;
+import org.egov.transformer.config.TransformerProperties;
+import org.egov.transformer.service.transformer.Transformer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Transforms a batch of records on several threads and pushes the resulting index documents in chunks.
+ *
+ * <p>The records of a batch are split into at most {@code transformer.transform.parallelism} contiguous
+ * slices which are transformed at the same time, sharing one {@link BatchLookups} so that enrichment
+ * lookups are made once per distinct key. Documents keep the order of their records. A record that fails
+ * to transform is logged and skipped, so it does not take the other records of the batch down with it.
+ */
+@Component
+@Slf4j
+public class TransformationExecutor {
+
+    private final TransformerProperties properties;
+
+    private final int parallelism;
+
+    private final ExecutorService transformPool;
+
+    public TransformationExecutor(TransformerProperties properties) {
+        this.properties = properties;
+        this.parallelism = properties.getTransformParallelism() > 0
+                ? properties.getTransformParallelism() : Runtime.getRuntime().availableProcessors();
+        this.transformPool = Executors.newFixedThreadPool(parallelism);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        transformPool.shutdown();
+    }
+
+    /**
+     * Transforms the given records, in parallel when there is more than one.
+     *
+     * @return documents of all records that could be transformed, in record order
+     */
+    public <T, R> List<R> transform(List<T> payloadList, Transformer<T, R> transformer) {
+        BatchLookups outer = BatchLookups.current();
+        BatchLookups batch = outer != null ? outer : new BatchLookups();
+        int slices = Math.min(parallelism, payloadList.size());
+        if (slices <= 1) {
+            List<R> documents = new ArrayList<>();
+            batch.run(() -> transformSlice(payloadList, transformer, documents));
+            return documents;
+        }
+
+        int sliceSize = (payloadList.size() + slices - 1) / slices;
+        List<CompletableFuture<List<R>>> futures = new ArrayList<>(slices);
+        for (int from = 0; from < payloadList.size(); from += sliceSize) {
+            List<T> slice = payloadList.subList(from, Math.min(from + sliceSize, payloadList.size()));
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                List<R> documents = new ArrayList<>();
+                batch.run(() -> transformSlice(slice, transformer, documents));
+                return documents;
+            }, transformPool));
+        }
+
+        List<R> documents = new ArrayList<>();
+        try {
+            for (CompletableFuture<List<R>> future : futures) {
+                documents.addAll(future.join());
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        return documents;
+    }
+
+    /**
+     * Pushes the documents to the topic as records of at most {@code transformer.producer.chunk.size}
+     * documents each.
+     */
+    public void push(Producer producer, String topic, List<?> documents) {
+        int chunkSize = properties.getProducerChunkSize();
+        if (chunkSize <= 0 || documents.size() <= chunkSize) {
+            producer.push(topic, documents);
+            return;
+        }
+        for (int from = 0; from < documents.size(); from += chunkSize) {
+            producer.push(topic, new ArrayList<>(documents.subList(from, Math.min(from + chunkSize, documents.size()))));
+        }
+    }
+
+    private static <T, R> void transformSlice(List<T> slice, Transformer<T, R> transformer, List<R> documents) {
+        for (T payload : slice) {
+            try {
+                documents.addAll(transformer.transform(payload));
+            } catch (Exception exception) {
+                log.error("error while transforming record, skipping it", exception);
+            }
+        }
+    }
+}